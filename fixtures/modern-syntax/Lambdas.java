@@ -0,0 +1,23 @@
+package modern;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.Supplier;
+
+public class Lambdas {
+
+    private final Function<String, Integer> length = text -> text.length();
+
+    public int apply ( List<String> names ) {
+        BiFunction<String, String, String> join = ( first, second ) -> first + second;
+        IntBinaryOperator add = ( int left, int right ) -> {
+            int sum = left + right;
+            return sum;
+        };
+        Supplier<List<String>> copy = () -> names;
+        names.forEach( System.out::println );
+        return add.applyAsInt( length.apply( join.apply( "a", "b" ) ), copy.get().size() );
+    }
+}
@@ -0,0 +1,14 @@
+package modern;
+
+public class Patterns {
+
+    public int size ( Object value ) {
+        if ( value instanceof String text && !text.isEmpty() ) {
+            return text.length();
+        }
+        if ( value instanceof final int[] numbers ) {
+            return numbers.length;
+        }
+        return value instanceof Integer ? 1 : 0;
+    }
+}
@@ -0,0 +1,26 @@
+package modern;
+
+import java.util.List;
+
+public record Records ( String name, List<Integer> values, int... counts ) {
+
+    public Records {
+        values = List.copyOf( values );
+    }
+
+    public int total () {
+        int total = 0;
+        for ( int count : counts ) {
+            total += count;
+        }
+        return total;
+    }
+
+    record Pair<A, B> ( A first, B second ) implements Comparable<Pair<A, B>> {
+
+        @Override
+        public int compareTo ( Pair<A, B> other ) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package modern;
+
+public sealed interface Sealed permits Sealed.Circle, Sealed.Square, Sealed.Shape {
+
+    double area ();
+
+    default String label () {
+        return "shape";
+    }
+
+    final class Circle implements Sealed {
+        private final double radius = 1;
+
+        public double area () {
+            return Math.PI * radius * radius;
+        }
+    }
+
+    non-sealed class Square implements Sealed {
+        public double area () {
+            return 1;
+        }
+    }
+
+    sealed abstract class Shape implements Sealed permits Triangle {
+    }
+
+    final class Triangle extends Shape {
+        public double area () {
+            return 0.5;
+        }
+    }
+}
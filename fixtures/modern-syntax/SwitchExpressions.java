@@ -0,0 +1,28 @@
+package modern;
+
+public class SwitchExpressions {
+
+    enum Day { MONDAY, TUESDAY, SATURDAY, SUNDAY }
+
+    public int hours ( Day day ) {
+        int hours = switch ( day ) {
+            case SATURDAY, SUNDAY -> 0;
+            case MONDAY -> {
+                int meetings = 2;
+                yield 8 - meetings;
+            }
+            default -> 8;
+        };
+        return hours;
+    }
+
+    public String describe ( int code ) {
+        return switch ( code ) {
+            case 1:
+                String single = "one";
+                yield single;
+            default:
+                yield "many";
+        };
+    }
+}
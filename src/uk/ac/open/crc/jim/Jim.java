@@ -17,8 +17,14 @@ package uk.ac.open.crc.jim;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Paths;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
@@ -31,8 +37,17 @@ import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
+import uk.ac.open.crc.idtk.Species;
+import uk.ac.open.crc.jim.daemon.MiningDaemon;
 import uk.ac.open.crc.jim.persistence.EntityStoreSingleton;
+import uk.ac.open.crc.jim.persistence.IntegerKeyMigration;
+import uk.ac.open.crc.jim.persistence.ProgressJournal;
+import uk.ac.open.crc.jim.persistence.VersionDeltaCompaction;
+import uk.ac.open.crc.jim.queue.Manifest;
+import uk.ac.open.crc.jim.queue.MiningOptions;
 import uk.ac.open.crc.jim.queue.QueueManager;
+import uk.ac.open.crc.jim.queue.SourceWatcher;
+import uk.ac.open.crc.jim.queue.TimeoutAction;
 
 /**
  * Entry class for Jim.
@@ -69,9 +84,27 @@ public final class Jim {
     private static final String PROJECT_VERSION = "v";
     private static final String VERBOSE_LOGGING = "V";
     
+    private static final String DECLARATIONS_ONLY = "declarations-only";
+    private static final String SPECIES = "species";
+    private static final String PARSE_TIMEOUT = "parse-timeout";
+    private static final String TIMEOUT_ACTION = "timeout-action";
+    private static final String RECOVER = "recover";
+    
     private static final String INTT_RECURSIVE = "intt-recursive";
     private static final String INTT_MODAL_EXPANSION = "intt-modal-expansion";
     
+    private static final String INTEGER_KEYS = "integer-keys";
+    private static final String DELTA_VERSIONS = "delta-versions";
+    
+    private static final String GIT_REVISIONS = "git-revisions";
+    private static final String MANIFEST = "manifest";
+    private static final String DAEMON = "daemon";
+    private static final String WATCH = "watch";
+    private static final String JOURNAL = "journal";
+    private static final String RESUME = "resume";
+    private static final String EXTRACTION_CACHE = "extraction-cache";
+    private static final String EXTRACTION_CACHE_SIZE = "extraction-cache-size";
+    
     public static void main( String[] args ) {
         Jim programInstance = new Jim();
         programInstance.setUp( args );
@@ -80,6 +113,14 @@ public final class Jim {
 
     private final ArrayList<File> fileArgumentList;
     
+    private final List<String> gitRevisions;
+    
+    private Manifest manifest;
+    
+    private int daemonPort;
+    
+    private boolean watch;
+    
     private final Settings settings;
 
         
@@ -90,6 +131,7 @@ public final class Jim {
      */
     private Jim() {
         this.fileArgumentList = new ArrayList<>();
+        this.gitRevisions = new ArrayList<>();
         this.settings = Settings.getInstance();
         // set up the log file
         try {
@@ -140,6 +182,22 @@ public final class Jim {
             
             optionsChosen.addAll( processBooleanOptions( cl ) );
             
+            optionsChosen.addAll( processSpecies( cl ) );
+            
+            optionsChosen.addAll( processParseTimeout( cl ) );
+            
+            optionsChosen.addAll( processGitRevisions( cl ) );
+            
+            optionsChosen.addAll( processManifest( cl ) );
+            
+            optionsChosen.addAll( processDaemon( cl ) );
+            
+            optionsChosen.addAll( processWatch( cl ) );
+            
+            optionsChosen.addAll( processJournalSettings( cl ) );
+            
+            optionsChosen.addAll( processExtractionCacheSettings( cl ) );
+            
             optionsChosen.addAll( processUnparsedArguments( cl ) );
             
             // now tell the user how jim is configured
@@ -232,6 +290,99 @@ public final class Jim {
                 .longOpt( INTT_MODAL_EXPANSION )
                 .desc( "enable the expansion of modal verb contractions in intt" )
                 .build() );
+        
+        options.addOption( Option.builder()
+                .longOpt( INTEGER_KEYS )
+                .desc( "add integer container keys to the database after mining" )
+                .build() );
+        
+        options.addOption( Option.builder()
+                .longOpt( DECLARATIONS_ONLY )
+                .desc( "extract declarations only, skipping method and constructor bodies" )
+                .build() );
+        
+        options.addOption( Option.builder()
+                .longOpt( SPECIES )
+                .desc( "comma separated species of the entities to extract, e.g. class,method" )
+                .hasArg()
+                .argName( "LIST" )
+                .build() );
+        
+        options.addOption( Option.builder()
+                .longOpt( PARSE_TIMEOUT )
+                .desc( "milliseconds the Java 7 parser may spend on a file" )
+                .hasArg()
+                .argName( "MS" )
+                .build() );
+        
+        options.addOption( Option.builder()
+                .longOpt( TIMEOUT_ACTION )
+                .desc( "action for a file that times out: java14, skip or declarations" )
+                .hasArg()
+                .argName( "ACTION" )
+                .build() );
+        
+        options.addOption( Option.builder()
+                .longOpt( RECOVER )
+                .desc( "extract the declarations without syntax errors from unparseable files" )
+                .build() );
+        
+        options.addOption( Option.builder()
+                .longOpt( DELTA_VERSIONS )
+                .desc( "store each version as the entities changed since the previous version" )
+                .build() );
+        
+        options.addOption( Option.builder()
+                .longOpt( JOURNAL )
+                .desc( "file recording the files written, so that a run can be resumed" )
+                .hasArg()
+                .argName( "FILE" )
+                .build() );
+        
+        options.addOption( Option.builder()
+                .longOpt( EXTRACTION_CACHE )
+                .desc( "directory used to keep the entities extracted from files between runs" )
+                .hasArg()
+                .argName( "DIR" )
+                .build() );
+        
+        options.addOption( Option.builder()
+                .longOpt( EXTRACTION_CACHE_SIZE )
+                .desc( "the maximum size of the extraction cache" )
+                .hasArg()
+                .argName( "MB" )
+                .build() );
+        
+        options.addOption( Option.builder()
+                .longOpt( RESUME )
+                .desc( "resume an interrupted run recorded in the journal" )
+                .build() );
+        
+        options.addOption( Option.builder()
+                .longOpt( DAEMON )
+                .desc( "run as a daemon accepting mining jobs over HTTP on PORT" )
+                .hasArg()
+                .argName( "PORT" )
+                .build() );
+        
+        options.addOption( Option.builder()
+                .longOpt( WATCH )
+                .desc( "keep the database current by mining files as they change" )
+                .build() );
+        
+        options.addOption( Option.builder()
+                .longOpt( MANIFEST )
+                .desc( "file listing the projects, versions and paths to mine" )
+                .hasArg()
+                .argName( "FILE" )
+                .build() );
+        
+        options.addOption( Option.builder()
+                .longOpt( GIT_REVISIONS )
+                .desc( "comma separated list of revisions of a git repository to mine" )
+                .hasArg()
+                .argName( "REVISIONS" )
+                .build() );
 
         return options;
     }
@@ -274,6 +425,10 @@ public final class Jim {
                 errorMessages.add( "-p option program name: no value found" );
             }
         }
+        else if ( cl.hasOption( MANIFEST ) || cl.hasOption( DAEMON ) ) {
+            // project names are given in the manifest or by each job
+            hasProjectName = true;
+        }
         else {
             errorMessages.add( "-p option program name is compulsory" );
         }
@@ -289,6 +444,12 @@ public final class Jim {
                 errorMessages.add( "-v option program version: no value found " );
             }
         }
+        else if ( cl.hasOption( GIT_REVISIONS ) 
+                || cl.hasOption( MANIFEST ) 
+                || cl.hasOption( DAEMON ) ) {
+            // each revision, manifest entry or job mined gives its own version
+            hasProjectVersion = true;
+        }
         else {
             errorMessages.add( "-v option program version is compulsory" );
         }
@@ -316,6 +477,16 @@ public final class Jim {
             booleanOptions.add( "-" + INCLUDE_TEST_CODE );
         }
 
+        if ( cl.hasOption( DECLARATIONS_ONLY ) ) {
+            this.settings.set( "analyse.declarations.only", "true" );
+            booleanOptions.add( "--" + DECLARATIONS_ONLY );
+        }
+
+        if ( cl.hasOption( RECOVER ) ) {
+            this.settings.set( "parse.recover", "true" );
+            booleanOptions.add( "--" + RECOVER );
+        }
+
         // intt options are not compulsory
         if ( cl.hasOption( INTT_MODAL_EXPANSION ) ) {
             this.settings.set( "intt.modal.expansion", "true" );
@@ -327,6 +498,16 @@ public final class Jim {
             booleanOptions.add( "--" + INTT_RECURSIVE );
         }
 
+        if ( cl.hasOption( INTEGER_KEYS ) ) {
+            this.settings.set( "output.database.integer.keys", "true" );
+            booleanOptions.add( "--" + INTEGER_KEYS );
+        }
+
+        if ( cl.hasOption( DELTA_VERSIONS ) ) {
+            this.settings.set( "output.database.delta.versions", "true" );
+            booleanOptions.add( "--" + DELTA_VERSIONS );
+        }
+
         // verbose logging
         if ( cl.hasOption( VERBOSE_LOGGING ) ) {
             LOGGER.setLevel( Level.INFO );
@@ -401,6 +582,13 @@ public final class Jim {
         // unless behaviour is modified to allow multiple folders/files
         // to be specified.
         List<String> unparsedArguments = cl.getArgList();
+        if ( this.manifest != null || this.daemonPort > 0 ) {
+            if ( ! unparsedArguments.isEmpty() ) {
+                throw new CommandLineArgumentException( 
+                        "Paths to source code are given in the manifest or by each job" );
+            }
+            return paths;
+        }
         if ( unparsedArguments.isEmpty() ) {
             throw new CommandLineArgumentException( 
                     "Missing folder(s) or file(s) to process" );
@@ -422,10 +610,265 @@ public final class Jim {
             } 
         }
         
+        if ( ! this.gitRevisions.isEmpty() 
+                && ( this.fileArgumentList.size() != 1 
+                        || ! this.fileArgumentList.get( 0 ).isDirectory() ) ) {
+            throw new CommandLineArgumentException( 
+                    "--" + GIT_REVISIONS + " requires a single git repository path" );
+        }
+        
         return paths;
     }
     
     
+    private List<String> processGitRevisions( CommandLine cl ) 
+            throws CommandLineArgumentException {
+        List<String> optionsSelected = new ArrayList<>();
+        
+        if ( cl.hasOption( GIT_REVISIONS ) ) {
+            String revisions = cl.getOptionValue( GIT_REVISIONS );
+            if ( revisions != null ) {
+                for ( String revision : revisions.split( "," ) ) {
+                    String trimmedRevision = revision.trim();
+                    // revisions are passed to git as arguments
+                    if ( trimmedRevision.startsWith( "-" ) ) {
+                        throw new CommandLineArgumentException( 
+                                "Invalid revision: \"" + trimmedRevision + "\"" );
+                    }
+                    if ( ! trimmedRevision.isEmpty() ) {
+                        this.gitRevisions.add( trimmedRevision );
+                    }
+                }
+            }
+            if ( this.gitRevisions.isEmpty() ) {
+                throw new CommandLineArgumentException( 
+                        "Missing value for --" + GIT_REVISIONS + "." );
+            }
+            if ( cl.hasOption( PROJECT_VERSION ) ) {
+                throw new CommandLineArgumentException( 
+                        "-v cannot be used with --" + GIT_REVISIONS 
+                                + ": each revision is recorded as a version." );
+            }
+            optionsSelected.add( "--" + GIT_REVISIONS + " " 
+                    + String.join( ",", this.gitRevisions ) );
+        }
+        
+        return optionsSelected;
+    }
+    
+    private List<String> processManifest( CommandLine cl ) 
+            throws CommandLineArgumentException {
+        List<String> optionsSelected = new ArrayList<>();
+        
+        if ( cl.hasOption( MANIFEST ) ) {
+            if ( cl.hasOption( PROJECT_NAME ) || cl.hasOption( PROJECT_VERSION ) 
+                    || cl.hasOption( GIT_REVISIONS ) ) {
+                throw new CommandLineArgumentException( 
+                        "-p, -v and --" + GIT_REVISIONS + " cannot be used with --" 
+                                + MANIFEST );
+            }
+            String manifestPath = cl.getOptionValue( MANIFEST );
+            if ( manifestPath == null || manifestPath.isEmpty() ) {
+                throw new CommandLineArgumentException( 
+                        "Missing value for --" + MANIFEST + "." );
+            }
+            manifestPath = sanitiseString( manifestPath );
+            try {
+                this.manifest = Manifest.read( Paths.get( manifestPath ) );
+            }
+            catch ( IOException e ) {
+                throw new CommandLineArgumentException( 
+                        "Unable to read manifest: " + e.getMessage() );
+            }
+            if ( this.manifest.getEntries().isEmpty() ) {
+                throw new CommandLineArgumentException( 
+                        "Manifest \"" + manifestPath + "\" lists no projects" );
+            }
+            optionsSelected.add( "--" + MANIFEST + " " + manifestPath 
+                    + " (" + this.manifest.getEntries().size() + " entries)" );
+        }
+        
+        return optionsSelected;
+    }
+    
+    private List<String> processDaemon( CommandLine cl ) 
+            throws CommandLineArgumentException {
+        List<String> optionsSelected = new ArrayList<>();
+        
+        if ( cl.hasOption( DAEMON ) ) {
+            if ( cl.hasOption( PROJECT_NAME ) || cl.hasOption( PROJECT_VERSION ) 
+                    || cl.hasOption( GIT_REVISIONS ) || cl.hasOption( MANIFEST ) ) {
+                throw new CommandLineArgumentException( 
+                        "-p, -v, --" + GIT_REVISIONS + " and --" + MANIFEST 
+                                + " cannot be used with --" + DAEMON );
+            }
+            try {
+                this.daemonPort = Integer.parseUnsignedInt( cl.getOptionValue( DAEMON ) );
+            }
+            catch ( NumberFormatException e ) {
+                throw new CommandLineArgumentException( 
+                        "Require numeric value for --" + DAEMON + "." );
+            }
+            if ( this.daemonPort < 1 || this.daemonPort > 65535 ) {
+                throw new CommandLineArgumentException( 
+                        "Invalid port for --" + DAEMON + ": " + this.daemonPort );
+            }
+            optionsSelected.add( "--" + DAEMON + " " + this.daemonPort );
+        }
+        
+        return optionsSelected;
+    }
+    
+    private List<String> processWatch( CommandLine cl ) 
+            throws CommandLineArgumentException {
+        List<String> optionsSelected = new ArrayList<>();
+        
+        if ( cl.hasOption( WATCH ) ) {
+            if ( cl.hasOption( GIT_REVISIONS ) || cl.hasOption( MANIFEST ) 
+                    || cl.hasOption( DAEMON ) || cl.hasOption( JOURNAL ) ) {
+                throw new CommandLineArgumentException( 
+                        "--" + GIT_REVISIONS + ", --" + MANIFEST + ", --" + DAEMON 
+                                + " and --" + JOURNAL + " cannot be used with --" + WATCH );
+            }
+            this.watch = true;
+            optionsSelected.add( "--" + WATCH );
+        }
+        
+        return optionsSelected;
+    }
+    
+    private List<String> processJournalSettings( CommandLine cl ) 
+            throws CommandLineArgumentException {
+        List<String> optionsSelected = new ArrayList<>();
+        
+        if ( cl.hasOption( JOURNAL ) ) {
+            if ( cl.hasOption( GIT_REVISIONS ) || cl.hasOption( DAEMON ) ) {
+                throw new CommandLineArgumentException( 
+                        "--" + JOURNAL + " cannot be used with --" + GIT_REVISIONS 
+                                + " or --" + DAEMON );
+            }
+            String journalPath = cl.getOptionValue( JOURNAL );
+            if ( journalPath == null || journalPath.isEmpty() ) {
+                throw new CommandLineArgumentException( 
+                        "Missing value for --" + JOURNAL + "." );
+            }
+            journalPath = sanitiseString( journalPath );
+            this.settings.set( "journal.location", journalPath );
+            optionsSelected.add( "--" + JOURNAL + " " + journalPath );
+        }
+        
+        if ( cl.hasOption( RESUME ) ) {
+            if ( ! cl.hasOption( JOURNAL ) ) {
+                throw new CommandLineArgumentException( 
+                        "--" + RESUME + " requires --" + JOURNAL );
+            }
+            this.settings.set( "journal.resume", "true" );
+            optionsSelected.add( "--" + RESUME );
+        }
+        
+        return optionsSelected;
+    }
+    
+    private List<String> processSpecies( CommandLine cl ) 
+            throws CommandLineArgumentException {
+        List<String> optionsSelected = new ArrayList<>();
+        
+        if ( cl.hasOption( SPECIES ) ) {
+            String speciesList = cl.getOptionValue( SPECIES );
+            if ( speciesList == null || speciesList.isEmpty() ) {
+                throw new CommandLineArgumentException( 
+                        "Missing value for --" + SPECIES + "." );
+            }
+            try {
+                speciesList = MiningOptions.parseSpecies( speciesList ).stream()
+                        .map( Species::name )
+                        .collect( Collectors.joining( "," ) );
+            }
+            catch ( IllegalArgumentException e ) {
+                throw new CommandLineArgumentException( 
+                        "Invalid value for --" + SPECIES + ": " + e.getMessage() );
+            }
+            this.settings.set( "analyse.species", speciesList );
+            optionsSelected.add( "--" + SPECIES + " " + speciesList );
+        }
+        
+        return optionsSelected;
+    }
+    
+    private List<String> processParseTimeout( CommandLine cl ) 
+            throws CommandLineArgumentException {
+        List<String> optionsSelected = new ArrayList<>();
+        
+        if ( cl.hasOption( PARSE_TIMEOUT ) ) {
+            String timeoutString = cl.getOptionValue( PARSE_TIMEOUT );
+            long timeout;
+            try {
+                timeout = Long.parseUnsignedLong( timeoutString );
+            }
+            catch ( NumberFormatException e ) {
+                throw new CommandLineArgumentException( 
+                        "Require numeric value for --" + PARSE_TIMEOUT + "." );
+            }
+            this.settings.set( "parse.timeout", Long.toString( timeout ) );
+            optionsSelected.add( "--" + PARSE_TIMEOUT + " " + timeout );
+        }
+        
+        if ( cl.hasOption( TIMEOUT_ACTION ) ) {
+            if ( ! cl.hasOption( PARSE_TIMEOUT ) ) {
+                throw new CommandLineArgumentException( 
+                        "--" + TIMEOUT_ACTION + " requires --" + PARSE_TIMEOUT );
+            }
+            String action = cl.getOptionValue( TIMEOUT_ACTION );
+            try {
+                action = TimeoutAction.parse( action ).name().toLowerCase( Locale.ROOT );
+            }
+            catch ( IllegalArgumentException e ) {
+                throw new CommandLineArgumentException( 
+                        "Invalid value for --" + TIMEOUT_ACTION + ": " + e.getMessage() );
+            }
+            this.settings.set( "parse.timeout.action", action );
+            optionsSelected.add( "--" + TIMEOUT_ACTION + " " + action );
+        }
+        
+        return optionsSelected;
+    }
+    
+    private List<String> processExtractionCacheSettings( CommandLine cl ) 
+            throws CommandLineArgumentException {
+        List<String> optionsSelected = new ArrayList<>();
+        
+        if ( cl.hasOption( EXTRACTION_CACHE ) ) {
+            String cachePath = cl.getOptionValue( EXTRACTION_CACHE );
+            if ( cachePath == null || cachePath.isEmpty() ) {
+                throw new CommandLineArgumentException( 
+                        "Missing value for --" + EXTRACTION_CACHE + "." );
+            }
+            cachePath = sanitiseString( cachePath );
+            this.settings.set( "extraction.cache.location", cachePath );
+            optionsSelected.add( "--" + EXTRACTION_CACHE + " " + cachePath );
+        }
+        
+        if ( cl.hasOption( EXTRACTION_CACHE_SIZE ) ) {
+            if ( ! cl.hasOption( EXTRACTION_CACHE ) ) {
+                throw new CommandLineArgumentException( 
+                        "--" + EXTRACTION_CACHE_SIZE + " requires --" + EXTRACTION_CACHE );
+            }
+            String sizeString = cl.getOptionValue( EXTRACTION_CACHE_SIZE );
+            long size;
+            try {
+                size = Long.parseUnsignedLong( sizeString );
+            }
+            catch ( NumberFormatException e ) {
+                throw new CommandLineArgumentException( 
+                        "Require numeric value for --" + EXTRACTION_CACHE_SIZE + "." );
+            }
+            this.settings.set( "extraction.cache.size", Long.toString( size ) );
+            optionsSelected.add( "--" + EXTRACTION_CACHE_SIZE + " " + size );
+        }
+        
+        return optionsSelected;
+    }
+    
     private void run() {
         // instantiate the entity store to set up the database connection
         EntityStoreSingleton entityStore = EntityStoreSingleton.getInstance();
@@ -438,13 +881,194 @@ public final class Jim {
             System.exit( 2 );
         }
 
-        QueueManager queueManager = new QueueManager();
+        MiningOptions miningOptions = MiningOptions.fromSettings();
+        QueueManager queueManager = new QueueManager( miningOptions, entityStore );
+        
+        ProgressJournal journal = openJournal();
+        if ( journal != null ) {
+            queueManager.setJournal( journal );
+        }
+        SourceWatcher watcher = openWatcher( queueManager, entityStore, miningOptions );
+        AtomicBoolean finished = new AtomicBoolean( false );
+        if ( journal != null || watcher != null ) {
+            // on SIGTERM abandon the queue, but write the entities already
+            // extracted and record them in the journal
+            Runtime.getRuntime().addShutdownHook( new Thread( () -> {
+                if ( ! finished.get() ) {
+                    LOGGER.warning( "Interrupted: writing pending entities" );
+                    if ( watcher != null ) {
+                        watcher.close();
+                    }
+                    queueManager.abort();
+                    entityStore.closeDown();
+                    if ( journal != null ) {
+                        journal.close();
+                    }
+                }
+            } ) );
+        }
 
-        queueManager.start( this.fileArgumentList ); // start recursive directory traversal
+        if ( this.daemonPort > 0 ) {
+            try {
+                new MiningDaemon( this.daemonPort, queueManager ).run();
+            }
+            catch ( IOException e ) {
+                LOGGER.log( 
+                        Level.SEVERE,
+                        "Unable to start daemon: {0}", 
+                        e.getMessage() );
+            }
+            queueManager.awaitCompletion();
+        }
+        else if ( this.manifest != null ) {
+            queueManager.startManifest( this.manifest );
+        }
+        else if ( watcher != null ) {
+            watcher.run(); // returns once the watcher is closed
+            queueManager.awaitCompletion();
+        }
+        else if ( this.gitRevisions.isEmpty() ) {
+            queueManager.start( 
+                    this.settings.get( "project.name" ),
+                    this.settings.get( "project.version" ),
+                    this.fileArgumentList ); // start recursive directory traversal
+        }
+        else {
+            queueManager.startRevisions( 
+                    this.settings.get( "project.name" ),
+                    this.fileArgumentList.get( 0 ), 
+                    this.gitRevisions );
+        }
         // NB the QueueManager shuts down its threadpool automatically.
 
         // now close down the database
         entityStore.closeDown();
+        if ( journal != null ) {
+            journal.close();
+        }
+        finished.set( true );
+        
+        if ( miningOptions.getExtractionCache() != null ) {
+            miningOptions.getExtractionCache().logStatistics();
+        }
+        miningOptions.getParserRouting().logStatistics();
+        miningOptions.getSlowFileReport().logReport();
+        
+        // compacted first so that integer keys follow the relinked containers
+        if ( Boolean.parseBoolean( 
+                this.settings.get( "output.database.delta.versions" ) ) ) {
+            compactVersions();
+        }
+        
+        if ( Boolean.parseBoolean( 
+                this.settings.get( "output.database.integer.keys" ) ) ) {
+            try {
+                new IntegerKeyMigration( 
+                        this.settings.get( "output.database.location" ) ).migrate();
+            }
+            catch ( SQLException e ) {
+                LOGGER.log( 
+                        Level.SEVERE,
+                        "Unable to add integer keys to database: {0}", 
+                        e.getMessage() );
+            }
+        }
+    }
+
+    // compacts the versions of the projects mined, or of every project
+    // when running as a daemon
+    private void compactVersions() {
+        VersionDeltaCompaction compaction = new VersionDeltaCompaction( 
+                this.settings.get( "output.database.location" ) );
+        try {
+            if ( this.daemonPort > 0 ) {
+                compaction.compactAll();
+            }
+            else if ( this.manifest != null ) {
+                Set<String> projectNames = new LinkedHashSet<>();
+                for ( Manifest.Entry entry : this.manifest.getEntries() ) {
+                    projectNames.add( entry.getProjectName() );
+                }
+                for ( String projectName : projectNames ) {
+                    compaction.compact( projectName );
+                }
+            }
+            else {
+                compaction.compact( this.settings.get( "project.name" ) );
+            }
+        }
+        catch ( SQLException e ) {
+            LOGGER.log( 
+                    Level.SEVERE,
+                    "Unable to compact project versions: {0}", 
+                    e.getMessage() );
+        }
+    }
+
+    // creates the watcher, if one was requested
+    private SourceWatcher openWatcher( 
+            QueueManager queueManager, 
+            EntityStoreSingleton entityStore,
+            MiningOptions miningOptions ) {
+        if ( ! this.watch ) {
+            return null;
+        }
+        
+        SourceWatcher watcher = null;
+        try {
+            watcher = new SourceWatcher( 
+                    queueManager, 
+                    entityStore, 
+                    this.settings.get( "project.name" ), 
+                    this.settings.get( "project.version" ), 
+                    this.fileArgumentList, 
+                    miningOptions, 
+                    Long.parseLong( this.settings.get( "watch.quiet.period" ) ) );
+        }
+        catch ( IOException e ) {
+            LOGGER.log( 
+                    Level.SEVERE,
+                    "Unable to watch for changes: {0}", 
+                    e.getMessage() );
+            System.exit( 2 );
+        }
+        
+        return watcher;
+    }
+
+    // opens the progress journal, if one was requested, and removes the
+    // entities of files that were only partially written before a resume
+    private ProgressJournal openJournal() {
+        String journalLocation = this.settings.get( "journal.location" );
+        if ( journalLocation == null ) {
+            return null;
+        }
+        
+        boolean resume = Boolean.parseBoolean( this.settings.get( "journal.resume" ) );
+        ProgressJournal journal = null;
+        try {
+            journal = new ProgressJournal( Paths.get( journalLocation ), resume );
+            if ( resume ) {
+                journal.deletePartialFiles( 
+                        this.settings.get( "output.database.location" ) );
+            }
+        }
+        catch ( IOException e ) {
+            LOGGER.log( 
+                    Level.SEVERE,
+                    "Unable to open journal: {0}", 
+                    e.getMessage() );
+            System.exit( 2 );
+        }
+        catch ( SQLException e ) {
+            LOGGER.log( 
+                    Level.SEVERE,
+                    "Unable to remove partially written files: {0}", 
+                    e.getMessage() );
+            System.exit( 2 );
+        }
+        
+        return journal;
     }
 
     /**
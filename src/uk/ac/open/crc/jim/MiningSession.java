@@ -0,0 +1,120 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+package uk.ac.open.crc.jim;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import uk.ac.open.crc.jim.persistence.EntityStore;
+import uk.ac.open.crc.jim.persistence.EntityStoreSingleton;
+import uk.ac.open.crc.jim.queue.MiningJob;
+import uk.ac.open.crc.jim.queue.MiningOptions;
+import uk.ac.open.crc.jim.queue.QueueManager;
+
+/**
+ * An API for mining identifier names from within another application.
+ * <p>
+ * Each session has its own options, its own parser threads and its own
+ * {@code EntityStore}. The project and version of each job are given when
+ * it is submitted, and the session takes nothing from {@code Settings}, so
+ * several sessions can run concurrently in one JVM, e.g.
+ * </p>
+ * <pre>
+ *   MiningOptions options = MiningOptions.builder()
+ *           .threads( 4, 8 )
+ *           .analyseTests( true )
+ *           .build();
+ *   try ( MiningSession session = new MiningSession( options, store ) ) {
+ *       MiningJob job = session.submit( "ant", "1.9.6", sources );
+ *       job.awaitCompletion();
+ *   }
+ * </pre>
+ * <p>
+ * Entities are recorded against the project and version of the job that
+ * found them. The store is owned by the caller and is not closed by the
+ * session. {@code EntityStoreSingleton} writes through jimdb, which keeps
+ * its configuration, including the project being recorded, in static
+ * fields, and is itself configured from {@code Settings}. Only one session
+ * using it may be open at a time, and creating a second is refused. Other
+ * stores may be used by any number of sessions.
+ * </p>
+ */
+public class MiningSession implements AutoCloseable {
+
+    // set while a session writing through jimdb is open
+    private static final AtomicBoolean DATABASE_SESSION_OPEN = new AtomicBoolean( false );
+
+    private final QueueManager queueManager;
+
+    // whether this session holds the database, until it is closed
+    private final AtomicBoolean holdsDatabase;
+
+    /**
+     * Creates a session.
+     *
+     * @param options the options controlling how files are found and parsed
+     * @param entityStore the store extracted entities are submitted to
+     * @throws IllegalStateException if the store is the database backed
+     * {@code EntityStoreSingleton} and another session using it is open
+     */
+    public MiningSession ( MiningOptions options, EntityStore entityStore ) {
+        boolean databaseBacked = entityStore instanceof EntityStoreSingleton;
+        if ( databaseBacked && !DATABASE_SESSION_OPEN.compareAndSet( false, true ) ) {
+            throw new IllegalStateException( 
+                    "Only one mining session may write to the database at a time" );
+        }
+        this.holdsDatabase = new AtomicBoolean( databaseBacked );
+        this.queueManager = new QueueManager( options, entityStore );
+    }
+
+    /**
+     * Queues the Java files found in the sources given for parsing, and
+     * returns without waiting for them to be parsed.
+     *
+     * @param projectName the name of the project
+     * @param projectVersion the version of the project
+     * @param sources files, directories and archives holding the source
+     * @return the job, which reports the progress made
+     * @throws IllegalStateException if the session has been closed
+     */
+    public MiningJob submit ( 
+            String projectName, 
+            String projectVersion, 
+            List<File> sources ) {
+        MiningJob job = new MiningJob( projectName, projectVersion, sources );
+        try {
+            this.queueManager.submit( job );
+        }
+        catch ( RejectedExecutionException e ) {
+            throw new IllegalStateException( "Mining session is closed", e );
+        }
+
+        return job;
+    }
+
+    /**
+     * Waits for the files submitted to be parsed and releases the
+     * session's threads. Entities may still be queued in the store.
+     */
+    @Override
+    public void close () {
+        this.queueManager.awaitCompletion();
+        if ( this.holdsDatabase.getAndSet( false ) ) {
+            DATABASE_SESSION_OPEN.set( false );
+        }
+    }
+}
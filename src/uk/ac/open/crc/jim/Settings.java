@@ -58,10 +58,26 @@ public class Settings {
         // now add the defaults
         settings.put("output.csv", "false");
         settings.put("output.xml", "false");
+        settings.put("output.database.integer.keys", "false");
+        settings.put("output.database.delta.versions", "false");
+        
+        // milliseconds without file system events before changes are mined
+        settings.put("watch.quiet.period", "500");
 
         // control flags
         settings.put("analyse.generated", "false");
         settings.put("analyse.tests", "false");
+        settings.put("analyse.declarations.only", "false");
+        
+        // milliseconds the Java 7 parser may spend on a file, 0 for no 
+        // limit, what is then done with the file, and the number of the 
+        // slowest files reported
+        settings.put("parse.timeout", "0");
+        settings.put("parse.timeout.action", "java14");
+        settings.put("parse.slow.files", "10");
+        
+        // extract what can be parsed of files with syntax errors
+        settings.put("parse.recover", "false");
 
         // for the thread pool
         settings.put("threads.minimum", "10");
@@ -71,7 +87,10 @@ public class Settings {
         
         // intt settings
         settings.put("intt.recursive.split", "false");
-        settings.put("intt.modal.explansion", "false");
+        settings.put("intt.modal.expansion", "false");
+        
+        // extraction cache size in megabytes
+        settings.put("extraction.cache.size", "1024");
         
         // logging level -- warning by default
         settings.put("log.level", "WARNING");
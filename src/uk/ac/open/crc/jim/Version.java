@@ -26,6 +26,11 @@ public class Version {
     
     public static final String REVISION = "2015-11";
     
+    // the version of the entities extracted from a source file, which keys 
+    // the extraction cache: increment it with every change to the entities 
+    // extracted or to the form in which a batch is cached
+    public static final int EXTRACTOR = 7;
+    
     public static final String PROGRAM_NAME = "jim";
     
     public static final String COPYRIGHT = 
@@ -0,0 +1,308 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+package uk.ac.open.crc.jim.daemon;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.ac.open.crc.jim.queue.MiningJob;
+import uk.ac.open.crc.jim.queue.QueueManager;
+
+/**
+ * A resident mining process that accepts jobs over HTTP on the loopback
+ * interface. The parsers, caches and database connection are shared by
+ * all the jobs, so they are only set up once.
+ * <p>
+ * The endpoints are:
+ * </p>
+ * <ul>
+ * <li>{@code POST /jobs?project=P&version=V&path=PATH} queues a job and
+ * returns its status</li>
+ * <li>{@code GET /jobs} returns the status of every job</li>
+ * <li>{@code GET /jobs/ID} returns the status of a job</li>
+ * <li>{@code POST /shutdown} stops accepting jobs and shuts the daemon
+ * down once the jobs submitted are complete</li>
+ * </ul>
+ * <p>
+ * Parameters may also be sent as a form encoded request body. Responses
+ * are JSON.
+ * </p>
+ */
+public class MiningDaemon {
+
+    private static final Logger LOGGER = 
+            LoggerFactory.getLogger( MiningDaemon.class );
+
+    private final int port;
+    private final QueueManager queueManager;
+
+    private final Map<Integer, MiningJob> jobs;
+
+    // handles the HTTP requests
+    private final ExecutorService requestExecutor;
+
+    // finds the files for each job so that requests return promptly
+    private final ExecutorService submissionExecutor;
+
+    private final CountDownLatch shutdownRequested;
+
+    // held while checking accepting and handing a job to the submission
+    // executor, so that no job reaches the executor once it is shut down
+    private final Object submissionLock;
+
+    private boolean accepting;
+
+    /**
+     * Creates a daemon that queues the files of its jobs with the given
+     * queue manager.
+     *
+     * @param port the port to listen on
+     * @param queueManager the queue manager shared by all jobs
+     */
+    public MiningDaemon ( int port, QueueManager queueManager ) {
+        this.port = port;
+        this.queueManager = queueManager;
+        this.jobs = new ConcurrentSkipListMap<>();
+        this.requestExecutor = Executors.newSingleThreadExecutor();
+        this.submissionExecutor = Executors.newSingleThreadExecutor();
+        this.shutdownRequested = new CountDownLatch( 1 );
+        this.submissionLock = new Object();
+        this.accepting = true;
+    }
+
+    /**
+     * Serves requests until a shutdown is requested and the jobs submitted
+     * are complete.
+     *
+     * @throws IOException if the server cannot be started
+     */
+    public void run () throws IOException {
+        HttpServer server = HttpServer.create( 
+                new InetSocketAddress( InetAddress.getLoopbackAddress(), this.port ), 
+                0 );
+        server.createContext( "/jobs", this::handleJobs );
+        server.createContext( "/shutdown", this::handleShutdown );
+        server.setExecutor( this.requestExecutor );
+        server.start();
+        LOGGER.warn( "Mining daemon listening on port {}", this.port );
+
+        try {
+            this.shutdownRequested.await();
+            this.submissionExecutor.shutdown();
+            this.submissionExecutor.awaitTermination( Long.MAX_VALUE, TimeUnit.SECONDS );
+            for ( MiningJob job : this.jobs.values() ) {
+                job.awaitCompletion();
+            }
+        }
+        catch ( InterruptedException e ) {
+            LOGGER.warn( "Mining daemon interrupted: {}", e.getMessage() );
+            Thread.currentThread().interrupt();
+        }
+
+        server.stop( 1 );
+        // the executor's thread would otherwise keep the JVM running
+        this.requestExecutor.shutdown();
+        LOGGER.warn( "Mining daemon stopped" );
+    }
+
+    private void handleJobs ( HttpExchange exchange ) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+
+        if ( "GET".equals( method ) && "/jobs".equals( path ) ) {
+            String statuses = this.jobs.values().stream()
+                    .map( this::toJson )
+                    .collect( Collectors.joining( ",", "[", "]" ) );
+            respond( exchange, 200, statuses );
+        }
+        else if ( "GET".equals( method ) ) {
+            MiningJob job = null;
+            try {
+                job = this.jobs.get( 
+                        Integer.parseInt( path.substring( "/jobs/".length() ) ) );
+            }
+            catch ( NumberFormatException | StringIndexOutOfBoundsException e ) {
+                // handled as an unknown job
+            }
+            if ( job == null ) {
+                respondError( exchange, 404, "no such job" );
+            }
+            else {
+                respond( exchange, 200, toJson( job ) );
+            }
+        }
+        else if ( "POST".equals( method ) && "/jobs".equals( path ) ) {
+            submit( exchange );
+        }
+        else {
+            respondError( exchange, 405, "unsupported request" );
+        }
+    }
+
+    private void submit ( HttpExchange exchange ) throws IOException {
+        Map<String, String> parameters = parameters( exchange );
+        String projectName = parameters.get( "project" );
+        String projectVersion = parameters.get( "version" );
+        String sourcePath = parameters.get( "path" );
+        if ( isBlank( projectName ) || isBlank( projectVersion ) || isBlank( sourcePath ) ) {
+            respondError( exchange, 400, "project, version and path are required" );
+            return;
+        }
+        File source = new File( sourcePath );
+        if ( !source.exists() ) {
+            respondError( exchange, 400, "path does not exist: " + sourcePath );
+            return;
+        }
+
+        MiningJob job = new MiningJob( 
+                projectName, 
+                projectVersion, 
+                Collections.singletonList( source ) );
+        boolean accepted;
+        synchronized ( this.submissionLock ) {
+            accepted = this.accepting;
+            if ( accepted ) {
+                this.jobs.put( job.getId(), job );
+                this.submissionExecutor.execute( () -> this.queueManager.submit( job ) );
+            }
+        }
+        if ( !accepted ) {
+            respondError( exchange, 503, "shutting down" );
+            return;
+        }
+        LOGGER.info( "Job {} queued: {} {} from {}", 
+                job.getId(), projectName, projectVersion, sourcePath );
+
+        respond( exchange, 202, toJson( job ) );
+    }
+
+    private void handleShutdown ( HttpExchange exchange ) throws IOException {
+        if ( !"POST".equals( exchange.getRequestMethod() ) ) {
+            respondError( exchange, 405, "unsupported request" );
+            return;
+        }
+        synchronized ( this.submissionLock ) {
+            this.accepting = false;
+        }
+        respond( exchange, 202, "{\"shutdown\":true}" );
+        this.shutdownRequested.countDown();
+    }
+
+    private String toJson ( MiningJob job ) {
+        return "{\"id\":" + job.getId()
+                + ",\"project\":" + quote( job.getProjectName() )
+                + ",\"version\":" + quote( job.getProjectVersion() )
+                + ",\"state\":" + quote( job.getState().name() )
+                + ",\"filesQueued\":" + job.getFilesQueued()
+                + ",\"filesParsed\":" + job.getFilesParsed()
+                + ",\"elapsedMillis\":" + job.getElapsedTime()
+                + "}";
+    }
+
+    private static String quote ( String value ) {
+        StringBuilder quoted = new StringBuilder( "\"" );
+        for ( char c : value.toCharArray() ) {
+            if ( c == '"' || c == '\\' ) {
+                quoted.append( '\\' ).append( c );
+            }
+            else if ( c < 0x20 ) {
+                quoted.append( String.format( "\\u%04x", (int) c ) );
+            }
+            else {
+                quoted.append( c );
+            }
+        }
+
+        return quoted.append( '"' ).toString();
+    }
+
+    private static boolean isBlank ( String value ) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    // query string parameters, overridden by any in a form encoded body
+    private static Map<String, String> parameters ( HttpExchange exchange ) 
+            throws IOException {
+        Map<String, String> parameters = new HashMap<>();
+        decodeInto( exchange.getRequestURI().getRawQuery(), parameters );
+        decodeInto( new String( readBody( exchange ), StandardCharsets.UTF_8 ), parameters );
+
+        return parameters;
+    }
+
+    private static void decodeInto ( String encoded, Map<String, String> parameters ) 
+            throws UnsupportedEncodingException {
+        if ( encoded == null || encoded.isEmpty() ) {
+            return;
+        }
+        for ( String pair : encoded.split( "&" ) ) {
+            int equals = pair.indexOf( '=' );
+            if ( equals > 0 ) {
+                parameters.put( 
+                        URLDecoder.decode( pair.substring( 0, equals ), "UTF-8" ),
+                        URLDecoder.decode( pair.substring( equals + 1 ), "UTF-8" ) );
+            }
+        }
+    }
+
+    private static byte[] readBody ( HttpExchange exchange ) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try ( InputStream in = exchange.getRequestBody() ) {
+            byte[] buffer = new byte[4096];
+            int count;
+            while ( ( count = in.read( buffer ) ) != -1 ) {
+                body.write( buffer, 0, count );
+            }
+        }
+
+        return body.toByteArray();
+    }
+
+    private static void respondError ( HttpExchange exchange, int status, String message ) 
+            throws IOException {
+        respond( exchange, status, "{\"error\":" + quote( message ) + "}" );
+    }
+
+    private static void respond ( HttpExchange exchange, int status, String json ) 
+            throws IOException {
+        byte[] body = json.getBytes( StandardCharsets.UTF_8 );
+        exchange.getResponseHeaders().set( "Content-Type", "application/json" );
+        exchange.sendResponseHeaders( status, body.length );
+        try ( OutputStream out = exchange.getResponseBody() ) {
+            out.write( body );
+        }
+    }
+}
@@ -16,20 +16,18 @@
 
 package uk.ac.open.crc.jim.parser.java14;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import uk.ac.open.crc.idtk.Modifier;
 import uk.ac.open.crc.idtk.Species;
-import uk.ac.open.crc.idtk.TypeName;
 import uk.ac.open.crc.jim.parser.java14.Java14Parser.ModifierSet;
-import uk.ac.open.crc.jim.persistence.EntityStoreSingleton;
-import uk.ac.open.crc.jim.Settings;
-import uk.ac.open.crc.jimdb.RawProgramEntity;
+import uk.ac.open.crc.jim.persistence.EntityBatch;
+import uk.ac.open.crc.jim.persistence.EntityStore;
 
 /**
  * Implementation of the visitor.
@@ -46,13 +44,19 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
      */
     private static final String ANONYMOUS = "#anonymous#";
 
-    private static final TypeName NO_TYPE = new TypeName( "#no type#" );
+    private static final String NO_TYPE = "#no type#";
 
     private static final Logger LOGGER
             = LoggerFactory.getLogger( IdentifierDeclarationVisitor.class );
 
     private final String javaFileName;
-    private final EntityStoreSingleton identifierStore;
+    private final EntityStore identifierStore;
+
+    /**
+     * The entities found in the file, submitted once the whole
+     * compilation unit has been visited.
+     */
+    private final EntityBatch batch;
 
     /**
      * A store for the FQNs of imported types
@@ -64,13 +68,50 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
      */
     private final ArrayList<String> locallyDeclaredTypes;
 
+    /**
+     * Creates a visitor recording the entities it finds against the given
+     * project and version.
+     *
+     * @param projectName the name of the project
+     * @param projectVersion the version of the project
+     * @param javaFileName the name of the file visited
+     * @param entityStore the store the file's entities are submitted to
+     */
+    public IdentifierDeclarationVisitor (
+            String projectName,
+            String projectVersion,
+            String javaFileName,
+            EntityStore entityStore ) {
+        this(
+                projectName,
+                projectVersion,
+                javaFileName,
+                entityStore,
+                EnumSet.allOf( Species.class ) );
+    }
+
+    /**
+     * Creates a visitor recording only the entities of the selected
+     * species.
+     *
+     * @param projectName the name of the project
+     * @param projectVersion the version of the project
+     * @param javaFileName the name of the file visited
+     * @param entityStore the store the file's entities are submitted to
+     * @param selectedSpecies the species of the entities to record
+     */
     public IdentifierDeclarationVisitor (
+            String projectName,
+            String projectVersion,
             String javaFileName,
-            EntityStoreSingleton entityStore ) {
+            EntityStore entityStore,
+            Set<Species> selectedSpecies ) {
         super();
 
         this.javaFileName = javaFileName;
         this.identifierStore = entityStore;
+        this.batch = new EntityBatch( 
+                projectName, projectVersion, javaFileName, selectedSpecies );
 
         this.imports = new ArrayList<>();
         this.locallyDeclaredTypes = new ArrayList<>();
@@ -80,6 +121,8 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
     @Override
     public Object visit ( ASTCompilationUnit node, Object data ) {
         walkChildren( node, new DtLocationTracker() );
+        // submit the entities for the file as a single unit
+        this.identifierStore.add( this.batch );
         return data;
     }
 
@@ -113,6 +156,7 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
         }
 
         ( (DtLocationTracker) data ).setPackageName( packageName.toString() );
+        this.batch.setPackageName( packageName.toString() );
 
         return data;
     }
@@ -140,20 +184,18 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
         }
 
         DtLocationTracker tracker = (DtLocationTracker) data;
-        String parentUid = tracker.getContainerUid();
-        String entityUid = tracker.getUidForLeafEntity();
-
-        RawProgramEntity programEntity = new RawProgramEntity(
-                this.javaFileName,
-                tracker.getPackageName(),
-                parentUid,
-                entityUid,
+        int parentSerial = tracker.getContainerSerial();
+        int entitySerial = tracker.getSerialForLeafEntity();
+
+        this.batch.add(
+                parentSerial,
+                entitySerial,
                 identifierNameString,
                 Species.LABEL,
                 NO_TYPE, // labels have no type
                 false, // and can't be arrays
                 null, // no method signature
-                null, // no modifiers
+                EntityBatch.NO_MODIFIERS, // no modifiers
                 false, // not a loop control variable
                 null, // no super class(es)
                 null, // no interfaces implemented or extended
@@ -162,8 +204,6 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
                 node.lastToken.endLine,
                 node.lastToken.endColumn );
 
-        this.identifierStore.add( programEntity );
-
         walkChildren( node, data );
         return data;
     }
@@ -174,7 +214,7 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
         // Type() VariableDeclarator() ( Comma() VariableDeclarator() )* SemiColon()
         // i.e. there can be one type and multiple names
         ArrayList<String> names = new ArrayList<>();
-        ArrayList<Modifier> modifiers = getModifierListFor( node );
+        int modifiers = getModifierListFor( node );
 
         String typeNameString = "";
         boolean isArray = false;
@@ -193,17 +233,15 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
         boolean isLoopControlVariable = ( node.jjtGetParent() instanceof ASTForInit );
 
         DtLocationTracker tracker = (DtLocationTracker) data;
-        String parentUid = tracker.getContainerUid();
+        int parentSerial = tracker.getContainerSerial();
 
-        TypeName typeName = getResolvedTypeNameFor( typeNameString );
+        String typeName = getResolvedTypeNameFor( typeNameString );
 
         for ( String identifierNameString : names ) {
-            String entityUid = tracker.getUidForLeafEntity();
-            RawProgramEntity programEntity = new RawProgramEntity(
-                    this.javaFileName,
-                    tracker.getPackageName(),
-                    parentUid,
-                    entityUid,
+            int entitySerial = tracker.getSerialForLeafEntity();
+            this.batch.add(
+                    parentSerial,
+                    entitySerial,
                     identifierNameString,
                     Species.LOCAL_VARIABLE,
                     typeName,
@@ -217,8 +255,6 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
                     node.firstToken.beginColumn,
                     node.lastToken.endLine,
                     node.lastToken.endColumn );
-
-            this.identifierStore.add( programEntity );
         }
 
         walkChildren( node, data );
@@ -231,7 +267,7 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
         // Type() VariableDeclarator() ( Comma() VariableDeclarator() )* SemiColon()
         // i.e. one type and one or more names
         ArrayList<String> names = new ArrayList<>();
-        ArrayList<Modifier> modifiers = getModifierListFor( node );
+        int modifiers = getModifierListFor( node );
         String typeNameString = "";
 
         boolean isArray = false;
@@ -248,17 +284,15 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
         }
 
         DtLocationTracker tracker = (DtLocationTracker) data;
-        String parentUid = tracker.getContainerUid();
+        int parentSerial = tracker.getContainerSerial();
 
-        TypeName typeName = getResolvedTypeNameFor( typeNameString );
+        String typeName = getResolvedTypeNameFor( typeNameString );
 
         for ( String identifierNameString : names ) {
-            String entityUid = tracker.getUidForLeafEntity();
-            RawProgramEntity programEntity = new RawProgramEntity(
-                    this.javaFileName,
-                    tracker.getPackageName(),
-                    parentUid,
-                    entityUid,
+            int entitySerial = tracker.getSerialForLeafEntity();
+            this.batch.add(
+                    parentSerial,
+                    entitySerial,
                     identifierNameString,
                     Species.FIELD,
                     typeName,
@@ -272,8 +306,6 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
                     node.firstToken.beginColumn,
                     node.lastToken.endLine,
                     node.lastToken.endColumn );
-
-            this.identifierStore.add( programEntity );
         }
 
         walkChildren( node, data );
@@ -282,7 +314,7 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
 
     @Override
     public Object visit ( ASTFormalParameter node, Object data ) {
-        ArrayList<Modifier> modifiers = getModifierListFor( node );
+        int modifiers = getModifierListFor( node );
         String typeNameString = "";
         String identifierNameString = "";
 
@@ -304,17 +336,15 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
         }
 
         DtLocationTracker tracker = (DtLocationTracker) data;
-        String parentUid = tracker.getContainerUid();
+        int parentSerial = tracker.getContainerSerial();
 
-        String entityUid = tracker.getUidForLeafEntity();
+        int entitySerial = tracker.getSerialForLeafEntity();
 
-        TypeName typeName = getResolvedTypeNameFor( typeNameString );
+        String typeName = getResolvedTypeNameFor( typeNameString );
 
-        RawProgramEntity programEntity = new RawProgramEntity(
-                this.javaFileName,
-                tracker.getPackageName(),
-                parentUid,
-                entityUid,
+        this.batch.add(
+                parentSerial,
+                entitySerial,
                 identifierNameString,
                 Species.FORMAL_ARGUMENT,
                 typeName,
@@ -329,8 +359,6 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
                 node.lastToken.endLine,
                 node.lastToken.endColumn );
 
-        this.identifierStore.add( programEntity );
-
         walkChildren( node, data );
         return data;
     }
@@ -351,23 +379,21 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
             }
         }
 
-        ArrayList<Modifier> modifierList = getModifierListFor( (ASTConstructorDeclaration) node );
+        int modifierList = getModifierListFor( (ASTConstructorDeclaration) node );
 
         DtLocationTracker tracker = (DtLocationTracker) data;
-        String parentUid = tracker.getContainerUid();
-        String entityUid = tracker.pushContainer();
+        int parentSerial = tracker.getContainerSerial();
+        int entitySerial = tracker.pushContainer();
 
         // recover the class type
         // just in case we are a nested class.
         String localTypes = tracker.getLocalTypeName();
 
-        TypeName typeName = getResolvedTypeNameFor( tracker.getPackageName() + "." + localTypes );
+        String typeName = getResolvedTypeNameFor( tracker.getPackageName() + "." + localTypes );
 
-        RawProgramEntity programEntity = new RawProgramEntity(
-                this.javaFileName,
-                tracker.getPackageName(),
-                parentUid,
-                entityUid,
+        this.batch.add(
+                parentSerial,
+                entitySerial,
                 identifierNameString,
                 Species.CONSTRUCTOR,
                 typeName,
@@ -382,8 +408,6 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
                 node.lastToken.endLine,
                 node.lastToken.endColumn );
 
-        this.identifierStore.add( programEntity );
-
         walkChildren( node, data );
 
         tracker.pop();
@@ -439,19 +463,17 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
             }
         }
 
-        ArrayList<Modifier> modifierList = getModifierListFor( (ASTMethodDeclaration) node );
+        int modifierList = getModifierListFor( (ASTMethodDeclaration) node );
 
         DtLocationTracker tracker = (DtLocationTracker) data;
-        String parentUid = tracker.getContainerUid();
-        String entityUid = tracker.pushContainer();
+        int parentSerial = tracker.getContainerSerial();
+        int entitySerial = tracker.pushContainer();
 
-        TypeName typeName = getResolvedTypeNameFor( typeNameString );
+        String typeName = getResolvedTypeNameFor( typeNameString );
 
-        RawProgramEntity programEntity = new RawProgramEntity(
-                this.javaFileName,
-                tracker.getPackageName(),
-                parentUid,
-                entityUid,
+        this.batch.add(
+                parentSerial,
+                entitySerial,
                 identifierNameString,
                 Species.METHOD,
                 typeName,
@@ -466,8 +488,6 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
                 node.lastToken.endLine,
                 node.lastToken.endColumn );
 
-        this.identifierStore.add( programEntity );
-
         walkChildren( node, data );
 
         tracker.pop();
@@ -528,13 +548,12 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
             }
         }
 
-        ArrayList<Modifier> modifierList
-                = getModifierListFor( (ASTClassOrInterfaceDeclaration) node );
+        int modifierList = getModifierListFor( (ASTClassOrInterfaceDeclaration) node );
 
         DtLocationTracker tracker = (DtLocationTracker) data;
-        String parentUid = tracker.getContainerUid();
-        String entityUid = tracker.pushContainer();
-        TypeName typeName;
+        int parentSerial = tracker.getContainerSerial();
+        int entitySerial = tracker.pushContainer();
+        String typeName;
         if ( !ANONYMOUS.equals( identifierNameString ) ) {
             tracker.pushType( identifierNameString );
             typeName = getResolvedTypeNameFor(
@@ -546,9 +565,9 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
             typeName = NO_TYPE;
         }
 
-        ArrayList<TypeName> superClassList = new ArrayList<>();
+        ArrayList<String> superClassList = new ArrayList<>();
 
-        ArrayList<TypeName> superTypeList = new ArrayList<>();
+        ArrayList<String> superTypeList = new ArrayList<>();
 
         if ( species == Species.INTERFACE
                 || species == Species.NESTED_INTERFACE ) {
@@ -565,11 +584,9 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
             } );
         }
 
-        RawProgramEntity programEntity = new RawProgramEntity(
-                this.javaFileName,
-                tracker.getPackageName(),
-                parentUid,
-                entityUid,
+        this.batch.add(
+                parentSerial,
+                entitySerial,
                 identifierNameString,
                 species,
                 typeName,
@@ -584,8 +601,6 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
                 node.lastToken.endLine,
                 node.lastToken.endColumn );
 
-        this.identifierStore.add( programEntity );
-
         // continue walking the tree
         walkChildren( node, data );
 
@@ -614,20 +629,18 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
         // now record the container
         if ( anonymous == true ) {
             String identifierNameString = ANONYMOUS;
-            String parentUid = tracker.getContainerUid();
-            String entityUid = tracker.pushContainer();
-
-            RawProgramEntity programEntity = new RawProgramEntity(
-                    this.javaFileName,
-                    tracker.getPackageName(),
-                    parentUid,
-                    entityUid,
+            int parentSerial = tracker.getContainerSerial();
+            int entitySerial = tracker.pushContainer();
+
+            this.batch.add(
+                    parentSerial,
+                    entitySerial,
                     identifierNameString,
                     Species.LOCAL_CLASS,
                     NO_TYPE,
                     false, // not an array
                     null, // no method signature
-                    null, // no modifiers
+                    EntityBatch.NO_MODIFIERS, // no modifiers
                     false, // not a loop control variable
                     null, // no superclasses
                     null, // no implemented interfaces
@@ -635,8 +648,6 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
                     node.firstToken.beginColumn,
                     node.lastToken.endLine,
                     node.lastToken.endColumn );
-
-            this.identifierStore.add( programEntity );
         }
 
         // visit the children
@@ -654,16 +665,14 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
     public Object visit ( ASTInitializer node, Object data ) {
         DtLocationTracker tracker = (DtLocationTracker) data;
         String identifierNameString = ANONYMOUS;
-        String parentUid = tracker.getContainerUid(); // i.e. the containing class
-        String entityUid = tracker.pushContainer();
+        int parentSerial = tracker.getContainerSerial(); // i.e. the containing class
+        int entitySerial = tracker.pushContainer();
 
-        ArrayList<Modifier> modifierList = getModifierListFor( (ASTInitializer) node );
+        int modifierList = getModifierListFor( (ASTInitializer) node );
 
-        RawProgramEntity programEntity = new RawProgramEntity(
-                this.javaFileName,
-                tracker.getPackageName(),
-                parentUid,
-                entityUid,
+        this.batch.add(
+                parentSerial,
+                entitySerial,
                 identifierNameString,
                 Species.INITIALISER,
                 NO_TYPE, // no type name
@@ -678,8 +687,6 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
                 node.lastToken.endLine,
                 node.lastToken.endColumn );
 
-        this.identifierStore.add( programEntity );
-
         walkChildren( node, data );
 
         // pop the container off the tracker
@@ -929,9 +936,9 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
      *
      * @param typeNameString
      *
-     * @return an instance of TypeName representing the argument.
+     * @return the resolved type name.
      */
-    private TypeName getResolvedTypeNameFor ( String typeNameString ) {
+    private String getResolvedTypeNameFor ( String typeNameString ) {
         // strip out the generics - we don't need them for some tests
 
         int leftAngleIndex = typeNameString.indexOf( "<" );
@@ -951,7 +958,7 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
         // pick the low hanging fruit first
         if ( typeNameString.matches( "^[a-z][a-z0-9]*\\..*" ) ) {
             // then we have something that may well be an fqn
-            return new TypeName( typeNameString );
+            return typeNameString;
         }
         else {
             // so we now need to remove any generics to perform a look
@@ -970,7 +977,7 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
                 if ( !generics.isEmpty() ) {
                     fullTypeName = fullTypeName + generics;
                 }
-                return new TypeName( fullTypeName );
+                return fullTypeName;
             }
 
             // now monitor the possible issue of multiple matches
@@ -995,7 +1002,7 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
                 if ( !generics.isEmpty() ) {
                     fullTypeName = fullTypeName + generics;
                 }
-                return new TypeName( fullTypeName );
+                return fullTypeName;
             }
 
             // need to consider whether there will ever be a need
@@ -1012,7 +1019,7 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
         }
 
         // if we get here, we have only the passed in type name to go on
-        return new TypeName( typeNameString );
+        return typeNameString;
     }
 
     // ----- methods for retrieving imports data -------
@@ -1143,59 +1150,59 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
     }
 
     /**
-     * Returns a list of the stored modifiers for this node.
+     * Returns the stored modifiers for this node as a bit mask.
      *
      * @param node Any node that might have modifiers
-     * @return a list of modifiers.
+     * @return a bit mask of modifiers.
      *
      */
-    private ArrayList<Modifier> getModifierListFor ( SimpleNode node ) {
-        ArrayList<Modifier> modifierList = new ArrayList<>();
+    private int getModifierListFor ( SimpleNode node ) {
+        int modifierList = 0;
         Integer modifiers = node.getModifiers();
         ModifierSet modifierSet = new ModifierSet();
 
         if ( modifierSet.isPublic( modifiers ) ) {
-            modifierList.add( Modifier.PUBLIC );
+            modifierList |= EntityBatch.maskFor( Modifier.PUBLIC );
         }
 
         if ( modifierSet.isProtected( modifiers ) ) {
-            modifierList.add( Modifier.PROTECTED );
+            modifierList |= EntityBatch.maskFor( Modifier.PROTECTED );
         }
 
         if ( modifierSet.isPrivate( modifiers ) ) {
-            modifierList.add( Modifier.PRIVATE );
+            modifierList |= EntityBatch.maskFor( Modifier.PRIVATE );
         }
 
         if ( modifierSet.isFinal( modifiers ) ) {
-            modifierList.add( Modifier.FINAL );
+            modifierList |= EntityBatch.maskFor( Modifier.FINAL );
         }
 
         if ( modifierSet.isAbstract( modifiers ) ) {
-            modifierList.add( Modifier.ABSTRACT );
+            modifierList |= EntityBatch.maskFor( Modifier.ABSTRACT );
         }
 
         if ( modifierSet.isNative( modifiers ) ) {
-            modifierList.add( Modifier.NATIVE );
+            modifierList |= EntityBatch.maskFor( Modifier.NATIVE );
         }
 
         if ( modifierSet.isStatic( modifiers ) ) {
-            modifierList.add( Modifier.STATIC );
+            modifierList |= EntityBatch.maskFor( Modifier.STATIC );
         }
 
         if ( modifierSet.isSynchronized( modifiers ) ) {
-            modifierList.add( Modifier.SYNCHRONIZED );
+            modifierList |= EntityBatch.maskFor( Modifier.SYNCHRONIZED );
         }
 
         if ( modifierSet.isVolatile( modifiers ) ) {
-            modifierList.add( Modifier.VOLATILE );
+            modifierList |= EntityBatch.maskFor( Modifier.VOLATILE );
         }
 
         if ( modifierSet.isStrictfp( modifiers ) ) {
-            modifierList.add( Modifier.STRICTFP );
+            modifierList |= EntityBatch.maskFor( Modifier.STRICTFP );
         }
 
         if ( modifierSet.isTransient( modifiers ) ) {
-            modifierList.add( Modifier.TRANSIENT );
+            modifierList |= EntityBatch.maskFor( Modifier.TRANSIENT );
         }
 
         return modifierList;
@@ -1204,48 +1211,29 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
     // ----------- helper class --------
     /**
      * Provides a mechanism for tracking the containing program entities.
+     * Containers are identified by the serial number allocated to them
+     * within the file; the batch turns serial numbers into UIDs.
      *
      */
     private class DtLocationTracker {
 
-        private final int HASH_LENGTH = 40;
-
-        private MessageDigest messageDigest;
-
-        private final String projectName;
         private String packageName;
-        private String packageHash;
-        private String fileHash;
 
-        private ArrayDeque<String> stack;
+        // stack of container serial numbers
+        private int[] stack;
+        private int stackSize;
 
         private ArrayList<String> typeStack;
 
         private final SerialNumberGenerator serialNumberGenerator;
 
         DtLocationTracker () {
-            this.stack = new ArrayDeque<>();
+            this.stack = new int[16];
+            this.stackSize = 0;
             this.typeStack = new ArrayList<>();
 
-            try {
-                messageDigest = MessageDigest.getInstance( "SHA" );
-            }
-            catch ( NoSuchAlgorithmException e ) {
-                LOGGER.error(
-                        "Fatal: digest algorithm not found : {}",
-                        e.getMessage() );
-            }
-
-            this.projectName = Settings.getInstance().get( "project.name" )
-                    + " "
-                    + Settings.getInstance().get( "project.version" );
-
             this.packageName = "";   // give this a default value as package is not always set explicitly
 
-            this.packageHash = null;
-
-            this.fileHash = null;
-
             this.serialNumberGenerator = new SerialNumberGenerator();
         }
 
@@ -1253,42 +1241,30 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
             return this.packageName;
         }
 
-        String getPackageHash () {
-            if ( this.packageHash == null ) {
-                this.packageHash = digest( this.projectName + " " + this.packageName );
-            }
-            return this.packageHash;
-        }
-
         void setPackageName ( String packageName ) {
             this.packageName = packageName;
         }
 
-        private String getFileHash () {
-            if ( this.fileHash == null ) {
-                this.fileHash = digest( this.projectName
-                        + " " + this.packageName
-                        + " " + javaFileName );
-            }
-            return this.fileHash;
-        }
-
         /**
+         * Allocates a serial number to a new container and makes it the
+         * current container.
          *
-         * @param containerName must be the signature for methods and constructors.
-         * @return the digest of the container name
+         * @return the serial number of the container
          */
-        String pushContainer () {
-            String containerUid = getFileHash() + "-" + serialNumberGenerator.getNext();
-            this.stack.push( containerUid );
-            return containerUid;
+        int pushContainer () {
+            int containerSerial = serialNumberGenerator.getNext();
+            if ( this.stackSize == this.stack.length ) {
+                this.stack = Arrays.copyOf( this.stack, this.stackSize * 2 );
+            }
+            this.stack[this.stackSize++] = containerSerial;
+            return containerSerial;
         }
 
         /**
          * Discard a container on exit from the entity.
          */
         void pop () {
-            this.stack.pop();
+            this.stackSize--;
         }
 
         void pushType ( String typeName ) {
@@ -1336,20 +1312,20 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
         }
 
         /**
-         * Creates a UID for a leaf entity.
+         * Allocates a serial number for a leaf entity.
          */
-        String getUidForLeafEntity () {
-            return getFileHash() + "-" + this.serialNumberGenerator.getNext();
+        int getSerialForLeafEntity () {
+            return this.serialNumberGenerator.getNext();
         }
 
         /**
-         * Retrieves the UID of the current container.
+         * Retrieves the serial number of the current container.
          *
-         * @return
+         * @return the serial number of the current container, or
+         * {@code EntityBatch.NO_CONTAINER} outside a top-level container
          */
-        String getContainerUid () {
-            String containerUid = this.stack.peekFirst();
-            if ( containerUid == null ) {
+        int getContainerSerial () {
+            if ( this.stackSize == 0 ) {
                 // i.e. the stack is empty
                 // then we are in the file, outside a top-level program entity
                 // so its potenitally a warning so log it
@@ -1357,31 +1333,10 @@ public class IdentifierDeclarationVisitor extends BasicVisitor {
                         "Container UID requested outside a top-level container "
                                 + "in file:\"{}\"",
                         javaFileName );
+                return EntityBatch.NO_CONTAINER;
             }
 
-            return containerUid;
-        }
-
-        /**
-         * Generates a digest string in hex for the input string.
-         *
-         * @param input a string to hash.
-         * @return the hash for the string.
-         */
-        private String digest ( String input ) {
-            //  ensure the digest instance is reset
-            messageDigest.reset();
-
-            //  now compute the digest
-            byte[] bytes = messageDigest.digest( input.getBytes() );
-
-            //  write the hex digits out to a String
-            StringBuilder output = new StringBuilder( HASH_LENGTH );
-            for ( byte b : bytes ) {
-                output.append( String.format( "%02x", b ) );
-            }
-
-            return output.toString();
+            return this.stack[this.stackSize - 1];
         }
 
         /**
@@ -0,0 +1,258 @@
+/*
+ Copyright (C) 2013-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+
+package uk.ac.open.crc.jim.parser.java17;
+
+import java.util.Arrays;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.WritableToken;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+
+/**
+ * Creates tokens that hold no more than their type and their offsets in
+ * the lexer's input, so that the tokens of a file take about two thirds
+ * of the memory of {@code CommonToken}s.
+ * <p>
+ * The line and column of a token are found from its start offset in a
+ * table of the offsets at which lines start, which the factory builds
+ * from the tokens it creates. The text of a token is read from the input
+ * only when asked for. A factory must therefore only be used by a single
+ * lexer, for a single input. Tokens with text that is not in the input,
+ * or on a hidden channel, are created as {@code CommonToken}s.
+ * </p>
+ */
+public class CompactTokenFactory implements TokenFactory<Token> {
+
+    private static final int INITIAL_LINES = 64;
+
+    private Pair<TokenSource, CharStream> source;
+
+    // the lines on which tokens start, in order, and the offset of the 
+    // start of each
+    private int[] lines;
+    private int[] lineStarts;
+    private int lineCount;
+
+    /**
+     * Creates a token factory for one lexer.
+     */
+    public CompactTokenFactory () {
+        this.source = null;
+        this.lines = new int[INITIAL_LINES];
+        this.lineStarts = new int[INITIAL_LINES];
+        this.lineCount = 0;
+    }
+
+    @Override
+    public Token create ( 
+            Pair<TokenSource, CharStream> source, 
+            int type, 
+            String text, 
+            int channel, 
+            int start, 
+            int stop, 
+            int line, 
+            int charPositionInLine ) {
+        if ( text != null || channel != Token.DEFAULT_CHANNEL ) {
+            CommonToken token = new CommonToken( 
+                    source, type, channel, start, stop );
+            token.setLine( line );
+            token.setCharPositionInLine( charPositionInLine );
+            if ( text != null ) {
+                token.setText( text );
+            }
+            return token;
+        }
+
+        this.source = source;
+        if ( this.lineCount == 0 || line > this.lines[this.lineCount - 1] ) {
+            addLine( line, start - charPositionInLine );
+        }
+        return new CompactToken( this, type, start, stop );
+    }
+
+    @Override
+    public Token create ( int type, String text ) {
+        return new CommonToken( type, text );
+    }
+
+    /**
+     * Reports whether a token was created by a compact token factory, and
+     * so has the text of its extent in the input.
+     *
+     * @param token a token
+     * @return {@code true} if the token's text is that of the input
+     */
+    static boolean isInputText ( Token token ) {
+        return token instanceof CompactToken;
+    }
+
+    private void addLine ( int line, int lineStart ) {
+        if ( this.lineCount == this.lines.length ) {
+            this.lines = Arrays.copyOf( this.lines, this.lineCount * 2 );
+            this.lineStarts = Arrays.copyOf( this.lineStarts, this.lineCount * 2 );
+        }
+        this.lines[this.lineCount] = line;
+        this.lineStarts[this.lineCount] = lineStart;
+        this.lineCount++;
+    }
+
+    // the index in the line table of the line containing an offset
+    private int lineIndex ( int offset ) {
+        int low = 0;
+        int high = this.lineCount - 1;
+        while ( low < high ) {
+            int middle = ( low + high + 1 ) >>> 1;
+            if ( this.lineStarts[middle] <= offset ) {
+                low = middle;
+            }
+            else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * A token on the default channel with its text in the input.
+     */
+    private static final class CompactToken implements WritableToken {
+
+        private final CompactTokenFactory factory;
+        private final int start;
+        private final int stop;
+        private int type;
+        private int index;
+
+        CompactToken ( CompactTokenFactory factory, int type, int start, int stop ) {
+            this.factory = factory;
+            this.type = type;
+            this.start = start;
+            this.stop = stop;
+            this.index = -1;
+        }
+
+        @Override
+        public String getText () {
+            CharStream input = getInputStream();
+            if ( input == null ) {
+                return null;
+            }
+            int size = input.size();
+            if ( this.start < size && this.stop < size ) {
+                return input.getText( Interval.of( this.start, this.stop ) );
+            }
+            return "<EOF>";
+        }
+
+        @Override
+        public int getType () {
+            return this.type;
+        }
+
+        @Override
+        public int getLine () {
+            return this.factory.lines[this.factory.lineIndex( this.start )];
+        }
+
+        @Override
+        public int getCharPositionInLine () {
+            return this.start 
+                    - this.factory.lineStarts[this.factory.lineIndex( this.start )];
+        }
+
+        @Override
+        public int getChannel () {
+            return Token.DEFAULT_CHANNEL;
+        }
+
+        @Override
+        public int getTokenIndex () {
+            return this.index;
+        }
+
+        @Override
+        public int getStartIndex () {
+            return this.start;
+        }
+
+        @Override
+        public int getStopIndex () {
+            return this.stop;
+        }
+
+        @Override
+        public TokenSource getTokenSource () {
+            return this.factory.source.a;
+        }
+
+        @Override
+        public CharStream getInputStream () {
+            return this.factory.source.b;
+        }
+
+        @Override
+        public void setType ( int type ) {
+            this.type = type;
+        }
+
+        @Override
+        public void setTokenIndex ( int index ) {
+            this.index = index;
+        }
+
+        // the text, position and channel are those of the input
+
+        @Override
+        public void setText ( String text ) {
+            throw new UnsupportedOperationException( "Token text is read from the input" );
+        }
+
+        @Override
+        public void setLine ( int line ) {
+            throw new UnsupportedOperationException( "Token lines are read from the input" );
+        }
+
+        @Override
+        public void setCharPositionInLine ( int position ) {
+            throw new UnsupportedOperationException( "Token columns are read from the input" );
+        }
+
+        @Override
+        public void setChannel ( int channel ) {
+            throw new UnsupportedOperationException( "Tokens are on the default channel" );
+        }
+
+        @Override
+        public String toString () {
+            String text = getText();
+            if ( text != null ) {
+                text = text.replace( "\n", "\\n" )
+                        .replace( "\r", "\\r" )
+                        .replace( "\t", "\\t" );
+            }
+            return "[@" + this.index + "," + this.start + ":" + this.stop 
+                    + "='" + text + "',<" + this.type + ">," 
+                    + getLine() + ":" + getCharPositionInLine() + "]";
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ Copyright (C) 2013-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package uk.ac.open.crc.jim.parser.java17;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+
+/**
+ * Removes the contents of method and constructor bodies from the tokens
+ * produced by the lexer, so that the parser sees each body as an empty
+ * block.
+ * <p>
+ * The braces of each body are kept, so the entities for methods and
+ * constructors are still created with their correct end positions, but
+ * no statement or expression subtrees are built for their contents.
+ * A body is recognised as a brace directly inside a class body that
+ * follows a closing parenthesis, optionally with a throws clause in
+ * between. The bodies of enum constants are left intact, as are
+ * initialiser blocks. Anonymous classes in field initialisers are
+ * removed along with method bodies.
+ * </p>
+ */
+public class DeclarationTokenSource implements TokenSource {
+
+    // the kinds of brace delimited block
+    private static final int TYPE_BODY = 0;
+    private static final int ENUM_CONSTANTS = 1;
+    private static final int OTHER_BLOCK = 2;
+
+    private final TokenSource tokenSource;
+
+    // the kind of each open block
+    private final Deque<Integer> blocks;
+
+    private int parenthesisDepth;
+
+    private int previousType;
+
+    // a class, interface or enum keyword has been seen, but not its body
+    private boolean typeBodyPending;
+    private boolean enumBodyPending;
+
+    // a closing parenthesis, perhaps followed by a throws clause
+    private boolean afterParameters;
+
+    // the depth of braces within a body being removed, or zero
+    private int skipDepth;
+
+    private int tokensRemoved;
+
+    /**
+     * Filters the tokens from a lexer.
+     *
+     * @param tokenSource a lexer for the Java grammar
+     */
+    public DeclarationTokenSource ( TokenSource tokenSource ) {
+        this.tokenSource = tokenSource;
+        this.blocks = new ArrayDeque<>();
+        this.parenthesisDepth = 0;
+        this.previousType = Token.INVALID_TYPE;
+        this.typeBodyPending = false;
+        this.enumBodyPending = false;
+        this.afterParameters = false;
+        this.skipDepth = 0;
+        this.tokensRemoved = 0;
+    }
+
+    /**
+     * Retrieves the number of tokens removed so far.
+     *
+     * @return the number of tokens removed
+     */
+    public int getTokensRemoved () {
+        return this.tokensRemoved;
+    }
+
+    @Override
+    public Token nextToken () {
+        Token token = this.tokenSource.nextToken();
+        while ( this.skipDepth > 0 ) {
+            switch ( token.getType() ) {
+                case JavaLexer.LBRACE:
+                    this.skipDepth++;
+                    break;
+                case JavaLexer.RBRACE:
+                    this.skipDepth--;
+                    break;
+                case Token.EOF:
+                    this.skipDepth = 0;
+                    return token;
+                default:
+                    break;
+            }
+            if ( this.skipDepth == 0 ) {
+                // the closing brace of the body
+                this.afterParameters = false;
+                return token;
+            }
+            this.tokensRemoved++;
+            token = this.tokenSource.nextToken();
+        }
+
+        track( token );
+        return token;
+    }
+
+    private void track ( Token token ) {
+        boolean parameters = false;
+        // excludes class literals, e.g. Foo.class
+        boolean declaration = this.previousType != JavaLexer.DOT;
+        this.previousType = token.getType();
+        switch ( token.getType() ) {
+            case JavaLexer.CLASS:
+            case JavaLexer.INTERFACE:
+                this.typeBodyPending = declaration;
+                break;
+            case JavaLexer.ENUM:
+                this.typeBodyPending = declaration;
+                this.enumBodyPending = declaration;
+                break;
+            case JavaLexer.LPAREN:
+                this.parenthesisDepth++;
+                break;
+            case JavaLexer.RPAREN:
+                this.parenthesisDepth--;
+                parameters = this.parenthesisDepth == 0;
+                break;
+            case JavaLexer.SEMI:
+                this.typeBodyPending = false;
+                this.enumBodyPending = false;
+                if ( this.parenthesisDepth == 0 && currentBlock() == ENUM_CONSTANTS ) {
+                    replaceCurrentBlock( TYPE_BODY );
+                }
+                break;
+            case JavaLexer.LBRACE:
+                openBlock();
+                break;
+            case JavaLexer.RBRACE:
+                this.blocks.poll();
+                break;
+            case JavaLexer.THROWS:
+            case JavaLexer.Identifier:
+            case JavaLexer.DOT:
+            case JavaLexer.COMMA:
+            case JavaLexer.LT:
+            case JavaLexer.GT:
+                // may form a throws clause
+                parameters = this.afterParameters;
+                break;
+            default:
+                break;
+        }
+        this.afterParameters = parameters;
+    }
+
+    private void openBlock () {
+        if ( this.typeBodyPending ) {
+            this.blocks.push( this.enumBodyPending ? ENUM_CONSTANTS : TYPE_BODY );
+            this.typeBodyPending = false;
+            this.enumBodyPending = false;
+        }
+        else if ( this.afterParameters && currentBlock() == TYPE_BODY ) {
+            this.skipDepth = 1;
+        }
+        else if ( this.afterParameters && currentBlock() == ENUM_CONSTANTS ) {
+            // the body of an enum constant with arguments
+            this.blocks.push( TYPE_BODY );
+        }
+        else {
+            this.blocks.push( OTHER_BLOCK );
+        }
+    }
+
+    private int currentBlock () {
+        Integer block = this.blocks.peek();
+        return block == null ? OTHER_BLOCK : block;
+    }
+
+    private void replaceCurrentBlock ( int block ) {
+        this.blocks.pop();
+        this.blocks.push( block );
+    }
+
+    @Override
+    public int getLine () {
+        return this.tokenSource.getLine();
+    }
+
+    @Override
+    public int getCharPositionInLine () {
+        return this.tokenSource.getCharPositionInLine();
+    }
+
+    @Override
+    public CharStream getInputStream () {
+        return this.tokenSource.getInputStream();
+    }
+
+    @Override
+    public String getSourceName () {
+        return this.tokenSource.getSourceName();
+    }
+
+    @Override
+    public void setTokenFactory ( TokenFactory<?> factory ) {
+        this.tokenSource.setTokenFactory( factory );
+    }
+
+    @Override
+    public TokenFactory<?> getTokenFactory () {
+        return this.tokenSource.getTokenFactory();
+    }
+}
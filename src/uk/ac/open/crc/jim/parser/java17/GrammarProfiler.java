@@ -0,0 +1,368 @@
+/*
+ Copyright (C) 2013-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+
+package uk.ac.open.crc.jim.parser.java17;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.ATNConfigSet;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Profiles the decisions made by {@code JavaParser} over a body of source
+ * code, so that the parts of the grammar that cost the most can be found.
+ * <p>
+ * Each file is parsed as jim parses it, with modern syntax rewritten and
+ * with SLL prediction first and full LL prediction if that fails, and the
+ * files that needed the second parse are counted. Each file is then
+ * parsed again with ANTLR's two stage LL prediction, which tries SLL
+ * prediction at each decision and falls back to full context prediction
+ * where SLL finds a conflict. The ANTLR 4.1 runtime has no profiling
+ * simulator, so the fallbacks, context sensitivities and ambiguities are
+ * counted by an error listener, and the invocations and prediction time of
+ * each decision by a simulator that wraps {@code adaptivePredict}. The
+ * statistics are summed across the files, and the decisions with the most
+ * fallbacks are reported with the rule they belong to. It can be run with:
+ * </p>
+ * <pre>
+ *   java -cp jim.jar uk.ac.open.crc.jim.parser.java17.GrammarProfiler
+ *        [--top n] [--declarations-only] path...
+ * </pre>
+ */
+public class GrammarProfiler {
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger( GrammarProfiler.class );
+
+    private static final int DEFAULT_TOP = 20;
+
+    public static void main ( String[] args ) {
+        int top = DEFAULT_TOP;
+        boolean declarationsOnly = false;
+        List<Path> paths = new ArrayList<>();
+
+        for ( int i = 0; i < args.length; i++ ) {
+            if ( "--top".equals( args[i] ) && i + 1 < args.length ) {
+                top = Integer.parseInt( args[++i] );
+            }
+            else if ( "--declarations-only".equals( args[i] ) ) {
+                declarationsOnly = true;
+            }
+            else {
+                paths.add( new File( args[i] ).toPath() );
+            }
+        }
+
+        if ( paths.isEmpty() ) {
+            System.out.println( 
+                    "usage: GrammarProfiler [--top n] [--declarations-only] path..." );
+            System.exit( 1 );
+        }
+
+        GrammarProfiler profiler = new GrammarProfiler( declarationsOnly );
+        for ( Path path : paths ) {
+            try ( Stream<Path> walk = Files.walk( path ) ) {
+                List<Path> files = walk
+                        .filter( file -> file.toString().endsWith( ".java" ) )
+                        .collect( Collectors.toList() );
+                for ( Path file : files ) {
+                    profiler.profile( new String( Files.readAllBytes( file ) ) );
+                }
+            }
+            catch ( IOException e ) {
+                LOGGER.error( "Unable to read \"{}\": {}", path, e.getMessage() );
+                System.exit( 2 );
+            }
+        }
+
+        System.out.print( profiler.getReport( top ) );
+    }
+
+    private final boolean declarationsOnly;
+
+    // indexed by decision number
+    private final DecisionProfile[] decisions;
+
+    private int files;
+    private int fullContextParses;
+    private int failures;
+    private long parseTime;
+
+    /**
+     * Creates a profiler with no statistics.
+     *
+     * @param declarationsOnly {@code true} to parse as in declarations only
+     * mode, without the bodies of methods and constructors
+     */
+    public GrammarProfiler ( boolean declarationsOnly ) {
+        this.declarationsOnly = declarationsOnly;
+
+        String[] ruleNames = JavaParser.ruleNames;
+        this.decisions = new DecisionProfile[JavaParser._ATN.getNumberOfDecisions()];
+        for ( int decision = 0; decision < this.decisions.length; decision++ ) {
+            int ruleIndex = JavaParser._ATN.getDecisionState( decision ).ruleIndex;
+            this.decisions[decision] = 
+                    new DecisionProfile( decision, ruleNames[ruleIndex] );
+        }
+
+        this.files = 0;
+        this.fullContextParses = 0;
+        this.failures = 0;
+        this.parseTime = 0;
+    }
+
+    /**
+     * Parses a compilation unit and adds the statistics for each decision
+     * to those already gathered.
+     *
+     * @param content the text of a compilation unit
+     * @return {@code true} if the content was parsed
+     */
+    public boolean profile ( String content ) {
+        boolean parsed = true;
+        long start = System.nanoTime();
+        CommonTokenStream tokens = tokenise( content );
+        JavaParser javaParser = new JavaParser( tokens );
+        javaParser.removeErrorListeners();
+        javaParser.setErrorHandler( new BailErrorStrategy() );
+        javaParser.getInterpreter().setPredictionMode( PredictionMode.SLL );
+        try {
+            javaParser.compilationUnit();
+        }
+        catch ( ParseCancellationException | RecognitionException e ) {
+            this.fullContextParses++;
+            tokens.reset();
+            javaParser.reset();
+            javaParser.getInterpreter().setPredictionMode( PredictionMode.LL );
+            try {
+                javaParser.compilationUnit();
+            }
+            catch ( RuntimeException ex ) {
+                this.failures++;
+                parsed = false;
+            }
+        }
+        catch ( RuntimeException e ) {
+            this.failures++;
+            parsed = false;
+        }
+        this.parseTime += System.nanoTime() - start;
+        this.files++;
+
+        if ( parsed ) {
+            JavaParser profiledParser = new JavaParser( tokenise( content ) );
+            profiledParser.setInterpreter( new ProfilingSimulator( profiledParser ) );
+            profiledParser.getInterpreter().setPredictionMode( PredictionMode.LL );
+            profiledParser.removeErrorListeners();
+            profiledParser.addErrorListener( new DecisionListener() );
+            profiledParser.setErrorHandler( new BailErrorStrategy() );
+            try {
+                profiledParser.compilationUnit();
+            }
+            catch ( RuntimeException e ) {
+                // the file has been parsed, so this cannot happen
+                LOGGER.warn( "Profiled parse failed: {}", e.getMessage() );
+            }
+        }
+
+        return parsed;
+    }
+
+    /**
+     * Creates a report of the decisions that fell back to full context
+     * prediction most often across all the files parsed, with those that
+     * took longest to predict.
+     *
+     * @param top the maximum number of decisions reported
+     * @return the report as a table
+     */
+    public String getReport ( int top ) {
+        long predictionTime = 0;
+        long ambiguities = 0;
+        long fallbacks = 0;
+        for ( DecisionProfile decision : this.decisions ) {
+            predictionTime += decision.timeInPrediction;
+            ambiguities += decision.ambiguities;
+            fallbacks += decision.llFallback;
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append( String.format( 
+                "%d files parsed in %d ms, %d re-parsed with full LL prediction, "
+                + "%d failed%n",
+                this.files, 
+                this.parseTime / 1000000, 
+                this.fullContextParses, 
+                this.failures ) );
+        report.append( String.format( 
+                "%d ms predicting, %d fallbacks from SLL to LL, %d ambiguities%n%n",
+                predictionTime / 1000000, 
+                fallbacks, 
+                ambiguities ) );
+        report.append( String.format( 
+                "%-8s %-34s %11s %9s %9s %7s %7s%n",
+                "decision", "rule", "invocations", "time ms", 
+                "fallbacks", "ambig", "ctx" ) );
+
+        Arrays.stream( this.decisions )
+                .filter( decision -> decision.invocations > 0 )
+                .sorted( Comparator.comparingLong( 
+                        ( DecisionProfile decision ) -> decision.llFallback )
+                        .thenComparingLong( decision -> decision.timeInPrediction )
+                        .reversed() )
+                .limit( top )
+                .forEach( decision -> report.append( decision.toString() ) );
+
+        return report.toString();
+    }
+
+    private CommonTokenStream tokenise ( String content ) {
+        JavaLexer javaLexer = new JavaLexer( 
+                new ANTLRInputStream( ModernSyntaxTokenSource.blankTextBlocks( content ) ) );
+        ModernSyntaxTokenSource modernSyntaxSource = new ModernSyntaxTokenSource( javaLexer );
+        return new CommonTokenStream( 
+                this.declarationsOnly 
+                        ? new DeclarationTokenSource( modernSyntaxSource ) 
+                        : modernSyntaxSource );
+    }
+
+    /**
+     * Counts the invocations of each decision and the time spent
+     * predicting it.
+     */
+    private class ProfilingSimulator extends ParserATNSimulator {
+
+        ProfilingSimulator ( Parser parser ) {
+            super( 
+                    parser, 
+                    JavaParser._ATN, 
+                    JavaParser._decisionToDFA, 
+                    JavaParser._sharedContextCache );
+        }
+
+        @Override
+        public int adaptivePredict ( 
+                TokenStream input, 
+                int decision, 
+                ParserRuleContext outerContext ) {
+            long start = System.nanoTime();
+            try {
+                return super.adaptivePredict( input, decision, outerContext );
+            }
+            finally {
+                DecisionProfile profile = GrammarProfiler.this.decisions[decision];
+                profile.invocations++;
+                profile.timeInPrediction += System.nanoTime() - start;
+            }
+        }
+    }
+
+    /**
+     * Counts the events reported by the prediction of each decision.
+     */
+    private class DecisionListener extends BaseErrorListener {
+
+        @Override
+        public void reportAttemptingFullContext ( 
+                Parser recognizer, 
+                DFA dfa, 
+                int startIndex, 
+                int stopIndex, 
+                BitSet conflictingAlternatives, 
+                ATNConfigSet configurations ) {
+            GrammarProfiler.this.decisions[dfa.decision].llFallback++;
+        }
+
+        @Override
+        public void reportContextSensitivity ( 
+                Parser recognizer, 
+                DFA dfa, 
+                int startIndex, 
+                int stopIndex, 
+                int prediction, 
+                ATNConfigSet configurations ) {
+            GrammarProfiler.this.decisions[dfa.decision].contextSensitivities++;
+        }
+
+        @Override
+        public void reportAmbiguity ( 
+                Parser recognizer, 
+                DFA dfa, 
+                int startIndex, 
+                int stopIndex, 
+                boolean exact, 
+                BitSet ambiguousAlternatives, 
+                ATNConfigSet configurations ) {
+            GrammarProfiler.this.decisions[dfa.decision].ambiguities++;
+        }
+    }
+
+    /**
+     * The statistics for a decision summed over the files parsed.
+     */
+    private static class DecisionProfile {
+
+        private final int decision;
+        private final String ruleName;
+
+        private long invocations;
+        private long timeInPrediction;
+        private long llFallback;
+        private long ambiguities;
+        private long contextSensitivities;
+
+        DecisionProfile ( int decision, String ruleName ) {
+            this.decision = decision;
+            this.ruleName = ruleName;
+        }
+
+        @Override
+        public String toString () {
+            return String.format( 
+                    "%-8d %-34s %11d %9.1f %9d %7d %7d%n",
+                    this.decision,
+                    this.ruleName,
+                    this.invocations,
+                    this.timeInPrediction / 1000000.0,
+                    this.llFallback,
+                    this.ambiguities,
+                    this.contextSensitivities );
+        }
+    }
+}
@@ -27,7 +27,9 @@
 */
 
 /** A Java 1.7 grammar for ANTLR v4 derived from ANTLR v3 Java grammar.
- *  Uses ANTLR v4's left-recursive expression notation.
+ *  Expressions are written as a precedence hierarchy rather than in
+ *  ANTLR v4's left-recursive notation, which the ANTLR 4.1 runtime
+ *  cannot predict without falling back to full context prediction.
  *  It parses ECJ, Netbeans, JDK etc...
  *
  *  Sam Harwell cleaned this up significantly and updated to 1.7!
@@ -346,7 +348,7 @@ elementValuePair
     ;
 
 elementValue
-    :   expression
+    :   conditionalExpression
     |   annotation
     |   elementValueArrayInitializer
     ;
@@ -464,9 +466,9 @@ switchBlockStatementGroup
     :   switchLabel+ blockStatement+
     ;
 
+// an enum constant name is a constant expression to the parser
 switchLabel
     :   'case' constantExpression ':'
-    |   'case' enumConstantName ':'
     |   'default' ':'
     ;
 
@@ -506,47 +508,67 @@ constantExpression
     :   expression
     ;
 
+// The expression rules are written without left recursion. The ANTLR 4.1
+// runtime has no precedence DFA, so SLL prediction cannot decide whether
+// a left-recursive rule continues after an operand, and falls back to
+// full context prediction on almost every operator. Operators of
+// different precedence share a rule: the tree records the operands of
+// an expression but not how they group, which jim never needs, and each
+// operand is a few rule invocations from the expression, not one per
+// precedence level. As in the JLS:
+// - an expression has at most one relational operator, so that
+//   List<String> x = ... is never read as an expression;
+// - a cast to a reference type is not followed by a unary + or -;
+// - annotation element values are conditional expressions;
+// - class literals are a primitive type, a qualified name or void,
+//   with any dimensions, followed by .class.
+
 expression
-    :   primary
-    |   expression '.' Identifier
-    |   expression '.' 'this'
-    |   expression '.' 'new' nonWildcardTypeArguments? innerCreator
-    |   expression '.' 'super' superSuffix
-    |   expression '.' explicitGenericInvocation
-    |   expression '[' expression ']'
-    |   expression '(' expressionList? ')'
-    |   'new' creator
-    |   '(' type ')' expression
-    |   expression ('++' | '--')
-    |   ('+'|'-'|'++'|'--') expression
-    |   ('~'|'!') expression
-    |   expression ('*'|'/'|'%') expression
-    |   expression ('+'|'-') expression
-    |   expression ('<' '<' | '>' '>' '>' | '>' '>') expression
-    |   expression ('<=' | '>=' | '>' | '<') expression
-    |   expression 'instanceof' type
-    |   expression ('==' | '!=') expression
-    |   expression '&' expression
-    |   expression '^' expression
-    |   expression '|' expression
-    |   expression '&&' expression
-    |   expression '||' expression
-    |   expression '?' expression ':' expression
-    |   expression
-        (   '='<assoc=right>
-        |   '+='<assoc=right>
-        |   '-='<assoc=right>
-        |   '*='<assoc=right>
-        |   '/='<assoc=right>
-        |   '&='<assoc=right>
-        |   '|='<assoc=right>
-        |   '^='<assoc=right>
-        |   '>>='<assoc=right>
-        |   '>>>='<assoc=right>
-        |   '<<='<assoc=right>
-        |   '%='<assoc=right>
-        )
-        expression
+    :   conditionalExpression (assignmentOperator expression)?
+    ;
+
+assignmentOperator
+    :   '='
+    |   '+='
+    |   '-='
+    |   '*='
+    |   '/='
+    |   '&='
+    |   '|='
+    |   '^='
+    |   '>>='
+    |   '>>>='
+    |   '<<='
+    |   '%='
+    ;
+
+conditionalExpression
+    :   relationalExpression
+        (('||' | '&&' | '|' | '^' | '&' | '==' | '!=') relationalExpression)*
+        ('?' expression ':' conditionalExpression)?
+    ;
+
+relationalExpression
+    :   unaryExpression
+        (('*' | '/' | '%' | '+' | '-' | '<' '<' | '>' '>' '>' | '>' '>') unaryExpression)*
+        (   ('<=' | '>=' | '>' | '<') unaryExpression
+            (('*' | '/' | '%' | '+' | '-' | '<' '<' | '>' '>' '>' | '>' '>') unaryExpression)*
+        |   'instanceof' type
+        )?
+    ;
+
+unaryExpression
+    :   ('+' | '-' | '++' | '--' | '~' | '!') unaryExpression
+    |   '(' primitiveType ('[' ']')* ')' unaryExpression
+    |   '(' classOrInterfaceType ('[' ']')* ')' unaryExpressionNotPlusMinus
+    |   primary selector* ('++' | '--')*
+    ;
+
+unaryExpressionNotPlusMinus
+    :   ('~' | '!') unaryExpression
+    |   '(' primitiveType ('[' ']')* ')' unaryExpression
+    |   '(' classOrInterfaceType ('[' ']')* ')' unaryExpressionNotPlusMinus
+    |   primary selector* ('++' | '--')*
     ;
 
 primary
@@ -555,9 +577,22 @@ primary
     |   'super'
     |   literal
     |   Identifier
-    |   type '.' 'class'
+    |   primitiveType ('[' ']')* '.' 'class'
     |   'void' '.' 'class'
     |   nonWildcardTypeArguments (explicitGenericInvocationSuffix | 'this' arguments)
+    |   'new' creator
+    ;
+
+selector
+    :   '.' Identifier
+    |   '.' 'this'
+    |   '.' 'new' nonWildcardTypeArguments? innerCreator
+    |   '.' 'super' superSuffix
+    |   '.' explicitGenericInvocation
+    |   '.' 'class'
+    |   ('[' ']')+ '.' 'class'
+    |   '[' expression ']'
+    |   arguments
     ;
 
 creator
@@ -16,22 +16,23 @@
 
 package uk.ac.open.crc.jim.parser.java17;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import uk.ac.open.crc.idtk.Modifier;
 import uk.ac.open.crc.idtk.Species;
-import uk.ac.open.crc.idtk.TypeName;
 import uk.ac.open.crc.jim.parser.java17.JavaParser.VariableDeclaratorIdContext;
 import uk.ac.open.crc.jim.parser.java17.JavaParser.VariableModifierContext;
+import uk.ac.open.crc.jim.persistence.EntityBatch;
 import uk.ac.open.crc.jim.persistence.EntityStore;
-import uk.ac.open.crc.jim.Settings;
-import uk.ac.open.crc.jimdb.RawProgramEntity;
 
 /**
  * A visitor implementation for the ANTLR4 Java grammar.
@@ -47,7 +48,7 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
 
     private static final String VOID = "void";
 
-    private static final TypeName NO_TYPE = new TypeName( "#no type#" );
+    private static final String NO_TYPE = "#no type#";
 
     private static final Logger LOGGER
             = LoggerFactory.getLogger( Java17VisitorImplementation.class );
@@ -57,6 +58,30 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
     private final String javaFileName;
     private final EntityStore identifierStore;
 
+    /**
+     * The entities found in the file, submitted once the whole
+     * compilation unit has been visited.
+     */
+    private final EntityBatch batch;
+
+    /**
+     * The species of the entities to be recorded. Subtrees that cannot
+     * contain a declaration of one of these species are not visited.
+     */
+    private final Set<Species> selectedSpecies;
+
+    /**
+     * Whether some species are not selected. Nothing is pruned when
+     * every species is selected.
+     */
+    private final boolean restricted;
+
+    /**
+     * The offsets of the '{' characters and '->' arrows in the file, in
+     * ascending order, found when first needed.
+     */
+    private int[] braceOffsets;
+
     /**
      * A store for the FQNs of imported types
      */
@@ -75,13 +100,55 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
      */
     private final ArrayList<String> modifierList;
 
+    /**
+     * Creates a visitor recording the entities it finds against the given
+     * project and version.
+     *
+     * @param projectName the name of the project
+     * @param projectVersion the version of the project
+     * @param javaFileName the name of the file visited
+     * @param entityStore the store the file's entities are submitted to
+     */
     public Java17VisitorImplementation (
+            String projectName,
+            String projectVersion,
             String javaFileName,
             EntityStore entityStore ) {
+        this(
+                projectName,
+                projectVersion,
+                javaFileName,
+                entityStore,
+                EnumSet.allOf( Species.class ) );
+    }
+
+    /**
+     * Creates a visitor recording only the entities of the selected
+     * species, which skips the statements and expressions that cannot
+     * declare any of them. The serial numbers, and so the UIDs, of the
+     * entities recorded may differ from those of a full extraction.
+     *
+     * @param projectName the name of the project
+     * @param projectVersion the version of the project
+     * @param javaFileName the name of the file visited
+     * @param entityStore the store the file's entities are submitted to
+     * @param selectedSpecies the species of the entities to record
+     */
+    public Java17VisitorImplementation (
+            String projectName,
+            String projectVersion,
+            String javaFileName,
+            EntityStore entityStore,
+            Set<Species> selectedSpecies ) {
         super();
 
         this.javaFileName = javaFileName;
         this.identifierStore = entityStore;
+        this.batch = new EntityBatch( 
+                projectName, projectVersion, javaFileName, selectedSpecies );
+        this.selectedSpecies = EnumSet.copyOf( selectedSpecies );
+        this.restricted = !this.selectedSpecies.containsAll( EnumSet.allOf( Species.class ) );
+        this.braceOffsets = null;
 
         this.imports = new ArrayList<>();
         this.locallyDeclaredTypes = new ArrayList<>();
@@ -94,6 +161,18 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
         this.modifierList = new ArrayList<>();
     }
 
+    // the entities of the file are submitted together once the tree 
+    // has been walked, so a file that cannot be visited to the end 
+    // contributes nothing
+    @Override
+    public String visitCompilationUnit ( JavaParser.CompilationUnitContext context ) {
+        visitChildren( context );
+
+        this.identifierStore.add( this.batch );
+
+        return "";
+    }
+
     /*
      *  Package name visitor method 
      *  -- must update LocationTracker instance
@@ -101,7 +180,8 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
     @Override
     public String visitPackageDeclaration ( JavaParser.PackageDeclarationContext context ) {
 
-        this.locationTracker.setPackageName( context.qualifiedName().getText() );
+        this.locationTracker.setPackageName( TokenText.of( context.qualifiedName() ) );
+        this.batch.setPackageName( this.locationTracker.getPackageName() );
 
         return visitChildren( context );  // surely this is an unnecessary call: there are no children to visit.
     }
@@ -111,12 +191,10 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
     public String visitImportDeclaration ( JavaParser.ImportDeclarationContext context ) {
 
         // production is: 'import' 'static'? qualifiedName ('.' '*')? ';'
-        String importName = context.qualifiedName().getText();
+        String importName = TokenText.of( context.qualifiedName() );
 
-        // need to check the end of statement to see if it is '.*' wildcard
-        // lacks a certain finesse, but sophistication would require more 
-        // grammar productions and additional code
-        if ( context.getText().endsWith( ".*;" ) ) {
+        // the only '*' in the production is that of the '.*' wildcard
+        if ( context.getToken( JavaParser.MUL, 0 ) != null ) {
             importName += ".*";
         }
 
@@ -140,7 +218,7 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
     public String visitModifier ( JavaParser.ModifierContext context ) {
 
         if ( context.classOrInterfaceModifier() == null ) {
-            this.modifierList.add( context.getText() );
+            this.modifierList.add( TokenText.of( context ) );
         }
 
         return visitChildren( context );  // forces an annotation to be visited.
@@ -151,7 +229,7 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
             JavaParser.ClassOrInterfaceModifierContext context ) {
 
         if ( context.annotation() == null ) {
-            this.modifierList.add( context.getText() );
+            this.modifierList.add( TokenText.of( context ) );
         }
 
         return visitChildren( context );  // forces an annotation to be visited.
@@ -162,7 +240,7 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
             JavaParser.VariableModifierContext context ) {
 
         if ( context.annotation() == null ) {
-            this.modifierList.add( context.getText() );
+            this.modifierList.add( TokenText.of( context ) );
         }
 
         return visitChildren( context ); // forces an annotation to be visited.
@@ -178,7 +256,7 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
     @Override
     public String visitClassDeclaration ( JavaParser.ClassDeclarationContext context ) {
         // read the modifiers
-        ArrayList<Modifier> modifiers = getModifiersFromList( this.modifierList );
+        int modifiers = getModifiersFromList( this.modifierList );
 
         String identifierNameString;
         if ( context.Identifier() != null ) {
@@ -197,15 +275,15 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
         ArrayList<String> extendsList = getExtendsListFor( context );
         ArrayList<String> implementsList = getTypeNameListFor( context.typeList() );
 
-        ArrayList<TypeName> superClassList = resolvedTypeListFor( extendsList );
+        ArrayList<String> superClassList = resolvedTypeListFor( extendsList );
 
-        ArrayList<TypeName> superTypeList = resolvedTypeListFor( implementsList );
+        ArrayList<String> superTypeList = resolvedTypeListFor( implementsList );
 
         // sort out tracker state
-        String parentUid = this.locationTracker.getContainerUid();
-        String entityUid = this.locationTracker.pushContainer();
+        int parentSerial = this.locationTracker.getContainerSerial();
+        int entitySerial = this.locationTracker.pushContainer();
 
-        TypeName typeName; // assign if exists, otherwise mark as having no type
+        String typeName; // assign if exists, otherwise mark as having no type
         if ( !ANONYMOUS.equals( identifierNameString ) ) {
             this.locationTracker.pushType( identifierNameString );
             typeName = getResolvedTypeNameFor( this.locationTracker.packageName
@@ -217,11 +295,9 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
             typeName = NO_TYPE;
         }
 
-        RawProgramEntity programEntity = new RawProgramEntity(
-                this.javaFileName,
-                this.locationTracker.getPackageName(),
-                parentUid,
-                entityUid,
+        this.batch.add(
+                parentSerial,
+                entitySerial,
                 identifierNameString,
                 species,
                 typeName,
@@ -236,8 +312,6 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                 context.stop.getLine(),
                 context.stop.getCharPositionInLine() + COLUMN_ADJUSTMENT );
 
-        this.identifierStore.add( programEntity );
-
         // clear the modifier list before visiting the children
         this.modifierList.clear();
         // walk the remainder of this branch
@@ -259,19 +333,19 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
     @Override
     public String visitEnumDeclaration ( JavaParser.EnumDeclarationContext context ) {
         // read the modifiers
-        ArrayList<Modifier> modifiers = getModifiersFromList( this.modifierList );
+        int modifiers = getModifiersFromList( this.modifierList );
 
         // grab the identifier
         String identifierNameString = context.Identifier().getText();
 
         ArrayList<String> implementsList = getTypeNameListFor( context.typeList() );
-        ArrayList<TypeName> superTypeList = resolvedTypeListFor( implementsList );
+        ArrayList<String> superTypeList = resolvedTypeListFor( implementsList );
 
         // sort out tracker state
-        String parentUid = this.locationTracker.getContainerUid();
-        String entityUid = this.locationTracker.pushContainer();
+        int parentSerial = this.locationTracker.getContainerSerial();
+        int entitySerial = this.locationTracker.pushContainer();
 
-        TypeName typeName; // assign if exists, otherwise mark as having no type
+        String typeName; // assign if exists, otherwise mark as having no type
         this.locationTracker.pushType( identifierNameString );
         typeName = getResolvedTypeNameFor(
                 this.locationTracker.packageName
@@ -282,11 +356,9 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                 + "."
                 + this.locationTracker.getLocalTypeName() );
 
-        RawProgramEntity programEntity = new RawProgramEntity(
-                this.javaFileName,
-                this.locationTracker.getPackageName(),
-                parentUid,
-                entityUid,
+        this.batch.add(
+                parentSerial,
+                entitySerial,
                 identifierNameString,
                 Species.ENUMERATION,
                 typeName,
@@ -301,8 +373,6 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                 context.stop.getLine(),
                 context.stop.getCharPositionInLine() + COLUMN_ADJUSTMENT );
 
-        this.identifierStore.add( programEntity );
-
         // clear the modifier list before visiting the children
         this.modifierList.clear();
         visitChildren( context ); // could be more specific
@@ -319,22 +389,22 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
     @Override
     public String visitInterfaceDeclaration ( JavaParser.InterfaceDeclarationContext context ) {
         // read the modifiers
-        ArrayList<Modifier> modifiers = getModifiersFromList( this.modifierList );
+        int modifiers = getModifiersFromList( this.modifierList );
 
         // grab the identifier
         String identifierNameString = context.Identifier().getText();
         // ignore the type parameters -- but process when we implement that aspect
         ArrayList<String> extendsList = getTypeNameListFor( context.typeList() );
-        ArrayList<TypeName> superTypeList = resolvedTypeListFor( extendsList );
+        ArrayList<String> superTypeList = resolvedTypeListFor( extendsList );
 
         // determine the species
         Species species = getSpeciesFor( context );
 
         // sort out tracker state
-        String parentUid = this.locationTracker.getContainerUid();
-        String entityUid = this.locationTracker.pushContainer();
+        int parentSerial = this.locationTracker.getContainerSerial();
+        int entitySerial = this.locationTracker.pushContainer();
 
-        TypeName typeName; // assign if exists, otherwise mark as having no type
+        String typeName; // assign if exists, otherwise mark as having no type
         this.locationTracker.pushType( identifierNameString );
         typeName = getResolvedTypeNameFor(
                 this.locationTracker.packageName
@@ -345,11 +415,9 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                 + "."
                 + this.locationTracker.getLocalTypeName() );
 
-        RawProgramEntity programEntity = new RawProgramEntity(
-                this.javaFileName,
-                this.locationTracker.getPackageName(),
-                parentUid,
-                entityUid,
+        this.batch.add(
+                parentSerial,
+                entitySerial,
                 identifierNameString,
                 species,
                 typeName,
@@ -364,8 +432,6 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                 context.stop.getLine(),
                 context.stop.getCharPositionInLine() + COLUMN_ADJUSTMENT );
 
-        this.identifierStore.add( programEntity );
-
         // clear the modifier list before visiting the children
         this.modifierList.clear();
         visitChildren( context.interfaceBody() );
@@ -384,21 +450,19 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
     @Override
     public String visitAnnotationTypeDeclaration ( JavaParser.AnnotationTypeDeclarationContext context ) {
         // read the modifiers
-        ArrayList<Modifier> modifiers = getModifiersFromList( this.modifierList );
+        int modifiers = getModifiersFromList( this.modifierList );
 
         // grab the identifier
         String identifierNameString = context.Identifier().getText();
 
         // sort out tracker state
-        String parentUid = this.locationTracker.getContainerUid();
-        String entityUid = this.locationTracker.pushContainer();
+        int parentSerial = this.locationTracker.getContainerSerial();
+        int entitySerial = this.locationTracker.pushContainer();
         this.locationTracker.pushType( identifierNameString );
 
-        RawProgramEntity programEntity = new RawProgramEntity(
-                this.javaFileName,
-                this.locationTracker.getPackageName(),
-                parentUid,
-                entityUid,
+        this.batch.add(
+                parentSerial,
+                entitySerial,
                 identifierNameString,
                 Species.ANNOTATION,
                 NO_TYPE,
@@ -413,8 +477,6 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                 context.stop.getLine(),
                 context.stop.getCharPositionInLine() + COLUMN_ADJUSTMENT );
 
-        this.identifierStore.add( programEntity );
-
         this.modifierList.clear();
         visitChildren( context.annotationTypeBody() );
 
@@ -435,30 +497,28 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
     @Override
     public String visitConstructorDeclaration ( JavaParser.ConstructorDeclarationContext context ) {
         // read the modifiers
-        ArrayList<Modifier> modifiers = getModifiersFromList( this.modifierList );
+        int modifiers = getModifiersFromList( this.modifierList );
 
         // grab the identifier
         String identifierNameString = context.Identifier().getText();
 
         // sort out tracker state
-        String parentUid = this.locationTracker.getContainerUid();
-        String entityUid = this.locationTracker.pushContainer();
+        int parentSerial = this.locationTracker.getContainerSerial();
+        int entitySerial = this.locationTracker.pushContainer();
 
         // this needed to recover the class type
         // just in case we are a nested class.
         String localType = this.locationTracker.getLocalTypeName();
         // should we be running a comparison with the type name?
-        TypeName typeName = getResolvedTypeNameFor(
+        String typeName = getResolvedTypeNameFor(
                 this.locationTracker.getPackageName() + "." + localType );
 
         String methodSignature = createMethodSignatureFromFormalParameters(
                 context.formalParameters() );
 
-        RawProgramEntity programEntity = new RawProgramEntity(
-                this.javaFileName,
-                this.locationTracker.getPackageName(),
-                parentUid,
-                entityUid,
+        this.batch.add(
+                parentSerial,
+                entitySerial,
                 identifierNameString,
                 Species.CONSTRUCTOR,
                 typeName,
@@ -473,8 +533,6 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                 context.stop.getLine(),
                 context.stop.getCharPositionInLine() + COLUMN_ADJUSTMENT );
 
-        this.identifierStore.add( programEntity );
-
         this.modifierList.clear();
 
         visitChildren( context );
@@ -496,15 +554,23 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
 //    ;
     @Override
     public String visitMethodDeclaration ( JavaParser.MethodDeclarationContext context ) {
+        if ( ModernSyntaxTokenSource.LAMBDA.equals( context.Identifier().getText() ) ) {
+            // a lambda or switch expression rewritten as an anonymous class:
+            // its parameters and contents belong to the enclosing entity
+            this.modifierList.clear();
+            visitChildren( context );
+            return "";
+        }
+
         // collect the modifiers
-        ArrayList<Modifier> modifiers = getModifiersFromList( this.modifierList );
+        int modifiers = getModifiersFromList( this.modifierList );
 
         // grab the identifier
         String identifierNameString = context.Identifier().getText();
 
         // sort out tracker state
-        String parentUid = this.locationTracker.getContainerUid();
-        String entityUid = this.locationTracker.pushContainer();
+        int parentSerial = this.locationTracker.getContainerSerial();
+        int entitySerial = this.locationTracker.pushContainer();
 
         // this needed to recover the class type
         // just in case we are a nested class.
@@ -519,16 +585,14 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
             isArrayReturnType = false;
         }
 
-        TypeName typeName = getResolvedTypeNameFor( returnTypeString );
+        String typeName = getResolvedTypeNameFor( returnTypeString );
 
         String methodSignature
                 = createMethodSignatureFromFormalParameters( context.formalParameters() );
 
-        RawProgramEntity programEntity = new RawProgramEntity(
-                this.javaFileName,
-                this.locationTracker.getPackageName(),
-                parentUid,
-                entityUid,
+        this.batch.add(
+                parentSerial,
+                entitySerial,
                 identifierNameString,
                 Species.METHOD,
                 typeName,
@@ -543,8 +607,6 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                 context.stop.getLine(), // however, end of this rule should be conincident with end of parent
                 context.stop.getCharPositionInLine() + COLUMN_ADJUSTMENT );
 
-        this.identifierStore.add( programEntity );
-
         this.modifierList.clear();
         visitChildren( context );  // formal arguments, throws list and body
 
@@ -561,14 +623,14 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
     @Override
     public String visitInterfaceMethodDeclaration ( JavaParser.InterfaceMethodDeclarationContext context ) {
         // collect the modifiers
-        ArrayList<Modifier> modifiers = getModifiersFromList( this.modifierList );
+        int modifiers = getModifiersFromList( this.modifierList );
 
         // grab the identifier
         String identifierNameString = context.Identifier().getText();
 
         // sort out tracker state
-        String parentUid = this.locationTracker.getContainerUid();
-        String entityUid = this.locationTracker.pushContainer();
+        int parentSerial = this.locationTracker.getContainerSerial();
+        int entitySerial = this.locationTracker.pushContainer();
 
         // this needed to recover the class type
         // just in case we are a nested class.
@@ -583,16 +645,14 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
             isArrayReturnType = false;
         }
 
-        TypeName typeName = getResolvedTypeNameFor( returnTypeString );
+        String typeName = getResolvedTypeNameFor( returnTypeString );
 
         String methodSignature
                 = createMethodSignatureFromFormalParameters( context.formalParameters() );
 
-        RawProgramEntity programEntity = new RawProgramEntity(
-                this.javaFileName,
-                this.locationTracker.getPackageName(),
-                parentUid,
-                entityUid,
+        this.batch.add(
+                parentSerial,
+                entitySerial,
                 identifierNameString,
                 Species.METHOD,
                 typeName,
@@ -607,8 +667,6 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                 context.stop.getLine(), // however, end of this rule should be conincident with end of parent
                 context.stop.getCharPositionInLine() + COLUMN_ADJUSTMENT );
 
-        this.identifierStore.add( programEntity );
-
         this.modifierList.clear();
         visitChildren( context );  // formal arguments and throws list
 
@@ -643,23 +701,21 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
         ParserRuleContext parent = context.getParent();
         if ( parent instanceof JavaParser.ClassBodyDeclarationContext ) {
             String identifierNameString = ANONYMOUS;
-            String parentUid = this.locationTracker.getContainerUid(); // i.e. the containing class
-            String entityUid = this.locationTracker.pushContainer();
+            int parentSerial = this.locationTracker.getContainerSerial(); // i.e. the containing class
+            int entitySerial = this.locationTracker.pushContainer();
 
             // The only possible modifier is static, but it is declared as 
             // a lexical constant in the grammar. Need to test if it is present
-            ArrayList<Modifier> modifiers = new ArrayList<>();
+            int modifiers = 0;
 
             // Need to establish that this test is correct
             if ( "static".equals( parent.start.getText() ) ) {
-                modifiers.add( Modifier.STATIC );
+                modifiers |= EntityBatch.maskFor( Modifier.STATIC );
             }
 
-            RawProgramEntity programEntity = new RawProgramEntity(
-                    this.javaFileName,
-                    this.locationTracker.getPackageName(),
-                    parentUid,
-                    entityUid,
+            this.batch.add(
+                    parentSerial,
+                    entitySerial,
                     identifierNameString,
                     Species.INITIALISER,
                     NO_TYPE, // no type name
@@ -674,8 +730,6 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                     context.stop.getLine(),
                     context.stop.getCharPositionInLine() + COLUMN_ADJUSTMENT );
 
-            this.identifierStore.add( programEntity );
-
             this.modifierList.clear();
             visitChildren( context );
 
@@ -684,11 +738,38 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
             return "";
         }
         else {
-            visitChildren( context );
+            if ( mayDeclareSelectedSpecies( context ) ) {
+                visitChildren( context );
+            }
             return "";
         }
     }
 
+    // ---- pruning
+    // Below the level of members, only local variables (including 
+    // parameters of catch clauses and resources) are declared without 
+    // a class body. Any other declaration in a statement or expression 
+    // belongs to a local or anonymous class, or is a lambda parameter, 
+    // so a subtree with no '{' or '->' between its first and last tokens
+    // cannot contain one. Braces in literals and comments only prevent
+    // a subtree being skipped.
+    @Override
+    public String visitStatement ( JavaParser.StatementContext context ) {
+        if ( mayDeclareSelectedSpecies( context ) ) {
+            visitChildren( context );
+        }
+        return "";
+    }
+
+    // local variables are never declared within an expression
+    @Override
+    public String visitExpression ( JavaParser.ExpressionContext context ) {
+        if ( !this.restricted || containsBrace( context ) ) {
+            visitChildren( context );
+        }
+        return "";
+    }
+
     // ---- end of initializer block
     // ---- leaf declarations
 //    fieldDeclaration
@@ -711,26 +792,24 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
     @Override
     public String visitFieldDeclaration ( JavaParser.FieldDeclarationContext context ) {
         // sort out modifiers
-        ArrayList<Modifier> modifiers = getModifiersFromList( this.modifierList );
+        int modifiers = getModifiersFromList( this.modifierList );
 
         // sort out the type
-        TypeName typeName = getResolvedTypeNameFor( getTypeName( context.type() ) );
+        String typeName = getResolvedTypeNameFor( getTypeName( context.type() ) );
         boolean isArrayDeclaration = isArrayDeclaration( context.type() );
 
         // iterate over the list of declarations
         context.variableDeclarators().variableDeclarator()
                 .stream().forEach( declaration -> {
-            String parentUid = this.locationTracker.getContainerUid();
-            String entityUid = this.locationTracker.getUidForLeafEntity();
+            int parentSerial = this.locationTracker.getContainerSerial();
+            int entitySerial = this.locationTracker.getSerialForLeafEntity();
             VariableDeclaratorIdContext variableIdentifierContext
                     = declaration.variableDeclaratorId();
             String identifierNameString
                     = declaration.variableDeclaratorId().Identifier().getText();
-            RawProgramEntity programEntity = new RawProgramEntity(
-                    this.javaFileName,
-                    this.locationTracker.getPackageName(),
-                    parentUid,
-                    entityUid,
+            this.batch.add(
+                    parentSerial,
+                    entitySerial,
                     identifierNameString,
                     Species.FIELD,
                     typeName,
@@ -744,8 +823,6 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                     variableIdentifierContext.start.getCharPositionInLine() + COLUMN_ADJUSTMENT,
                     variableIdentifierContext.stop.getLine(), // end of the name, no more as we don't know what is next
                     variableIdentifierContext.stop.getCharPositionInLine() + COLUMN_ADJUSTMENT + identifierNameString.length() );
-
-            this.identifierStore.add( programEntity );
         });
 
         this.modifierList.clear();
@@ -761,22 +838,20 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
     @Override
     public String visitConstDeclaration ( JavaParser.ConstDeclarationContext context ) {
         // sort out modifiers
-        ArrayList<Modifier> modifiers = getModifiersFromList( this.modifierList );
+        int modifiers = getModifiersFromList( this.modifierList );
 
         // sort out the type
-        TypeName typeName = getResolvedTypeNameFor( getTypeName( context.type() ) );
+        String typeName = getResolvedTypeNameFor( getTypeName( context.type() ) );
         boolean isArrayDeclaration = isArrayDeclaration( context.type() );
 
         // iterate over the list of declarations
         context.constantDeclarator().stream().forEach( declaration -> {
-            String parentUid = this.locationTracker.getContainerUid();
-            String entityUid = this.locationTracker.getUidForLeafEntity();
+            int parentSerial = this.locationTracker.getContainerSerial();
+            int entitySerial = this.locationTracker.getSerialForLeafEntity();
             String identifierNameString = declaration.Identifier().getText();
-            RawProgramEntity programEntity = new RawProgramEntity(
-                    this.javaFileName,
-                    this.locationTracker.getPackageName(),
-                    parentUid,
-                    entityUid,
+            this.batch.add(
+                    parentSerial,
+                    entitySerial,
                     identifierNameString,
                     Species.FIELD,
                     typeName,
@@ -790,8 +865,6 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                     declaration.start.getCharPositionInLine() + COLUMN_ADJUSTMENT,
                     declaration.stop.getLine(), // end of declaration -- may be end of name, may be end of initialiser
                     declaration.stop.getCharPositionInLine() + COLUMN_ADJUSTMENT );
-
-            this.identifierStore.add( programEntity );
         });
 
         this.modifierList.clear();
@@ -813,25 +886,23 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
             } );
         }
 
-        ArrayList<Modifier> modifiers = getModifiersFromList( this.modifierList );
+        int modifiers = getModifiersFromList( this.modifierList );
 
         // sort out the type
-        TypeName typeName = getResolvedTypeNameFor( getTypeName( context.type() ) );
+        String typeName = getParameterTypeName( context.type() );
         boolean isArrayDeclaration = isArrayDeclaration( context.type() );
 
-        String parentUid = this.locationTracker.getContainerUid();
-        String entityUid = this.locationTracker.getUidForLeafEntity();
+        int parentSerial = this.locationTracker.getContainerSerial();
+        int entitySerial = this.locationTracker.getSerialForLeafEntity();
 
         String identifierNameString
                 = context.variableDeclaratorId().Identifier().getText();
 
-        RawProgramEntity programEntity = new RawProgramEntity(
-                this.javaFileName,
-                this.locationTracker.getPackageName(),
-                parentUid,
-                entityUid,
+        this.batch.add(
+                parentSerial,
+                entitySerial,
                 identifierNameString,
-                Species.FORMAL_ARGUMENT,
+                getParameterSpeciesFor( context ),
                 typeName,
                 isArrayDeclaration,
                 null, // no method signature
@@ -844,8 +915,6 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                 context.stop.getLine(),
                 context.stop.getCharPositionInLine() + COLUMN_ADJUSTMENT );
 
-        this.identifierStore.add( programEntity );
-
         return "";
     }
 
@@ -862,25 +931,23 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
             } );
         }
 
-        ArrayList<Modifier> modifiers = getModifiersFromList( this.modifierList );
+        int modifiers = getModifiersFromList( this.modifierList );
 
         // sort out the type
-        TypeName typeName = getResolvedTypeNameFor( getTypeName( context.type() ) );
+        String typeName = getParameterTypeName( context.type() );
         boolean isArrayDeclaration = isArrayDeclaration( context.type() );
 
-        String parentUid = this.locationTracker.getContainerUid();
-        String entityUid = this.locationTracker.getUidForLeafEntity();
+        int parentSerial = this.locationTracker.getContainerSerial();
+        int entitySerial = this.locationTracker.getSerialForLeafEntity();
 
         String identifierNameString
                 = context.variableDeclaratorId().Identifier().getText();
 
-        RawProgramEntity programEntity = new RawProgramEntity(
-                this.javaFileName,
-                this.locationTracker.getPackageName(),
-                parentUid,
-                entityUid,
+        this.batch.add(
+                parentSerial,
+                entitySerial,
                 identifierNameString,
-                Species.FORMAL_ARGUMENT,
+                getParameterSpeciesFor( context ),
                 typeName,
                 isArrayDeclaration,
                 null, // no method signature
@@ -893,8 +960,6 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                 context.stop.getLine(),
                 context.stop.getCharPositionInLine() + COLUMN_ADJUSTMENT );
 
-        this.identifierStore.add( programEntity );
-
         return "";
     }
 
@@ -911,10 +976,10 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
             } );
         }
 
-        ArrayList<Modifier> modifiers = getModifiersFromList( this.modifierList );
+        int modifiers = getModifiersFromList( this.modifierList );
 
         // sort out the type
-        TypeName typeName = getResolvedTypeNameFor( getTypeName( context.type() ) );
+        String typeName = getResolvedTypeNameFor( getTypeName( context.type() ) );
         boolean isArrayDeclaration = isArrayDeclaration( context.type() );
         boolean isLoopControlVariable
                 = ( context.getParent() instanceof JavaParser.ForInitContext );
@@ -923,17 +988,15 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                 
         context.variableDeclarators().variableDeclarator()
                 .stream().forEach( declaration -> {
-            String parentUid = this.locationTracker.getContainerUid();
-            String entityUid = this.locationTracker.getUidForLeafEntity();
+            int parentSerial = this.locationTracker.getContainerSerial();
+            int entitySerial = this.locationTracker.getSerialForLeafEntity();
 
             String identifierNameString
                     = declaration.variableDeclaratorId().Identifier().getText();
 
-            RawProgramEntity programEntity = new RawProgramEntity(
-                    this.javaFileName,
-                    this.locationTracker.getPackageName(),
-                    parentUid,
-                    entityUid,
+            this.batch.add(
+                    parentSerial,
+                    entitySerial,
                     identifierNameString,
                     Species.LOCAL_VARIABLE,
                     typeName,
@@ -949,10 +1012,13 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                     declaration.variableDeclaratorId().stop.getLine(),
                     declaration.variableDeclaratorId().stop.getCharPositionInLine() 
                             + COLUMN_ADJUSTMENT + identifierNameString.length() );
-
-            this.identifierStore.add( programEntity );
         });
 
+        // declarations within the initialisers, such as lambda parameters
+        context.variableDeclarators().variableDeclarator().stream()
+                .filter( declaration -> declaration.variableInitializer() != null )
+                .forEach( declaration -> visit( declaration.variableInitializer() ) );
+
         return "";
     }
 
@@ -967,22 +1033,20 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
             } );
         }
 
-        ArrayList<Modifier> modifiers = getModifiersFromList( this.modifierList );
+        int modifiers = getModifiersFromList( this.modifierList );
 
         // sort out the type
-        TypeName typeName = getResolvedTypeNameFor( getTypeName( context.type() ) );
+        String typeName = getResolvedTypeNameFor( getTypeName( context.type() ) );
         boolean isArrayDeclaration = isArrayDeclaration( context.type() );
 
-        String parentUid = this.locationTracker.getContainerUid();
-        String entityUid = this.locationTracker.getUidForLeafEntity();
+        int parentSerial = this.locationTracker.getContainerSerial();
+        int entitySerial = this.locationTracker.getSerialForLeafEntity();
 
         String identifierNameString = context.Identifier().getText();
 
-        RawProgramEntity programEntity = new RawProgramEntity(
-                this.javaFileName,
-                this.locationTracker.getPackageName(),
-                parentUid,
-                entityUid,
+        this.batch.add(
+                parentSerial,
+                entitySerial,
                 identifierNameString,
                 Species.LOCAL_VARIABLE,
                 typeName,
@@ -997,7 +1061,7 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                 context.stop.getLine(),
                 context.stop.getCharPositionInLine() + COLUMN_ADJUSTMENT );
 
-        this.identifierStore.add( programEntity );
+        visit( context.expression() );  // declarations within the expression
 
         return "";
     }
@@ -1010,22 +1074,20 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
     public String visitEnumConstant ( JavaParser.EnumConstantContext context ) {
         this.modifierList.clear(); // there are no modifiers, so this is just housekeeping.
 
-        String parentUid = this.locationTracker.getContainerUid();
-        String entityUid = this.locationTracker.pushContainer();
+        int parentSerial = this.locationTracker.getContainerSerial();
+        int entitySerial = this.locationTracker.pushContainer();
 
         String identifierNameString = context.Identifier().getText();
 
-        RawProgramEntity programEntity = new RawProgramEntity(
-                this.javaFileName,
-                this.locationTracker.getPackageName(),
-                parentUid,
-                entityUid,
+        this.batch.add(
+                parentSerial,
+                entitySerial,
                 identifierNameString,
                 Species.ENUMERATION_CONSTANT,
                 NO_TYPE,
                 false, // can't be an array
                 null, // no method signature
-                null, // no modifiers
+                EntityBatch.NO_MODIFIERS, // no modifiers
                 false, // not a loop control variable
                 null, // no superclasses
                 null, // no supertypes
@@ -1034,8 +1096,6 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                 context.stop.getLine(),
                 context.stop.getCharPositionInLine() + COLUMN_ADJUSTMENT );
 
-        this.identifierStore.add( programEntity );
-
         visitChildren( context ); // walk the child class body
 
         this.locationTracker.pop();
@@ -1050,22 +1110,20 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
     public String visitElementValuePair ( JavaParser.ElementValuePairContext context ) {
         this.modifierList.clear(); // there are no modifiers, so this is just housekeeping.
 
-        String parentUid = this.locationTracker.getContainerUid();
-        String entityUid = this.locationTracker.getUidForLeafEntity();
+        int parentSerial = this.locationTracker.getContainerSerial();
+        int entitySerial = this.locationTracker.getSerialForLeafEntity();
 
         String identifierNameString = context.Identifier().getText();
 
-        RawProgramEntity programEntity = new RawProgramEntity(
-                this.javaFileName,
-                this.locationTracker.getPackageName(),
-                parentUid,
-                entityUid,
+        this.batch.add(
+                parentSerial,
+                entitySerial,
                 identifierNameString,
                 Species.ANNOTATION_MEMBER,
                 NO_TYPE,
                 false, // can't be an array
                 null, // method signature
-                null, // no modifiers
+                EntityBatch.NO_MODIFIERS, // no modifiers
                 false, // not a loop control variable
                 null, // no superclasses
                 null, // no supertypes
@@ -1074,8 +1132,6 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                 context.stop.getLine(),
                 context.stop.getCharPositionInLine() + COLUMN_ADJUSTMENT );
 
-        this.identifierStore.add( programEntity );
-
         return "";
     }
 
@@ -1097,22 +1153,20 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
             } );
         }
 
-        ArrayList<Modifier> modifiers = getModifiersFromList( this.modifierList );
+        int modifiers = getModifiersFromList( this.modifierList );
 
-        String parentUid = this.locationTracker.getContainerUid();
-        String entityUid = this.locationTracker.getUidForLeafEntity();
+        int parentSerial = this.locationTracker.getContainerSerial();
+        int entitySerial = this.locationTracker.getSerialForLeafEntity();
 
         String identifierNameString = context.variableDeclaratorId().Identifier().getText();
 
         // this may be risky -- may need to extract name with more care
         // for particular circumstances.
-        TypeName typeName = getResolvedTypeNameFor( context.classOrInterfaceType().getText() );
+        String typeName = getResolvedTypeNameFor( TokenText.of( context.classOrInterfaceType() ) );
 
-        RawProgramEntity programEntity = new RawProgramEntity(
-                this.javaFileName,
-                this.locationTracker.getPackageName(),
-                parentUid,
-                entityUid,
+        this.batch.add(
+                parentSerial,
+                entitySerial,
                 identifierNameString,
                 Species.LOCAL_VARIABLE,
                 typeName,
@@ -1127,7 +1181,8 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                 context.variableDeclaratorId().stop.getLine(),
                 context.variableDeclaratorId().stop.getCharPositionInLine() + COLUMN_ADJUSTMENT + identifierNameString.length() );
 
-        this.identifierStore.add( programEntity );
+        visit( context.expression() );  // declarations within the expression
+
         return "";
     }
 
@@ -1152,22 +1207,20 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
             } );
         }
 
-        ArrayList<Modifier> modifiers = getModifiersFromList( this.modifierList );
+        int modifiers = getModifiersFromList( this.modifierList );
 
-        String parentUid = this.locationTracker.getContainerUid();
+        int parentSerial = this.locationTracker.getContainerSerial();
 
         String identifierNameString = context.Identifier().getText();
 
         // now recover the type(s) which are stored as qualifiedNames
         context.catchType().qualifiedName()
                 .stream().forEach( qualifiedName -> {
-            TypeName typeName = getResolvedTypeNameFor( qualifiedName.getText() );
-            String entityUid = this.locationTracker.getUidForLeafEntity();
-            RawProgramEntity programEntity = new RawProgramEntity(
-                    this.javaFileName,
-                    this.locationTracker.getPackageName(),
-                    parentUid,
-                    entityUid,
+            String typeName = getResolvedTypeNameFor( TokenText.of( qualifiedName ) );
+            int entitySerial = this.locationTracker.getSerialForLeafEntity();
+            this.batch.add(
+                    parentSerial,
+                    entitySerial,
                     identifierNameString,
                     Species.LOCAL_VARIABLE,
                     typeName,
@@ -1184,8 +1237,6 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                     context.Identifier().getSymbol().getCharPositionInLine() 
                             + COLUMN_ADJUSTMENT + identifierNameString.length() );
 
-            this.identifierStore.add( programEntity );
-
         });
 
         return "";
@@ -1193,16 +1244,75 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
 
     // ---- end of leaf declarations
     // ----------- helper methods -------
-    private ArrayList<Modifier> getModifiersFromList ( ArrayList<String> modifierList ) {
-        ArrayList<Modifier> modifiers = new ArrayList<>();
-
-        modifierList.stream().forEach( modifierString -> {
-            modifiers.add( Modifier.getModifierFor( modifierString ) );
-        } );
+    private int getModifiersFromList ( ArrayList<String> modifierList ) {
+        int modifiers = 0;
+
+        for ( String modifierString : modifierList ) {
+            Modifier modifier = Modifier.getModifierFor( modifierString );
+            // an unrecognised modifier has no bit to set
+            if ( modifier != null ) {
+                modifiers |= EntityBatch.maskFor( modifier );
+            }
+        }
 
         return modifiers;
     }
 
+    private boolean mayDeclareSelectedSpecies ( ParserRuleContext context ) {
+        return !this.restricted
+                || this.selectedSpecies.contains( Species.LOCAL_VARIABLE )
+                || containsBrace( context );
+    }
+
+    /**
+     * Determines whether a '{' or '->' lies strictly between the first 
+     * and last tokens of a subtree, which is necessary for it to contain
+     * a class body, a lambda expression, or a block other than itself.
+     *
+     * @param context a subtree
+     * @return {@code true} if there is a brace, or the extent of the
+     * subtree is unknown
+     */
+    private boolean containsBrace ( ParserRuleContext context ) {
+        Token start = context.getStart();
+        Token stop = context.getStop();
+        // trees repaired after a syntax error may lack positions
+        if ( start == null || stop == null
+                || start.getStartIndex() < 0
+                || stop.getStopIndex() < start.getStartIndex() ) {
+            return true;
+        }
+
+        if ( this.braceOffsets == null ) {
+            this.braceOffsets = findBraces( start.getInputStream() );
+        }
+
+        int index = Arrays.binarySearch( this.braceOffsets, start.getStartIndex() + 1 );
+        if ( index < 0 ) {
+            index = -index - 1;
+        }
+
+        return index < this.braceOffsets.length
+                && this.braceOffsets[index] < stop.getStopIndex();
+    }
+
+    private static int[] findBraces ( CharStream input ) {
+        String text = input.getText( Interval.of( 0, input.size() - 1 ) );
+        int[] offsets = new int[64];
+        int count = 0;
+        for ( int offset = 0; offset < text.length(); offset++ ) {
+            if ( text.charAt( offset ) == '{' 
+                    || text.startsWith( "->", offset ) ) {
+                if ( count == offsets.length ) {
+                    offsets = Arrays.copyOf( offsets, count * 2 );
+                }
+                offsets[count++] = offset;
+            }
+        }
+
+        return Arrays.copyOf( offsets, count );
+    }
+
     private Species getSpeciesFor ( JavaParser.ClassDeclarationContext context ) {
         Species species;
         ParserRuleContext parent = context.getParent();
@@ -1273,7 +1383,7 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
         ArrayList<String> listOfTypes = new ArrayList<>();
 
         typeList.type().stream().forEach( (type) -> {
-            listOfTypes.add( type.getText() );
+            listOfTypes.add( TokenText.of( type ) );
         } );
 
         return listOfTypes;
@@ -1284,7 +1394,7 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
         ArrayList<String> extendsList = new ArrayList<>();
         if ( context.type() != null ) {
             // then a class is being extended
-            extendsList.add( context.type().getText() );
+            extendsList.add( TokenText.of( context.type() ) );
         }
 
         return extendsList;
@@ -1304,9 +1414,9 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
         return extendsList;
     }
 
-    private ArrayList<TypeName> resolvedTypeListFor ( 
+    private ArrayList<String> resolvedTypeListFor ( 
             ArrayList<String> typeDeclarationList ) {
-        ArrayList<TypeName> typeList = new ArrayList<>();
+        ArrayList<String> typeList = new ArrayList<>();
 
         typeDeclarationList.stream().forEach( (name) -> {
             typeList.add( getResolvedTypeNameFor( name ) );
@@ -1326,14 +1436,15 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
             List<JavaParser.FormalParameterContext> parameterList = 
                     parameterListContext.formalParameter();
             for ( JavaParser.FormalParameterContext formalParameter : parameterList ) {
-                signature.append( formalParameter.type().getText() );
+                TokenText.appendTo( signature, formalParameter.type() );
                 signature.append( ";" );  // delimiter for later parsing
             }
 
             JavaParser.LastFormalParameterContext lastFormalParameter = 
                     parameterListContext.lastFormalParameter();
             if ( lastFormalParameter != null ) {
-                signature.append( lastFormalParameter.type().getText() ).append( "..." );
+                TokenText.appendTo( signature, lastFormalParameter.type() );
+                signature.append( "..." );
                 signature.append( ";" );  // delimiter for later parsing
             }
         }
@@ -1359,9 +1470,9 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
      *
      * @param typeNameString
      *
-     * @return an instance of TypeName representing the argument.
+     * @return the resolved type name.
      */
-    private TypeName getResolvedTypeNameFor ( String typeNameString ) {
+    private String getResolvedTypeNameFor ( String typeNameString ) {
         // strip out the generics - we don't need them for some tests
 
         int leftAngleIndex = typeNameString.indexOf( "<" );
@@ -1387,7 +1498,7 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
             // we instatiate - this method is about resolution
             // instantiation may be wasteful, but if we already have the
             // information there is no need to resolve it.
-            return new TypeName( typeNameString );
+            return typeNameString;
 
         }
         else {
@@ -1405,7 +1516,7 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                 if ( !generics.isEmpty() ) {
                     fullTypeName = fullTypeName + generics;
                 }
-                return new TypeName( fullTypeName );
+                return fullTypeName;
             }
 
             // now monitor the possible issue of multiple matches
@@ -1430,7 +1541,7 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
                 if ( !generics.isEmpty() ) {
                     fullTypeName = fullTypeName + generics;
                 }
-                return new TypeName( fullTypeName );
+                return fullTypeName;
             }
 
             // need to consider whether there will ever be a need
@@ -1447,69 +1558,71 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
         }
 
         // if we get here, we have only the passed in type name to go on
-        return new TypeName( typeNameString );
+        return typeNameString;
+    }
+
+    // implicitly typed lambda parameters have no type
+    private String getParameterTypeName ( JavaParser.TypeContext context ) {
+        String typeName = getTypeName( context );
+        return ModernSyntaxTokenSource.INFERRED_TYPE.equals( typeName )
+                ? NO_TYPE
+                : getResolvedTypeNameFor( typeName );
+    }
+
+    // the parameters of a lambda expression rewritten as an anonymous class
+    // are local variables of the enclosing entity, not formal arguments
+    private Species getParameterSpeciesFor ( ParserRuleContext context ) {
+        ParserRuleContext method = context.getParent().getParent().getParent();
+        if ( method instanceof JavaParser.MethodDeclarationContext
+                && ModernSyntaxTokenSource.LAMBDA.equals( 
+                        ( (JavaParser.MethodDeclarationContext) method ).Identifier().getText() ) ) {
+            return Species.LOCAL_VARIABLE;
+        }
+        return Species.FORMAL_ARGUMENT;
     }
 
     private String getTypeName ( JavaParser.TypeContext context ) {
         String typeName;
         if ( context.classOrInterfaceType() != null ) {
-            typeName = context.classOrInterfaceType().getText();
+            typeName = TokenText.of( context.classOrInterfaceType() );
         }
         else {
-            typeName = context.primitiveType().getText();
+            typeName = TokenText.of( context.primitiveType() );
         }
 
         return typeName;
     }
 
     private boolean isArrayDeclaration ( JavaParser.TypeContext context ) {
-        return context.getText().contains( "[" );
+        return TokenText.contains( context, JavaLexer.LBRACK );
     }
 
     // ----------- helper class --------
     /**
      * Provides a mechanism for tracking the containing program entities.
+     * Containers are identified by the serial number allocated to them
+     * within the file; the batch turns serial numbers into UIDs.
      *
      */
     private class LocationTracker {
 
-        private final int HASH_LENGTH = 40;
-
-        private MessageDigest messageDigest;
-
-        private final String projectName;
         private String packageName;
-        private String packageDigest;
-        private String fileDigest;
 
-        private final ArrayDeque<String> stack;
+        // stack of container serial numbers
+        private int[] stack;
+        private int stackSize;
 
         private final ArrayList<String> typeStack;
 
         private final SerialNumberGenerator serialNumberGenerator;
 
         private LocationTracker () {
-            this.stack = new ArrayDeque<>();
+            this.stack = new int[16];
+            this.stackSize = 0;
             this.typeStack = new ArrayList<>();
 
-            try {
-                messageDigest = MessageDigest.getInstance( "SHA" );
-            }
-            catch ( NoSuchAlgorithmException e ) {
-                LOGGER.error(
-                        "Fatal: digest algorithm not found : {}",
-                        e.getMessage() );
-            }
-
-            this.projectName = Settings.getInstance().get( "project.name" )
-                    + " "
-                    + Settings.getInstance().get( "project.version" );
-
             this.packageName = "";   // give this a default value as package is not always set explicitly
             // NB: the package name is set to the correct value following the package declaration 
-            this.packageDigest = null;
-
-            this.fileDigest = null;
 
             this.serialNumberGenerator = new SerialNumberGenerator();
         }
@@ -1518,48 +1631,30 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
             return this.packageName;
         }
 
-        String getPackageDigest () {
-            if ( this.packageDigest == null ) {
-                this.packageDigest = digest( this.projectName + " " + this.packageName );
-            }
-            return this.packageDigest;
-        }
-
         void setPackageName ( String packageName ) {
             this.packageName = packageName;
         }
 
-        private String getFileDigest () {
-            if ( this.fileDigest == null ) {
-                this.fileDigest = digest(
-                        this.projectName
-                        + " "
-                        + this.packageName
-                        + " "
-                        + javaFileName );
-            }
-            return this.fileDigest;
-        }
-
         /**
+         * Allocates a serial number to a new container and makes it the
+         * current container.
          *
-         * @param containerName must be the signature for methods and
-         *                      constructors.
-         * @return the digest of the container name
+         * @return the serial number of the container
          */
-        String pushContainer () {
-            String containerUid = getFileDigest()
-                    + "-"
-                    + serialNumberGenerator.getNext();
-            this.stack.push( containerUid );
-            return containerUid;
+        int pushContainer () {
+            int containerSerial = serialNumberGenerator.getNext();
+            if ( this.stackSize == this.stack.length ) {
+                this.stack = Arrays.copyOf( this.stack, this.stackSize * 2 );
+            }
+            this.stack[this.stackSize++] = containerSerial;
+            return containerSerial;
         }
 
         /**
          * Discard a container on exit from the entity.
          */
         void pop () {
-            this.stack.pop();
+            this.stackSize--;
         }
 
         void pushType ( String typeName ) {
@@ -1606,49 +1701,28 @@ public class Java17VisitorImplementation extends JavaBaseVisitor<String> {
         }
 
         /**
-         * Creates a UID for a leaf entity.
+         * Allocates a serial number for a leaf entity.
          */
-        String getUidForLeafEntity () {
-            return getFileDigest() + "-" + this.serialNumberGenerator.getNext();
+        int getSerialForLeafEntity () {
+            return this.serialNumberGenerator.getNext();
         }
 
         /**
-         * Retrieves the UID of the current container.
+         * Retrieves the serial number of the current container.
          *
-         * @return the UID of the current parent/container entity
+         * @return the serial number of the current parent/container entity,
+         * or {@code EntityBatch.PACKAGE_CONTAINER} outside top-level types
          */
-        String getContainerUid () {
-            String containerUid;
-            if ( this.stack.isEmpty() ) {
-                containerUid = getPackageDigest();
+        int getContainerSerial () {
+            int containerSerial;
+            if ( this.stackSize == 0 ) {
+                containerSerial = EntityBatch.PACKAGE_CONTAINER;
             }
             else {
-                containerUid = this.stack.peekFirst(); // this code begs an interesting question -- why is the package digest not put on the stack automatically?
-            }
-
-            return containerUid;
-        }
-
-        /**
-         * Generates a digest string in hex for the input string.
-         *
-         * @param input a string to hash.
-         * @return the hash for the string.
-         */
-        private String digest ( String input ) {
-            //  ensure the digest instance is reset
-            messageDigest.reset();
-
-            //  now compute the digest
-            byte[] bytes = messageDigest.digest( input.getBytes() );
-
-            //  write the hex digits out to a String
-            StringBuilder output = new StringBuilder( HASH_LENGTH );
-            for ( byte b : bytes ) {
-                output.append( String.format( "%02x", b ) );
+                containerSerial = this.stack[this.stackSize - 1];
             }
 
-            return output.toString();
+            return containerSerial;
         }
 
         /**
@@ -79,11 +79,13 @@ public class JavaParser extends Parser {
 		RULE_switchLabel = 80, RULE_forControl = 81, RULE_forInit = 82, RULE_enhancedForControl = 83, 
 		RULE_forUpdate = 84, RULE_parExpression = 85, RULE_expressionList = 86, 
 		RULE_statementExpression = 87, RULE_constantExpression = 88, RULE_expression = 89, 
-		RULE_primary = 90, RULE_creator = 91, RULE_createdName = 92, RULE_innerCreator = 93, 
-		RULE_arrayCreatorRest = 94, RULE_classCreatorRest = 95, RULE_explicitGenericInvocation = 96, 
-		RULE_nonWildcardTypeArguments = 97, RULE_typeArgumentsOrDiamond = 98, 
-		RULE_nonWildcardTypeArgumentsOrDiamond = 99, RULE_superSuffix = 100, RULE_explicitGenericInvocationSuffix = 101, 
-		RULE_arguments = 102;
+		RULE_assignmentOperator = 90, RULE_conditionalExpression = 91, RULE_relationalExpression = 92, 
+		RULE_unaryExpression = 93, RULE_unaryExpressionNotPlusMinus = 94, RULE_primary = 95, 
+		RULE_selector = 96, RULE_creator = 97, RULE_createdName = 98, RULE_innerCreator = 99, 
+		RULE_arrayCreatorRest = 100, RULE_classCreatorRest = 101, RULE_explicitGenericInvocation = 102, 
+		RULE_nonWildcardTypeArguments = 103, RULE_typeArgumentsOrDiamond = 104, 
+		RULE_nonWildcardTypeArgumentsOrDiamond = 105, RULE_superSuffix = 106, 
+		RULE_explicitGenericInvocationSuffix = 107, RULE_arguments = 108;
 	public static final String[] ruleNames = {
 		"compilationUnit", "packageDeclaration", "importDeclaration", "typeDeclaration", 
 		"modifier", "classOrInterfaceModifier", "variableModifier", "classDeclaration", 
@@ -107,11 +109,12 @@ public class JavaParser extends Parser {
 		"statement", "catchClause", "catchType", "finallyBlock", "resourceSpecification", 
 		"resources", "resource", "switchBlockStatementGroup", "switchLabel", "forControl", 
 		"forInit", "enhancedForControl", "forUpdate", "parExpression", "expressionList", 
-		"statementExpression", "constantExpression", "expression", "primary", 
-		"creator", "createdName", "innerCreator", "arrayCreatorRest", "classCreatorRest", 
-		"explicitGenericInvocation", "nonWildcardTypeArguments", "typeArgumentsOrDiamond", 
-		"nonWildcardTypeArgumentsOrDiamond", "superSuffix", "explicitGenericInvocationSuffix", 
-		"arguments"
+		"statementExpression", "constantExpression", "expression", "assignmentOperator", 
+		"conditionalExpression", "relationalExpression", "unaryExpression", "unaryExpressionNotPlusMinus", 
+		"primary", "selector", "creator", "createdName", "innerCreator", "arrayCreatorRest", 
+		"classCreatorRest", "explicitGenericInvocation", "nonWildcardTypeArguments", 
+		"typeArgumentsOrDiamond", "nonWildcardTypeArgumentsOrDiamond", "superSuffix", 
+		"explicitGenericInvocationSuffix", "arguments"
 	};
 
 	@Override
@@ -131,6 +134,12 @@ public class JavaParser extends Parser {
 		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
 	}
 	public static class CompilationUnitContext extends ParserRuleContext {
+		public TypeDeclarationContext typeDeclaration(int i) {
+			return getRuleContext(TypeDeclarationContext.class,i);
+		}
+		public ImportDeclarationContext importDeclaration(int i) {
+			return getRuleContext(ImportDeclarationContext.class,i);
+		}
 		public List<ImportDeclarationContext> importDeclaration() {
 			return getRuleContexts(ImportDeclarationContext.class);
 		}
@@ -138,15 +147,9 @@ public class JavaParser extends Parser {
 		public PackageDeclarationContext packageDeclaration() {
 			return getRuleContext(PackageDeclarationContext.class,0);
 		}
-		public ImportDeclarationContext importDeclaration(int i) {
-			return getRuleContext(ImportDeclarationContext.class,i);
-		}
 		public List<TypeDeclarationContext> typeDeclaration() {
 			return getRuleContexts(TypeDeclarationContext.class);
 		}
-		public TypeDeclarationContext typeDeclaration(int i) {
-			return getRuleContext(TypeDeclarationContext.class,i);
-		}
 		public CompilationUnitContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -165,41 +168,41 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(207);
+			setState(219);
 			switch ( getInterpreter().adaptivePredict(_input,0,_ctx) ) {
 			case 1:
 				{
-				setState(206); packageDeclaration();
+				setState(218); packageDeclaration();
 				}
 				break;
 			}
-			setState(212);
+			setState(224);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==IMPORT) {
 				{
 				{
-				setState(209); importDeclaration();
+				setState(221); importDeclaration();
 				}
 				}
-				setState(214);
+				setState(226);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(218);
+			setState(230);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << CLASS) | (1L << ENUM) | (1L << FINAL) | (1L << INTERFACE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << STATIC) | (1L << STRICTFP) | (1L << SEMI))) != 0) || _la==AT) {
 				{
 				{
-				setState(215); typeDeclaration();
+				setState(227); typeDeclaration();
 				}
 				}
-				setState(220);
+				setState(232);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(221); match(EOF);
+			setState(233); match(EOF);
 			}
 		}
 		catch (RecognitionException re) {
@@ -214,14 +217,14 @@ public class JavaParser extends Parser {
 	}
 
 	public static class PackageDeclarationContext extends ParserRuleContext {
-		public AnnotationContext annotation(int i) {
-			return getRuleContext(AnnotationContext.class,i);
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
 		}
 		public QualifiedNameContext qualifiedName() {
 			return getRuleContext(QualifiedNameContext.class,0);
 		}
-		public List<AnnotationContext> annotation() {
-			return getRuleContexts(AnnotationContext.class);
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
 		}
 		public PackageDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -241,22 +244,22 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(226);
+			setState(238);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==AT) {
 				{
 				{
-				setState(223); annotation();
+				setState(235); annotation();
 				}
 				}
-				setState(228);
+				setState(240);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(229); match(PACKAGE);
-			setState(230); qualifiedName();
-			setState(231); match(SEMI);
+			setState(241); match(PACKAGE);
+			setState(242); qualifiedName();
+			setState(243); match(SEMI);
 			}
 		}
 		catch (RecognitionException re) {
@@ -292,26 +295,26 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(233); match(IMPORT);
-			setState(235);
+			setState(245); match(IMPORT);
+			setState(247);
 			_la = _input.LA(1);
 			if (_la==STATIC) {
 				{
-				setState(234); match(STATIC);
+				setState(246); match(STATIC);
 				}
 			}
 
-			setState(237); qualifiedName();
-			setState(240);
+			setState(249); qualifiedName();
+			setState(252);
 			_la = _input.LA(1);
 			if (_la==DOT) {
 				{
-				setState(238); match(DOT);
-				setState(239); match(MUL);
+				setState(250); match(DOT);
+				setState(251); match(MUL);
 				}
 			}
 
-			setState(242); match(SEMI);
+			setState(254); match(SEMI);
 			}
 		}
 		catch (RecognitionException re) {
@@ -326,23 +329,23 @@ public class JavaParser extends Parser {
 	}
 
 	public static class TypeDeclarationContext extends ParserRuleContext {
-		public InterfaceDeclarationContext interfaceDeclaration() {
-			return getRuleContext(InterfaceDeclarationContext.class,0);
-		}
-		public AnnotationTypeDeclarationContext annotationTypeDeclaration() {
-			return getRuleContext(AnnotationTypeDeclarationContext.class,0);
-		}
 		public ClassOrInterfaceModifierContext classOrInterfaceModifier(int i) {
 			return getRuleContext(ClassOrInterfaceModifierContext.class,i);
 		}
 		public EnumDeclarationContext enumDeclaration() {
 			return getRuleContext(EnumDeclarationContext.class,0);
 		}
+		public ClassDeclarationContext classDeclaration() {
+			return getRuleContext(ClassDeclarationContext.class,0);
+		}
+		public AnnotationTypeDeclarationContext annotationTypeDeclaration() {
+			return getRuleContext(AnnotationTypeDeclarationContext.class,0);
+		}
 		public List<ClassOrInterfaceModifierContext> classOrInterfaceModifier() {
 			return getRuleContexts(ClassOrInterfaceModifierContext.class);
 		}
-		public ClassDeclarationContext classDeclaration() {
-			return getRuleContext(ClassDeclarationContext.class,0);
+		public InterfaceDeclarationContext interfaceDeclaration() {
+			return getRuleContext(InterfaceDeclarationContext.class,0);
 		}
 		public TypeDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -361,94 +364,94 @@ public class JavaParser extends Parser {
 		int _la;
 		try {
 			int _alt;
-			setState(273);
+			setState(285);
 			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(247);
+				setState(259);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << FINAL) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << STATIC) | (1L << STRICTFP))) != 0) || _la==AT) {
 					{
 					{
-					setState(244); classOrInterfaceModifier();
+					setState(256); classOrInterfaceModifier();
 					}
 					}
-					setState(249);
+					setState(261);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(250); classDeclaration();
+				setState(262); classDeclaration();
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(254);
+				setState(266);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << FINAL) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << STATIC) | (1L << STRICTFP))) != 0) || _la==AT) {
 					{
 					{
-					setState(251); classOrInterfaceModifier();
+					setState(263); classOrInterfaceModifier();
 					}
 					}
-					setState(256);
+					setState(268);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(257); enumDeclaration();
+				setState(269); enumDeclaration();
 				}
 				break;
 
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(261);
+				setState(273);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << FINAL) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << STATIC) | (1L << STRICTFP))) != 0) || _la==AT) {
 					{
 					{
-					setState(258); classOrInterfaceModifier();
+					setState(270); classOrInterfaceModifier();
 					}
 					}
-					setState(263);
+					setState(275);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(264); interfaceDeclaration();
+				setState(276); interfaceDeclaration();
 				}
 				break;
 
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(268);
+				setState(280);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,9,_ctx);
 				while ( _alt!=2 && _alt!=-1 ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(265); classOrInterfaceModifier();
+						setState(277); classOrInterfaceModifier();
 						}
 						} 
 					}
-					setState(270);
+					setState(282);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,9,_ctx);
 				}
-				setState(271); annotationTypeDeclaration();
+				setState(283); annotationTypeDeclaration();
 				}
 				break;
 
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(272); match(SEMI);
+				setState(284); match(SEMI);
 				}
 				break;
 			}
@@ -484,7 +487,7 @@ public class JavaParser extends Parser {
 		enterRule(_localctx, 8, RULE_modifier);
 		int _la;
 		try {
-			setState(277);
+			setState(289);
 			switch (_input.LA(1)) {
 			case ABSTRACT:
 			case FINAL:
@@ -496,7 +499,7 @@ public class JavaParser extends Parser {
 			case AT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(275); classOrInterfaceModifier();
+				setState(287); classOrInterfaceModifier();
 				}
 				break;
 			case NATIVE:
@@ -505,7 +508,7 @@ public class JavaParser extends Parser {
 			case VOLATILE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(276);
+				setState(288);
 				_la = _input.LA(1);
 				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << NATIVE) | (1L << SYNCHRONIZED) | (1L << TRANSIENT) | (1L << VOLATILE))) != 0)) ) {
 				_errHandler.recoverInline(this);
@@ -548,12 +551,12 @@ public class JavaParser extends Parser {
 		enterRule(_localctx, 10, RULE_classOrInterfaceModifier);
 		int _la;
 		try {
-			setState(281);
+			setState(293);
 			switch (_input.LA(1)) {
 			case AT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(279); annotation();
+				setState(291); annotation();
 				}
 				break;
 			case ABSTRACT:
@@ -565,7 +568,7 @@ public class JavaParser extends Parser {
 			case STRICTFP:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(280);
+				setState(292);
 				_la = _input.LA(1);
 				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << FINAL) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << STATIC) | (1L << STRICTFP))) != 0)) ) {
 				_errHandler.recoverInline(this);
@@ -607,18 +610,18 @@ public class JavaParser extends Parser {
 		VariableModifierContext _localctx = new VariableModifierContext(_ctx, getState());
 		enterRule(_localctx, 12, RULE_variableModifier);
 		try {
-			setState(285);
+			setState(297);
 			switch (_input.LA(1)) {
 			case FINAL:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(283); match(FINAL);
+				setState(295); match(FINAL);
 				}
 				break;
 			case AT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(284); annotation();
+				setState(296); annotation();
 				}
 				break;
 			default:
@@ -637,16 +640,16 @@ public class JavaParser extends Parser {
 	}
 
 	public static class ClassDeclarationContext extends ParserRuleContext {
-		public TypeParametersContext typeParameters() {
-			return getRuleContext(TypeParametersContext.class,0);
-		}
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public ClassBodyContext classBody() {
 			return getRuleContext(ClassBodyContext.class,0);
 		}
 		public TypeListContext typeList() {
 			return getRuleContext(TypeListContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
@@ -668,35 +671,35 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(287); match(CLASS);
-			setState(288); match(Identifier);
-			setState(290);
+			setState(299); match(CLASS);
+			setState(300); match(Identifier);
+			setState(302);
 			_la = _input.LA(1);
 			if (_la==LT) {
 				{
-				setState(289); typeParameters();
+				setState(301); typeParameters();
 				}
 			}
 
-			setState(294);
+			setState(306);
 			_la = _input.LA(1);
 			if (_la==EXTENDS) {
 				{
-				setState(292); match(EXTENDS);
-				setState(293); type();
+				setState(304); match(EXTENDS);
+				setState(305); type();
 				}
 			}
 
-			setState(298);
+			setState(310);
 			_la = _input.LA(1);
 			if (_la==IMPLEMENTS) {
 				{
-				setState(296); match(IMPLEMENTS);
-				setState(297); typeList();
+				setState(308); match(IMPLEMENTS);
+				setState(309); typeList();
 				}
 			}
 
-			setState(300); classBody();
+			setState(312); classBody();
 			}
 		}
 		catch (RecognitionException re) {
@@ -735,23 +738,23 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(302); match(LT);
-			setState(303); typeParameter();
-			setState(308);
+			setState(314); match(LT);
+			setState(315); typeParameter();
+			setState(320);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(304); match(COMMA);
-				setState(305); typeParameter();
+				setState(316); match(COMMA);
+				setState(317); typeParameter();
 				}
 				}
-				setState(310);
+				setState(322);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(311); match(GT);
+			setState(323); match(GT);
 			}
 		}
 		catch (RecognitionException re) {
@@ -788,13 +791,13 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(313); match(Identifier);
-			setState(316);
+			setState(325); match(Identifier);
+			setState(328);
 			_la = _input.LA(1);
 			if (_la==EXTENDS) {
 				{
-				setState(314); match(EXTENDS);
-				setState(315); typeBound();
+				setState(326); match(EXTENDS);
+				setState(327); typeBound();
 				}
 			}
 
@@ -836,18 +839,18 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(318); type();
-			setState(323);
+			setState(330); type();
+			setState(335);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==BITAND) {
 				{
 				{
-				setState(319); match(BITAND);
-				setState(320); type();
+				setState(331); match(BITAND);
+				setState(332); type();
 				}
 				}
-				setState(325);
+				setState(337);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -865,17 +868,17 @@ public class JavaParser extends Parser {
 	}
 
 	public static class EnumDeclarationContext extends ParserRuleContext {
-		public TerminalNode ENUM() { return getToken(JavaParser.ENUM, 0); }
+		public EnumBodyDeclarationsContext enumBodyDeclarations() {
+			return getRuleContext(EnumBodyDeclarationsContext.class,0);
+		}
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public TypeListContext typeList() {
 			return getRuleContext(TypeListContext.class,0);
 		}
+		public TerminalNode ENUM() { return getToken(JavaParser.ENUM, 0); }
 		public EnumConstantsContext enumConstants() {
 			return getRuleContext(EnumConstantsContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
-		public EnumBodyDeclarationsContext enumBodyDeclarations() {
-			return getRuleContext(EnumBodyDeclarationsContext.class,0);
-		}
 		public EnumDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -894,43 +897,43 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(326); match(ENUM);
-			setState(327); match(Identifier);
-			setState(330);
+			setState(338); match(ENUM);
+			setState(339); match(Identifier);
+			setState(342);
 			_la = _input.LA(1);
 			if (_la==IMPLEMENTS) {
 				{
-				setState(328); match(IMPLEMENTS);
-				setState(329); typeList();
+				setState(340); match(IMPLEMENTS);
+				setState(341); typeList();
 				}
 			}
 
-			setState(332); match(LBRACE);
-			setState(334);
+			setState(344); match(LBRACE);
+			setState(346);
 			_la = _input.LA(1);
 			if (_la==Identifier || _la==AT) {
 				{
-				setState(333); enumConstants();
+				setState(345); enumConstants();
 				}
 			}
 
-			setState(337);
+			setState(349);
 			_la = _input.LA(1);
 			if (_la==COMMA) {
 				{
-				setState(336); match(COMMA);
+				setState(348); match(COMMA);
 				}
 			}
 
-			setState(340);
+			setState(352);
 			_la = _input.LA(1);
 			if (_la==SEMI) {
 				{
-				setState(339); enumBodyDeclarations();
+				setState(351); enumBodyDeclarations();
 				}
 			}
 
-			setState(342); match(RBRACE);
+			setState(354); match(RBRACE);
 			}
 		}
 		catch (RecognitionException re) {
@@ -969,20 +972,20 @@ public class JavaParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(344); enumConstant();
-			setState(349);
+			setState(356); enumConstant();
+			setState(361);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,24,_ctx);
 			while ( _alt!=2 && _alt!=-1 ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(345); match(COMMA);
-					setState(346); enumConstant();
+					setState(357); match(COMMA);
+					setState(358); enumConstant();
 					}
 					} 
 				}
-				setState(351);
+				setState(363);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,24,_ctx);
 			}
@@ -1000,15 +1003,15 @@ public class JavaParser extends Parser {
 	}
 
 	public static class EnumConstantContext extends ParserRuleContext {
-		public AnnotationContext annotation(int i) {
-			return getRuleContext(AnnotationContext.class,i);
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
 		}
 		public ClassBodyContext classBody() {
 			return getRuleContext(ClassBodyContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
-		public List<AnnotationContext> annotation() {
-			return getRuleContexts(AnnotationContext.class);
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
 		}
 		public ArgumentsContext arguments() {
 			return getRuleContext(ArgumentsContext.class,0);
@@ -1031,33 +1034,33 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(355);
+			setState(367);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==AT) {
 				{
 				{
-				setState(352); annotation();
+				setState(364); annotation();
 				}
 				}
-				setState(357);
+				setState(369);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(358); match(Identifier);
-			setState(360);
+			setState(370); match(Identifier);
+			setState(372);
 			_la = _input.LA(1);
 			if (_la==LPAREN) {
 				{
-				setState(359); arguments();
+				setState(371); arguments();
 				}
 			}
 
-			setState(363);
+			setState(375);
 			_la = _input.LA(1);
 			if (_la==LBRACE) {
 				{
-				setState(362); classBody();
+				setState(374); classBody();
 				}
 			}
 
@@ -1075,12 +1078,12 @@ public class JavaParser extends Parser {
 	}
 
 	public static class EnumBodyDeclarationsContext extends ParserRuleContext {
-		public ClassBodyDeclarationContext classBodyDeclaration(int i) {
-			return getRuleContext(ClassBodyDeclarationContext.class,i);
-		}
 		public List<ClassBodyDeclarationContext> classBodyDeclaration() {
 			return getRuleContexts(ClassBodyDeclarationContext.class);
 		}
+		public ClassBodyDeclarationContext classBodyDeclaration(int i) {
+			return getRuleContext(ClassBodyDeclarationContext.class,i);
+		}
 		public EnumBodyDeclarationsContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1099,17 +1102,17 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(365); match(SEMI);
-			setState(369);
+			setState(377); match(SEMI);
+			setState(381);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NATIVE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SYNCHRONIZED) | (1L << TRANSIENT) | (1L << VOID) | (1L << VOLATILE) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
 				{
 				{
-				setState(366); classBodyDeclaration();
+				setState(378); classBodyDeclaration();
 				}
 				}
-				setState(371);
+				setState(383);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1127,15 +1130,15 @@ public class JavaParser extends Parser {
 	}
 
 	public static class InterfaceDeclarationContext extends ParserRuleContext {
-		public TypeParametersContext typeParameters() {
-			return getRuleContext(TypeParametersContext.class,0);
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public InterfaceBodyContext interfaceBody() {
+			return getRuleContext(InterfaceBodyContext.class,0);
 		}
 		public TypeListContext typeList() {
 			return getRuleContext(TypeListContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
-		public InterfaceBodyContext interfaceBody() {
-			return getRuleContext(InterfaceBodyContext.class,0);
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
 		}
 		public InterfaceDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -1155,26 +1158,26 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(372); match(INTERFACE);
-			setState(373); match(Identifier);
-			setState(375);
+			setState(384); match(INTERFACE);
+			setState(385); match(Identifier);
+			setState(387);
 			_la = _input.LA(1);
 			if (_la==LT) {
 				{
-				setState(374); typeParameters();
+				setState(386); typeParameters();
 				}
 			}
 
-			setState(379);
+			setState(391);
 			_la = _input.LA(1);
 			if (_la==EXTENDS) {
 				{
-				setState(377); match(EXTENDS);
-				setState(378); typeList();
+				setState(389); match(EXTENDS);
+				setState(390); typeList();
 				}
 			}
 
-			setState(381); interfaceBody();
+			setState(393); interfaceBody();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1213,18 +1216,18 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(383); type();
-			setState(388);
+			setState(395); type();
+			setState(400);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(384); match(COMMA);
-				setState(385); type();
+				setState(396); match(COMMA);
+				setState(397); type();
 				}
 				}
-				setState(390);
+				setState(402);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1242,12 +1245,12 @@ public class JavaParser extends Parser {
 	}
 
 	public static class ClassBodyContext extends ParserRuleContext {
-		public ClassBodyDeclarationContext classBodyDeclaration(int i) {
-			return getRuleContext(ClassBodyDeclarationContext.class,i);
-		}
 		public List<ClassBodyDeclarationContext> classBodyDeclaration() {
 			return getRuleContexts(ClassBodyDeclarationContext.class);
 		}
+		public ClassBodyDeclarationContext classBodyDeclaration(int i) {
+			return getRuleContext(ClassBodyDeclarationContext.class,i);
+		}
 		public ClassBodyContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1266,21 +1269,21 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(391); match(LBRACE);
-			setState(395);
+			setState(403); match(LBRACE);
+			setState(407);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NATIVE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SYNCHRONIZED) | (1L << TRANSIENT) | (1L << VOID) | (1L << VOLATILE) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
 				{
 				{
-				setState(392); classBodyDeclaration();
+				setState(404); classBodyDeclaration();
 				}
 				}
-				setState(397);
+				setState(409);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(398); match(RBRACE);
+			setState(410); match(RBRACE);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1295,12 +1298,12 @@ public class JavaParser extends Parser {
 	}
 
 	public static class InterfaceBodyContext extends ParserRuleContext {
-		public InterfaceBodyDeclarationContext interfaceBodyDeclaration(int i) {
-			return getRuleContext(InterfaceBodyDeclarationContext.class,i);
-		}
 		public List<InterfaceBodyDeclarationContext> interfaceBodyDeclaration() {
 			return getRuleContexts(InterfaceBodyDeclarationContext.class);
 		}
+		public InterfaceBodyDeclarationContext interfaceBodyDeclaration(int i) {
+			return getRuleContext(InterfaceBodyDeclarationContext.class,i);
+		}
 		public InterfaceBodyContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1319,21 +1322,21 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(400); match(LBRACE);
-			setState(404);
+			setState(412); match(LBRACE);
+			setState(416);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NATIVE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SYNCHRONIZED) | (1L << TRANSIENT) | (1L << VOID) | (1L << VOLATILE) | (1L << SEMI))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
 				{
 				{
-				setState(401); interfaceBodyDeclaration();
+				setState(413); interfaceBodyDeclaration();
 				}
 				}
-				setState(406);
+				setState(418);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(407); match(RBRACE);
+			setState(419); match(RBRACE);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1348,18 +1351,18 @@ public class JavaParser extends Parser {
 	}
 
 	public static class ClassBodyDeclarationContext extends ParserRuleContext {
-		public MemberDeclarationContext memberDeclaration() {
-			return getRuleContext(MemberDeclarationContext.class,0);
-		}
 		public List<ModifierContext> modifier() {
 			return getRuleContexts(ModifierContext.class);
 		}
-		public BlockContext block() {
-			return getRuleContext(BlockContext.class,0);
+		public MemberDeclarationContext memberDeclaration() {
+			return getRuleContext(MemberDeclarationContext.class,0);
 		}
 		public ModifierContext modifier(int i) {
 			return getRuleContext(ModifierContext.class,i);
 		}
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
 		public ClassBodyDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1377,49 +1380,49 @@ public class JavaParser extends Parser {
 		int _la;
 		try {
 			int _alt;
-			setState(421);
+			setState(433);
 			switch ( getInterpreter().adaptivePredict(_input,36,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(409); match(SEMI);
+				setState(421); match(SEMI);
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(411);
+				setState(423);
 				_la = _input.LA(1);
 				if (_la==STATIC) {
 					{
-					setState(410); match(STATIC);
+					setState(422); match(STATIC);
 					}
 				}
 
-				setState(413); block();
+				setState(425); block();
 				}
 				break;
 
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(417);
+				setState(429);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,35,_ctx);
 				while ( _alt!=2 && _alt!=-1 ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(414); modifier();
+						setState(426); modifier();
 						}
 						} 
 					}
-					setState(419);
+					setState(431);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,35,_ctx);
 				}
-				setState(420); memberDeclaration();
+				setState(432); memberDeclaration();
 				}
 				break;
 			}
@@ -1436,32 +1439,32 @@ public class JavaParser extends Parser {
 	}
 
 	public static class MemberDeclarationContext extends ParserRuleContext {
-		public InterfaceDeclarationContext interfaceDeclaration() {
-			return getRuleContext(InterfaceDeclarationContext.class,0);
-		}
-		public AnnotationTypeDeclarationContext annotationTypeDeclaration() {
-			return getRuleContext(AnnotationTypeDeclarationContext.class,0);
-		}
-		public ConstructorDeclarationContext constructorDeclaration() {
-			return getRuleContext(ConstructorDeclarationContext.class,0);
+		public GenericMethodDeclarationContext genericMethodDeclaration() {
+			return getRuleContext(GenericMethodDeclarationContext.class,0);
 		}
-		public FieldDeclarationContext fieldDeclaration() {
-			return getRuleContext(FieldDeclarationContext.class,0);
+		public MethodDeclarationContext methodDeclaration() {
+			return getRuleContext(MethodDeclarationContext.class,0);
 		}
 		public EnumDeclarationContext enumDeclaration() {
 			return getRuleContext(EnumDeclarationContext.class,0);
 		}
-		public GenericMethodDeclarationContext genericMethodDeclaration() {
-			return getRuleContext(GenericMethodDeclarationContext.class,0);
+		public ClassDeclarationContext classDeclaration() {
+			return getRuleContext(ClassDeclarationContext.class,0);
 		}
-		public MethodDeclarationContext methodDeclaration() {
-			return getRuleContext(MethodDeclarationContext.class,0);
+		public AnnotationTypeDeclarationContext annotationTypeDeclaration() {
+			return getRuleContext(AnnotationTypeDeclarationContext.class,0);
 		}
 		public GenericConstructorDeclarationContext genericConstructorDeclaration() {
 			return getRuleContext(GenericConstructorDeclarationContext.class,0);
 		}
-		public ClassDeclarationContext classDeclaration() {
-			return getRuleContext(ClassDeclarationContext.class,0);
+		public InterfaceDeclarationContext interfaceDeclaration() {
+			return getRuleContext(InterfaceDeclarationContext.class,0);
+		}
+		public ConstructorDeclarationContext constructorDeclaration() {
+			return getRuleContext(ConstructorDeclarationContext.class,0);
+		}
+		public FieldDeclarationContext fieldDeclaration() {
+			return getRuleContext(FieldDeclarationContext.class,0);
 		}
 		public MemberDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -1478,68 +1481,68 @@ public class JavaParser extends Parser {
 		MemberDeclarationContext _localctx = new MemberDeclarationContext(_ctx, getState());
 		enterRule(_localctx, 40, RULE_memberDeclaration);
 		try {
-			setState(432);
+			setState(444);
 			switch ( getInterpreter().adaptivePredict(_input,37,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(423); methodDeclaration();
+				setState(435); methodDeclaration();
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(424); genericMethodDeclaration();
+				setState(436); genericMethodDeclaration();
 				}
 				break;
 
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(425); fieldDeclaration();
+				setState(437); fieldDeclaration();
 				}
 				break;
 
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(426); constructorDeclaration();
+				setState(438); constructorDeclaration();
 				}
 				break;
 
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(427); genericConstructorDeclaration();
+				setState(439); genericConstructorDeclaration();
 				}
 				break;
 
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(428); interfaceDeclaration();
+				setState(440); interfaceDeclaration();
 				}
 				break;
 
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(429); annotationTypeDeclaration();
+				setState(441); annotationTypeDeclaration();
 				}
 				break;
 
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(430); classDeclaration();
+				setState(442); classDeclaration();
 				}
 				break;
 
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(431); enumDeclaration();
+				setState(443); enumDeclaration();
 				}
 				break;
 			}
@@ -1556,19 +1559,19 @@ public class JavaParser extends Parser {
 	}
 
 	public static class MethodDeclarationContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public MethodBodyContext methodBody() {
 			return getRuleContext(MethodBodyContext.class,0);
 		}
+		public QualifiedNameListContext qualifiedNameList() {
+			return getRuleContext(QualifiedNameListContext.class,0);
+		}
 		public FormalParametersContext formalParameters() {
 			return getRuleContext(FormalParametersContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
-		public QualifiedNameListContext qualifiedNameList() {
-			return getRuleContext(QualifiedNameListContext.class,0);
-		}
 		public MethodDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1587,7 +1590,7 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(436);
+			setState(448);
 			switch (_input.LA(1)) {
 			case BOOLEAN:
 			case BYTE:
@@ -1599,52 +1602,52 @@ public class JavaParser extends Parser {
 			case SHORT:
 			case Identifier:
 				{
-				setState(434); type();
+				setState(446); type();
 				}
 				break;
 			case VOID:
 				{
-				setState(435); match(VOID);
+				setState(447); match(VOID);
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(438); match(Identifier);
-			setState(439); formalParameters();
-			setState(444);
+			setState(450); match(Identifier);
+			setState(451); formalParameters();
+			setState(456);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==LBRACK) {
 				{
 				{
-				setState(440); match(LBRACK);
-				setState(441); match(RBRACK);
+				setState(452); match(LBRACK);
+				setState(453); match(RBRACK);
 				}
 				}
-				setState(446);
+				setState(458);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(449);
+			setState(461);
 			_la = _input.LA(1);
 			if (_la==THROWS) {
 				{
-				setState(447); match(THROWS);
-				setState(448); qualifiedNameList();
+				setState(459); match(THROWS);
+				setState(460); qualifiedNameList();
 				}
 			}
 
-			setState(453);
+			setState(465);
 			switch (_input.LA(1)) {
 			case LBRACE:
 				{
-				setState(451); methodBody();
+				setState(463); methodBody();
 				}
 				break;
 			case SEMI:
 				{
-				setState(452); match(SEMI);
+				setState(464); match(SEMI);
 				}
 				break;
 			default:
@@ -1664,12 +1667,12 @@ public class JavaParser extends Parser {
 	}
 
 	public static class GenericMethodDeclarationContext extends ParserRuleContext {
-		public TypeParametersContext typeParameters() {
-			return getRuleContext(TypeParametersContext.class,0);
-		}
 		public MethodDeclarationContext methodDeclaration() {
 			return getRuleContext(MethodDeclarationContext.class,0);
 		}
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
 		public GenericMethodDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1687,8 +1690,8 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(455); typeParameters();
-			setState(456); methodDeclaration();
+			setState(467); typeParameters();
+			setState(468); methodDeclaration();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1703,9 +1706,6 @@ public class JavaParser extends Parser {
 	}
 
 	public static class ConstructorDeclarationContext extends ParserRuleContext {
-		public FormalParametersContext formalParameters() {
-			return getRuleContext(FormalParametersContext.class,0);
-		}
 		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public ConstructorBodyContext constructorBody() {
 			return getRuleContext(ConstructorBodyContext.class,0);
@@ -1713,6 +1713,9 @@ public class JavaParser extends Parser {
 		public QualifiedNameListContext qualifiedNameList() {
 			return getRuleContext(QualifiedNameListContext.class,0);
 		}
+		public FormalParametersContext formalParameters() {
+			return getRuleContext(FormalParametersContext.class,0);
+		}
 		public ConstructorDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1731,18 +1734,18 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(458); match(Identifier);
-			setState(459); formalParameters();
-			setState(462);
+			setState(470); match(Identifier);
+			setState(471); formalParameters();
+			setState(474);
 			_la = _input.LA(1);
 			if (_la==THROWS) {
 				{
-				setState(460); match(THROWS);
-				setState(461); qualifiedNameList();
+				setState(472); match(THROWS);
+				setState(473); qualifiedNameList();
 				}
 			}
 
-			setState(464); constructorBody();
+			setState(476); constructorBody();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1780,8 +1783,8 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(466); typeParameters();
-			setState(467); constructorDeclaration();
+			setState(478); typeParameters();
+			setState(479); constructorDeclaration();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1819,9 +1822,9 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(469); type();
-			setState(470); variableDeclarators();
-			setState(471); match(SEMI);
+			setState(481); type();
+			setState(482); variableDeclarators();
+			setState(483); match(SEMI);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1836,15 +1839,15 @@ public class JavaParser extends Parser {
 	}
 
 	public static class InterfaceBodyDeclarationContext extends ParserRuleContext {
-		public InterfaceMemberDeclarationContext interfaceMemberDeclaration() {
-			return getRuleContext(InterfaceMemberDeclarationContext.class,0);
-		}
 		public List<ModifierContext> modifier() {
 			return getRuleContexts(ModifierContext.class);
 		}
 		public ModifierContext modifier(int i) {
 			return getRuleContext(ModifierContext.class,i);
 		}
+		public InterfaceMemberDeclarationContext interfaceMemberDeclaration() {
+			return getRuleContext(InterfaceMemberDeclarationContext.class,0);
+		}
 		public InterfaceBodyDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1861,7 +1864,7 @@ public class JavaParser extends Parser {
 		enterRule(_localctx, 52, RULE_interfaceBodyDeclaration);
 		try {
 			int _alt;
-			setState(481);
+			setState(493);
 			switch (_input.LA(1)) {
 			case ABSTRACT:
 			case BOOLEAN:
@@ -1891,28 +1894,28 @@ public class JavaParser extends Parser {
 			case AT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(476);
+				setState(488);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,43,_ctx);
 				while ( _alt!=2 && _alt!=-1 ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(473); modifier();
+						setState(485); modifier();
 						}
 						} 
 					}
-					setState(478);
+					setState(490);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,43,_ctx);
 				}
-				setState(479); interfaceMemberDeclaration();
+				setState(491); interfaceMemberDeclaration();
 				}
 				break;
 			case SEMI:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(480); match(SEMI);
+				setState(492); match(SEMI);
 				}
 				break;
 			default:
@@ -1931,26 +1934,26 @@ public class JavaParser extends Parser {
 	}
 
 	public static class InterfaceMemberDeclarationContext extends ParserRuleContext {
-		public GenericInterfaceMethodDeclarationContext genericInterfaceMethodDeclaration() {
-			return getRuleContext(GenericInterfaceMethodDeclarationContext.class,0);
+		public EnumDeclarationContext enumDeclaration() {
+			return getRuleContext(EnumDeclarationContext.class,0);
 		}
-		public InterfaceMethodDeclarationContext interfaceMethodDeclaration() {
-			return getRuleContext(InterfaceMethodDeclarationContext.class,0);
+		public ClassDeclarationContext classDeclaration() {
+			return getRuleContext(ClassDeclarationContext.class,0);
 		}
-		public InterfaceDeclarationContext interfaceDeclaration() {
-			return getRuleContext(InterfaceDeclarationContext.class,0);
+		public GenericInterfaceMethodDeclarationContext genericInterfaceMethodDeclaration() {
+			return getRuleContext(GenericInterfaceMethodDeclarationContext.class,0);
 		}
 		public AnnotationTypeDeclarationContext annotationTypeDeclaration() {
 			return getRuleContext(AnnotationTypeDeclarationContext.class,0);
 		}
-		public EnumDeclarationContext enumDeclaration() {
-			return getRuleContext(EnumDeclarationContext.class,0);
+		public InterfaceDeclarationContext interfaceDeclaration() {
+			return getRuleContext(InterfaceDeclarationContext.class,0);
 		}
 		public ConstDeclarationContext constDeclaration() {
 			return getRuleContext(ConstDeclarationContext.class,0);
 		}
-		public ClassDeclarationContext classDeclaration() {
-			return getRuleContext(ClassDeclarationContext.class,0);
+		public InterfaceMethodDeclarationContext interfaceMethodDeclaration() {
+			return getRuleContext(InterfaceMethodDeclarationContext.class,0);
 		}
 		public InterfaceMemberDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -1967,54 +1970,54 @@ public class JavaParser extends Parser {
 		InterfaceMemberDeclarationContext _localctx = new InterfaceMemberDeclarationContext(_ctx, getState());
 		enterRule(_localctx, 54, RULE_interfaceMemberDeclaration);
 		try {
-			setState(490);
+			setState(502);
 			switch ( getInterpreter().adaptivePredict(_input,45,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(483); constDeclaration();
+				setState(495); constDeclaration();
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(484); interfaceMethodDeclaration();
+				setState(496); interfaceMethodDeclaration();
 				}
 				break;
 
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(485); genericInterfaceMethodDeclaration();
+				setState(497); genericInterfaceMethodDeclaration();
 				}
 				break;
 
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(486); interfaceDeclaration();
+				setState(498); interfaceDeclaration();
 				}
 				break;
 
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(487); annotationTypeDeclaration();
+				setState(499); annotationTypeDeclaration();
 				}
 				break;
 
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(488); classDeclaration();
+				setState(500); classDeclaration();
 				}
 				break;
 
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(489); enumDeclaration();
+				setState(501); enumDeclaration();
 				}
 				break;
 			}
@@ -2031,12 +2034,12 @@ public class JavaParser extends Parser {
 	}
 
 	public static class ConstDeclarationContext extends ParserRuleContext {
-		public List<ConstantDeclaratorContext> constantDeclarator() {
-			return getRuleContexts(ConstantDeclaratorContext.class);
-		}
 		public ConstantDeclaratorContext constantDeclarator(int i) {
 			return getRuleContext(ConstantDeclaratorContext.class,i);
 		}
+		public List<ConstantDeclaratorContext> constantDeclarator() {
+			return getRuleContexts(ConstantDeclaratorContext.class);
+		}
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
@@ -2058,23 +2061,23 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(492); type();
-			setState(493); constantDeclarator();
-			setState(498);
+			setState(504); type();
+			setState(505); constantDeclarator();
+			setState(510);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(494); match(COMMA);
-				setState(495); constantDeclarator();
+				setState(506); match(COMMA);
+				setState(507); constantDeclarator();
 				}
 				}
-				setState(500);
+				setState(512);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(501); match(SEMI);
+			setState(513); match(SEMI);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2111,23 +2114,23 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(503); match(Identifier);
-			setState(508);
+			setState(515); match(Identifier);
+			setState(520);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==LBRACK) {
 				{
 				{
-				setState(504); match(LBRACK);
-				setState(505); match(RBRACK);
+				setState(516); match(LBRACK);
+				setState(517); match(RBRACK);
 				}
 				}
-				setState(510);
+				setState(522);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(511); match(ASSIGN);
-			setState(512); variableInitializer();
+			setState(523); match(ASSIGN);
+			setState(524); variableInitializer();
 			}
 		}
 		catch (RecognitionException re) {
@@ -2142,16 +2145,16 @@ public class JavaParser extends Parser {
 	}
 
 	public static class InterfaceMethodDeclarationContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public QualifiedNameListContext qualifiedNameList() {
+			return getRuleContext(QualifiedNameListContext.class,0);
+		}
 		public FormalParametersContext formalParameters() {
 			return getRuleContext(FormalParametersContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
-		public QualifiedNameListContext qualifiedNameList() {
-			return getRuleContext(QualifiedNameListContext.class,0);
-		}
 		public InterfaceMethodDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2170,7 +2173,7 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(516);
+			setState(528);
 			switch (_input.LA(1)) {
 			case BOOLEAN:
 			case BYTE:
@@ -2182,43 +2185,43 @@ public class JavaParser extends Parser {
 			case SHORT:
 			case Identifier:
 				{
-				setState(514); type();
+				setState(526); type();
 				}
 				break;
 			case VOID:
 				{
-				setState(515); match(VOID);
+				setState(527); match(VOID);
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(518); match(Identifier);
-			setState(519); formalParameters();
-			setState(524);
+			setState(530); match(Identifier);
+			setState(531); formalParameters();
+			setState(536);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==LBRACK) {
 				{
 				{
-				setState(520); match(LBRACK);
-				setState(521); match(RBRACK);
+				setState(532); match(LBRACK);
+				setState(533); match(RBRACK);
 				}
 				}
-				setState(526);
+				setState(538);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(529);
+			setState(541);
 			_la = _input.LA(1);
 			if (_la==THROWS) {
 				{
-				setState(527); match(THROWS);
-				setState(528); qualifiedNameList();
+				setState(539); match(THROWS);
+				setState(540); qualifiedNameList();
 				}
 			}
 
-			setState(531); match(SEMI);
+			setState(543); match(SEMI);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2233,12 +2236,12 @@ public class JavaParser extends Parser {
 	}
 
 	public static class GenericInterfaceMethodDeclarationContext extends ParserRuleContext {
-		public InterfaceMethodDeclarationContext interfaceMethodDeclaration() {
-			return getRuleContext(InterfaceMethodDeclarationContext.class,0);
-		}
 		public TypeParametersContext typeParameters() {
 			return getRuleContext(TypeParametersContext.class,0);
 		}
+		public InterfaceMethodDeclarationContext interfaceMethodDeclaration() {
+			return getRuleContext(InterfaceMethodDeclarationContext.class,0);
+		}
 		public GenericInterfaceMethodDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2256,8 +2259,8 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(533); typeParameters();
-			setState(534); interfaceMethodDeclaration();
+			setState(545); typeParameters();
+			setState(546); interfaceMethodDeclaration();
 			}
 		}
 		catch (RecognitionException re) {
@@ -2272,12 +2275,12 @@ public class JavaParser extends Parser {
 	}
 
 	public static class VariableDeclaratorsContext extends ParserRuleContext {
-		public VariableDeclaratorContext variableDeclarator(int i) {
-			return getRuleContext(VariableDeclaratorContext.class,i);
-		}
 		public List<VariableDeclaratorContext> variableDeclarator() {
 			return getRuleContexts(VariableDeclaratorContext.class);
 		}
+		public VariableDeclaratorContext variableDeclarator(int i) {
+			return getRuleContext(VariableDeclaratorContext.class,i);
+		}
 		public VariableDeclaratorsContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2296,18 +2299,18 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(536); variableDeclarator();
-			setState(541);
+			setState(548); variableDeclarator();
+			setState(553);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(537); match(COMMA);
-				setState(538); variableDeclarator();
+				setState(549); match(COMMA);
+				setState(550); variableDeclarator();
 				}
 				}
-				setState(543);
+				setState(555);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2325,12 +2328,12 @@ public class JavaParser extends Parser {
 	}
 
 	public static class VariableDeclaratorContext extends ParserRuleContext {
-		public VariableDeclaratorIdContext variableDeclaratorId() {
-			return getRuleContext(VariableDeclaratorIdContext.class,0);
-		}
 		public VariableInitializerContext variableInitializer() {
 			return getRuleContext(VariableInitializerContext.class,0);
 		}
+		public VariableDeclaratorIdContext variableDeclaratorId() {
+			return getRuleContext(VariableDeclaratorIdContext.class,0);
+		}
 		public VariableDeclaratorContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2349,13 +2352,13 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(544); variableDeclaratorId();
-			setState(547);
+			setState(556); variableDeclaratorId();
+			setState(559);
 			_la = _input.LA(1);
 			if (_la==ASSIGN) {
 				{
-				setState(545); match(ASSIGN);
-				setState(546); variableInitializer();
+				setState(557); match(ASSIGN);
+				setState(558); variableInitializer();
 				}
 			}
 
@@ -2392,18 +2395,18 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(549); match(Identifier);
-			setState(554);
+			setState(561); match(Identifier);
+			setState(566);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==LBRACK) {
 				{
 				{
-				setState(550); match(LBRACK);
-				setState(551); match(RBRACK);
+				setState(562); match(LBRACK);
+				setState(563); match(RBRACK);
 				}
 				}
-				setState(556);
+				setState(568);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2421,12 +2424,12 @@ public class JavaParser extends Parser {
 	}
 
 	public static class VariableInitializerContext extends ParserRuleContext {
-		public ExpressionContext expression() {
-			return getRuleContext(ExpressionContext.class,0);
-		}
 		public ArrayInitializerContext arrayInitializer() {
 			return getRuleContext(ArrayInitializerContext.class,0);
 		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
 		public VariableInitializerContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2442,12 +2445,12 @@ public class JavaParser extends Parser {
 		VariableInitializerContext _localctx = new VariableInitializerContext(_ctx, getState());
 		enterRule(_localctx, 70, RULE_variableInitializer);
 		try {
-			setState(559);
+			setState(571);
 			switch (_input.LA(1)) {
 			case LBRACE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(557); arrayInitializer();
+				setState(569); arrayInitializer();
 				}
 				break;
 			case BOOLEAN:
@@ -2479,7 +2482,7 @@ public class JavaParser extends Parser {
 			case Identifier:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(558); expression(0);
+				setState(570); expression();
 				}
 				break;
 			default:
@@ -2498,12 +2501,12 @@ public class JavaParser extends Parser {
 	}
 
 	public static class ArrayInitializerContext extends ParserRuleContext {
-		public VariableInitializerContext variableInitializer(int i) {
-			return getRuleContext(VariableInitializerContext.class,i);
-		}
 		public List<VariableInitializerContext> variableInitializer() {
 			return getRuleContexts(VariableInitializerContext.class);
 		}
+		public VariableInitializerContext variableInitializer(int i) {
+			return getRuleContext(VariableInitializerContext.class,i);
+		}
 		public ArrayInitializerContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2523,40 +2526,40 @@ public class JavaParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(561); match(LBRACE);
-			setState(573);
+			setState(573); match(LBRACE);
+			setState(585);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN) | (1L << LBRACE))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)))) != 0)) {
 				{
-				setState(562); variableInitializer();
-				setState(567);
+				setState(574); variableInitializer();
+				setState(579);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,55,_ctx);
 				while ( _alt!=2 && _alt!=-1 ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(563); match(COMMA);
-						setState(564); variableInitializer();
+						setState(575); match(COMMA);
+						setState(576); variableInitializer();
 						}
 						} 
 					}
-					setState(569);
+					setState(581);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,55,_ctx);
 				}
-				setState(571);
+				setState(583);
 				_la = _input.LA(1);
 				if (_la==COMMA) {
 					{
-					setState(570); match(COMMA);
+					setState(582); match(COMMA);
 					}
 				}
 
 				}
 			}
 
-			setState(575); match(RBRACE);
+			setState(587); match(RBRACE);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2591,7 +2594,7 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(577); qualifiedName();
+			setState(589); qualifiedName();
 			}
 		}
 		catch (RecognitionException re) {
@@ -2624,7 +2627,7 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(579); match(Identifier);
+			setState(591); match(Identifier);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2659,7 +2662,7 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(581); qualifiedName();
+			setState(593); qualifiedName();
 			}
 		}
 		catch (RecognitionException re) {
@@ -2694,29 +2697,27 @@ public class JavaParser extends Parser {
 	public final TypeContext type() throws RecognitionException {
 		TypeContext _localctx = new TypeContext(_ctx, getState());
 		enterRule(_localctx, 80, RULE_type);
+		int _la;
 		try {
-			int _alt;
-			setState(599);
+			setState(611);
 			switch (_input.LA(1)) {
 			case Identifier:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(583); classOrInterfaceType();
-				setState(588);
+				setState(595); classOrInterfaceType();
+				setState(600);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,58,_ctx);
-				while ( _alt!=2 && _alt!=-1 ) {
-					if ( _alt==1 ) {
-						{
-						{
-						setState(584); match(LBRACK);
-						setState(585); match(RBRACK);
-						}
-						} 
+				_la = _input.LA(1);
+				while (_la==LBRACK) {
+					{
+					{
+					setState(596); match(LBRACK);
+					setState(597); match(RBRACK);
 					}
-					setState(590);
+					}
+					setState(602);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,58,_ctx);
+					_la = _input.LA(1);
 				}
 				}
 				break;
@@ -2730,22 +2731,20 @@ public class JavaParser extends Parser {
 			case SHORT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(591); primitiveType();
-				setState(596);
+				setState(603); primitiveType();
+				setState(608);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,59,_ctx);
-				while ( _alt!=2 && _alt!=-1 ) {
-					if ( _alt==1 ) {
-						{
-						{
-						setState(592); match(LBRACK);
-						setState(593); match(RBRACK);
-						}
-						} 
+				_la = _input.LA(1);
+				while (_la==LBRACK) {
+					{
+					{
+					setState(604); match(LBRACK);
+					setState(605); match(RBRACK);
 					}
-					setState(598);
+					}
+					setState(610);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,59,_ctx);
+					_la = _input.LA(1);
 				}
 				}
 				break;
@@ -2765,15 +2764,15 @@ public class JavaParser extends Parser {
 	}
 
 	public static class ClassOrInterfaceTypeContext extends ParserRuleContext {
-		public TypeArgumentsContext typeArguments(int i) {
-			return getRuleContext(TypeArgumentsContext.class,i);
+		public List<TypeArgumentsContext> typeArguments() {
+			return getRuleContexts(TypeArgumentsContext.class);
 		}
+		public List<TerminalNode> Identifier() { return getTokens(JavaParser.Identifier); }
 		public TerminalNode Identifier(int i) {
 			return getToken(JavaParser.Identifier, i);
 		}
-		public List<TerminalNode> Identifier() { return getTokens(JavaParser.Identifier); }
-		public List<TypeArgumentsContext> typeArguments() {
-			return getRuleContexts(TypeArgumentsContext.class);
+		public TypeArgumentsContext typeArguments(int i) {
+			return getRuleContext(TypeArgumentsContext.class,i);
 		}
 		public ClassOrInterfaceTypeContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -2789,42 +2788,40 @@ public class JavaParser extends Parser {
 	public final ClassOrInterfaceTypeContext classOrInterfaceType() throws RecognitionException {
 		ClassOrInterfaceTypeContext _localctx = new ClassOrInterfaceTypeContext(_ctx, getState());
 		enterRule(_localctx, 82, RULE_classOrInterfaceType);
+		int _la;
 		try {
-			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(601); match(Identifier);
-			setState(603);
-			switch ( getInterpreter().adaptivePredict(_input,61,_ctx) ) {
-			case 1:
+			setState(613); match(Identifier);
+			setState(615);
+			_la = _input.LA(1);
+			if (_la==LT) {
 				{
-				setState(602); typeArguments();
+				setState(614); typeArguments();
 				}
-				break;
 			}
-			setState(612);
+
+			setState(624);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,63,_ctx);
-			while ( _alt!=2 && _alt!=-1 ) {
-				if ( _alt==1 ) {
-					{
+			_la = _input.LA(1);
+			while (_la==DOT) {
+				{
+				{
+				setState(617); match(DOT);
+				setState(618); match(Identifier);
+				setState(620);
+				_la = _input.LA(1);
+				if (_la==LT) {
 					{
-					setState(605); match(DOT);
-					setState(606); match(Identifier);
-					setState(608);
-					switch ( getInterpreter().adaptivePredict(_input,62,_ctx) ) {
-					case 1:
-						{
-						setState(607); typeArguments();
-						}
-						break;
+					setState(619); typeArguments();
 					}
-					}
-					} 
 				}
-				setState(614);
+
+				}
+				}
+				setState(626);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,63,_ctx);
+				_la = _input.LA(1);
 			}
 			}
 		}
@@ -2858,7 +2855,7 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(615);
+			setState(627);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << SHORT))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -2902,23 +2899,23 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(617); match(LT);
-			setState(618); typeArgument();
-			setState(623);
+			setState(629); match(LT);
+			setState(630); typeArgument();
+			setState(635);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(619); match(COMMA);
-				setState(620); typeArgument();
+				setState(631); match(COMMA);
+				setState(632); typeArgument();
 				}
 				}
-				setState(625);
+				setState(637);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(626); match(GT);
+			setState(638); match(GT);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2952,7 +2949,7 @@ public class JavaParser extends Parser {
 		enterRule(_localctx, 88, RULE_typeArgument);
 		int _la;
 		try {
-			setState(634);
+			setState(646);
 			switch (_input.LA(1)) {
 			case BOOLEAN:
 			case BYTE:
@@ -2965,24 +2962,24 @@ public class JavaParser extends Parser {
 			case Identifier:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(628); type();
+				setState(640); type();
 				}
 				break;
 			case QUESTION:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(629); match(QUESTION);
-				setState(632);
+				setState(641); match(QUESTION);
+				setState(644);
 				_la = _input.LA(1);
 				if (_la==EXTENDS || _la==SUPER) {
 					{
-					setState(630);
+					setState(642);
 					_la = _input.LA(1);
 					if ( !(_la==EXTENDS || _la==SUPER) ) {
 					_errHandler.recoverInline(this);
 					}
 					consume();
-					setState(631); type();
+					setState(643); type();
 					}
 				}
 
@@ -3004,12 +3001,12 @@ public class JavaParser extends Parser {
 	}
 
 	public static class QualifiedNameListContext extends ParserRuleContext {
-		public QualifiedNameContext qualifiedName(int i) {
-			return getRuleContext(QualifiedNameContext.class,i);
-		}
 		public List<QualifiedNameContext> qualifiedName() {
 			return getRuleContexts(QualifiedNameContext.class);
 		}
+		public QualifiedNameContext qualifiedName(int i) {
+			return getRuleContext(QualifiedNameContext.class,i);
+		}
 		public QualifiedNameListContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3028,18 +3025,18 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(636); qualifiedName();
-			setState(641);
+			setState(648); qualifiedName();
+			setState(653);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(637); match(COMMA);
-				setState(638); qualifiedName();
+				setState(649); match(COMMA);
+				setState(650); qualifiedName();
 				}
 				}
-				setState(643);
+				setState(655);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3078,16 +3075,16 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(644); match(LPAREN);
-			setState(646);
+			setState(656); match(LPAREN);
+			setState(658);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << SHORT))) != 0) || _la==Identifier || _la==AT) {
 				{
-				setState(645); formalParameterList();
+				setState(657); formalParameterList();
 				}
 			}
 
-			setState(648); match(RPAREN);
+			setState(660); match(RPAREN);
 			}
 		}
 		catch (RecognitionException re) {
@@ -3128,34 +3125,34 @@ public class JavaParser extends Parser {
 		int _la;
 		try {
 			int _alt;
-			setState(663);
+			setState(675);
 			switch ( getInterpreter().adaptivePredict(_input,71,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(650); formalParameter();
-				setState(655);
+				setState(662); formalParameter();
+				setState(667);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,69,_ctx);
 				while ( _alt!=2 && _alt!=-1 ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(651); match(COMMA);
-						setState(652); formalParameter();
+						setState(663); match(COMMA);
+						setState(664); formalParameter();
 						}
 						} 
 					}
-					setState(657);
+					setState(669);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,69,_ctx);
 				}
-				setState(660);
+				setState(672);
 				_la = _input.LA(1);
 				if (_la==COMMA) {
 					{
-					setState(658); match(COMMA);
-					setState(659); lastFormalParameter();
+					setState(670); match(COMMA);
+					setState(671); lastFormalParameter();
 					}
 				}
 
@@ -3165,7 +3162,7 @@ public class JavaParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(662); lastFormalParameter();
+				setState(674); lastFormalParameter();
 				}
 				break;
 			}
@@ -3182,18 +3179,18 @@ public class JavaParser extends Parser {
 	}
 
 	public static class FormalParameterContext extends ParserRuleContext {
-		public List<VariableModifierContext> variableModifier() {
-			return getRuleContexts(VariableModifierContext.class);
-		}
 		public VariableModifierContext variableModifier(int i) {
 			return getRuleContext(VariableModifierContext.class,i);
 		}
-		public TypeContext type() {
-			return getRuleContext(TypeContext.class,0);
+		public List<VariableModifierContext> variableModifier() {
+			return getRuleContexts(VariableModifierContext.class);
 		}
 		public VariableDeclaratorIdContext variableDeclaratorId() {
 			return getRuleContext(VariableDeclaratorIdContext.class,0);
 		}
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
 		public FormalParameterContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3212,21 +3209,21 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(668);
+			setState(680);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==FINAL || _la==AT) {
 				{
 				{
-				setState(665); variableModifier();
+				setState(677); variableModifier();
 				}
 				}
-				setState(670);
+				setState(682);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(671); type();
-			setState(672); variableDeclaratorId();
+			setState(683); type();
+			setState(684); variableDeclaratorId();
 			}
 		}
 		catch (RecognitionException re) {
@@ -3241,18 +3238,18 @@ public class JavaParser extends Parser {
 	}
 
 	public static class LastFormalParameterContext extends ParserRuleContext {
-		public List<VariableModifierContext> variableModifier() {
-			return getRuleContexts(VariableModifierContext.class);
-		}
 		public VariableModifierContext variableModifier(int i) {
 			return getRuleContext(VariableModifierContext.class,i);
 		}
-		public TypeContext type() {
-			return getRuleContext(TypeContext.class,0);
+		public List<VariableModifierContext> variableModifier() {
+			return getRuleContexts(VariableModifierContext.class);
 		}
 		public VariableDeclaratorIdContext variableDeclaratorId() {
 			return getRuleContext(VariableDeclaratorIdContext.class,0);
 		}
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
 		public LastFormalParameterContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3271,22 +3268,22 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(677);
+			setState(689);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==FINAL || _la==AT) {
 				{
 				{
-				setState(674); variableModifier();
+				setState(686); variableModifier();
 				}
 				}
-				setState(679);
+				setState(691);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(680); type();
-			setState(681); match(ELLIPSIS);
-			setState(682); variableDeclaratorId();
+			setState(692); type();
+			setState(693); match(ELLIPSIS);
+			setState(694); variableDeclaratorId();
 			}
 		}
 		catch (RecognitionException re) {
@@ -3321,7 +3318,7 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(684); block();
+			setState(696); block();
 			}
 		}
 		catch (RecognitionException re) {
@@ -3356,7 +3353,7 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(686); block();
+			setState(698); block();
 			}
 		}
 		catch (RecognitionException re) {
@@ -3371,10 +3368,10 @@ public class JavaParser extends Parser {
 	}
 
 	public static class QualifiedNameContext extends ParserRuleContext {
+		public List<TerminalNode> Identifier() { return getTokens(JavaParser.Identifier); }
 		public TerminalNode Identifier(int i) {
 			return getToken(JavaParser.Identifier, i);
 		}
-		public List<TerminalNode> Identifier() { return getTokens(JavaParser.Identifier); }
 		public QualifiedNameContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3393,20 +3390,20 @@ public class JavaParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(688); match(Identifier);
-			setState(693);
+			setState(700); match(Identifier);
+			setState(705);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,74,_ctx);
 			while ( _alt!=2 && _alt!=-1 ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(689); match(DOT);
-					setState(690); match(Identifier);
+					setState(701); match(DOT);
+					setState(702); match(Identifier);
 					}
 					} 
 				}
-				setState(695);
+				setState(707);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,74,_ctx);
 			}
@@ -3424,11 +3421,11 @@ public class JavaParser extends Parser {
 	}
 
 	public static class LiteralContext extends ParserRuleContext {
-		public TerminalNode CharacterLiteral() { return getToken(JavaParser.CharacterLiteral, 0); }
-		public TerminalNode IntegerLiteral() { return getToken(JavaParser.IntegerLiteral, 0); }
 		public TerminalNode StringLiteral() { return getToken(JavaParser.StringLiteral, 0); }
+		public TerminalNode IntegerLiteral() { return getToken(JavaParser.IntegerLiteral, 0); }
 		public TerminalNode FloatingPointLiteral() { return getToken(JavaParser.FloatingPointLiteral, 0); }
 		public TerminalNode BooleanLiteral() { return getToken(JavaParser.BooleanLiteral, 0); }
+		public TerminalNode CharacterLiteral() { return getToken(JavaParser.CharacterLiteral, 0); }
 		public LiteralContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3447,7 +3444,7 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(696);
+			setState(708);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -3467,15 +3464,15 @@ public class JavaParser extends Parser {
 	}
 
 	public static class AnnotationContext extends ParserRuleContext {
-		public ElementValueContext elementValue() {
-			return getRuleContext(ElementValueContext.class,0);
-		}
 		public ElementValuePairsContext elementValuePairs() {
 			return getRuleContext(ElementValuePairsContext.class,0);
 		}
 		public AnnotationNameContext annotationName() {
 			return getRuleContext(AnnotationNameContext.class,0);
 		}
+		public ElementValueContext elementValue() {
+			return getRuleContext(ElementValueContext.class,0);
+		}
 		public AnnotationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3494,28 +3491,28 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(698); match(AT);
-			setState(699); annotationName();
-			setState(706);
+			setState(710); match(AT);
+			setState(711); annotationName();
+			setState(718);
 			_la = _input.LA(1);
 			if (_la==LPAREN) {
 				{
-				setState(700); match(LPAREN);
-				setState(703);
+				setState(712); match(LPAREN);
+				setState(715);
 				switch ( getInterpreter().adaptivePredict(_input,75,_ctx) ) {
 				case 1:
 					{
-					setState(701); elementValuePairs();
+					setState(713); elementValuePairs();
 					}
 					break;
 
 				case 2:
 					{
-					setState(702); elementValue();
+					setState(714); elementValue();
 					}
 					break;
 				}
-				setState(705); match(RPAREN);
+				setState(717); match(RPAREN);
 				}
 			}
 
@@ -3553,7 +3550,7 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(708); qualifiedName();
+			setState(720); qualifiedName();
 			}
 		}
 		catch (RecognitionException re) {
@@ -3568,12 +3565,12 @@ public class JavaParser extends Parser {
 	}
 
 	public static class ElementValuePairsContext extends ParserRuleContext {
-		public List<ElementValuePairContext> elementValuePair() {
-			return getRuleContexts(ElementValuePairContext.class);
-		}
 		public ElementValuePairContext elementValuePair(int i) {
 			return getRuleContext(ElementValuePairContext.class,i);
 		}
+		public List<ElementValuePairContext> elementValuePair() {
+			return getRuleContexts(ElementValuePairContext.class);
+		}
 		public ElementValuePairsContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3592,18 +3589,18 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(710); elementValuePair();
-			setState(715);
+			setState(722); elementValuePair();
+			setState(727);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(711); match(COMMA);
-				setState(712); elementValuePair();
+				setState(723); match(COMMA);
+				setState(724); elementValuePair();
 				}
 				}
-				setState(717);
+				setState(729);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3621,10 +3618,10 @@ public class JavaParser extends Parser {
 	}
 
 	public static class ElementValuePairContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public ElementValueContext elementValue() {
 			return getRuleContext(ElementValueContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public ElementValuePairContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3642,9 +3639,9 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(718); match(Identifier);
-			setState(719); match(ASSIGN);
-			setState(720); elementValue();
+			setState(730); match(Identifier);
+			setState(731); match(ASSIGN);
+			setState(732); elementValue();
 			}
 		}
 		catch (RecognitionException re) {
@@ -3659,15 +3656,15 @@ public class JavaParser extends Parser {
 	}
 
 	public static class ElementValueContext extends ParserRuleContext {
+		public ConditionalExpressionContext conditionalExpression() {
+			return getRuleContext(ConditionalExpressionContext.class,0);
+		}
 		public ElementValueArrayInitializerContext elementValueArrayInitializer() {
 			return getRuleContext(ElementValueArrayInitializerContext.class,0);
 		}
 		public AnnotationContext annotation() {
 			return getRuleContext(AnnotationContext.class,0);
 		}
-		public ExpressionContext expression() {
-			return getRuleContext(ExpressionContext.class,0);
-		}
 		public ElementValueContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3683,7 +3680,7 @@ public class JavaParser extends Parser {
 		ElementValueContext _localctx = new ElementValueContext(_ctx, getState());
 		enterRule(_localctx, 116, RULE_elementValue);
 		try {
-			setState(725);
+			setState(737);
 			switch (_input.LA(1)) {
 			case BOOLEAN:
 			case BYTE:
@@ -3714,19 +3711,19 @@ public class JavaParser extends Parser {
 			case Identifier:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(722); expression(0);
+				setState(734); conditionalExpression();
 				}
 				break;
 			case AT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(723); annotation();
+				setState(735); annotation();
 				}
 				break;
 			case LBRACE:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(724); elementValueArrayInitializer();
+				setState(736); elementValueArrayInitializer();
 				}
 				break;
 			default:
@@ -3770,40 +3767,40 @@ public class JavaParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(727); match(LBRACE);
-			setState(736);
+			setState(739); match(LBRACE);
+			setState(748);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN) | (1L << LBRACE))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
 				{
-				setState(728); elementValue();
-				setState(733);
+				setState(740); elementValue();
+				setState(745);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,79,_ctx);
 				while ( _alt!=2 && _alt!=-1 ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(729); match(COMMA);
-						setState(730); elementValue();
+						setState(741); match(COMMA);
+						setState(742); elementValue();
 						}
 						} 
 					}
-					setState(735);
+					setState(747);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,79,_ctx);
 				}
 				}
 			}
 
-			setState(739);
+			setState(751);
 			_la = _input.LA(1);
 			if (_la==COMMA) {
 				{
-				setState(738); match(COMMA);
+				setState(750); match(COMMA);
 				}
 			}
 
-			setState(741); match(RBRACE);
+			setState(753); match(RBRACE);
 			}
 		}
 		catch (RecognitionException re) {
@@ -3818,10 +3815,10 @@ public class JavaParser extends Parser {
 	}
 
 	public static class AnnotationTypeDeclarationContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public AnnotationTypeBodyContext annotationTypeBody() {
 			return getRuleContext(AnnotationTypeBodyContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public AnnotationTypeDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3839,10 +3836,10 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(743); match(AT);
-			setState(744); match(INTERFACE);
-			setState(745); match(Identifier);
-			setState(746); annotationTypeBody();
+			setState(755); match(AT);
+			setState(756); match(INTERFACE);
+			setState(757); match(Identifier);
+			setState(758); annotationTypeBody();
 			}
 		}
 		catch (RecognitionException re) {
@@ -3881,21 +3878,21 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(748); match(LBRACE);
-			setState(752);
+			setState(760); match(LBRACE);
+			setState(764);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NATIVE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SYNCHRONIZED) | (1L << TRANSIENT) | (1L << VOLATILE) | (1L << SEMI))) != 0) || _la==Identifier || _la==AT) {
 				{
 				{
-				setState(749); annotationTypeElementDeclaration();
+				setState(761); annotationTypeElementDeclaration();
 				}
 				}
-				setState(754);
+				setState(766);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(755); match(RBRACE);
+			setState(767); match(RBRACE);
 			}
 		}
 		catch (RecognitionException re) {
@@ -3935,7 +3932,7 @@ public class JavaParser extends Parser {
 		enterRule(_localctx, 124, RULE_annotationTypeElementDeclaration);
 		try {
 			int _alt;
-			setState(765);
+			setState(777);
 			switch (_input.LA(1)) {
 			case ABSTRACT:
 			case BOOLEAN:
@@ -3963,28 +3960,28 @@ public class JavaParser extends Parser {
 			case AT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(760);
+				setState(772);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,83,_ctx);
 				while ( _alt!=2 && _alt!=-1 ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(757); modifier();
+						setState(769); modifier();
 						}
 						} 
 					}
-					setState(762);
+					setState(774);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,83,_ctx);
 				}
-				setState(763); annotationTypeElementRest();
+				setState(775); annotationTypeElementRest();
 				}
 				break;
 			case SEMI:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(764); match(SEMI);
+				setState(776); match(SEMI);
 				}
 				break;
 			default:
@@ -4003,23 +4000,23 @@ public class JavaParser extends Parser {
 	}
 
 	public static class AnnotationTypeElementRestContext extends ParserRuleContext {
-		public InterfaceDeclarationContext interfaceDeclaration() {
-			return getRuleContext(InterfaceDeclarationContext.class,0);
+		public EnumDeclarationContext enumDeclaration() {
+			return getRuleContext(EnumDeclarationContext.class,0);
 		}
-		public AnnotationTypeDeclarationContext annotationTypeDeclaration() {
-			return getRuleContext(AnnotationTypeDeclarationContext.class,0);
+		public ClassDeclarationContext classDeclaration() {
+			return getRuleContext(ClassDeclarationContext.class,0);
 		}
 		public AnnotationMethodOrConstantRestContext annotationMethodOrConstantRest() {
 			return getRuleContext(AnnotationMethodOrConstantRestContext.class,0);
 		}
-		public TypeContext type() {
-			return getRuleContext(TypeContext.class,0);
+		public AnnotationTypeDeclarationContext annotationTypeDeclaration() {
+			return getRuleContext(AnnotationTypeDeclarationContext.class,0);
 		}
-		public EnumDeclarationContext enumDeclaration() {
-			return getRuleContext(EnumDeclarationContext.class,0);
+		public InterfaceDeclarationContext interfaceDeclaration() {
+			return getRuleContext(InterfaceDeclarationContext.class,0);
 		}
-		public ClassDeclarationContext classDeclaration() {
-			return getRuleContext(ClassDeclarationContext.class,0);
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
 		}
 		public AnnotationTypeElementRestContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -4036,7 +4033,7 @@ public class JavaParser extends Parser {
 		AnnotationTypeElementRestContext _localctx = new AnnotationTypeElementRestContext(_ctx, getState());
 		enterRule(_localctx, 126, RULE_annotationTypeElementRest);
 		try {
-			setState(787);
+			setState(799);
 			switch (_input.LA(1)) {
 			case BOOLEAN:
 			case BYTE:
@@ -4049,20 +4046,20 @@ public class JavaParser extends Parser {
 			case Identifier:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(767); type();
-				setState(768); annotationMethodOrConstantRest();
-				setState(769); match(SEMI);
+				setState(779); type();
+				setState(780); annotationMethodOrConstantRest();
+				setState(781); match(SEMI);
 				}
 				break;
 			case CLASS:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(771); classDeclaration();
-				setState(773);
+				setState(783); classDeclaration();
+				setState(785);
 				switch ( getInterpreter().adaptivePredict(_input,85,_ctx) ) {
 				case 1:
 					{
-					setState(772); match(SEMI);
+					setState(784); match(SEMI);
 					}
 					break;
 				}
@@ -4071,12 +4068,12 @@ public class JavaParser extends Parser {
 			case INTERFACE:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(775); interfaceDeclaration();
-				setState(777);
+				setState(787); interfaceDeclaration();
+				setState(789);
 				switch ( getInterpreter().adaptivePredict(_input,86,_ctx) ) {
 				case 1:
 					{
-					setState(776); match(SEMI);
+					setState(788); match(SEMI);
 					}
 					break;
 				}
@@ -4085,12 +4082,12 @@ public class JavaParser extends Parser {
 			case ENUM:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(779); enumDeclaration();
-				setState(781);
+				setState(791); enumDeclaration();
+				setState(793);
 				switch ( getInterpreter().adaptivePredict(_input,87,_ctx) ) {
 				case 1:
 					{
-					setState(780); match(SEMI);
+					setState(792); match(SEMI);
 					}
 					break;
 				}
@@ -4099,12 +4096,12 @@ public class JavaParser extends Parser {
 			case AT:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(783); annotationTypeDeclaration();
-				setState(785);
+				setState(795); annotationTypeDeclaration();
+				setState(797);
 				switch ( getInterpreter().adaptivePredict(_input,88,_ctx) ) {
 				case 1:
 					{
-					setState(784); match(SEMI);
+					setState(796); match(SEMI);
 					}
 					break;
 				}
@@ -4126,12 +4123,12 @@ public class JavaParser extends Parser {
 	}
 
 	public static class AnnotationMethodOrConstantRestContext extends ParserRuleContext {
-		public AnnotationConstantRestContext annotationConstantRest() {
-			return getRuleContext(AnnotationConstantRestContext.class,0);
-		}
 		public AnnotationMethodRestContext annotationMethodRest() {
 			return getRuleContext(AnnotationMethodRestContext.class,0);
 		}
+		public AnnotationConstantRestContext annotationConstantRest() {
+			return getRuleContext(AnnotationConstantRestContext.class,0);
+		}
 		public AnnotationMethodOrConstantRestContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -4147,19 +4144,19 @@ public class JavaParser extends Parser {
 		AnnotationMethodOrConstantRestContext _localctx = new AnnotationMethodOrConstantRestContext(_ctx, getState());
 		enterRule(_localctx, 128, RULE_annotationMethodOrConstantRest);
 		try {
-			setState(791);
+			setState(803);
 			switch ( getInterpreter().adaptivePredict(_input,90,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(789); annotationMethodRest();
+				setState(801); annotationMethodRest();
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(790); annotationConstantRest();
+				setState(802); annotationConstantRest();
 				}
 				break;
 			}
@@ -4176,10 +4173,10 @@ public class JavaParser extends Parser {
 	}
 
 	public static class AnnotationMethodRestContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public DefaultValueContext defaultValue() {
 			return getRuleContext(DefaultValueContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public AnnotationMethodRestContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -4198,14 +4195,14 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(793); match(Identifier);
-			setState(794); match(LPAREN);
-			setState(795); match(RPAREN);
-			setState(797);
+			setState(805); match(Identifier);
+			setState(806); match(LPAREN);
+			setState(807); match(RPAREN);
+			setState(809);
 			_la = _input.LA(1);
 			if (_la==DEFAULT) {
 				{
-				setState(796); defaultValue();
+				setState(808); defaultValue();
 				}
 			}
 
@@ -4243,7 +4240,7 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(799); variableDeclarators();
+			setState(811); variableDeclarators();
 			}
 		}
 		catch (RecognitionException re) {
@@ -4278,8 +4275,8 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(801); match(DEFAULT);
-			setState(802); elementValue();
+			setState(813); match(DEFAULT);
+			setState(814); elementValue();
 			}
 		}
 		catch (RecognitionException re) {
@@ -4318,21 +4315,21 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(804); match(LBRACE);
-			setState(808);
+			setState(816); match(LBRACE);
+			setState(820);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << ASSERT) | (1L << BOOLEAN) | (1L << BREAK) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << CONTINUE) | (1L << DO) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << FOR) | (1L << IF) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NEW) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << RETURN) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SUPER) | (1L << SWITCH) | (1L << SYNCHRONIZED) | (1L << THIS) | (1L << THROW) | (1L << TRY) | (1L << VOID) | (1L << WHILE) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
 				{
 				{
-				setState(805); blockStatement();
+				setState(817); blockStatement();
 				}
 				}
-				setState(810);
+				setState(822);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(811); match(RBRACE);
+			setState(823); match(RBRACE);
 			}
 		}
 		catch (RecognitionException re) {
@@ -4347,12 +4344,12 @@ public class JavaParser extends Parser {
 	}
 
 	public static class BlockStatementContext extends ParserRuleContext {
-		public StatementContext statement() {
-			return getRuleContext(StatementContext.class,0);
-		}
 		public TypeDeclarationContext typeDeclaration() {
 			return getRuleContext(TypeDeclarationContext.class,0);
 		}
+		public StatementContext statement() {
+			return getRuleContext(StatementContext.class,0);
+		}
 		public LocalVariableDeclarationStatementContext localVariableDeclarationStatement() {
 			return getRuleContext(LocalVariableDeclarationStatementContext.class,0);
 		}
@@ -4371,26 +4368,26 @@ public class JavaParser extends Parser {
 		BlockStatementContext _localctx = new BlockStatementContext(_ctx, getState());
 		enterRule(_localctx, 138, RULE_blockStatement);
 		try {
-			setState(816);
+			setState(828);
 			switch ( getInterpreter().adaptivePredict(_input,93,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(813); localVariableDeclarationStatement();
+				setState(825); localVariableDeclarationStatement();
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(814); statement();
+				setState(826); statement();
 				}
 				break;
 
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(815); typeDeclaration();
+				setState(827); typeDeclaration();
 				}
 				break;
 			}
@@ -4427,8 +4424,8 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(818); localVariableDeclaration();
-			setState(819); match(SEMI);
+			setState(830); localVariableDeclaration();
+			setState(831); match(SEMI);
 			}
 		}
 		catch (RecognitionException re) {
@@ -4443,15 +4440,15 @@ public class JavaParser extends Parser {
 	}
 
 	public static class LocalVariableDeclarationContext extends ParserRuleContext {
+		public VariableModifierContext variableModifier(int i) {
+			return getRuleContext(VariableModifierContext.class,i);
+		}
 		public List<VariableModifierContext> variableModifier() {
 			return getRuleContexts(VariableModifierContext.class);
 		}
 		public VariableDeclaratorsContext variableDeclarators() {
 			return getRuleContext(VariableDeclaratorsContext.class,0);
 		}
-		public VariableModifierContext variableModifier(int i) {
-			return getRuleContext(VariableModifierContext.class,i);
-		}
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
@@ -4473,21 +4470,21 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(824);
+			setState(836);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==FINAL || _la==AT) {
 				{
 				{
-				setState(821); variableModifier();
+				setState(833); variableModifier();
 				}
 				}
-				setState(826);
+				setState(838);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(827); type();
-			setState(828); variableDeclarators();
+			setState(839); type();
+			setState(840); variableDeclarators();
 			}
 		}
 		catch (RecognitionException re) {
@@ -4502,56 +4499,56 @@ public class JavaParser extends Parser {
 	}
 
 	public static class StatementContext extends ParserRuleContext {
-		public List<StatementContext> statement() {
-			return getRuleContexts(StatementContext.class);
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
 		}
-		public SwitchLabelContext switchLabel(int i) {
-			return getRuleContext(SwitchLabelContext.class,i);
+		public StatementExpressionContext statementExpression() {
+			return getRuleContext(StatementExpressionContext.class,0);
 		}
-		public ForControlContext forControl() {
-			return getRuleContext(ForControlContext.class,0);
+		public StatementContext statement(int i) {
+			return getRuleContext(StatementContext.class,i);
 		}
 		public List<SwitchLabelContext> switchLabel() {
 			return getRuleContexts(SwitchLabelContext.class);
 		}
+		public List<SwitchBlockStatementGroupContext> switchBlockStatementGroup() {
+			return getRuleContexts(SwitchBlockStatementGroupContext.class);
+		}
 		public ParExpressionContext parExpression() {
 			return getRuleContext(ParExpressionContext.class,0);
 		}
-		public ResourceSpecificationContext resourceSpecification() {
-			return getRuleContext(ResourceSpecificationContext.class,0);
-		}
-		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
-		public List<ExpressionContext> expression() {
-			return getRuleContexts(ExpressionContext.class);
+		public List<CatchClauseContext> catchClause() {
+			return getRuleContexts(CatchClauseContext.class);
 		}
 		public CatchClauseContext catchClause(int i) {
 			return getRuleContext(CatchClauseContext.class,i);
 		}
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public FinallyBlockContext finallyBlock() {
 			return getRuleContext(FinallyBlockContext.class,0);
 		}
-		public ExpressionContext expression(int i) {
-			return getRuleContext(ExpressionContext.class,i);
-		}
 		public SwitchBlockStatementGroupContext switchBlockStatementGroup(int i) {
 			return getRuleContext(SwitchBlockStatementGroupContext.class,i);
 		}
-		public StatementExpressionContext statementExpression() {
-			return getRuleContext(StatementExpressionContext.class,0);
+		public ForControlContext forControl() {
+			return getRuleContext(ForControlContext.class,0);
 		}
-		public List<CatchClauseContext> catchClause() {
-			return getRuleContexts(CatchClauseContext.class);
+		public TerminalNode ASSERT() { return getToken(JavaParser.ASSERT, 0); }
+		public ResourceSpecificationContext resourceSpecification() {
+			return getRuleContext(ResourceSpecificationContext.class,0);
+		}
+		public List<StatementContext> statement() {
+			return getRuleContexts(StatementContext.class);
 		}
 		public BlockContext block() {
 			return getRuleContext(BlockContext.class,0);
 		}
-		public StatementContext statement(int i) {
-			return getRuleContext(StatementContext.class,i);
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
 		}
-		public List<SwitchBlockStatementGroupContext> switchBlockStatementGroup() {
-			return getRuleContexts(SwitchBlockStatementGroupContext.class);
+		public SwitchLabelContext switchLabel(int i) {
+			return getRuleContext(SwitchLabelContext.class,i);
 		}
-		public TerminalNode ASSERT() { return getToken(JavaParser.ASSERT, 0); }
 		public StatementContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -4569,45 +4566,45 @@ public class JavaParser extends Parser {
 		int _la;
 		try {
 			int _alt;
-			setState(934);
+			setState(946);
 			switch ( getInterpreter().adaptivePredict(_input,107,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(830); block();
+				setState(842); block();
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(831); match(ASSERT);
-				setState(832); expression(0);
-				setState(835);
+				setState(843); match(ASSERT);
+				setState(844); expression();
+				setState(847);
 				_la = _input.LA(1);
 				if (_la==COLON) {
 					{
-					setState(833); match(COLON);
-					setState(834); expression(0);
+					setState(845); match(COLON);
+					setState(846); expression();
 					}
 				}
 
-				setState(837); match(SEMI);
+				setState(849); match(SEMI);
 				}
 				break;
 
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(839); match(IF);
-				setState(840); parExpression();
-				setState(841); statement();
-				setState(844);
+				setState(851); match(IF);
+				setState(852); parExpression();
+				setState(853); statement();
+				setState(856);
 				switch ( getInterpreter().adaptivePredict(_input,96,_ctx) ) {
 				case 1:
 					{
-					setState(842); match(ELSE);
-					setState(843); statement();
+					setState(854); match(ELSE);
+					setState(855); statement();
 					}
 					break;
 				}
@@ -4617,61 +4614,61 @@ public class JavaParser extends Parser {
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(846); match(FOR);
-				setState(847); match(LPAREN);
-				setState(848); forControl();
-				setState(849); match(RPAREN);
-				setState(850); statement();
+				setState(858); match(FOR);
+				setState(859); match(LPAREN);
+				setState(860); forControl();
+				setState(861); match(RPAREN);
+				setState(862); statement();
 				}
 				break;
 
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(852); match(WHILE);
-				setState(853); parExpression();
-				setState(854); statement();
+				setState(864); match(WHILE);
+				setState(865); parExpression();
+				setState(866); statement();
 				}
 				break;
 
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(856); match(DO);
-				setState(857); statement();
-				setState(858); match(WHILE);
-				setState(859); parExpression();
-				setState(860); match(SEMI);
+				setState(868); match(DO);
+				setState(869); statement();
+				setState(870); match(WHILE);
+				setState(871); parExpression();
+				setState(872); match(SEMI);
 				}
 				break;
 
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(862); match(TRY);
-				setState(863); block();
-				setState(873);
+				setState(874); match(TRY);
+				setState(875); block();
+				setState(885);
 				switch (_input.LA(1)) {
 				case CATCH:
 					{
-					setState(865); 
+					setState(877); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					do {
 						{
 						{
-						setState(864); catchClause();
+						setState(876); catchClause();
 						}
 						}
-						setState(867); 
+						setState(879); 
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					} while ( _la==CATCH );
-					setState(870);
+					setState(882);
 					_la = _input.LA(1);
 					if (_la==FINALLY) {
 						{
-						setState(869); finallyBlock();
+						setState(881); finallyBlock();
 						}
 					}
 
@@ -4679,7 +4676,7 @@ public class JavaParser extends Parser {
 					break;
 				case FINALLY:
 					{
-					setState(872); finallyBlock();
+					setState(884); finallyBlock();
 					}
 					break;
 				default:
@@ -4691,27 +4688,27 @@ public class JavaParser extends Parser {
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(875); match(TRY);
-				setState(876); resourceSpecification();
-				setState(877); block();
-				setState(881);
+				setState(887); match(TRY);
+				setState(888); resourceSpecification();
+				setState(889); block();
+				setState(893);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==CATCH) {
 					{
 					{
-					setState(878); catchClause();
+					setState(890); catchClause();
 					}
 					}
-					setState(883);
+					setState(895);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(885);
+				setState(897);
 				_la = _input.LA(1);
 				if (_la==FINALLY) {
 					{
-					setState(884); finallyBlock();
+					setState(896); finallyBlock();
 					}
 				}
 
@@ -4721,128 +4718,128 @@ public class JavaParser extends Parser {
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(887); match(SWITCH);
-				setState(888); parExpression();
-				setState(889); match(LBRACE);
-				setState(893);
+				setState(899); match(SWITCH);
+				setState(900); parExpression();
+				setState(901); match(LBRACE);
+				setState(905);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,102,_ctx);
 				while ( _alt!=2 && _alt!=-1 ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(890); switchBlockStatementGroup();
+						setState(902); switchBlockStatementGroup();
 						}
 						} 
 					}
-					setState(895);
+					setState(907);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,102,_ctx);
 				}
-				setState(899);
+				setState(911);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==CASE || _la==DEFAULT) {
 					{
 					{
-					setState(896); switchLabel();
+					setState(908); switchLabel();
 					}
 					}
-					setState(901);
+					setState(913);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(902); match(RBRACE);
+				setState(914); match(RBRACE);
 				}
 				break;
 
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(904); match(SYNCHRONIZED);
-				setState(905); parExpression();
-				setState(906); block();
+				setState(916); match(SYNCHRONIZED);
+				setState(917); parExpression();
+				setState(918); block();
 				}
 				break;
 
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(908); match(RETURN);
-				setState(910);
+				setState(920); match(RETURN);
+				setState(922);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)))) != 0)) {
 					{
-					setState(909); expression(0);
+					setState(921); expression();
 					}
 				}
 
-				setState(912); match(SEMI);
+				setState(924); match(SEMI);
 				}
 				break;
 
 			case 12:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(913); match(THROW);
-				setState(914); expression(0);
-				setState(915); match(SEMI);
+				setState(925); match(THROW);
+				setState(926); expression();
+				setState(927); match(SEMI);
 				}
 				break;
 
 			case 13:
 				enterOuterAlt(_localctx, 13);
 				{
-				setState(917); match(BREAK);
-				setState(919);
+				setState(929); match(BREAK);
+				setState(931);
 				_la = _input.LA(1);
 				if (_la==Identifier) {
 					{
-					setState(918); match(Identifier);
+					setState(930); match(Identifier);
 					}
 				}
 
-				setState(921); match(SEMI);
+				setState(933); match(SEMI);
 				}
 				break;
 
 			case 14:
 				enterOuterAlt(_localctx, 14);
 				{
-				setState(922); match(CONTINUE);
-				setState(924);
+				setState(934); match(CONTINUE);
+				setState(936);
 				_la = _input.LA(1);
 				if (_la==Identifier) {
 					{
-					setState(923); match(Identifier);
+					setState(935); match(Identifier);
 					}
 				}
 
-				setState(926); match(SEMI);
+				setState(938); match(SEMI);
 				}
 				break;
 
 			case 15:
 				enterOuterAlt(_localctx, 15);
 				{
-				setState(927); match(SEMI);
+				setState(939); match(SEMI);
 				}
 				break;
 
 			case 16:
 				enterOuterAlt(_localctx, 16);
 				{
-				setState(928); statementExpression();
-				setState(929); match(SEMI);
+				setState(940); statementExpression();
+				setState(941); match(SEMI);
 				}
 				break;
 
 			case 17:
 				enterOuterAlt(_localctx, 17);
 				{
-				setState(931); match(Identifier);
-				setState(932); match(COLON);
-				setState(933); statement();
+				setState(943); match(Identifier);
+				setState(944); match(COLON);
+				setState(945); statement();
 				}
 				break;
 			}
@@ -4859,19 +4856,19 @@ public class JavaParser extends Parser {
 	}
 
 	public static class CatchClauseContext extends ParserRuleContext {
-		public List<VariableModifierContext> variableModifier() {
-			return getRuleContexts(VariableModifierContext.class);
+		public CatchTypeContext catchType() {
+			return getRuleContext(CatchTypeContext.class,0);
 		}
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public VariableModifierContext variableModifier(int i) {
 			return getRuleContext(VariableModifierContext.class,i);
 		}
-		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public List<VariableModifierContext> variableModifier() {
+			return getRuleContexts(VariableModifierContext.class);
+		}
 		public BlockContext block() {
 			return getRuleContext(BlockContext.class,0);
 		}
-		public CatchTypeContext catchType() {
-			return getRuleContext(CatchTypeContext.class,0);
-		}
 		public CatchClauseContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -4890,25 +4887,25 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(936); match(CATCH);
-			setState(937); match(LPAREN);
-			setState(941);
+			setState(948); match(CATCH);
+			setState(949); match(LPAREN);
+			setState(953);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==FINAL || _la==AT) {
 				{
 				{
-				setState(938); variableModifier();
+				setState(950); variableModifier();
 				}
 				}
-				setState(943);
+				setState(955);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(944); catchType();
-			setState(945); match(Identifier);
-			setState(946); match(RPAREN);
-			setState(947); block();
+			setState(956); catchType();
+			setState(957); match(Identifier);
+			setState(958); match(RPAREN);
+			setState(959); block();
 			}
 		}
 		catch (RecognitionException re) {
@@ -4923,12 +4920,12 @@ public class JavaParser extends Parser {
 	}
 
 	public static class CatchTypeContext extends ParserRuleContext {
-		public QualifiedNameContext qualifiedName(int i) {
-			return getRuleContext(QualifiedNameContext.class,i);
-		}
 		public List<QualifiedNameContext> qualifiedName() {
 			return getRuleContexts(QualifiedNameContext.class);
 		}
+		public QualifiedNameContext qualifiedName(int i) {
+			return getRuleContext(QualifiedNameContext.class,i);
+		}
 		public CatchTypeContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -4947,18 +4944,18 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(949); qualifiedName();
-			setState(954);
+			setState(961); qualifiedName();
+			setState(966);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==BITOR) {
 				{
 				{
-				setState(950); match(BITOR);
-				setState(951); qualifiedName();
+				setState(962); match(BITOR);
+				setState(963); qualifiedName();
 				}
 				}
-				setState(956);
+				setState(968);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -4996,8 +4993,8 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(957); match(FINALLY);
-			setState(958); block();
+			setState(969); match(FINALLY);
+			setState(970); block();
 			}
 		}
 		catch (RecognitionException re) {
@@ -5033,17 +5030,17 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(960); match(LPAREN);
-			setState(961); resources();
-			setState(963);
+			setState(972); match(LPAREN);
+			setState(973); resources();
+			setState(975);
 			_la = _input.LA(1);
 			if (_la==SEMI) {
 				{
-				setState(962); match(SEMI);
+				setState(974); match(SEMI);
 				}
 			}
 
-			setState(965); match(RPAREN);
+			setState(977); match(RPAREN);
 			}
 		}
 		catch (RecognitionException re) {
@@ -5058,12 +5055,12 @@ public class JavaParser extends Parser {
 	}
 
 	public static class ResourcesContext extends ParserRuleContext {
-		public List<ResourceContext> resource() {
-			return getRuleContexts(ResourceContext.class);
-		}
 		public ResourceContext resource(int i) {
 			return getRuleContext(ResourceContext.class,i);
 		}
+		public List<ResourceContext> resource() {
+			return getRuleContexts(ResourceContext.class);
+		}
 		public ResourcesContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5082,20 +5079,20 @@ public class JavaParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(967); resource();
-			setState(972);
+			setState(979); resource();
+			setState(984);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,111,_ctx);
 			while ( _alt!=2 && _alt!=-1 ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(968); match(SEMI);
-					setState(969); resource();
+					setState(980); match(SEMI);
+					setState(981); resource();
 					}
 					} 
 				}
-				setState(974);
+				setState(986);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,111,_ctx);
 			}
@@ -5113,20 +5110,20 @@ public class JavaParser extends Parser {
 	}
 
 	public static class ResourceContext extends ParserRuleContext {
-		public List<VariableModifierContext> variableModifier() {
-			return getRuleContexts(VariableModifierContext.class);
-		}
 		public VariableModifierContext variableModifier(int i) {
 			return getRuleContext(VariableModifierContext.class,i);
 		}
-		public ExpressionContext expression() {
-			return getRuleContext(ExpressionContext.class,0);
+		public List<VariableModifierContext> variableModifier() {
+			return getRuleContexts(VariableModifierContext.class);
+		}
+		public ClassOrInterfaceTypeContext classOrInterfaceType() {
+			return getRuleContext(ClassOrInterfaceTypeContext.class,0);
 		}
 		public VariableDeclaratorIdContext variableDeclaratorId() {
 			return getRuleContext(VariableDeclaratorIdContext.class,0);
 		}
-		public ClassOrInterfaceTypeContext classOrInterfaceType() {
-			return getRuleContext(ClassOrInterfaceTypeContext.class,0);
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
 		}
 		public ResourceContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -5146,23 +5143,23 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(978);
+			setState(990);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==FINAL || _la==AT) {
 				{
 				{
-				setState(975); variableModifier();
+				setState(987); variableModifier();
 				}
 				}
-				setState(980);
+				setState(992);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(981); classOrInterfaceType();
-			setState(982); variableDeclaratorId();
-			setState(983); match(ASSIGN);
-			setState(984); expression(0);
+			setState(993); classOrInterfaceType();
+			setState(994); variableDeclaratorId();
+			setState(995); match(ASSIGN);
+			setState(996); expression();
 			}
 		}
 		catch (RecognitionException re) {
@@ -5180,15 +5177,15 @@ public class JavaParser extends Parser {
 		public List<BlockStatementContext> blockStatement() {
 			return getRuleContexts(BlockStatementContext.class);
 		}
-		public SwitchLabelContext switchLabel(int i) {
-			return getRuleContext(SwitchLabelContext.class,i);
-		}
 		public List<SwitchLabelContext> switchLabel() {
 			return getRuleContexts(SwitchLabelContext.class);
 		}
 		public BlockStatementContext blockStatement(int i) {
 			return getRuleContext(BlockStatementContext.class,i);
 		}
+		public SwitchLabelContext switchLabel(int i) {
+			return getRuleContext(SwitchLabelContext.class,i);
+		}
 		public SwitchBlockStatementGroupContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5207,29 +5204,29 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(987); 
+			setState(999); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(986); switchLabel();
+				setState(998); switchLabel();
 				}
 				}
-				setState(989); 
+				setState(1001); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==CASE || _la==DEFAULT );
-			setState(992); 
+			setState(1004); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(991); blockStatement();
+				setState(1003); blockStatement();
 				}
 				}
-				setState(994); 
+				setState(1006); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << ASSERT) | (1L << BOOLEAN) | (1L << BREAK) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << CONTINUE) | (1L << DO) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << FOR) | (1L << IF) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NEW) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << RETURN) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SUPER) | (1L << SWITCH) | (1L << SYNCHRONIZED) | (1L << THIS) | (1L << THROW) | (1L << TRY) | (1L << VOID) | (1L << WHILE) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0) );
@@ -5250,9 +5247,6 @@ public class JavaParser extends Parser {
 		public ConstantExpressionContext constantExpression() {
 			return getRuleContext(ConstantExpressionContext.class,0);
 		}
-		public EnumConstantNameContext enumConstantName() {
-			return getRuleContext(EnumConstantNameContext.class,0);
-		}
 		public SwitchLabelContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5268,33 +5262,25 @@ public class JavaParser extends Parser {
 		SwitchLabelContext _localctx = new SwitchLabelContext(_ctx, getState());
 		enterRule(_localctx, 160, RULE_switchLabel);
 		try {
-			setState(1006);
-			switch ( getInterpreter().adaptivePredict(_input,115,_ctx) ) {
-			case 1:
+			setState(1014);
+			switch (_input.LA(1)) {
+			case CASE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(996); match(CASE);
-				setState(997); constantExpression();
-				setState(998); match(COLON);
+				setState(1008); match(CASE);
+				setState(1009); constantExpression();
+				setState(1010); match(COLON);
 				}
 				break;
-
-			case 2:
+			case DEFAULT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1000); match(CASE);
-				setState(1001); enumConstantName();
-				setState(1002); match(COLON);
-				}
-				break;
-
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(1004); match(DEFAULT);
-				setState(1005); match(COLON);
+				setState(1012); match(DEFAULT);
+				setState(1013); match(COLON);
 				}
 				break;
+			default:
+				throw new NoViableAltException(this);
 			}
 		}
 		catch (RecognitionException re) {
@@ -5309,6 +5295,9 @@ public class JavaParser extends Parser {
 	}
 
 	public static class ForControlContext extends ParserRuleContext {
+		public ForUpdateContext forUpdate() {
+			return getRuleContext(ForUpdateContext.class,0);
+		}
 		public ForInitContext forInit() {
 			return getRuleContext(ForInitContext.class,0);
 		}
@@ -5318,9 +5307,6 @@ public class JavaParser extends Parser {
 		public ExpressionContext expression() {
 			return getRuleContext(ExpressionContext.class,0);
 		}
-		public ForUpdateContext forUpdate() {
-			return getRuleContext(ForUpdateContext.class,0);
-		}
 		public ForControlContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5337,41 +5323,41 @@ public class JavaParser extends Parser {
 		enterRule(_localctx, 162, RULE_forControl);
 		int _la;
 		try {
-			setState(1020);
+			setState(1028);
 			switch ( getInterpreter().adaptivePredict(_input,119,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1008); enhancedForControl();
+				setState(1016); enhancedForControl();
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1010);
+				setState(1018);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
 					{
-					setState(1009); forInit();
+					setState(1017); forInit();
 					}
 				}
 
-				setState(1012); match(SEMI);
-				setState(1014);
+				setState(1020); match(SEMI);
+				setState(1022);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)))) != 0)) {
 					{
-					setState(1013); expression(0);
+					setState(1021); expression();
 					}
 				}
 
-				setState(1016); match(SEMI);
-				setState(1018);
+				setState(1024); match(SEMI);
+				setState(1026);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)))) != 0)) {
 					{
-					setState(1017); forUpdate();
+					setState(1025); forUpdate();
 					}
 				}
 
@@ -5391,12 +5377,12 @@ public class JavaParser extends Parser {
 	}
 
 	public static class ForInitContext extends ParserRuleContext {
-		public ExpressionListContext expressionList() {
-			return getRuleContext(ExpressionListContext.class,0);
-		}
 		public LocalVariableDeclarationContext localVariableDeclaration() {
 			return getRuleContext(LocalVariableDeclarationContext.class,0);
 		}
+		public ExpressionListContext expressionList() {
+			return getRuleContext(ExpressionListContext.class,0);
+		}
 		public ForInitContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5412,19 +5398,19 @@ public class JavaParser extends Parser {
 		ForInitContext _localctx = new ForInitContext(_ctx, getState());
 		enterRule(_localctx, 164, RULE_forInit);
 		try {
-			setState(1024);
+			setState(1032);
 			switch ( getInterpreter().adaptivePredict(_input,120,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1022); localVariableDeclaration();
+				setState(1030); localVariableDeclaration();
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1023); expressionList();
+				setState(1031); expressionList();
 				}
 				break;
 			}
@@ -5441,13 +5427,13 @@ public class JavaParser extends Parser {
 	}
 
 	public static class EnhancedForControlContext extends ParserRuleContext {
-		public List<VariableModifierContext> variableModifier() {
-			return getRuleContexts(VariableModifierContext.class);
-		}
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public VariableModifierContext variableModifier(int i) {
 			return getRuleContext(VariableModifierContext.class,i);
 		}
-		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public List<VariableModifierContext> variableModifier() {
+			return getRuleContexts(VariableModifierContext.class);
+		}
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
@@ -5472,23 +5458,23 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1029);
+			setState(1037);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==FINAL || _la==AT) {
 				{
 				{
-				setState(1026); variableModifier();
+				setState(1034); variableModifier();
 				}
 				}
-				setState(1031);
+				setState(1039);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1032); type();
-			setState(1033); match(Identifier);
-			setState(1034); match(COLON);
-			setState(1035); expression(0);
+			setState(1040); type();
+			setState(1041); match(Identifier);
+			setState(1042); match(COLON);
+			setState(1043); expression();
 			}
 		}
 		catch (RecognitionException re) {
@@ -5523,7 +5509,7 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1037); expressionList();
+			setState(1045); expressionList();
 			}
 		}
 		catch (RecognitionException re) {
@@ -5558,9 +5544,9 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1039); match(LPAREN);
-			setState(1040); expression(0);
-			setState(1041); match(RPAREN);
+			setState(1047); match(LPAREN);
+			setState(1048); expression();
+			setState(1049); match(RPAREN);
 			}
 		}
 		catch (RecognitionException re) {
@@ -5599,18 +5585,18 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1043); expression(0);
-			setState(1048);
+			setState(1051); expression();
+			setState(1056);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(1044); match(COMMA);
-				setState(1045); expression(0);
+				setState(1052); match(COMMA);
+				setState(1053); expression();
 				}
 				}
-				setState(1050);
+				setState(1058);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -5648,7 +5634,7 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1051); expression(0);
+			setState(1059); expression();
 			}
 		}
 		catch (RecognitionException re) {
@@ -5683,7 +5669,7 @@ public class JavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1053); expression(0);
+			setState(1061); expression();
 			}
 		}
 		catch (RecognitionException re) {
@@ -5698,491 +5684,689 @@ public class JavaParser extends Parser {
 	}
 
 	public static class ExpressionContext extends ParserRuleContext {
-		public int _p;
-		public NonWildcardTypeArgumentsContext nonWildcardTypeArguments() {
-			return getRuleContext(NonWildcardTypeArgumentsContext.class,0);
+		public ConditionalExpressionContext conditionalExpression() {
+			return getRuleContext(ConditionalExpressionContext.class,0);
 		}
-		public ExpressionContext expression(int i) {
-			return getRuleContext(ExpressionContext.class,i);
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
 		}
-		public ExplicitGenericInvocationContext explicitGenericInvocation() {
-			return getRuleContext(ExplicitGenericInvocationContext.class,0);
+		public AssignmentOperatorContext assignmentOperator() {
+			return getRuleContext(AssignmentOperatorContext.class,0);
 		}
-		public PrimaryContext primary() {
-			return getRuleContext(PrimaryContext.class,0);
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
 		}
-		public ExpressionListContext expressionList() {
-			return getRuleContext(ExpressionListContext.class,0);
+		@Override public int getRuleIndex() { return RULE_expression; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitExpression(this);
+			else return visitor.visitChildren(this);
 		}
-		public SuperSuffixContext superSuffix() {
-			return getRuleContext(SuperSuffixContext.class,0);
+	}
+
+	public final ExpressionContext expression() throws RecognitionException {
+		ExpressionContext _localctx = new ExpressionContext(_ctx, getState());
+		enterRule(_localctx, 178, RULE_expression);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1063); conditionalExpression();
+			setState(1067);
+			_la = _input.LA(1);
+			if (((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (ASSIGN - 66)) | (1L << (ADD_ASSIGN - 66)) | (1L << (SUB_ASSIGN - 66)) | (1L << (MUL_ASSIGN - 66)) | (1L << (DIV_ASSIGN - 66)) | (1L << (AND_ASSIGN - 66)) | (1L << (OR_ASSIGN - 66)) | (1L << (XOR_ASSIGN - 66)) | (1L << (MOD_ASSIGN - 66)) | (1L << (LSHIFT_ASSIGN - 66)) | (1L << (RSHIFT_ASSIGN - 66)) | (1L << (URSHIFT_ASSIGN - 66)))) != 0)) {
+				{
+				setState(1064); assignmentOperator();
+				setState(1065); expression();
+				}
+			}
+
+			}
 		}
-		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
-		public TypeContext type() {
-			return getRuleContext(TypeContext.class,0);
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
 		}
-		public List<ExpressionContext> expression() {
-			return getRuleContexts(ExpressionContext.class);
+		finally {
+			exitRule();
 		}
-		public InnerCreatorContext innerCreator() {
-			return getRuleContext(InnerCreatorContext.class,0);
+		return _localctx;
+	}
+
+	public static class AssignmentOperatorContext extends ParserRuleContext {
+		public AssignmentOperatorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
 		}
-		public CreatorContext creator() {
-			return getRuleContext(CreatorContext.class,0);
+		@Override public int getRuleIndex() { return RULE_assignmentOperator; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitAssignmentOperator(this);
+			else return visitor.visitChildren(this);
 		}
-		public ExpressionContext(ParserRuleContext parent, int invokingState) { super(parent, invokingState); }
-		public ExpressionContext(ParserRuleContext parent, int invokingState, int _p) {
+	}
+
+	public final AssignmentOperatorContext assignmentOperator() throws RecognitionException {
+		AssignmentOperatorContext _localctx = new AssignmentOperatorContext(_ctx, getState());
+		enterRule(_localctx, 180, RULE_assignmentOperator);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1069);
+			_la = _input.LA(1);
+			if ( !(((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (ASSIGN - 66)) | (1L << (ADD_ASSIGN - 66)) | (1L << (SUB_ASSIGN - 66)) | (1L << (MUL_ASSIGN - 66)) | (1L << (DIV_ASSIGN - 66)) | (1L << (AND_ASSIGN - 66)) | (1L << (OR_ASSIGN - 66)) | (1L << (XOR_ASSIGN - 66)) | (1L << (MOD_ASSIGN - 66)) | (1L << (LSHIFT_ASSIGN - 66)) | (1L << (RSHIFT_ASSIGN - 66)) | (1L << (URSHIFT_ASSIGN - 66)))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			consume();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConditionalExpressionContext extends ParserRuleContext {
+		public ConditionalExpressionContext conditionalExpression() {
+			return getRuleContext(ConditionalExpressionContext.class,0);
+		}
+		public RelationalExpressionContext relationalExpression(int i) {
+			return getRuleContext(RelationalExpressionContext.class,i);
+		}
+		public List<RelationalExpressionContext> relationalExpression() {
+			return getRuleContexts(RelationalExpressionContext.class);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ConditionalExpressionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
-			this._p = _p;
 		}
-		@Override public int getRuleIndex() { return RULE_expression; }
+		@Override public int getRuleIndex() { return RULE_conditionalExpression; }
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitExpression(this);
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitConditionalExpression(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final ExpressionContext expression(int _p) throws RecognitionException {
-		ParserRuleContext _parentctx = _ctx;
-		int _parentState = getState();
-		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState, _p);
-		ExpressionContext _prevctx = _localctx;
-		int _startState = 178;
-		enterRecursionRule(_localctx, RULE_expression);
+	public final ConditionalExpressionContext conditionalExpression() throws RecognitionException {
+		ConditionalExpressionContext _localctx = new ConditionalExpressionContext(_ctx, getState());
+		enterRule(_localctx, 182, RULE_conditionalExpression);
 		int _la;
 		try {
-			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1068);
-			switch ( getInterpreter().adaptivePredict(_input,123,_ctx) ) {
-			case 1:
+			setState(1071); relationalExpression();
+			setState(1076);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (((((_la - 73)) & ~0x3f) == 0 && ((1L << (_la - 73)) & ((1L << (EQUAL - 73)) | (1L << (NOTEQUAL - 73)) | (1L << (AND - 73)) | (1L << (OR - 73)) | (1L << (BITAND - 73)) | (1L << (BITOR - 73)) | (1L << (CARET - 73)))) != 0)) {
 				{
-				setState(1056); match(LPAREN);
-				setState(1057); type();
-				setState(1058); match(RPAREN);
-				setState(1059); expression(17);
-				}
-				break;
-
-			case 2:
 				{
-				setState(1061);
+				setState(1072);
 				_la = _input.LA(1);
-				if ( !(((((_la - 79)) & ~0x3f) == 0 && ((1L << (_la - 79)) & ((1L << (INC - 79)) | (1L << (DEC - 79)) | (1L << (ADD - 79)) | (1L << (SUB - 79)))) != 0)) ) {
+				if ( !(((((_la - 73)) & ~0x3f) == 0 && ((1L << (_la - 73)) & ((1L << (EQUAL - 73)) | (1L << (NOTEQUAL - 73)) | (1L << (AND - 73)) | (1L << (OR - 73)) | (1L << (BITAND - 73)) | (1L << (BITOR - 73)) | (1L << (CARET - 73)))) != 0)) ) {
 				_errHandler.recoverInline(this);
 				}
 				consume();
-				setState(1062); expression(15);
-				}
-				break;
-
-			case 3:
-				{
-				setState(1063);
-				_la = _input.LA(1);
-				if ( !(_la==BANG || _la==TILDE) ) {
-				_errHandler.recoverInline(this);
+				setState(1073); relationalExpression();
 				}
-				consume();
-				setState(1064); expression(14);
 				}
-				break;
-
-			case 4:
+				setState(1078);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(1084);
+			_la = _input.LA(1);
+			if (_la==QUESTION) {
 				{
-				setState(1065); primary();
+				setState(1079); match(QUESTION);
+				setState(1080); expression();
+				setState(1081); match(COLON);
+				setState(1082); conditionalExpression();
 				}
-				break;
+			}
 
-			case 5:
-				{
-				setState(1066); match(NEW);
-				setState(1067); creator();
-				}
-				break;
 			}
-			_ctx.stop = _input.LT(-1);
-			setState(1168);
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RelationalExpressionContext extends ParserRuleContext {
+		public List<UnaryExpressionContext> unaryExpression() {
+			return getRuleContexts(UnaryExpressionContext.class);
+		}
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public UnaryExpressionContext unaryExpression(int i) {
+			return getRuleContext(UnaryExpressionContext.class,i);
+		}
+		public RelationalExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_relationalExpression; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitRelationalExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final RelationalExpressionContext relationalExpression() throws RecognitionException {
+		RelationalExpressionContext _localctx = new RelationalExpressionContext(_ctx, getState());
+		enterRule(_localctx, 184, RULE_relationalExpression);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1086); unaryExpression();
+			setState(1104);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,129,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,127,_ctx);
 			while ( _alt!=2 && _alt!=-1 ) {
 				if ( _alt==1 ) {
-					if ( _parseListeners!=null ) triggerExitRuleEvent();
-					_prevctx = _localctx;
 					{
-					setState(1166);
-					switch ( getInterpreter().adaptivePredict(_input,128,_ctx) ) {
+					{
+					setState(1099);
+					switch ( getInterpreter().adaptivePredict(_input,126,_ctx) ) {
 					case 1:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1070);
-						if (!(13 >= _localctx._p)) throw new FailedPredicateException(this, "13 >= $_p");
-						setState(1071);
-						_la = _input.LA(1);
-						if ( !(((((_la - 83)) & ~0x3f) == 0 && ((1L << (_la - 83)) & ((1L << (MUL - 83)) | (1L << (DIV - 83)) | (1L << (MOD - 83)))) != 0)) ) {
-						_errHandler.recoverInline(this);
-						}
-						consume();
-						setState(1072); expression(14);
+						setState(1087); match(MUL);
 						}
 						break;
 
 					case 2:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1073);
-						if (!(12 >= _localctx._p)) throw new FailedPredicateException(this, "12 >= $_p");
-						setState(1074);
-						_la = _input.LA(1);
-						if ( !(_la==ADD || _la==SUB) ) {
-						_errHandler.recoverInline(this);
-						}
-						consume();
-						setState(1075); expression(13);
+						setState(1088); match(DIV);
 						}
 						break;
 
 					case 3:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1076);
-						if (!(11 >= _localctx._p)) throw new FailedPredicateException(this, "11 >= $_p");
-						setState(1084);
-						switch ( getInterpreter().adaptivePredict(_input,124,_ctx) ) {
-						case 1:
-							{
-							setState(1077); match(LT);
-							setState(1078); match(LT);
-							}
-							break;
-
-						case 2:
-							{
-							setState(1079); match(GT);
-							setState(1080); match(GT);
-							setState(1081); match(GT);
-							}
-							break;
-
-						case 3:
-							{
-							setState(1082); match(GT);
-							setState(1083); match(GT);
-							}
-							break;
-						}
-						setState(1086); expression(12);
+						setState(1089); match(MOD);
 						}
 						break;
 
 					case 4:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1087);
-						if (!(10 >= _localctx._p)) throw new FailedPredicateException(this, "10 >= $_p");
-						setState(1088);
-						_la = _input.LA(1);
-						if ( !(((((_la - 67)) & ~0x3f) == 0 && ((1L << (_la - 67)) & ((1L << (GT - 67)) | (1L << (LT - 67)) | (1L << (LE - 67)) | (1L << (GE - 67)))) != 0)) ) {
-						_errHandler.recoverInline(this);
-						}
-						consume();
-						setState(1089); expression(11);
+						setState(1090); match(ADD);
 						}
 						break;
 
 					case 5:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1090);
-						if (!(8 >= _localctx._p)) throw new FailedPredicateException(this, "8 >= $_p");
-						setState(1091);
-						_la = _input.LA(1);
-						if ( !(_la==EQUAL || _la==NOTEQUAL) ) {
-						_errHandler.recoverInline(this);
-						}
-						consume();
-						setState(1092); expression(9);
+						setState(1091); match(SUB);
 						}
 						break;
 
 					case 6:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1093);
-						if (!(7 >= _localctx._p)) throw new FailedPredicateException(this, "7 >= $_p");
-						setState(1094); match(BITAND);
-						setState(1095); expression(8);
+						setState(1092); match(LT);
+						setState(1093); match(LT);
 						}
 						break;
 
 					case 7:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1096);
-						if (!(6 >= _localctx._p)) throw new FailedPredicateException(this, "6 >= $_p");
-						setState(1097); match(CARET);
-						setState(1098); expression(7);
+						setState(1094); match(GT);
+						setState(1095); match(GT);
+						setState(1096); match(GT);
 						}
 						break;
 
 					case 8:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1099);
-						if (!(5 >= _localctx._p)) throw new FailedPredicateException(this, "5 >= $_p");
-						setState(1100); match(BITOR);
-						setState(1101); expression(6);
+						setState(1097); match(GT);
+						setState(1098); match(GT);
 						}
 						break;
-
-					case 9:
+					}
+					setState(1101); unaryExpression();
+					}
+					} 
+				}
+				setState(1106);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,127,_ctx);
+			}
+			setState(1131);
+			switch (_input.LA(1)) {
+			case GT:
+			case LT:
+			case LE:
+			case GE:
+				{
+				setState(1107);
+				_la = _input.LA(1);
+				if ( !(((((_la - 67)) & ~0x3f) == 0 && ((1L << (_la - 67)) & ((1L << (GT - 67)) | (1L << (LT - 67)) | (1L << (LE - 67)) | (1L << (GE - 67)))) != 0)) ) {
+				_errHandler.recoverInline(this);
+				}
+				consume();
+				setState(1108); unaryExpression();
+				setState(1126);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (((((_la - 67)) & ~0x3f) == 0 && ((1L << (_la - 67)) & ((1L << (GT - 67)) | (1L << (LT - 67)) | (1L << (ADD - 67)) | (1L << (SUB - 67)) | (1L << (MUL - 67)) | (1L << (DIV - 67)) | (1L << (MOD - 67)))) != 0)) {
+					{
+					{
+					setState(1121);
+					switch ( getInterpreter().adaptivePredict(_input,128,_ctx) ) {
+					case 1:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1102);
-						if (!(4 >= _localctx._p)) throw new FailedPredicateException(this, "4 >= $_p");
-						setState(1103); match(AND);
-						setState(1104); expression(5);
+						setState(1109); match(MUL);
 						}
 						break;
 
-					case 10:
+					case 2:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1105);
-						if (!(3 >= _localctx._p)) throw new FailedPredicateException(this, "3 >= $_p");
-						setState(1106); match(OR);
-						setState(1107); expression(4);
+						setState(1110); match(DIV);
 						}
 						break;
 
-					case 11:
+					case 3:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1108);
-						if (!(1 >= _localctx._p)) throw new FailedPredicateException(this, "1 >= $_p");
-						setState(1121);
-						switch (_input.LA(1)) {
-						case ASSIGN:
-							{
-							setState(1109); match(ASSIGN);
-							}
-							break;
-						case ADD_ASSIGN:
-							{
-							setState(1110); match(ADD_ASSIGN);
-							}
-							break;
-						case SUB_ASSIGN:
-							{
-							setState(1111); match(SUB_ASSIGN);
-							}
-							break;
-						case MUL_ASSIGN:
-							{
-							setState(1112); match(MUL_ASSIGN);
-							}
-							break;
-						case DIV_ASSIGN:
-							{
-							setState(1113); match(DIV_ASSIGN);
-							}
-							break;
-						case AND_ASSIGN:
-							{
-							setState(1114); match(AND_ASSIGN);
-							}
-							break;
-						case OR_ASSIGN:
-							{
-							setState(1115); match(OR_ASSIGN);
-							}
-							break;
-						case XOR_ASSIGN:
-							{
-							setState(1116); match(XOR_ASSIGN);
-							}
-							break;
-						case RSHIFT_ASSIGN:
-							{
-							setState(1117); match(RSHIFT_ASSIGN);
-							}
-							break;
-						case URSHIFT_ASSIGN:
-							{
-							setState(1118); match(URSHIFT_ASSIGN);
-							}
-							break;
-						case LSHIFT_ASSIGN:
-							{
-							setState(1119); match(LSHIFT_ASSIGN);
-							}
-							break;
-						case MOD_ASSIGN:
-							{
-							setState(1120); match(MOD_ASSIGN);
-							}
-							break;
-						default:
-							throw new NoViableAltException(this);
-						}
-						setState(1123); expression(1);
+						setState(1111); match(MOD);
 						}
 						break;
 
-					case 12:
+					case 4:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1124);
-						if (!(2 >= _localctx._p)) throw new FailedPredicateException(this, "2 >= $_p");
-						setState(1125); match(QUESTION);
-						setState(1126); expression(0);
-						setState(1127); match(COLON);
-						setState(1128); expression(3);
+						setState(1112); match(ADD);
 						}
 						break;
 
-					case 13:
+					case 5:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1130);
-						if (!(25 >= _localctx._p)) throw new FailedPredicateException(this, "25 >= $_p");
-						setState(1131); match(DOT);
-						setState(1132); match(Identifier);
+						setState(1113); match(SUB);
 						}
 						break;
 
-					case 14:
+					case 6:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1133);
-						if (!(24 >= _localctx._p)) throw new FailedPredicateException(this, "24 >= $_p");
-						setState(1134); match(DOT);
-						setState(1135); match(THIS);
+						setState(1114); match(LT);
+						setState(1115); match(LT);
 						}
 						break;
 
-					case 15:
+					case 7:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1136);
-						if (!(23 >= _localctx._p)) throw new FailedPredicateException(this, "23 >= $_p");
-						setState(1137); match(DOT);
-						setState(1138); match(NEW);
-						setState(1140);
-						_la = _input.LA(1);
-						if (_la==LT) {
-							{
-							setState(1139); nonWildcardTypeArguments();
-							}
-						}
-
-						setState(1142); innerCreator();
+						setState(1116); match(GT);
+						setState(1117); match(GT);
+						setState(1118); match(GT);
 						}
 						break;
 
-					case 16:
+					case 8:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1143);
-						if (!(22 >= _localctx._p)) throw new FailedPredicateException(this, "22 >= $_p");
-						setState(1144); match(DOT);
-						setState(1145); match(SUPER);
-						setState(1146); superSuffix();
+						setState(1119); match(GT);
+						setState(1120); match(GT);
 						}
 						break;
+					}
+					setState(1123); unaryExpression();
+					}
+					}
+					setState(1128);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+				break;
+			case INSTANCEOF:
+				{
+				setState(1129); match(INSTANCEOF);
+				setState(1130); type();
+				}
+				break;
+			case RPAREN:
+			case RBRACE:
+			case RBRACK:
+			case SEMI:
+			case COMMA:
+			case ASSIGN:
+			case QUESTION:
+			case COLON:
+			case EQUAL:
+			case NOTEQUAL:
+			case AND:
+			case OR:
+			case BITAND:
+			case BITOR:
+			case CARET:
+			case ADD_ASSIGN:
+			case SUB_ASSIGN:
+			case MUL_ASSIGN:
+			case DIV_ASSIGN:
+			case AND_ASSIGN:
+			case OR_ASSIGN:
+			case XOR_ASSIGN:
+			case MOD_ASSIGN:
+			case LSHIFT_ASSIGN:
+			case RSHIFT_ASSIGN:
+			case URSHIFT_ASSIGN:
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
 
-					case 17:
-						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1147);
-						if (!(21 >= _localctx._p)) throw new FailedPredicateException(this, "21 >= $_p");
-						setState(1148); match(DOT);
-						setState(1149); explicitGenericInvocation();
-						}
-						break;
+	public static class UnaryExpressionContext extends ParserRuleContext {
+		public UnaryExpressionContext unaryExpression() {
+			return getRuleContext(UnaryExpressionContext.class,0);
+		}
+		public List<SelectorContext> selector() {
+			return getRuleContexts(SelectorContext.class);
+		}
+		public SelectorContext selector(int i) {
+			return getRuleContext(SelectorContext.class,i);
+		}
+		public UnaryExpressionNotPlusMinusContext unaryExpressionNotPlusMinus() {
+			return getRuleContext(UnaryExpressionNotPlusMinusContext.class,0);
+		}
+		public PrimitiveTypeContext primitiveType() {
+			return getRuleContext(PrimitiveTypeContext.class,0);
+		}
+		public ClassOrInterfaceTypeContext classOrInterfaceType() {
+			return getRuleContext(ClassOrInterfaceTypeContext.class,0);
+		}
+		public PrimaryContext primary() {
+			return getRuleContext(PrimaryContext.class,0);
+		}
+		public UnaryExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unaryExpression; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitUnaryExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
 
-					case 18:
-						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1150);
-						if (!(20 >= _localctx._p)) throw new FailedPredicateException(this, "20 >= $_p");
-						setState(1151); match(LBRACK);
-						setState(1152); expression(0);
-						setState(1153); match(RBRACK);
-						}
-						break;
+	public final UnaryExpressionContext unaryExpression() throws RecognitionException {
+		UnaryExpressionContext _localctx = new UnaryExpressionContext(_ctx, getState());
+		enterRule(_localctx, 186, RULE_unaryExpression);
+		int _la;
+		try {
+			setState(1172);
+			switch ( getInterpreter().adaptivePredict(_input,135,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1133);
+				_la = _input.LA(1);
+				if ( !(((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)))) != 0)) ) {
+				_errHandler.recoverInline(this);
+				}
+				consume();
+				setState(1134); unaryExpression();
+				}
+				break;
 
-					case 19:
-						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1155);
-						if (!(19 >= _localctx._p)) throw new FailedPredicateException(this, "19 >= $_p");
-						setState(1156); match(LPAREN);
-						setState(1158);
-						_la = _input.LA(1);
-						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)))) != 0)) {
-							{
-							setState(1157); expressionList();
-							}
-						}
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1135); match(LPAREN);
+				setState(1136); primitiveType();
+				setState(1141);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==LBRACK) {
+					{
+					{
+					setState(1137); match(LBRACK);
+					setState(1138); match(RBRACK);
+					}
+					}
+					setState(1143);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1144); match(RPAREN);
+				setState(1145); unaryExpression();
+				}
+				break;
 
-						setState(1160); match(RPAREN);
-						}
-						break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1147); match(LPAREN);
+				setState(1148); classOrInterfaceType();
+				setState(1153);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==LBRACK) {
+					{
+					{
+					setState(1149); match(LBRACK);
+					setState(1150); match(RBRACK);
+					}
+					}
+					setState(1155);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1156); match(RPAREN);
+				setState(1157); unaryExpressionNotPlusMinus();
+				}
+				break;
 
-					case 20:
-						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1161);
-						if (!(16 >= _localctx._p)) throw new FailedPredicateException(this, "16 >= $_p");
-						setState(1162);
-						_la = _input.LA(1);
-						if ( !(_la==INC || _la==DEC) ) {
-						_errHandler.recoverInline(this);
-						}
-						consume();
-						}
-						break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(1159); primary();
+				setState(1163);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (((((_la - 57)) & ~0x3f) == 0 && ((1L << (_la - 57)) & ((1L << (LPAREN - 57)) | (1L << (LBRACK - 57)) | (1L << (DOT - 57)))) != 0)) {
+					{
+					{
+					setState(1160); selector();
+					}
+					}
+					setState(1165);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1169);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==INC || _la==DEC) {
+					{
+					{
+					setState(1166);
+					_la = _input.LA(1);
+					if ( !(_la==INC || _la==DEC) ) {
+					_errHandler.recoverInline(this);
+					}
+					consume();
+					}
+					}
+					setState(1171);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
 
-					case 21:
-						{
-						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1163);
-						if (!(9 >= _localctx._p)) throw new FailedPredicateException(this, "9 >= $_p");
-						setState(1164); match(INSTANCEOF);
-						setState(1165); type();
-						}
-						break;
+	public static class UnaryExpressionNotPlusMinusContext extends ParserRuleContext {
+		public UnaryExpressionContext unaryExpression() {
+			return getRuleContext(UnaryExpressionContext.class,0);
+		}
+		public List<SelectorContext> selector() {
+			return getRuleContexts(SelectorContext.class);
+		}
+		public SelectorContext selector(int i) {
+			return getRuleContext(SelectorContext.class,i);
+		}
+		public UnaryExpressionNotPlusMinusContext unaryExpressionNotPlusMinus() {
+			return getRuleContext(UnaryExpressionNotPlusMinusContext.class,0);
+		}
+		public PrimitiveTypeContext primitiveType() {
+			return getRuleContext(PrimitiveTypeContext.class,0);
+		}
+		public ClassOrInterfaceTypeContext classOrInterfaceType() {
+			return getRuleContext(ClassOrInterfaceTypeContext.class,0);
+		}
+		public PrimaryContext primary() {
+			return getRuleContext(PrimaryContext.class,0);
+		}
+		public UnaryExpressionNotPlusMinusContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unaryExpressionNotPlusMinus; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitUnaryExpressionNotPlusMinus(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final UnaryExpressionNotPlusMinusContext unaryExpressionNotPlusMinus() throws RecognitionException {
+		UnaryExpressionNotPlusMinusContext _localctx = new UnaryExpressionNotPlusMinusContext(_ctx, getState());
+		enterRule(_localctx, 188, RULE_unaryExpressionNotPlusMinus);
+		int _la;
+		try {
+			setState(1213);
+			switch ( getInterpreter().adaptivePredict(_input,140,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1174);
+				_la = _input.LA(1);
+				if ( !(_la==BANG || _la==TILDE) ) {
+				_errHandler.recoverInline(this);
+				}
+				consume();
+				setState(1175); unaryExpression();
+				}
+				break;
+
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1176); match(LPAREN);
+				setState(1177); primitiveType();
+				setState(1182);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==LBRACK) {
+					{
+					{
+					setState(1178); match(LBRACK);
+					setState(1179); match(RBRACK);
+					}
+					}
+					setState(1184);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1185); match(RPAREN);
+				setState(1186); unaryExpression();
+				}
+				break;
+
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1188); match(LPAREN);
+				setState(1189); classOrInterfaceType();
+				setState(1194);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==LBRACK) {
+					{
+					{
+					setState(1190); match(LBRACK);
+					setState(1191); match(RBRACK);
+					}
+					}
+					setState(1196);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1197); match(RPAREN);
+				setState(1198); unaryExpressionNotPlusMinus();
+				}
+				break;
+
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(1200); primary();
+				setState(1204);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (((((_la - 57)) & ~0x3f) == 0 && ((1L << (_la - 57)) & ((1L << (LPAREN - 57)) | (1L << (LBRACK - 57)) | (1L << (DOT - 57)))) != 0)) {
+					{
+					{
+					setState(1201); selector();
+					}
 					}
-					} 
+					setState(1206);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
 				}
-				setState(1170);
+				setState(1210);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,129,_ctx);
-			}
+				_la = _input.LA(1);
+				while (_la==INC || _la==DEC) {
+					{
+					{
+					setState(1207);
+					_la = _input.LA(1);
+					if ( !(_la==INC || _la==DEC) ) {
+					_errHandler.recoverInline(this);
+					}
+					consume();
+					}
+					}
+					setState(1212);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+				break;
 			}
 		}
 		catch (RecognitionException re) {
@@ -6191,30 +6375,33 @@ public class JavaParser extends Parser {
 			_errHandler.recover(this, re);
 		}
 		finally {
-			unrollRecursionContexts(_parentctx);
+			exitRule();
 		}
 		return _localctx;
 	}
 
 	public static class PrimaryContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public NonWildcardTypeArgumentsContext nonWildcardTypeArguments() {
 			return getRuleContext(NonWildcardTypeArgumentsContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public ExplicitGenericInvocationSuffixContext explicitGenericInvocationSuffix() {
 			return getRuleContext(ExplicitGenericInvocationSuffixContext.class,0);
 		}
-		public TypeContext type() {
-			return getRuleContext(TypeContext.class,0);
+		public PrimitiveTypeContext primitiveType() {
+			return getRuleContext(PrimitiveTypeContext.class,0);
 		}
-		public ExpressionContext expression() {
-			return getRuleContext(ExpressionContext.class,0);
+		public LiteralContext literal() {
+			return getRuleContext(LiteralContext.class,0);
 		}
 		public ArgumentsContext arguments() {
 			return getRuleContext(ArgumentsContext.class,0);
 		}
-		public LiteralContext literal() {
-			return getRuleContext(LiteralContext.class,0);
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public CreatorContext creator() {
+			return getRuleContext(CreatorContext.class,0);
 		}
 		public PrimaryContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -6229,86 +6416,261 @@ public class JavaParser extends Parser {
 
 	public final PrimaryContext primary() throws RecognitionException {
 		PrimaryContext _localctx = new PrimaryContext(_ctx, getState());
-		enterRule(_localctx, 180, RULE_primary);
+		enterRule(_localctx, 190, RULE_primary);
+		int _la;
+		try {
+			setState(1245);
+			switch (_input.LA(1)) {
+			case LPAREN:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1215); match(LPAREN);
+				setState(1216); expression();
+				setState(1217); match(RPAREN);
+				}
+				break;
+			case THIS:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1219); match(THIS);
+				}
+				break;
+			case SUPER:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1220); match(SUPER);
+				}
+				break;
+			case IntegerLiteral:
+			case FloatingPointLiteral:
+			case BooleanLiteral:
+			case CharacterLiteral:
+			case StringLiteral:
+			case NullLiteral:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(1221); literal();
+				}
+				break;
+			case Identifier:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(1222); match(Identifier);
+				}
+				break;
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case DOUBLE:
+			case FLOAT:
+			case INT:
+			case LONG:
+			case SHORT:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(1223); primitiveType();
+				setState(1228);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==LBRACK) {
+					{
+					{
+					setState(1224); match(LBRACK);
+					setState(1225); match(RBRACK);
+					}
+					}
+					setState(1230);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1231); match(DOT);
+				setState(1232); match(CLASS);
+				}
+				break;
+			case VOID:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(1234); match(VOID);
+				setState(1235); match(DOT);
+				setState(1236); match(CLASS);
+				}
+				break;
+			case LT:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(1237); nonWildcardTypeArguments();
+				setState(1241);
+				switch (_input.LA(1)) {
+				case SUPER:
+				case Identifier:
+					{
+					setState(1238); explicitGenericInvocationSuffix();
+					}
+					break;
+				case THIS:
+					{
+					setState(1239); match(THIS);
+					setState(1240); arguments();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				break;
+			case NEW:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(1243); match(NEW);
+				setState(1244); creator();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SelectorContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public NonWildcardTypeArgumentsContext nonWildcardTypeArguments() {
+			return getRuleContext(NonWildcardTypeArgumentsContext.class,0);
+		}
+		public ExplicitGenericInvocationContext explicitGenericInvocation() {
+			return getRuleContext(ExplicitGenericInvocationContext.class,0);
+		}
+		public InnerCreatorContext innerCreator() {
+			return getRuleContext(InnerCreatorContext.class,0);
+		}
+		public SuperSuffixContext superSuffix() {
+			return getRuleContext(SuperSuffixContext.class,0);
+		}
+		public ArgumentsContext arguments() {
+			return getRuleContext(ArgumentsContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public SelectorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_selector; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitSelector(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SelectorContext selector() throws RecognitionException {
+		SelectorContext _localctx = new SelectorContext(_ctx, getState());
+		enterRule(_localctx, 192, RULE_selector);
+		int _la;
 		try {
-			setState(1192);
-			switch ( getInterpreter().adaptivePredict(_input,131,_ctx) ) {
+			setState(1277);
+			switch ( getInterpreter().adaptivePredict(_input,146,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1171); match(LPAREN);
-				setState(1172); expression(0);
-				setState(1173); match(RPAREN);
+				setState(1247); match(DOT);
+				setState(1248); match(Identifier);
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1175); match(THIS);
+				setState(1249); match(DOT);
+				setState(1250); match(THIS);
 				}
 				break;
 
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1176); match(SUPER);
+				setState(1251); match(DOT);
+				setState(1252); match(NEW);
+				setState(1254);
+				_la = _input.LA(1);
+				if (_la==LT) {
+					{
+					setState(1253); nonWildcardTypeArguments();
+					}
+				}
+
+				setState(1256); innerCreator();
 				}
 				break;
 
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1177); literal();
+				setState(1257); match(DOT);
+				setState(1258); match(SUPER);
+				setState(1259); superSuffix();
 				}
 				break;
 
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1178); match(Identifier);
+				setState(1260); match(DOT);
+				setState(1261); explicitGenericInvocation();
 				}
 				break;
 
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(1179); type();
-				setState(1180); match(DOT);
-				setState(1181); match(CLASS);
+				setState(1262); match(DOT);
+				setState(1263); match(CLASS);
 				}
 				break;
 
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(1183); match(VOID);
-				setState(1184); match(DOT);
-				setState(1185); match(CLASS);
+				setState(1266); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				do {
+					{
+					{
+					setState(1264); match(LBRACK);
+					setState(1265); match(RBRACK);
+					}
+					}
+					setState(1268); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				} while ( _la==LBRACK );
+				setState(1270); match(DOT);
+				setState(1271); match(CLASS);
 				}
 				break;
 
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(1186); nonWildcardTypeArguments();
-				setState(1190);
-				switch (_input.LA(1)) {
-				case SUPER:
-				case Identifier:
-					{
-					setState(1187); explicitGenericInvocationSuffix();
-					}
-					break;
-				case THIS:
-					{
-					setState(1188); match(THIS);
-					setState(1189); arguments();
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
+				setState(1272); match(LBRACK);
+				setState(1273); expression();
+				setState(1274); match(RBRACK);
 				}
+				break;
+
+			case 9:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(1276); arguments();
 				}
 				break;
 			}
@@ -6325,12 +6687,12 @@ public class JavaParser extends Parser {
 	}
 
 	public static class CreatorContext extends ParserRuleContext {
-		public NonWildcardTypeArgumentsContext nonWildcardTypeArguments() {
-			return getRuleContext(NonWildcardTypeArgumentsContext.class,0);
-		}
 		public ArrayCreatorRestContext arrayCreatorRest() {
 			return getRuleContext(ArrayCreatorRestContext.class,0);
 		}
+		public NonWildcardTypeArgumentsContext nonWildcardTypeArguments() {
+			return getRuleContext(NonWildcardTypeArgumentsContext.class,0);
+		}
 		public ClassCreatorRestContext classCreatorRest() {
 			return getRuleContext(ClassCreatorRestContext.class,0);
 		}
@@ -6350,16 +6712,16 @@ public class JavaParser extends Parser {
 
 	public final CreatorContext creator() throws RecognitionException {
 		CreatorContext _localctx = new CreatorContext(_ctx, getState());
-		enterRule(_localctx, 182, RULE_creator);
+		enterRule(_localctx, 194, RULE_creator);
 		try {
-			setState(1203);
+			setState(1288);
 			switch (_input.LA(1)) {
 			case LT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1194); nonWildcardTypeArguments();
-				setState(1195); createdName();
-				setState(1196); classCreatorRest();
+				setState(1279); nonWildcardTypeArguments();
+				setState(1280); createdName();
+				setState(1281); classCreatorRest();
 				}
 				break;
 			case BOOLEAN:
@@ -6373,17 +6735,17 @@ public class JavaParser extends Parser {
 			case Identifier:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1198); createdName();
-				setState(1201);
+				setState(1283); createdName();
+				setState(1286);
 				switch (_input.LA(1)) {
 				case LBRACK:
 					{
-					setState(1199); arrayCreatorRest();
+					setState(1284); arrayCreatorRest();
 					}
 					break;
 				case LPAREN:
 					{
-					setState(1200); classCreatorRest();
+					setState(1285); classCreatorRest();
 					}
 					break;
 				default:
@@ -6407,19 +6769,19 @@ public class JavaParser extends Parser {
 	}
 
 	public static class CreatedNameContext extends ParserRuleContext {
-		public TypeArgumentsOrDiamondContext typeArgumentsOrDiamond(int i) {
-			return getRuleContext(TypeArgumentsOrDiamondContext.class,i);
-		}
+		public List<TerminalNode> Identifier() { return getTokens(JavaParser.Identifier); }
 		public TerminalNode Identifier(int i) {
 			return getToken(JavaParser.Identifier, i);
 		}
-		public List<TerminalNode> Identifier() { return getTokens(JavaParser.Identifier); }
 		public List<TypeArgumentsOrDiamondContext> typeArgumentsOrDiamond() {
 			return getRuleContexts(TypeArgumentsOrDiamondContext.class);
 		}
 		public PrimitiveTypeContext primitiveType() {
 			return getRuleContext(PrimitiveTypeContext.class,0);
 		}
+		public TypeArgumentsOrDiamondContext typeArgumentsOrDiamond(int i) {
+			return getRuleContext(TypeArgumentsOrDiamondContext.class,i);
+		}
 		public CreatedNameContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -6433,42 +6795,42 @@ public class JavaParser extends Parser {
 
 	public final CreatedNameContext createdName() throws RecognitionException {
 		CreatedNameContext _localctx = new CreatedNameContext(_ctx, getState());
-		enterRule(_localctx, 184, RULE_createdName);
+		enterRule(_localctx, 196, RULE_createdName);
 		int _la;
 		try {
-			setState(1220);
+			setState(1305);
 			switch (_input.LA(1)) {
 			case Identifier:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1205); match(Identifier);
-				setState(1207);
+				setState(1290); match(Identifier);
+				setState(1292);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(1206); typeArgumentsOrDiamond();
+					setState(1291); typeArgumentsOrDiamond();
 					}
 				}
 
-				setState(1216);
+				setState(1301);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==DOT) {
 					{
 					{
-					setState(1209); match(DOT);
-					setState(1210); match(Identifier);
-					setState(1212);
+					setState(1294); match(DOT);
+					setState(1295); match(Identifier);
+					setState(1297);
 					_la = _input.LA(1);
 					if (_la==LT) {
 						{
-						setState(1211); typeArgumentsOrDiamond();
+						setState(1296); typeArgumentsOrDiamond();
 						}
 					}
 
 					}
 					}
-					setState(1218);
+					setState(1303);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -6484,7 +6846,7 @@ public class JavaParser extends Parser {
 			case SHORT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1219); primitiveType();
+				setState(1304); primitiveType();
 				}
 				break;
 			default:
@@ -6503,13 +6865,13 @@ public class JavaParser extends Parser {
 	}
 
 	public static class InnerCreatorContext extends ParserRuleContext {
-		public NonWildcardTypeArgumentsOrDiamondContext nonWildcardTypeArgumentsOrDiamond() {
-			return getRuleContext(NonWildcardTypeArgumentsOrDiamondContext.class,0);
-		}
 		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public ClassCreatorRestContext classCreatorRest() {
 			return getRuleContext(ClassCreatorRestContext.class,0);
 		}
+		public NonWildcardTypeArgumentsOrDiamondContext nonWildcardTypeArgumentsOrDiamond() {
+			return getRuleContext(NonWildcardTypeArgumentsOrDiamondContext.class,0);
+		}
 		public InnerCreatorContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -6523,21 +6885,21 @@ public class JavaParser extends Parser {
 
 	public final InnerCreatorContext innerCreator() throws RecognitionException {
 		InnerCreatorContext _localctx = new InnerCreatorContext(_ctx, getState());
-		enterRule(_localctx, 186, RULE_innerCreator);
+		enterRule(_localctx, 198, RULE_innerCreator);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1222); match(Identifier);
-			setState(1224);
+			setState(1307); match(Identifier);
+			setState(1309);
 			_la = _input.LA(1);
 			if (_la==LT) {
 				{
-				setState(1223); nonWildcardTypeArgumentsOrDiamond();
+				setState(1308); nonWildcardTypeArgumentsOrDiamond();
 				}
 			}
 
-			setState(1226); classCreatorRest();
+			setState(1311); classCreatorRest();
 			}
 		}
 		catch (RecognitionException re) {
@@ -6552,15 +6914,15 @@ public class JavaParser extends Parser {
 	}
 
 	public static class ArrayCreatorRestContext extends ParserRuleContext {
+		public ArrayInitializerContext arrayInitializer() {
+			return getRuleContext(ArrayInitializerContext.class,0);
+		}
 		public ExpressionContext expression(int i) {
 			return getRuleContext(ExpressionContext.class,i);
 		}
 		public List<ExpressionContext> expression() {
 			return getRuleContexts(ExpressionContext.class);
 		}
-		public ArrayInitializerContext arrayInitializer() {
-			return getRuleContext(ArrayInitializerContext.class,0);
-		}
 		public ArrayCreatorRestContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -6574,33 +6936,33 @@ public class JavaParser extends Parser {
 
 	public final ArrayCreatorRestContext arrayCreatorRest() throws RecognitionException {
 		ArrayCreatorRestContext _localctx = new ArrayCreatorRestContext(_ctx, getState());
-		enterRule(_localctx, 188, RULE_arrayCreatorRest);
+		enterRule(_localctx, 200, RULE_arrayCreatorRest);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1228); match(LBRACK);
-			setState(1256);
+			setState(1313); match(LBRACK);
+			setState(1341);
 			switch (_input.LA(1)) {
 			case RBRACK:
 				{
-				setState(1229); match(RBRACK);
-				setState(1234);
+				setState(1314); match(RBRACK);
+				setState(1319);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==LBRACK) {
 					{
 					{
-					setState(1230); match(LBRACK);
-					setState(1231); match(RBRACK);
+					setState(1315); match(LBRACK);
+					setState(1316); match(RBRACK);
 					}
 					}
-					setState(1236);
+					setState(1321);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(1237); arrayInitializer();
+				setState(1322); arrayInitializer();
 				}
 				break;
 			case BOOLEAN:
@@ -6631,40 +6993,40 @@ public class JavaParser extends Parser {
 			case SUB:
 			case Identifier:
 				{
-				setState(1238); expression(0);
-				setState(1239); match(RBRACK);
-				setState(1246);
+				setState(1323); expression();
+				setState(1324); match(RBRACK);
+				setState(1331);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,140,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,155,_ctx);
 				while ( _alt!=2 && _alt!=-1 ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(1240); match(LBRACK);
-						setState(1241); expression(0);
-						setState(1242); match(RBRACK);
+						setState(1325); match(LBRACK);
+						setState(1326); expression();
+						setState(1327); match(RBRACK);
 						}
 						} 
 					}
-					setState(1248);
+					setState(1333);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,140,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,155,_ctx);
 				}
-				setState(1253);
+				setState(1338);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,141,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,156,_ctx);
 				while ( _alt!=2 && _alt!=-1 ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(1249); match(LBRACK);
-						setState(1250); match(RBRACK);
+						setState(1334); match(LBRACK);
+						setState(1335); match(RBRACK);
 						}
 						} 
 					}
-					setState(1255);
+					setState(1340);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,141,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,156,_ctx);
 				}
 				}
 				break;
@@ -6704,19 +7066,20 @@ public class JavaParser extends Parser {
 
 	public final ClassCreatorRestContext classCreatorRest() throws RecognitionException {
 		ClassCreatorRestContext _localctx = new ClassCreatorRestContext(_ctx, getState());
-		enterRule(_localctx, 190, RULE_classCreatorRest);
+		enterRule(_localctx, 202, RULE_classCreatorRest);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1258); arguments();
-			setState(1260);
-			switch ( getInterpreter().adaptivePredict(_input,143,_ctx) ) {
-			case 1:
+			setState(1343); arguments();
+			setState(1345);
+			_la = _input.LA(1);
+			if (_la==LBRACE) {
 				{
-				setState(1259); classBody();
+				setState(1344); classBody();
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -6750,12 +7113,12 @@ public class JavaParser extends Parser {
 
 	public final ExplicitGenericInvocationContext explicitGenericInvocation() throws RecognitionException {
 		ExplicitGenericInvocationContext _localctx = new ExplicitGenericInvocationContext(_ctx, getState());
-		enterRule(_localctx, 192, RULE_explicitGenericInvocation);
+		enterRule(_localctx, 204, RULE_explicitGenericInvocation);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1262); nonWildcardTypeArguments();
-			setState(1263); explicitGenericInvocationSuffix();
+			setState(1347); nonWildcardTypeArguments();
+			setState(1348); explicitGenericInvocationSuffix();
 			}
 		}
 		catch (RecognitionException re) {
@@ -6786,13 +7149,13 @@ public class JavaParser extends Parser {
 
 	public final NonWildcardTypeArgumentsContext nonWildcardTypeArguments() throws RecognitionException {
 		NonWildcardTypeArgumentsContext _localctx = new NonWildcardTypeArgumentsContext(_ctx, getState());
-		enterRule(_localctx, 194, RULE_nonWildcardTypeArguments);
+		enterRule(_localctx, 206, RULE_nonWildcardTypeArguments);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1265); match(LT);
-			setState(1266); typeList();
-			setState(1267); match(GT);
+			setState(1350); match(LT);
+			setState(1351); typeList();
+			setState(1352); match(GT);
 			}
 		}
 		catch (RecognitionException re) {
@@ -6823,22 +7186,22 @@ public class JavaParser extends Parser {
 
 	public final TypeArgumentsOrDiamondContext typeArgumentsOrDiamond() throws RecognitionException {
 		TypeArgumentsOrDiamondContext _localctx = new TypeArgumentsOrDiamondContext(_ctx, getState());
-		enterRule(_localctx, 196, RULE_typeArgumentsOrDiamond);
+		enterRule(_localctx, 208, RULE_typeArgumentsOrDiamond);
 		try {
-			setState(1272);
-			switch ( getInterpreter().adaptivePredict(_input,144,_ctx) ) {
+			setState(1357);
+			switch ( getInterpreter().adaptivePredict(_input,159,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1269); match(LT);
-				setState(1270); match(GT);
+				setState(1354); match(LT);
+				setState(1355); match(GT);
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1271); typeArguments();
+				setState(1356); typeArguments();
 				}
 				break;
 			}
@@ -6871,22 +7234,22 @@ public class JavaParser extends Parser {
 
 	public final NonWildcardTypeArgumentsOrDiamondContext nonWildcardTypeArgumentsOrDiamond() throws RecognitionException {
 		NonWildcardTypeArgumentsOrDiamondContext _localctx = new NonWildcardTypeArgumentsOrDiamondContext(_ctx, getState());
-		enterRule(_localctx, 198, RULE_nonWildcardTypeArgumentsOrDiamond);
+		enterRule(_localctx, 210, RULE_nonWildcardTypeArgumentsOrDiamond);
 		try {
-			setState(1277);
-			switch ( getInterpreter().adaptivePredict(_input,145,_ctx) ) {
+			setState(1362);
+			switch ( getInterpreter().adaptivePredict(_input,160,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1274); match(LT);
-				setState(1275); match(GT);
+				setState(1359); match(LT);
+				setState(1360); match(GT);
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1276); nonWildcardTypeArguments();
+				setState(1361); nonWildcardTypeArguments();
 				}
 				break;
 			}
@@ -6920,26 +7283,26 @@ public class JavaParser extends Parser {
 
 	public final SuperSuffixContext superSuffix() throws RecognitionException {
 		SuperSuffixContext _localctx = new SuperSuffixContext(_ctx, getState());
-		enterRule(_localctx, 200, RULE_superSuffix);
+		enterRule(_localctx, 212, RULE_superSuffix);
 		try {
-			setState(1285);
+			setState(1370);
 			switch (_input.LA(1)) {
 			case LPAREN:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1279); arguments();
+				setState(1364); arguments();
 				}
 				break;
 			case DOT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1280); match(DOT);
-				setState(1281); match(Identifier);
-				setState(1283);
-				switch ( getInterpreter().adaptivePredict(_input,146,_ctx) ) {
+				setState(1365); match(DOT);
+				setState(1366); match(Identifier);
+				setState(1368);
+				switch ( getInterpreter().adaptivePredict(_input,161,_ctx) ) {
 				case 1:
 					{
-					setState(1282); arguments();
+					setState(1367); arguments();
 					}
 					break;
 				}
@@ -6961,10 +7324,10 @@ public class JavaParser extends Parser {
 	}
 
 	public static class ExplicitGenericInvocationSuffixContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public SuperSuffixContext superSuffix() {
 			return getRuleContext(SuperSuffixContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
 		public ArgumentsContext arguments() {
 			return getRuleContext(ArgumentsContext.class,0);
 		}
@@ -6981,22 +7344,22 @@ public class JavaParser extends Parser {
 
 	public final ExplicitGenericInvocationSuffixContext explicitGenericInvocationSuffix() throws RecognitionException {
 		ExplicitGenericInvocationSuffixContext _localctx = new ExplicitGenericInvocationSuffixContext(_ctx, getState());
-		enterRule(_localctx, 202, RULE_explicitGenericInvocationSuffix);
+		enterRule(_localctx, 214, RULE_explicitGenericInvocationSuffix);
 		try {
-			setState(1291);
+			setState(1376);
 			switch (_input.LA(1)) {
 			case SUPER:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1287); match(SUPER);
-				setState(1288); superSuffix();
+				setState(1372); match(SUPER);
+				setState(1373); superSuffix();
 				}
 				break;
 			case Identifier:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1289); match(Identifier);
-				setState(1290); arguments();
+				setState(1374); match(Identifier);
+				setState(1375); arguments();
 				}
 				break;
 			default:
@@ -7031,21 +7394,21 @@ public class JavaParser extends Parser {
 
 	public final ArgumentsContext arguments() throws RecognitionException {
 		ArgumentsContext _localctx = new ArgumentsContext(_ctx, getState());
-		enterRule(_localctx, 204, RULE_arguments);
+		enterRule(_localctx, 216, RULE_arguments);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1293); match(LPAREN);
-			setState(1295);
+			setState(1378); match(LPAREN);
+			setState(1380);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)))) != 0)) {
 				{
-				setState(1294); expressionList();
+				setState(1379); expressionList();
 				}
 			}
 
-			setState(1297); match(RPAREN);
+			setState(1382); match(RPAREN);
 			}
 		}
 		catch (RecognitionException re) {
@@ -7059,61 +7422,8 @@ public class JavaParser extends Parser {
 		return _localctx;
 	}
 
-	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
-		switch (ruleIndex) {
-		case 89: return expression_sempred((ExpressionContext)_localctx, predIndex);
-		}
-		return true;
-	}
-	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
-		switch (predIndex) {
-		case 0: return 13 >= _localctx._p;
-
-		case 1: return 12 >= _localctx._p;
-
-		case 2: return 11 >= _localctx._p;
-
-		case 3: return 10 >= _localctx._p;
-
-		case 4: return 8 >= _localctx._p;
-
-		case 5: return 7 >= _localctx._p;
-
-		case 6: return 6 >= _localctx._p;
-
-		case 7: return 5 >= _localctx._p;
-
-		case 8: return 4 >= _localctx._p;
-
-		case 9: return 3 >= _localctx._p;
-
-		case 10: return 1 >= _localctx._p;
-
-		case 11: return 2 >= _localctx._p;
-
-		case 12: return 25 >= _localctx._p;
-
-		case 13: return 24 >= _localctx._p;
-
-		case 14: return 23 >= _localctx._p;
-
-		case 15: return 22 >= _localctx._p;
-
-		case 17: return 20 >= _localctx._p;
-
-		case 16: return 21 >= _localctx._p;
-
-		case 19: return 16 >= _localctx._p;
-
-		case 18: return 19 >= _localctx._p;
-
-		case 20: return 9 >= _localctx._p;
-		}
-		return true;
-	}
-
 	public static final String _serializedATN =
-		"\3\uacf5\uee8c\u4f5d\u8b0d\u4a45\u78bd\u1b2f\u3378\3k\u0516\4\2\t\2\4"+
+		"\3\uacf5\uee8c\u4f5d\u8b0d\u4a45\u78bd\u1b2f\u3378\3k\u056b\4\2\t\2\4"+
 		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
 		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
@@ -7124,496 +7434,528 @@ public class JavaParser extends Parser {
 		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\4F\tF\4G\tG\4H\tH\4I"+
 		"\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4Q\tQ\4R\tR\4S\tS\4T\tT"+
 		"\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t\\\4]\t]\4^\t^\4_\t_\4"+
-		"`\t`\4a\ta\4b\tb\4c\tc\4d\td\4e\te\4f\tf\4g\tg\4h\th\3\2\5\2\u00d2\n\2"+
-		"\3\2\7\2\u00d5\n\2\f\2\16\2\u00d8\13\2\3\2\7\2\u00db\n\2\f\2\16\2\u00de"+
-		"\13\2\3\2\3\2\3\3\7\3\u00e3\n\3\f\3\16\3\u00e6\13\3\3\3\3\3\3\3\3\3\3"+
-		"\4\3\4\5\4\u00ee\n\4\3\4\3\4\3\4\5\4\u00f3\n\4\3\4\3\4\3\5\7\5\u00f8\n"+
-		"\5\f\5\16\5\u00fb\13\5\3\5\3\5\7\5\u00ff\n\5\f\5\16\5\u0102\13\5\3\5\3"+
-		"\5\7\5\u0106\n\5\f\5\16\5\u0109\13\5\3\5\3\5\7\5\u010d\n\5\f\5\16\5\u0110"+
-		"\13\5\3\5\3\5\5\5\u0114\n\5\3\6\3\6\5\6\u0118\n\6\3\7\3\7\5\7\u011c\n"+
-		"\7\3\b\3\b\5\b\u0120\n\b\3\t\3\t\3\t\5\t\u0125\n\t\3\t\3\t\5\t\u0129\n"+
-		"\t\3\t\3\t\5\t\u012d\n\t\3\t\3\t\3\n\3\n\3\n\3\n\7\n\u0135\n\n\f\n\16"+
-		"\n\u0138\13\n\3\n\3\n\3\13\3\13\3\13\5\13\u013f\n\13\3\f\3\f\3\f\7\f\u0144"+
-		"\n\f\f\f\16\f\u0147\13\f\3\r\3\r\3\r\3\r\5\r\u014d\n\r\3\r\3\r\5\r\u0151"+
-		"\n\r\3\r\5\r\u0154\n\r\3\r\5\r\u0157\n\r\3\r\3\r\3\16\3\16\3\16\7\16\u015e"+
-		"\n\16\f\16\16\16\u0161\13\16\3\17\7\17\u0164\n\17\f\17\16\17\u0167\13"+
-		"\17\3\17\3\17\5\17\u016b\n\17\3\17\5\17\u016e\n\17\3\20\3\20\7\20\u0172"+
-		"\n\20\f\20\16\20\u0175\13\20\3\21\3\21\3\21\5\21\u017a\n\21\3\21\3\21"+
-		"\5\21\u017e\n\21\3\21\3\21\3\22\3\22\3\22\7\22\u0185\n\22\f\22\16\22\u0188"+
-		"\13\22\3\23\3\23\7\23\u018c\n\23\f\23\16\23\u018f\13\23\3\23\3\23\3\24"+
-		"\3\24\7\24\u0195\n\24\f\24\16\24\u0198\13\24\3\24\3\24\3\25\3\25\5\25"+
-		"\u019e\n\25\3\25\3\25\7\25\u01a2\n\25\f\25\16\25\u01a5\13\25\3\25\5\25"+
-		"\u01a8\n\25\3\26\3\26\3\26\3\26\3\26\3\26\3\26\3\26\3\26\5\26\u01b3\n"+
-		"\26\3\27\3\27\5\27\u01b7\n\27\3\27\3\27\3\27\3\27\7\27\u01bd\n\27\f\27"+
-		"\16\27\u01c0\13\27\3\27\3\27\5\27\u01c4\n\27\3\27\3\27\5\27\u01c8\n\27"+
-		"\3\30\3\30\3\30\3\31\3\31\3\31\3\31\5\31\u01d1\n\31\3\31\3\31\3\32\3\32"+
-		"\3\32\3\33\3\33\3\33\3\33\3\34\7\34\u01dd\n\34\f\34\16\34\u01e0\13\34"+
-		"\3\34\3\34\5\34\u01e4\n\34\3\35\3\35\3\35\3\35\3\35\3\35\3\35\5\35\u01ed"+
-		"\n\35\3\36\3\36\3\36\3\36\7\36\u01f3\n\36\f\36\16\36\u01f6\13\36\3\36"+
-		"\3\36\3\37\3\37\3\37\7\37\u01fd\n\37\f\37\16\37\u0200\13\37\3\37\3\37"+
-		"\3\37\3 \3 \5 \u0207\n \3 \3 \3 \3 \7 \u020d\n \f \16 \u0210\13 \3 \3"+
-		" \5 \u0214\n \3 \3 \3!\3!\3!\3\"\3\"\3\"\7\"\u021e\n\"\f\"\16\"\u0221"+
-		"\13\"\3#\3#\3#\5#\u0226\n#\3$\3$\3$\7$\u022b\n$\f$\16$\u022e\13$\3%\3"+
-		"%\5%\u0232\n%\3&\3&\3&\3&\7&\u0238\n&\f&\16&\u023b\13&\3&\5&\u023e\n&"+
-		"\5&\u0240\n&\3&\3&\3\'\3\'\3(\3(\3)\3)\3*\3*\3*\7*\u024d\n*\f*\16*\u0250"+
-		"\13*\3*\3*\3*\7*\u0255\n*\f*\16*\u0258\13*\5*\u025a\n*\3+\3+\5+\u025e"+
-		"\n+\3+\3+\3+\5+\u0263\n+\7+\u0265\n+\f+\16+\u0268\13+\3,\3,\3-\3-\3-\3"+
-		"-\7-\u0270\n-\f-\16-\u0273\13-\3-\3-\3.\3.\3.\3.\5.\u027b\n.\5.\u027d"+
-		"\n.\3/\3/\3/\7/\u0282\n/\f/\16/\u0285\13/\3\60\3\60\5\60\u0289\n\60\3"+
-		"\60\3\60\3\61\3\61\3\61\7\61\u0290\n\61\f\61\16\61\u0293\13\61\3\61\3"+
-		"\61\5\61\u0297\n\61\3\61\5\61\u029a\n\61\3\62\7\62\u029d\n\62\f\62\16"+
-		"\62\u02a0\13\62\3\62\3\62\3\62\3\63\7\63\u02a6\n\63\f\63\16\63\u02a9\13"+
-		"\63\3\63\3\63\3\63\3\63\3\64\3\64\3\65\3\65\3\66\3\66\3\66\7\66\u02b6"+
-		"\n\66\f\66\16\66\u02b9\13\66\3\67\3\67\38\38\38\38\38\58\u02c2\n8\38\5"+
-		"8\u02c5\n8\39\39\3:\3:\3:\7:\u02cc\n:\f:\16:\u02cf\13:\3;\3;\3;\3;\3<"+
-		"\3<\3<\5<\u02d8\n<\3=\3=\3=\3=\7=\u02de\n=\f=\16=\u02e1\13=\5=\u02e3\n"+
-		"=\3=\5=\u02e6\n=\3=\3=\3>\3>\3>\3>\3>\3?\3?\7?\u02f1\n?\f?\16?\u02f4\13"+
-		"?\3?\3?\3@\7@\u02f9\n@\f@\16@\u02fc\13@\3@\3@\5@\u0300\n@\3A\3A\3A\3A"+
-		"\3A\3A\5A\u0308\nA\3A\3A\5A\u030c\nA\3A\3A\5A\u0310\nA\3A\3A\5A\u0314"+
-		"\nA\5A\u0316\nA\3B\3B\5B\u031a\nB\3C\3C\3C\3C\5C\u0320\nC\3D\3D\3E\3E"+
-		"\3E\3F\3F\7F\u0329\nF\fF\16F\u032c\13F\3F\3F\3G\3G\3G\5G\u0333\nG\3H\3"+
-		"H\3H\3I\7I\u0339\nI\fI\16I\u033c\13I\3I\3I\3I\3J\3J\3J\3J\3J\5J\u0346"+
-		"\nJ\3J\3J\3J\3J\3J\3J\3J\5J\u034f\nJ\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J"+
-		"\3J\3J\3J\3J\3J\3J\3J\3J\6J\u0364\nJ\rJ\16J\u0365\3J\5J\u0369\nJ\3J\5"+
-		"J\u036c\nJ\3J\3J\3J\3J\7J\u0372\nJ\fJ\16J\u0375\13J\3J\5J\u0378\nJ\3J"+
-		"\3J\3J\3J\7J\u037e\nJ\fJ\16J\u0381\13J\3J\7J\u0384\nJ\fJ\16J\u0387\13"+
-		"J\3J\3J\3J\3J\3J\3J\3J\3J\5J\u0391\nJ\3J\3J\3J\3J\3J\3J\3J\5J\u039a\n"+
-		"J\3J\3J\3J\5J\u039f\nJ\3J\3J\3J\3J\3J\3J\3J\3J\5J\u03a9\nJ\3K\3K\3K\7"+
-		"K\u03ae\nK\fK\16K\u03b1\13K\3K\3K\3K\3K\3K\3L\3L\3L\7L\u03bb\nL\fL\16"+
-		"L\u03be\13L\3M\3M\3M\3N\3N\3N\5N\u03c6\nN\3N\3N\3O\3O\3O\7O\u03cd\nO\f"+
-		"O\16O\u03d0\13O\3P\7P\u03d3\nP\fP\16P\u03d6\13P\3P\3P\3P\3P\3P\3Q\6Q\u03de"+
-		"\nQ\rQ\16Q\u03df\3Q\6Q\u03e3\nQ\rQ\16Q\u03e4\3R\3R\3R\3R\3R\3R\3R\3R\3"+
-		"R\3R\5R\u03f1\nR\3S\3S\5S\u03f5\nS\3S\3S\5S\u03f9\nS\3S\3S\5S\u03fd\n"+
-		"S\5S\u03ff\nS\3T\3T\5T\u0403\nT\3U\7U\u0406\nU\fU\16U\u0409\13U\3U\3U"+
-		"\3U\3U\3U\3V\3V\3W\3W\3W\3W\3X\3X\3X\7X\u0419\nX\fX\16X\u041c\13X\3Y\3"+
-		"Y\3Z\3Z\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\5[\u042f\n[\3[\3[\3[\3"+
-		"[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\5[\u043f\n[\3[\3[\3[\3[\3[\3[\3[\3[\3"+
-		"[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3"+
-		"[\3[\3[\3[\5[\u0464\n[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3"+
-		"[\3[\5[\u0477\n[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\5[\u0489"+
-		"\n[\3[\3[\3[\3[\3[\3[\7[\u0491\n[\f[\16[\u0494\13[\3\\\3\\\3\\\3\\\3\\"+
-		"\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\5\\\u04a9\n\\"+
-		"\5\\\u04ab\n\\\3]\3]\3]\3]\3]\3]\3]\5]\u04b4\n]\5]\u04b6\n]\3^\3^\5^\u04ba"+
-		"\n^\3^\3^\3^\5^\u04bf\n^\7^\u04c1\n^\f^\16^\u04c4\13^\3^\5^\u04c7\n^\3"+
-		"_\3_\5_\u04cb\n_\3_\3_\3`\3`\3`\3`\7`\u04d3\n`\f`\16`\u04d6\13`\3`\3`"+
-		"\3`\3`\3`\3`\3`\7`\u04df\n`\f`\16`\u04e2\13`\3`\3`\7`\u04e6\n`\f`\16`"+
-		"\u04e9\13`\5`\u04eb\n`\3a\3a\5a\u04ef\na\3b\3b\3b\3c\3c\3c\3c\3d\3d\3"+
-		"d\5d\u04fb\nd\3e\3e\3e\5e\u0500\ne\3f\3f\3f\3f\5f\u0506\nf\5f\u0508\n"+
-		"f\3g\3g\3g\3g\5g\u050e\ng\3h\3h\5h\u0512\nh\3h\3h\3h\2i\2\4\6\b\n\f\16"+
-		"\20\22\24\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\^`bd"+
-		"fhjlnprtvxz|~\u0080\u0082\u0084\u0086\u0088\u008a\u008c\u008e\u0090\u0092"+
-		"\u0094\u0096\u0098\u009a\u009c\u009e\u00a0\u00a2\u00a4\u00a6\u00a8\u00aa"+
-		"\u00ac\u00ae\u00b0\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2"+
-		"\u00c4\u00c6\u00c8\u00ca\u00cc\u00ce\2\16\6\2  ,,\60\60\63\63\6\2\3\3"+
-		"\24\24#%()\n\2\5\5\7\7\n\n\20\20\26\26\35\35\37\37\'\'\4\2\23\23**\3\2"+
-		"\65:\3\2QT\3\2GH\4\2UVZZ\3\2ST\4\2EFLM\4\2KKNN\3\2QR\u0591\2\u00d1\3\2"+
-		"\2\2\4\u00e4\3\2\2\2\6\u00eb\3\2\2\2\b\u0113\3\2\2\2\n\u0117\3\2\2\2\f"+
-		"\u011b\3\2\2\2\16\u011f\3\2\2\2\20\u0121\3\2\2\2\22\u0130\3\2\2\2\24\u013b"+
-		"\3\2\2\2\26\u0140\3\2\2\2\30\u0148\3\2\2\2\32\u015a\3\2\2\2\34\u0165\3"+
-		"\2\2\2\36\u016f\3\2\2\2 \u0176\3\2\2\2\"\u0181\3\2\2\2$\u0189\3\2\2\2"+
-		"&\u0192\3\2\2\2(\u01a7\3\2\2\2*\u01b2\3\2\2\2,\u01b6\3\2\2\2.\u01c9\3"+
-		"\2\2\2\60\u01cc\3\2\2\2\62\u01d4\3\2\2\2\64\u01d7\3\2\2\2\66\u01e3\3\2"+
-		"\2\28\u01ec\3\2\2\2:\u01ee\3\2\2\2<\u01f9\3\2\2\2>\u0206\3\2\2\2@\u0217"+
-		"\3\2\2\2B\u021a\3\2\2\2D\u0222\3\2\2\2F\u0227\3\2\2\2H\u0231\3\2\2\2J"+
-		"\u0233\3\2\2\2L\u0243\3\2\2\2N\u0245\3\2\2\2P\u0247\3\2\2\2R\u0259\3\2"+
-		"\2\2T\u025b\3\2\2\2V\u0269\3\2\2\2X\u026b\3\2\2\2Z\u027c\3\2\2\2\\\u027e"+
-		"\3\2\2\2^\u0286\3\2\2\2`\u0299\3\2\2\2b\u029e\3\2\2\2d\u02a7\3\2\2\2f"+
-		"\u02ae\3\2\2\2h\u02b0\3\2\2\2j\u02b2\3\2\2\2l\u02ba\3\2\2\2n\u02bc\3\2"+
-		"\2\2p\u02c6\3\2\2\2r\u02c8\3\2\2\2t\u02d0\3\2\2\2v\u02d7\3\2\2\2x\u02d9"+
-		"\3\2\2\2z\u02e9\3\2\2\2|\u02ee\3\2\2\2~\u02ff\3\2\2\2\u0080\u0315\3\2"+
-		"\2\2\u0082\u0319\3\2\2\2\u0084\u031b\3\2\2\2\u0086\u0321\3\2\2\2\u0088"+
-		"\u0323\3\2\2\2\u008a\u0326\3\2\2\2\u008c\u0332\3\2\2\2\u008e\u0334\3\2"+
-		"\2\2\u0090\u033a\3\2\2\2\u0092\u03a8\3\2\2\2\u0094\u03aa\3\2\2\2\u0096"+
-		"\u03b7\3\2\2\2\u0098\u03bf\3\2\2\2\u009a\u03c2\3\2\2\2\u009c\u03c9\3\2"+
-		"\2\2\u009e\u03d4\3\2\2\2\u00a0\u03dd\3\2\2\2\u00a2\u03f0\3\2\2\2\u00a4"+
-		"\u03fe\3\2\2\2\u00a6\u0402\3\2\2\2\u00a8\u0407\3\2\2\2\u00aa\u040f\3\2"+
-		"\2\2\u00ac\u0411\3\2\2\2\u00ae\u0415\3\2\2\2\u00b0\u041d\3\2\2\2\u00b2"+
-		"\u041f\3\2\2\2\u00b4\u042e\3\2\2\2\u00b6\u04aa\3\2\2\2\u00b8\u04b5\3\2"+
-		"\2\2\u00ba\u04c6\3\2\2\2\u00bc\u04c8\3\2\2\2\u00be\u04ce\3\2\2\2\u00c0"+
-		"\u04ec\3\2\2\2\u00c2\u04f0\3\2\2\2\u00c4\u04f3\3\2\2\2\u00c6\u04fa\3\2"+
-		"\2\2\u00c8\u04ff\3\2\2\2\u00ca\u0507\3\2\2\2\u00cc\u050d\3\2\2\2\u00ce"+
-		"\u050f\3\2\2\2\u00d0\u00d2\5\4\3\2\u00d1\u00d0\3\2\2\2\u00d1\u00d2\3\2"+
-		"\2\2\u00d2\u00d6\3\2\2\2\u00d3\u00d5\5\6\4\2\u00d4\u00d3\3\2\2\2\u00d5"+
-		"\u00d8\3\2\2\2\u00d6\u00d4\3\2\2\2\u00d6\u00d7\3\2\2\2\u00d7\u00dc\3\2"+
-		"\2\2\u00d8\u00d6\3\2\2\2\u00d9\u00db\5\b\5\2\u00da\u00d9\3\2\2\2\u00db"+
-		"\u00de\3\2\2\2\u00dc\u00da\3\2\2\2\u00dc\u00dd\3\2\2\2\u00dd\u00df\3\2"+
-		"\2\2\u00de\u00dc\3\2\2\2\u00df\u00e0\7\2\2\3\u00e0\3\3\2\2\2\u00e1\u00e3"+
-		"\5n8\2\u00e2\u00e1\3\2\2\2\u00e3\u00e6\3\2\2\2\u00e4\u00e2\3\2\2\2\u00e4"+
-		"\u00e5\3\2\2\2\u00e5\u00e7\3\2\2\2\u00e6\u00e4\3\2\2\2\u00e7\u00e8\7\""+
-		"\2\2\u00e8\u00e9\5j\66\2\u00e9\u00ea\7A\2\2\u00ea\5\3\2\2\2\u00eb\u00ed"+
-		"\7\33\2\2\u00ec\u00ee\7(\2\2\u00ed\u00ec\3\2\2\2\u00ed\u00ee\3\2\2\2\u00ee"+
-		"\u00ef\3\2\2\2\u00ef\u00f2\5j\66\2\u00f0\u00f1\7C\2\2\u00f1\u00f3\7U\2"+
-		"\2\u00f2\u00f0\3\2\2\2\u00f2\u00f3\3\2\2\2\u00f3\u00f4\3\2\2\2\u00f4\u00f5"+
-		"\7A\2\2\u00f5\7\3\2\2\2\u00f6\u00f8\5\f\7\2\u00f7\u00f6\3\2\2\2\u00f8"+
-		"\u00fb\3\2\2\2\u00f9\u00f7\3\2\2\2\u00f9\u00fa\3\2\2\2\u00fa\u00fc\3\2"+
-		"\2\2\u00fb\u00f9\3\2\2\2\u00fc\u0114\5\20\t\2\u00fd\u00ff\5\f\7\2\u00fe"+
-		"\u00fd\3\2\2\2\u00ff\u0102\3\2\2\2\u0100\u00fe\3\2\2\2\u0100\u0101\3\2"+
-		"\2\2\u0101\u0103\3\2\2\2\u0102\u0100\3\2\2\2\u0103\u0114\5\30\r\2\u0104"+
-		"\u0106\5\f\7\2\u0105\u0104\3\2\2\2\u0106\u0109\3\2\2\2\u0107\u0105\3\2"+
-		"\2\2\u0107\u0108\3\2\2\2\u0108\u010a\3\2\2\2\u0109\u0107\3\2\2\2\u010a"+
-		"\u0114\5 \21\2\u010b\u010d\5\f\7\2\u010c\u010b\3\2\2\2\u010d\u0110\3\2"+
-		"\2\2\u010e\u010c\3\2\2\2\u010e\u010f\3\2\2\2\u010f\u0111\3\2\2\2\u0110"+
-		"\u010e\3\2\2\2\u0111\u0114\5z>\2\u0112\u0114\7A\2\2\u0113\u00f9\3\2\2"+
-		"\2\u0113\u0100\3\2\2\2\u0113\u0107\3\2\2\2\u0113\u010e\3\2\2\2\u0113\u0112"+
-		"\3\2\2\2\u0114\t\3\2\2\2\u0115\u0118\5\f\7\2\u0116\u0118\t\2\2\2\u0117"+
-		"\u0115\3\2\2\2\u0117\u0116\3\2\2\2\u0118\13\3\2\2\2\u0119\u011c\5n8\2"+
-		"\u011a\u011c\t\3\2\2\u011b\u0119\3\2\2\2\u011b\u011a\3\2\2\2\u011c\r\3"+
-		"\2\2\2\u011d\u0120\7\24\2\2\u011e\u0120\5n8\2\u011f\u011d\3\2\2\2\u011f"+
-		"\u011e\3\2\2\2\u0120\17\3\2\2\2\u0121\u0122\7\13\2\2\u0122\u0124\7f\2"+
-		"\2\u0123\u0125\5\22\n\2\u0124\u0123\3\2\2\2\u0124\u0125\3\2\2\2\u0125"+
-		"\u0128\3\2\2\2\u0126\u0127\7\23\2\2\u0127\u0129\5R*\2\u0128\u0126\3\2"+
-		"\2\2\u0128\u0129\3\2\2\2\u0129\u012c\3\2\2\2\u012a\u012b\7\32\2\2\u012b"+
-		"\u012d\5\"\22\2\u012c\u012a\3\2\2\2\u012c\u012d\3\2\2\2\u012d\u012e\3"+
-		"\2\2\2\u012e\u012f\5$\23\2\u012f\21\3\2\2\2\u0130\u0131\7F\2\2\u0131\u0136"+
-		"\5\24\13\2\u0132\u0133\7B\2\2\u0133\u0135\5\24\13\2\u0134\u0132\3\2\2"+
-		"\2\u0135\u0138\3\2\2\2\u0136\u0134\3\2\2\2\u0136\u0137\3\2\2\2\u0137\u0139"+
-		"\3\2\2\2\u0138\u0136\3\2\2\2\u0139\u013a\7E\2\2\u013a\23\3\2\2\2\u013b"+
-		"\u013e\7f\2\2\u013c\u013d\7\23\2\2\u013d\u013f\5\26\f\2\u013e\u013c\3"+
-		"\2\2\2\u013e\u013f\3\2\2\2\u013f\25\3\2\2\2\u0140\u0145\5R*\2\u0141\u0142"+
-		"\7W\2\2\u0142\u0144\5R*\2\u0143\u0141\3\2\2\2\u0144\u0147\3\2\2\2\u0145"+
-		"\u0143\3\2\2\2\u0145\u0146\3\2\2\2\u0146\27\3\2\2\2\u0147\u0145\3\2\2"+
-		"\2\u0148\u0149\7\22\2\2\u0149\u014c\7f\2\2\u014a\u014b\7\32\2\2\u014b"+
-		"\u014d\5\"\22\2\u014c\u014a\3\2\2\2\u014c\u014d\3\2\2\2\u014d\u014e\3"+
-		"\2\2\2\u014e\u0150\7=\2\2\u014f\u0151\5\32\16\2\u0150\u014f\3\2\2\2\u0150"+
-		"\u0151\3\2\2\2\u0151\u0153\3\2\2\2\u0152\u0154\7B\2\2\u0153\u0152\3\2"+
-		"\2\2\u0153\u0154\3\2\2\2\u0154\u0156\3\2\2\2\u0155\u0157\5\36\20\2\u0156"+
-		"\u0155\3\2\2\2\u0156\u0157\3\2\2\2\u0157\u0158\3\2\2\2\u0158\u0159\7>"+
-		"\2\2\u0159\31\3\2\2\2\u015a\u015f\5\34\17\2\u015b\u015c\7B\2\2\u015c\u015e"+
-		"\5\34\17\2\u015d\u015b\3\2\2\2\u015e\u0161\3\2\2\2\u015f\u015d\3\2\2\2"+
-		"\u015f\u0160\3\2\2\2\u0160\33\3\2\2\2\u0161\u015f\3\2\2\2\u0162\u0164"+
-		"\5n8\2\u0163\u0162\3\2\2\2\u0164\u0167\3\2\2\2\u0165\u0163\3\2\2\2\u0165"+
-		"\u0166\3\2\2\2\u0166\u0168\3\2\2\2\u0167\u0165\3\2\2\2\u0168\u016a\7f"+
-		"\2\2\u0169\u016b\5\u00ceh\2\u016a\u0169\3\2\2\2\u016a\u016b\3\2\2\2\u016b"+
-		"\u016d\3\2\2\2\u016c\u016e\5$\23\2\u016d\u016c\3\2\2\2\u016d\u016e\3\2"+
-		"\2\2\u016e\35\3\2\2\2\u016f\u0173\7A\2\2\u0170\u0172\5(\25\2\u0171\u0170"+
-		"\3\2\2\2\u0172\u0175\3\2\2\2\u0173\u0171\3\2\2\2\u0173\u0174\3\2\2\2\u0174"+
-		"\37\3\2\2\2\u0175\u0173\3\2\2\2\u0176\u0177\7\36\2\2\u0177\u0179\7f\2"+
-		"\2\u0178\u017a\5\22\n\2\u0179\u0178\3\2\2\2\u0179\u017a\3\2\2\2\u017a"+
-		"\u017d\3\2\2\2\u017b\u017c\7\23\2\2\u017c\u017e\5\"\22\2\u017d\u017b\3"+
-		"\2\2\2\u017d\u017e\3\2\2\2\u017e\u017f\3\2\2\2\u017f\u0180\5&\24\2\u0180"+
-		"!\3\2\2\2\u0181\u0186\5R*\2\u0182\u0183\7B\2\2\u0183\u0185\5R*\2\u0184"+
-		"\u0182\3\2\2\2\u0185\u0188\3\2\2\2\u0186\u0184\3\2\2\2\u0186\u0187\3\2"+
-		"\2\2\u0187#\3\2\2\2\u0188\u0186\3\2\2\2\u0189\u018d\7=\2\2\u018a\u018c"+
-		"\5(\25\2\u018b\u018a\3\2\2\2\u018c\u018f\3\2\2\2\u018d\u018b\3\2\2\2\u018d"+
-		"\u018e\3\2\2\2\u018e\u0190\3\2\2\2\u018f\u018d\3\2\2\2\u0190\u0191\7>"+
-		"\2\2\u0191%\3\2\2\2\u0192\u0196\7=\2\2\u0193\u0195\5\66\34\2\u0194\u0193"+
-		"\3\2\2\2\u0195\u0198\3\2\2\2\u0196\u0194\3\2\2\2\u0196\u0197\3\2\2\2\u0197"+
-		"\u0199\3\2\2\2\u0198\u0196\3\2\2\2\u0199\u019a\7>\2\2\u019a\'\3\2\2\2"+
-		"\u019b\u01a8\7A\2\2\u019c\u019e\7(\2\2\u019d\u019c\3\2\2\2\u019d\u019e"+
-		"\3\2\2\2\u019e\u019f\3\2\2\2\u019f\u01a8\5\u008aF\2\u01a0\u01a2\5\n\6"+
-		"\2\u01a1\u01a0\3\2\2\2\u01a2\u01a5\3\2\2\2\u01a3\u01a1\3\2\2\2\u01a3\u01a4"+
-		"\3\2\2\2\u01a4\u01a6\3\2\2\2\u01a5\u01a3\3\2\2\2\u01a6\u01a8\5*\26\2\u01a7"+
-		"\u019b\3\2\2\2\u01a7\u019d\3\2\2\2\u01a7\u01a3\3\2\2\2\u01a8)\3\2\2\2"+
-		"\u01a9\u01b3\5,\27\2\u01aa\u01b3\5.\30\2\u01ab\u01b3\5\64\33\2\u01ac\u01b3"+
-		"\5\60\31\2\u01ad\u01b3\5\62\32\2\u01ae\u01b3\5 \21\2\u01af\u01b3\5z>\2"+
-		"\u01b0\u01b3\5\20\t\2\u01b1\u01b3\5\30\r\2\u01b2\u01a9\3\2\2\2\u01b2\u01aa"+
-		"\3\2\2\2\u01b2\u01ab\3\2\2\2\u01b2\u01ac\3\2\2\2\u01b2\u01ad\3\2\2\2\u01b2"+
-		"\u01ae\3\2\2\2\u01b2\u01af\3\2\2\2\u01b2\u01b0\3\2\2\2\u01b2\u01b1\3\2"+
-		"\2\2\u01b3+\3\2\2\2\u01b4\u01b7\5R*\2\u01b5\u01b7\7\62\2\2\u01b6\u01b4"+
-		"\3\2\2\2\u01b6\u01b5\3\2\2\2\u01b7\u01b8\3\2\2\2\u01b8\u01b9\7f\2\2\u01b9"+
-		"\u01be\5^\60\2\u01ba\u01bb\7?\2\2\u01bb\u01bd\7@\2\2\u01bc\u01ba\3\2\2"+
-		"\2\u01bd\u01c0\3\2\2\2\u01be\u01bc\3\2\2\2\u01be\u01bf\3\2\2\2\u01bf\u01c3"+
-		"\3\2\2\2\u01c0\u01be\3\2\2\2\u01c1\u01c2\7/\2\2\u01c2\u01c4\5\\/\2\u01c3"+
-		"\u01c1\3\2\2\2\u01c3\u01c4\3\2\2\2\u01c4\u01c7\3\2\2\2\u01c5\u01c8\5f"+
-		"\64\2\u01c6\u01c8\7A\2\2\u01c7\u01c5\3\2\2\2\u01c7\u01c6\3\2\2\2\u01c8"+
-		"-\3\2\2\2\u01c9\u01ca\5\22\n\2\u01ca\u01cb\5,\27\2\u01cb/\3\2\2\2\u01cc"+
-		"\u01cd\7f\2\2\u01cd\u01d0\5^\60\2\u01ce\u01cf\7/\2\2\u01cf\u01d1\5\\/"+
-		"\2\u01d0\u01ce\3\2\2\2\u01d0\u01d1\3\2\2\2\u01d1\u01d2\3\2\2\2\u01d2\u01d3"+
-		"\5h\65\2\u01d3\61\3\2\2\2\u01d4\u01d5\5\22\n\2\u01d5\u01d6\5\60\31\2\u01d6"+
-		"\63\3\2\2\2\u01d7\u01d8\5R*\2\u01d8\u01d9\5B\"\2\u01d9\u01da\7A\2\2\u01da"+
-		"\65\3\2\2\2\u01db\u01dd\5\n\6\2\u01dc\u01db\3\2\2\2\u01dd\u01e0\3\2\2"+
-		"\2\u01de\u01dc\3\2\2\2\u01de\u01df\3\2\2\2\u01df\u01e1\3\2\2\2\u01e0\u01de"+
-		"\3\2\2\2\u01e1\u01e4\58\35\2\u01e2\u01e4\7A\2\2\u01e3\u01de\3\2\2\2\u01e3"+
-		"\u01e2\3\2\2\2\u01e4\67\3\2\2\2\u01e5\u01ed\5:\36\2\u01e6\u01ed\5> \2"+
-		"\u01e7\u01ed\5@!\2\u01e8\u01ed\5 \21\2\u01e9\u01ed\5z>\2\u01ea\u01ed\5"+
-		"\20\t\2\u01eb\u01ed\5\30\r\2\u01ec\u01e5\3\2\2\2\u01ec\u01e6\3\2\2\2\u01ec"+
-		"\u01e7\3\2\2\2\u01ec\u01e8\3\2\2\2\u01ec\u01e9\3\2\2\2\u01ec\u01ea\3\2"+
-		"\2\2\u01ec\u01eb\3\2\2\2\u01ed9\3\2\2\2\u01ee\u01ef\5R*\2\u01ef\u01f4"+
-		"\5<\37\2\u01f0\u01f1\7B\2\2\u01f1\u01f3\5<\37\2\u01f2\u01f0\3\2\2\2\u01f3"+
-		"\u01f6\3\2\2\2\u01f4\u01f2\3\2\2\2\u01f4\u01f5\3\2\2\2\u01f5\u01f7\3\2"+
-		"\2\2\u01f6\u01f4\3\2\2\2\u01f7\u01f8\7A\2\2\u01f8;\3\2\2\2\u01f9\u01fe"+
-		"\7f\2\2\u01fa\u01fb\7?\2\2\u01fb\u01fd\7@\2\2\u01fc\u01fa\3\2\2\2\u01fd"+
-		"\u0200\3\2\2\2\u01fe\u01fc\3\2\2\2\u01fe\u01ff\3\2\2\2\u01ff\u0201\3\2"+
-		"\2\2\u0200\u01fe\3\2\2\2\u0201\u0202\7D\2\2\u0202\u0203\5H%\2\u0203=\3"+
-		"\2\2\2\u0204\u0207\5R*\2\u0205\u0207\7\62\2\2\u0206\u0204\3\2\2\2\u0206"+
-		"\u0205\3\2\2\2\u0207\u0208\3\2\2\2\u0208\u0209\7f\2\2\u0209\u020e\5^\60"+
-		"\2\u020a\u020b\7?\2\2\u020b\u020d\7@\2\2\u020c\u020a\3\2\2\2\u020d\u0210"+
-		"\3\2\2\2\u020e\u020c\3\2\2\2\u020e\u020f\3\2\2\2\u020f\u0213\3\2\2\2\u0210"+
-		"\u020e\3\2\2\2\u0211\u0212\7/\2\2\u0212\u0214\5\\/\2\u0213\u0211\3\2\2"+
-		"\2\u0213\u0214\3\2\2\2\u0214\u0215\3\2\2\2\u0215\u0216\7A\2\2\u0216?\3"+
-		"\2\2\2\u0217\u0218\5\22\n\2\u0218\u0219\5> \2\u0219A\3\2\2\2\u021a\u021f"+
-		"\5D#\2\u021b\u021c\7B\2\2\u021c\u021e\5D#\2\u021d\u021b\3\2\2\2\u021e"+
-		"\u0221\3\2\2\2\u021f\u021d\3\2\2\2\u021f\u0220\3\2\2\2\u0220C\3\2\2\2"+
-		"\u0221\u021f\3\2\2\2\u0222\u0225\5F$\2\u0223\u0224\7D\2\2\u0224\u0226"+
-		"\5H%\2\u0225\u0223\3\2\2\2\u0225\u0226\3\2\2\2\u0226E\3\2\2\2\u0227\u022c"+
-		"\7f\2\2\u0228\u0229\7?\2\2\u0229\u022b\7@\2\2\u022a\u0228\3\2\2\2\u022b"+
-		"\u022e\3\2\2\2\u022c\u022a\3\2\2\2\u022c\u022d\3\2\2\2\u022dG\3\2\2\2"+
-		"\u022e\u022c\3\2\2\2\u022f\u0232\5J&\2\u0230\u0232\5\u00b4[\2\u0231\u022f"+
-		"\3\2\2\2\u0231\u0230\3\2\2\2\u0232I\3\2\2\2\u0233\u023f\7=\2\2\u0234\u0239"+
-		"\5H%\2\u0235\u0236\7B\2\2\u0236\u0238\5H%\2\u0237\u0235\3\2\2\2\u0238"+
-		"\u023b\3\2\2\2\u0239\u0237\3\2\2\2\u0239\u023a\3\2\2\2\u023a\u023d\3\2"+
-		"\2\2\u023b\u0239\3\2\2\2\u023c\u023e\7B\2\2\u023d\u023c\3\2\2\2\u023d"+
-		"\u023e\3\2\2\2\u023e\u0240\3\2\2\2\u023f\u0234\3\2\2\2\u023f\u0240\3\2"+
-		"\2\2\u0240\u0241\3\2\2\2\u0241\u0242\7>\2\2\u0242K\3\2\2\2\u0243\u0244"+
-		"\5j\66\2\u0244M\3\2\2\2\u0245\u0246\7f\2\2\u0246O\3\2\2\2\u0247\u0248"+
-		"\5j\66\2\u0248Q\3\2\2\2\u0249\u024e\5T+\2\u024a\u024b\7?\2\2\u024b\u024d"+
-		"\7@\2\2\u024c\u024a\3\2\2\2\u024d\u0250\3\2\2\2\u024e\u024c\3\2\2\2\u024e"+
-		"\u024f\3\2\2\2\u024f\u025a\3\2\2\2\u0250\u024e\3\2\2\2\u0251\u0256\5V"+
-		",\2\u0252\u0253\7?\2\2\u0253\u0255\7@\2\2\u0254\u0252\3\2\2\2\u0255\u0258"+
-		"\3\2\2\2\u0256\u0254\3\2\2\2\u0256\u0257\3\2\2\2\u0257\u025a\3\2\2\2\u0258"+
-		"\u0256\3\2\2\2\u0259\u0249\3\2\2\2\u0259\u0251\3\2\2\2\u025aS\3\2\2\2"+
-		"\u025b\u025d\7f\2\2\u025c\u025e\5X-\2\u025d\u025c\3\2\2\2\u025d\u025e"+
-		"\3\2\2\2\u025e\u0266\3\2\2\2\u025f\u0260\7C\2\2\u0260\u0262\7f\2\2\u0261"+
-		"\u0263\5X-\2\u0262\u0261\3\2\2\2\u0262\u0263\3\2\2\2\u0263\u0265\3\2\2"+
-		"\2\u0264\u025f\3\2\2\2\u0265\u0268\3\2\2\2\u0266\u0264\3\2\2\2\u0266\u0267"+
-		"\3\2\2\2\u0267U\3\2\2\2\u0268\u0266\3\2\2\2\u0269\u026a\t\4\2\2\u026a"+
-		"W\3\2\2\2\u026b\u026c\7F\2\2\u026c\u0271\5Z.\2\u026d\u026e\7B\2\2\u026e"+
-		"\u0270\5Z.\2\u026f\u026d\3\2\2\2\u0270\u0273\3\2\2\2\u0271\u026f\3\2\2"+
-		"\2\u0271\u0272\3\2\2\2\u0272\u0274\3\2\2\2\u0273\u0271\3\2\2\2\u0274\u0275"+
-		"\7E\2\2\u0275Y\3\2\2\2\u0276\u027d\5R*\2\u0277\u027a\7I\2\2\u0278\u0279"+
-		"\t\5\2\2\u0279\u027b\5R*\2\u027a\u0278\3\2\2\2\u027a\u027b\3\2\2\2\u027b"+
-		"\u027d\3\2\2\2\u027c\u0276\3\2\2\2\u027c\u0277\3\2\2\2\u027d[\3\2\2\2"+
-		"\u027e\u0283\5j\66\2\u027f\u0280\7B\2\2\u0280\u0282\5j\66\2\u0281\u027f"+
-		"\3\2\2\2\u0282\u0285\3\2\2\2\u0283\u0281\3\2\2\2\u0283\u0284\3\2\2\2\u0284"+
-		"]\3\2\2\2\u0285\u0283\3\2\2\2\u0286\u0288\7;\2\2\u0287\u0289\5`\61\2\u0288"+
-		"\u0287\3\2\2\2\u0288\u0289\3\2\2\2\u0289\u028a\3\2\2\2\u028a\u028b\7<"+
-		"\2\2\u028b_\3\2\2\2\u028c\u0291\5b\62\2\u028d\u028e\7B\2\2\u028e\u0290"+
-		"\5b\62\2\u028f\u028d\3\2\2\2\u0290\u0293\3\2\2\2\u0291\u028f\3\2\2\2\u0291"+
-		"\u0292\3\2\2\2\u0292\u0296\3\2\2\2\u0293\u0291\3\2\2\2\u0294\u0295\7B"+
-		"\2\2\u0295\u0297\5d\63\2\u0296\u0294\3\2\2\2\u0296\u0297\3\2\2\2\u0297"+
-		"\u029a\3\2\2\2\u0298\u029a\5d\63\2\u0299\u028c\3\2\2\2\u0299\u0298\3\2"+
-		"\2\2\u029aa\3\2\2\2\u029b\u029d\5\16\b\2\u029c\u029b\3\2\2\2\u029d\u02a0"+
-		"\3\2\2\2\u029e\u029c\3\2\2\2\u029e\u029f\3\2\2\2\u029f\u02a1\3\2\2\2\u02a0"+
-		"\u029e\3\2\2\2\u02a1\u02a2\5R*\2\u02a2\u02a3\5F$\2\u02a3c\3\2\2\2\u02a4"+
-		"\u02a6\5\16\b\2\u02a5\u02a4\3\2\2\2\u02a6\u02a9\3\2\2\2\u02a7\u02a5\3"+
-		"\2\2\2\u02a7\u02a8\3\2\2\2\u02a8\u02aa\3\2\2\2\u02a9\u02a7\3\2\2\2\u02aa"+
-		"\u02ab\5R*\2\u02ab\u02ac\7h\2\2\u02ac\u02ad\5F$\2\u02ade\3\2\2\2\u02ae"+
-		"\u02af\5\u008aF\2\u02afg\3\2\2\2\u02b0\u02b1\5\u008aF\2\u02b1i\3\2\2\2"+
-		"\u02b2\u02b7\7f\2\2\u02b3\u02b4\7C\2\2\u02b4\u02b6\7f\2\2\u02b5\u02b3"+
-		"\3\2\2\2\u02b6\u02b9\3\2\2\2\u02b7\u02b5\3\2\2\2\u02b7\u02b8\3\2\2\2\u02b8"+
-		"k\3\2\2\2\u02b9\u02b7\3\2\2\2\u02ba\u02bb\t\6\2\2\u02bbm\3\2\2\2\u02bc"+
-		"\u02bd\7g\2\2\u02bd\u02c4\5p9\2\u02be\u02c1\7;\2\2\u02bf\u02c2\5r:\2\u02c0"+
-		"\u02c2\5v<\2\u02c1\u02bf\3\2\2\2\u02c1\u02c0\3\2\2\2\u02c1\u02c2\3\2\2"+
-		"\2\u02c2\u02c3\3\2\2\2\u02c3\u02c5\7<\2\2\u02c4\u02be\3\2\2\2\u02c4\u02c5"+
-		"\3\2\2\2\u02c5o\3\2\2\2\u02c6\u02c7\5j\66\2\u02c7q\3\2\2\2\u02c8\u02cd"+
-		"\5t;\2\u02c9\u02ca\7B\2\2\u02ca\u02cc\5t;\2\u02cb\u02c9\3\2\2\2\u02cc"+
-		"\u02cf\3\2\2\2\u02cd\u02cb\3\2\2\2\u02cd\u02ce\3\2\2\2\u02ces\3\2\2\2"+
-		"\u02cf\u02cd\3\2\2\2\u02d0\u02d1\7f\2\2\u02d1\u02d2\7D\2\2\u02d2\u02d3"+
-		"\5v<\2\u02d3u\3\2\2\2\u02d4\u02d8\5\u00b4[\2\u02d5\u02d8\5n8\2\u02d6\u02d8"+
-		"\5x=\2\u02d7\u02d4\3\2\2\2\u02d7\u02d5\3\2\2\2\u02d7\u02d6\3\2\2\2\u02d8"+
-		"w\3\2\2\2\u02d9\u02e2\7=\2\2\u02da\u02df\5v<\2\u02db\u02dc\7B\2\2\u02dc"+
-		"\u02de\5v<\2\u02dd\u02db\3\2\2\2\u02de\u02e1\3\2\2\2\u02df\u02dd\3\2\2"+
-		"\2\u02df\u02e0\3\2\2\2\u02e0\u02e3\3\2\2\2\u02e1\u02df\3\2\2\2\u02e2\u02da"+
-		"\3\2\2\2\u02e2\u02e3\3\2\2\2\u02e3\u02e5\3\2\2\2\u02e4\u02e6\7B\2\2\u02e5"+
-		"\u02e4\3\2\2\2\u02e5\u02e6\3\2\2\2\u02e6\u02e7\3\2\2\2\u02e7\u02e8\7>"+
-		"\2\2\u02e8y\3\2\2\2\u02e9\u02ea\7g\2\2\u02ea\u02eb\7\36\2\2\u02eb\u02ec"+
-		"\7f\2\2\u02ec\u02ed\5|?\2\u02ed{\3\2\2\2\u02ee\u02f2\7=\2\2\u02ef\u02f1"+
-		"\5~@\2\u02f0\u02ef\3\2\2\2\u02f1\u02f4\3\2\2\2\u02f2\u02f0\3\2\2\2\u02f2"+
-		"\u02f3\3\2\2\2\u02f3\u02f5\3\2\2\2\u02f4\u02f2\3\2\2\2\u02f5\u02f6\7>"+
-		"\2\2\u02f6}\3\2\2\2\u02f7\u02f9\5\n\6\2\u02f8\u02f7\3\2\2\2\u02f9\u02fc"+
-		"\3\2\2\2\u02fa\u02f8\3\2\2\2\u02fa\u02fb\3\2\2\2\u02fb\u02fd\3\2\2\2\u02fc"+
-		"\u02fa\3\2\2\2\u02fd\u0300\5\u0080A\2\u02fe\u0300\7A\2\2\u02ff\u02fa\3"+
-		"\2\2\2\u02ff\u02fe\3\2\2\2\u0300\177\3\2\2\2\u0301\u0302\5R*\2\u0302\u0303"+
-		"\5\u0082B\2\u0303\u0304\7A\2\2\u0304\u0316\3\2\2\2\u0305\u0307\5\20\t"+
-		"\2\u0306\u0308\7A\2\2\u0307\u0306\3\2\2\2\u0307\u0308\3\2\2\2\u0308\u0316"+
-		"\3\2\2\2\u0309\u030b\5 \21\2\u030a\u030c\7A\2\2\u030b\u030a\3\2\2\2\u030b"+
-		"\u030c\3\2\2\2\u030c\u0316\3\2\2\2\u030d\u030f\5\30\r\2\u030e\u0310\7"+
-		"A\2\2\u030f\u030e\3\2\2\2\u030f\u0310\3\2\2\2\u0310\u0316\3\2\2\2\u0311"+
-		"\u0313\5z>\2\u0312\u0314\7A\2\2\u0313\u0312\3\2\2\2\u0313\u0314\3\2\2"+
-		"\2\u0314\u0316\3\2\2\2\u0315\u0301\3\2\2\2\u0315\u0305\3\2\2\2\u0315\u0309"+
-		"\3\2\2\2\u0315\u030d\3\2\2\2\u0315\u0311\3\2\2\2\u0316\u0081\3\2\2\2\u0317"+
-		"\u031a\5\u0084C\2\u0318\u031a\5\u0086D\2\u0319\u0317\3\2\2\2\u0319\u0318"+
-		"\3\2\2\2\u031a\u0083\3\2\2\2\u031b\u031c\7f\2\2\u031c\u031d\7;\2\2\u031d"+
-		"\u031f\7<\2\2\u031e\u0320\5\u0088E\2\u031f\u031e\3\2\2\2\u031f\u0320\3"+
-		"\2\2\2\u0320\u0085\3\2\2\2\u0321\u0322\5B\"\2\u0322\u0087\3\2\2\2\u0323"+
-		"\u0324\7\16\2\2\u0324\u0325\5v<\2\u0325\u0089\3\2\2\2\u0326\u032a\7=\2"+
-		"\2\u0327\u0329\5\u008cG\2\u0328\u0327\3\2\2\2\u0329\u032c\3\2\2\2\u032a"+
-		"\u0328\3\2\2\2\u032a\u032b\3\2\2\2\u032b\u032d\3\2\2\2\u032c\u032a\3\2"+
-		"\2\2\u032d\u032e\7>\2\2\u032e\u008b\3\2\2\2\u032f\u0333\5\u008eH\2\u0330"+
-		"\u0333\5\u0092J\2\u0331\u0333\5\b\5\2\u0332\u032f\3\2\2\2\u0332\u0330"+
-		"\3\2\2\2\u0332\u0331\3\2\2\2\u0333\u008d\3\2\2\2\u0334\u0335\5\u0090I"+
-		"\2\u0335\u0336\7A\2\2\u0336\u008f\3\2\2\2\u0337\u0339\5\16\b\2\u0338\u0337"+
-		"\3\2\2\2\u0339\u033c\3\2\2\2\u033a\u0338\3\2\2\2\u033a\u033b\3\2\2\2\u033b"+
-		"\u033d\3\2\2\2\u033c\u033a\3\2\2\2\u033d\u033e\5R*\2\u033e\u033f\5B\""+
-		"\2\u033f\u0091\3\2\2\2\u0340\u03a9\5\u008aF\2\u0341\u0342\7\4\2\2\u0342"+
-		"\u0345\5\u00b4[\2\u0343\u0344\7J\2\2\u0344\u0346\5\u00b4[\2\u0345\u0343"+
-		"\3\2\2\2\u0345\u0346\3\2\2\2\u0346\u0347\3\2\2\2\u0347\u0348\7A\2\2\u0348"+
-		"\u03a9\3\2\2\2\u0349\u034a\7\30\2\2\u034a\u034b\5\u00acW\2\u034b\u034e"+
-		"\5\u0092J\2\u034c\u034d\7\21\2\2\u034d\u034f\5\u0092J\2\u034e\u034c\3"+
-		"\2\2\2\u034e\u034f\3\2\2\2\u034f\u03a9\3\2\2\2\u0350\u0351\7\27\2\2\u0351"+
-		"\u0352\7;\2\2\u0352\u0353\5\u00a4S\2\u0353\u0354\7<\2\2\u0354\u0355\5"+
-		"\u0092J\2\u0355\u03a9\3\2\2\2\u0356\u0357\7\64\2\2\u0357\u0358\5\u00ac"+
-		"W\2\u0358\u0359\5\u0092J\2\u0359\u03a9\3\2\2\2\u035a\u035b\7\17\2\2\u035b"+
-		"\u035c\5\u0092J\2\u035c\u035d\7\64\2\2\u035d\u035e\5\u00acW\2\u035e\u035f"+
-		"\7A\2\2\u035f\u03a9\3\2\2\2\u0360\u0361\7\61\2\2\u0361\u036b\5\u008aF"+
-		"\2\u0362\u0364\5\u0094K\2\u0363\u0362\3\2\2\2\u0364\u0365\3\2\2\2\u0365"+
-		"\u0363\3\2\2\2\u0365\u0366\3\2\2\2\u0366\u0368\3\2\2\2\u0367\u0369\5\u0098"+
-		"M\2\u0368\u0367\3\2\2\2\u0368\u0369\3\2\2\2\u0369\u036c\3\2\2\2\u036a"+
-		"\u036c\5\u0098M\2\u036b\u0363\3\2\2\2\u036b\u036a\3\2\2\2\u036c\u03a9"+
-		"\3\2\2\2\u036d\u036e\7\61\2\2\u036e\u036f\5\u009aN\2\u036f\u0373\5\u008a"+
-		"F\2\u0370\u0372\5\u0094K\2\u0371\u0370\3\2\2\2\u0372\u0375\3\2\2\2\u0373"+
-		"\u0371\3\2\2\2\u0373\u0374\3\2\2\2\u0374\u0377\3\2\2\2\u0375\u0373\3\2"+
-		"\2\2\u0376\u0378\5\u0098M\2\u0377\u0376\3\2\2\2\u0377\u0378\3\2\2\2\u0378"+
-		"\u03a9\3\2\2\2\u0379\u037a\7+\2\2\u037a\u037b\5\u00acW\2\u037b\u037f\7"+
-		"=\2\2\u037c\u037e\5\u00a0Q\2\u037d\u037c\3\2\2\2\u037e\u0381\3\2\2\2\u037f"+
-		"\u037d\3\2\2\2\u037f\u0380\3\2\2\2\u0380\u0385\3\2\2\2\u0381\u037f\3\2"+
-		"\2\2\u0382\u0384\5\u00a2R\2\u0383\u0382\3\2\2\2\u0384\u0387\3\2\2\2\u0385"+
-		"\u0383\3\2\2\2\u0385\u0386\3\2\2\2\u0386\u0388\3\2\2\2\u0387\u0385\3\2"+
-		"\2\2\u0388\u0389\7>\2\2\u0389\u03a9\3\2\2\2\u038a\u038b\7,\2\2\u038b\u038c"+
-		"\5\u00acW\2\u038c\u038d\5\u008aF\2\u038d\u03a9\3\2\2\2\u038e\u0390\7&"+
-		"\2\2\u038f\u0391\5\u00b4[\2\u0390\u038f\3\2\2\2\u0390\u0391\3\2\2\2\u0391"+
-		"\u0392\3\2\2\2\u0392\u03a9\7A\2\2\u0393\u0394\7.\2\2\u0394\u0395\5\u00b4"+
-		"[\2\u0395\u0396\7A\2\2\u0396\u03a9\3\2\2\2\u0397\u0399\7\6\2\2\u0398\u039a"+
-		"\7f\2\2\u0399\u0398\3\2\2\2\u0399\u039a\3\2\2\2\u039a\u039b\3\2\2\2\u039b"+
-		"\u03a9\7A\2\2\u039c\u039e\7\r\2\2\u039d\u039f\7f\2\2\u039e\u039d\3\2\2"+
-		"\2\u039e\u039f\3\2\2\2\u039f\u03a0\3\2\2\2\u03a0\u03a9\7A\2\2\u03a1\u03a9"+
-		"\7A\2\2\u03a2\u03a3\5\u00b0Y\2\u03a3\u03a4\7A\2\2\u03a4\u03a9\3\2\2\2"+
-		"\u03a5\u03a6\7f\2\2\u03a6\u03a7\7J\2\2\u03a7\u03a9\5\u0092J\2\u03a8\u0340"+
-		"\3\2\2\2\u03a8\u0341\3\2\2\2\u03a8\u0349\3\2\2\2\u03a8\u0350\3\2\2\2\u03a8"+
-		"\u0356\3\2\2\2\u03a8\u035a\3\2\2\2\u03a8\u0360\3\2\2\2\u03a8\u036d\3\2"+
-		"\2\2\u03a8\u0379\3\2\2\2\u03a8\u038a\3\2\2\2\u03a8\u038e\3\2\2\2\u03a8"+
-		"\u0393\3\2\2\2\u03a8\u0397\3\2\2\2\u03a8\u039c\3\2\2\2\u03a8\u03a1\3\2"+
-		"\2\2\u03a8\u03a2\3\2\2\2\u03a8\u03a5\3\2\2\2\u03a9\u0093\3\2\2\2\u03aa"+
-		"\u03ab\7\t\2\2\u03ab\u03af\7;\2\2\u03ac\u03ae\5\16\b\2\u03ad\u03ac\3\2"+
-		"\2\2\u03ae\u03b1\3\2\2\2\u03af\u03ad\3\2\2\2\u03af\u03b0\3\2\2\2\u03b0"+
-		"\u03b2\3\2\2\2\u03b1\u03af\3\2\2\2\u03b2\u03b3\5\u0096L\2\u03b3\u03b4"+
-		"\7f\2\2\u03b4\u03b5\7<\2\2\u03b5\u03b6\5\u008aF\2\u03b6\u0095\3\2\2\2"+
-		"\u03b7\u03bc\5j\66\2\u03b8\u03b9\7X\2\2\u03b9\u03bb\5j\66\2\u03ba\u03b8"+
-		"\3\2\2\2\u03bb\u03be\3\2\2\2\u03bc\u03ba\3\2\2\2\u03bc\u03bd\3\2\2\2\u03bd"+
-		"\u0097\3\2\2\2\u03be\u03bc\3\2\2\2\u03bf\u03c0\7\25\2\2\u03c0\u03c1\5"+
-		"\u008aF\2\u03c1\u0099\3\2\2\2\u03c2\u03c3\7;\2\2\u03c3\u03c5\5\u009cO"+
-		"\2\u03c4\u03c6\7A\2\2\u03c5\u03c4\3\2\2\2\u03c5\u03c6\3\2\2\2\u03c6\u03c7"+
-		"\3\2\2\2\u03c7\u03c8\7<\2\2\u03c8\u009b\3\2\2\2\u03c9\u03ce\5\u009eP\2"+
-		"\u03ca\u03cb\7A\2\2\u03cb\u03cd\5\u009eP\2\u03cc\u03ca\3\2\2\2\u03cd\u03d0"+
-		"\3\2\2\2\u03ce\u03cc\3\2\2\2\u03ce\u03cf\3\2\2\2\u03cf\u009d\3\2\2\2\u03d0"+
-		"\u03ce\3\2\2\2\u03d1\u03d3\5\16\b\2\u03d2\u03d1\3\2\2\2\u03d3\u03d6\3"+
-		"\2\2\2\u03d4\u03d2\3\2\2\2\u03d4\u03d5\3\2\2\2\u03d5\u03d7\3\2\2\2\u03d6"+
-		"\u03d4\3\2\2\2\u03d7\u03d8\5T+\2\u03d8\u03d9\5F$\2\u03d9\u03da\7D\2\2"+
-		"\u03da\u03db\5\u00b4[\2\u03db\u009f\3\2\2\2\u03dc\u03de\5\u00a2R\2\u03dd"+
-		"\u03dc\3\2\2\2\u03de\u03df\3\2\2\2\u03df\u03dd\3\2\2\2\u03df\u03e0\3\2"+
-		"\2\2\u03e0\u03e2\3\2\2\2\u03e1\u03e3\5\u008cG\2\u03e2\u03e1\3\2\2\2\u03e3"+
-		"\u03e4\3\2\2\2\u03e4\u03e2\3\2\2\2\u03e4\u03e5\3\2\2\2\u03e5\u00a1\3\2"+
-		"\2\2\u03e6\u03e7\7\b\2\2\u03e7\u03e8\5\u00b2Z\2\u03e8\u03e9\7J\2\2\u03e9"+
-		"\u03f1\3\2\2\2\u03ea\u03eb\7\b\2\2\u03eb\u03ec\5N(\2\u03ec\u03ed\7J\2"+
-		"\2\u03ed\u03f1\3\2\2\2\u03ee\u03ef\7\16\2\2\u03ef\u03f1\7J\2\2\u03f0\u03e6"+
-		"\3\2\2\2\u03f0\u03ea\3\2\2\2\u03f0\u03ee\3\2\2\2\u03f1\u00a3\3\2\2\2\u03f2"+
-		"\u03ff\5\u00a8U\2\u03f3\u03f5\5\u00a6T\2\u03f4\u03f3\3\2\2\2\u03f4\u03f5"+
-		"\3\2\2\2\u03f5\u03f6\3\2\2\2\u03f6\u03f8\7A\2\2\u03f7\u03f9\5\u00b4[\2"+
-		"\u03f8\u03f7\3\2\2\2\u03f8\u03f9\3\2\2\2\u03f9\u03fa\3\2\2\2\u03fa\u03fc"+
-		"\7A\2\2\u03fb\u03fd\5\u00aaV\2\u03fc\u03fb\3\2\2\2\u03fc\u03fd\3\2\2\2"+
-		"\u03fd\u03ff\3\2\2\2\u03fe\u03f2\3\2\2\2\u03fe\u03f4\3\2\2\2\u03ff\u00a5"+
-		"\3\2\2\2\u0400\u0403\5\u0090I\2\u0401\u0403\5\u00aeX\2\u0402\u0400\3\2"+
-		"\2\2\u0402\u0401\3\2\2\2\u0403\u00a7\3\2\2\2\u0404\u0406\5\16\b\2\u0405"+
-		"\u0404\3\2\2\2\u0406\u0409\3\2\2\2\u0407\u0405\3\2\2\2\u0407\u0408\3\2"+
-		"\2\2\u0408\u040a\3\2\2\2\u0409\u0407\3\2\2\2\u040a\u040b\5R*\2\u040b\u040c"+
-		"\7f\2\2\u040c\u040d\7J\2\2\u040d\u040e\5\u00b4[\2\u040e\u00a9\3\2\2\2"+
-		"\u040f\u0410\5\u00aeX\2\u0410\u00ab\3\2\2\2\u0411\u0412\7;\2\2\u0412\u0413"+
-		"\5\u00b4[\2\u0413\u0414\7<\2\2\u0414\u00ad\3\2\2\2\u0415\u041a\5\u00b4"+
-		"[\2\u0416\u0417\7B\2\2\u0417\u0419\5\u00b4[\2\u0418\u0416\3\2\2\2\u0419"+
-		"\u041c\3\2\2\2\u041a\u0418\3\2\2\2\u041a\u041b\3\2\2\2\u041b\u00af\3\2"+
-		"\2\2\u041c\u041a\3\2\2\2\u041d\u041e\5\u00b4[\2\u041e\u00b1\3\2\2\2\u041f"+
-		"\u0420\5\u00b4[\2\u0420\u00b3\3\2\2\2\u0421\u0422\b[\1\2\u0422\u0423\7"+
-		";\2\2\u0423\u0424\5R*\2\u0424\u0425\7<\2\2\u0425\u0426\5\u00b4[\2\u0426"+
-		"\u042f\3\2\2\2\u0427\u0428\t\7\2\2\u0428\u042f\5\u00b4[\2\u0429\u042a"+
-		"\t\b\2\2\u042a\u042f\5\u00b4[\2\u042b\u042f\5\u00b6\\\2\u042c\u042d\7"+
-		"!\2\2\u042d\u042f\5\u00b8]\2\u042e\u0421\3\2\2\2\u042e\u0427\3\2\2\2\u042e"+
-		"\u0429\3\2\2\2\u042e\u042b\3\2\2\2\u042e\u042c\3\2\2\2\u042f\u0492\3\2"+
-		"\2\2\u0430\u0431\6[\2\3\u0431\u0432\t\t\2\2\u0432\u0491\5\u00b4[\2\u0433"+
-		"\u0434\6[\3\3\u0434\u0435\t\n\2\2\u0435\u0491\5\u00b4[\2\u0436\u043e\6"+
-		"[\4\3\u0437\u0438\7F\2\2\u0438\u043f\7F\2\2\u0439\u043a\7E\2\2\u043a\u043b"+
-		"\7E\2\2\u043b\u043f\7E\2\2\u043c\u043d\7E\2\2\u043d\u043f\7E\2\2\u043e"+
-		"\u0437\3\2\2\2\u043e\u0439\3\2\2\2\u043e\u043c\3\2\2\2\u043f\u0440\3\2"+
-		"\2\2\u0440\u0491\5\u00b4[\2\u0441\u0442\6[\5\3\u0442\u0443\t\13\2\2\u0443"+
-		"\u0491\5\u00b4[\2\u0444\u0445\6[\6\3\u0445\u0446\t\f\2\2\u0446\u0491\5"+
-		"\u00b4[\2\u0447\u0448\6[\7\3\u0448\u0449\7W\2\2\u0449\u0491\5\u00b4[\2"+
-		"\u044a\u044b\6[\b\3\u044b\u044c\7Y\2\2\u044c\u0491\5\u00b4[\2\u044d\u044e"+
-		"\6[\t\3\u044e\u044f\7X\2\2\u044f\u0491\5\u00b4[\2\u0450\u0451\6[\n\3\u0451"+
-		"\u0452\7O\2\2\u0452\u0491\5\u00b4[\2\u0453\u0454\6[\13\3\u0454\u0455\7"+
-		"P\2\2\u0455\u0491\5\u00b4[\2\u0456\u0463\6[\f\3\u0457\u0464\7D\2\2\u0458"+
-		"\u0464\7[\2\2\u0459\u0464\7\\\2\2\u045a\u0464\7]\2\2\u045b\u0464\7^\2"+
-		"\2\u045c\u0464\7_\2\2\u045d\u0464\7`\2\2\u045e\u0464\7a\2\2\u045f\u0464"+
-		"\7d\2\2\u0460\u0464\7e\2\2\u0461\u0464\7c\2\2\u0462\u0464\7b\2\2\u0463"+
-		"\u0457\3\2\2\2\u0463\u0458\3\2\2\2\u0463\u0459\3\2\2\2\u0463\u045a\3\2"+
-		"\2\2\u0463\u045b\3\2\2\2\u0463\u045c\3\2\2\2\u0463\u045d\3\2\2\2\u0463"+
-		"\u045e\3\2\2\2\u0463\u045f\3\2\2\2\u0463\u0460\3\2\2\2\u0463\u0461\3\2"+
-		"\2\2\u0463\u0462\3\2\2\2\u0464\u0465\3\2\2\2\u0465\u0491\5\u00b4[\2\u0466"+
-		"\u0467\6[\r\3\u0467\u0468\7I\2\2\u0468\u0469\5\u00b4[\2\u0469\u046a\7"+
-		"J\2\2\u046a\u046b\5\u00b4[\2\u046b\u0491\3\2\2\2\u046c\u046d\6[\16\3\u046d"+
-		"\u046e\7C\2\2\u046e\u0491\7f\2\2\u046f\u0470\6[\17\3\u0470\u0471\7C\2"+
-		"\2\u0471\u0491\7-\2\2\u0472\u0473\6[\20\3\u0473\u0474\7C\2\2\u0474\u0476"+
-		"\7!\2\2\u0475\u0477\5\u00c4c\2\u0476\u0475\3\2\2\2\u0476\u0477\3\2\2\2"+
-		"\u0477\u0478\3\2\2\2\u0478\u0491\5\u00bc_\2\u0479\u047a\6[\21\3\u047a"+
-		"\u047b\7C\2\2\u047b\u047c\7*\2\2\u047c\u0491\5\u00caf\2\u047d\u047e\6"+
-		"[\22\3\u047e\u047f\7C\2\2\u047f\u0491\5\u00c2b\2\u0480\u0481\6[\23\3\u0481"+
-		"\u0482\7?\2\2\u0482\u0483\5\u00b4[\2\u0483\u0484\7@\2\2\u0484\u0491\3"+
-		"\2\2\2\u0485\u0486\6[\24\3\u0486\u0488\7;\2\2\u0487\u0489\5\u00aeX\2\u0488"+
-		"\u0487\3\2\2\2\u0488\u0489\3\2\2\2\u0489\u048a\3\2\2\2\u048a\u0491\7<"+
-		"\2\2\u048b\u048c\6[\25\3\u048c\u0491\t\r\2\2\u048d\u048e\6[\26\3\u048e"+
-		"\u048f\7\34\2\2\u048f\u0491\5R*\2\u0490\u0430\3\2\2\2\u0490\u0433\3\2"+
-		"\2\2\u0490\u0436\3\2\2\2\u0490\u0441\3\2\2\2\u0490\u0444\3\2\2\2\u0490"+
-		"\u0447\3\2\2\2\u0490\u044a\3\2\2\2\u0490\u044d\3\2\2\2\u0490\u0450\3\2"+
-		"\2\2\u0490\u0453\3\2\2\2\u0490\u0456\3\2\2\2\u0490\u0466\3\2\2\2\u0490"+
-		"\u046c\3\2\2\2\u0490\u046f\3\2\2\2\u0490\u0472\3\2\2\2\u0490\u0479\3\2"+
-		"\2\2\u0490\u047d\3\2\2\2\u0490\u0480\3\2\2\2\u0490\u0485\3\2\2\2\u0490"+
-		"\u048b\3\2\2\2\u0490\u048d\3\2\2\2\u0491\u0494\3\2\2\2\u0492\u0490\3\2"+
-		"\2\2\u0492\u0493\3\2\2\2\u0493\u00b5\3\2\2\2\u0494\u0492\3\2\2\2\u0495"+
-		"\u0496\7;\2\2\u0496\u0497\5\u00b4[\2\u0497\u0498\7<\2\2\u0498\u04ab\3"+
-		"\2\2\2\u0499\u04ab\7-\2\2\u049a\u04ab\7*\2\2\u049b\u04ab\5l\67\2\u049c"+
-		"\u04ab\7f\2\2\u049d\u049e\5R*\2\u049e\u049f\7C\2\2\u049f\u04a0\7\13\2"+
-		"\2\u04a0\u04ab\3\2\2\2\u04a1\u04a2\7\62\2\2\u04a2\u04a3\7C\2\2\u04a3\u04ab"+
-		"\7\13\2\2\u04a4\u04a8\5\u00c4c\2\u04a5\u04a9\5\u00ccg\2\u04a6\u04a7\7"+
-		"-\2\2\u04a7\u04a9\5\u00ceh\2\u04a8\u04a5\3\2\2\2\u04a8\u04a6\3\2\2\2\u04a9"+
-		"\u04ab\3\2\2\2\u04aa\u0495\3\2\2\2\u04aa\u0499\3\2\2\2\u04aa\u049a\3\2"+
-		"\2\2\u04aa\u049b\3\2\2\2\u04aa\u049c\3\2\2\2\u04aa\u049d\3\2\2\2\u04aa"+
-		"\u04a1\3\2\2\2\u04aa\u04a4\3\2\2\2\u04ab\u00b7\3\2\2\2\u04ac\u04ad\5\u00c4"+
-		"c\2\u04ad\u04ae\5\u00ba^\2\u04ae\u04af\5\u00c0a\2\u04af\u04b6\3\2\2\2"+
-		"\u04b0\u04b3\5\u00ba^\2\u04b1\u04b4\5\u00be`\2\u04b2\u04b4\5\u00c0a\2"+
-		"\u04b3\u04b1\3\2\2\2\u04b3\u04b2\3\2\2\2\u04b4\u04b6\3\2\2\2\u04b5\u04ac"+
-		"\3\2\2\2\u04b5\u04b0\3\2\2\2\u04b6\u00b9\3\2\2\2\u04b7\u04b9\7f\2\2\u04b8"+
-		"\u04ba\5\u00c6d\2\u04b9\u04b8\3\2\2\2\u04b9\u04ba\3\2\2\2\u04ba\u04c2"+
-		"\3\2\2\2\u04bb\u04bc\7C\2\2\u04bc\u04be\7f\2\2\u04bd\u04bf\5\u00c6d\2"+
-		"\u04be\u04bd\3\2\2\2\u04be\u04bf\3\2\2\2\u04bf\u04c1\3\2\2\2\u04c0\u04bb"+
-		"\3\2\2\2\u04c1\u04c4\3\2\2\2\u04c2\u04c0\3\2\2\2\u04c2\u04c3\3\2\2\2\u04c3"+
-		"\u04c7\3\2\2\2\u04c4\u04c2\3\2\2\2\u04c5\u04c7\5V,\2\u04c6\u04b7\3\2\2"+
-		"\2\u04c6\u04c5\3\2\2\2\u04c7\u00bb\3\2\2\2\u04c8\u04ca\7f\2\2\u04c9\u04cb"+
-		"\5\u00c8e\2\u04ca\u04c9\3\2\2\2\u04ca\u04cb\3\2\2\2\u04cb\u04cc\3\2\2"+
-		"\2\u04cc\u04cd\5\u00c0a\2\u04cd\u00bd\3\2\2\2\u04ce\u04ea\7?\2\2\u04cf"+
-		"\u04d4\7@\2\2\u04d0\u04d1\7?\2\2\u04d1\u04d3\7@\2\2\u04d2\u04d0\3\2\2"+
-		"\2\u04d3\u04d6\3\2\2\2\u04d4\u04d2\3\2\2\2\u04d4\u04d5\3\2\2\2\u04d5\u04d7"+
-		"\3\2\2\2\u04d6\u04d4\3\2\2\2\u04d7\u04eb\5J&\2\u04d8\u04d9\5\u00b4[\2"+
-		"\u04d9\u04e0\7@\2\2\u04da\u04db\7?\2\2\u04db\u04dc\5\u00b4[\2\u04dc\u04dd"+
-		"\7@\2\2\u04dd\u04df\3\2\2\2\u04de\u04da\3\2\2\2\u04df\u04e2\3\2\2\2\u04e0"+
-		"\u04de\3\2\2\2\u04e0\u04e1\3\2\2\2\u04e1\u04e7\3\2\2\2\u04e2\u04e0\3\2"+
-		"\2\2\u04e3\u04e4\7?\2\2\u04e4\u04e6\7@\2\2\u04e5\u04e3\3\2\2\2\u04e6\u04e9"+
-		"\3\2\2\2\u04e7\u04e5\3\2\2\2\u04e7\u04e8\3\2\2\2\u04e8\u04eb\3\2\2\2\u04e9"+
-		"\u04e7\3\2\2\2\u04ea\u04cf\3\2\2\2\u04ea\u04d8\3\2\2\2\u04eb\u00bf\3\2"+
-		"\2\2\u04ec\u04ee\5\u00ceh\2\u04ed\u04ef\5$\23\2\u04ee\u04ed\3\2\2\2\u04ee"+
-		"\u04ef\3\2\2\2\u04ef\u00c1\3\2\2\2\u04f0\u04f1\5\u00c4c\2\u04f1\u04f2"+
-		"\5\u00ccg\2\u04f2\u00c3\3\2\2\2\u04f3\u04f4\7F\2\2\u04f4\u04f5\5\"\22"+
-		"\2\u04f5\u04f6\7E\2\2\u04f6\u00c5\3\2\2\2\u04f7\u04f8\7F\2\2\u04f8\u04fb"+
-		"\7E\2\2\u04f9\u04fb\5X-\2\u04fa\u04f7\3\2\2\2\u04fa\u04f9\3\2\2\2\u04fb"+
-		"\u00c7\3\2\2\2\u04fc\u04fd\7F\2\2\u04fd\u0500\7E\2\2\u04fe\u0500\5\u00c4"+
-		"c\2\u04ff\u04fc\3\2\2\2\u04ff\u04fe\3\2\2\2\u0500\u00c9\3\2\2\2\u0501"+
-		"\u0508\5\u00ceh\2\u0502\u0503\7C\2\2\u0503\u0505\7f\2\2\u0504\u0506\5"+
-		"\u00ceh\2\u0505\u0504\3\2\2\2\u0505\u0506\3\2\2\2\u0506\u0508\3\2\2\2"+
-		"\u0507\u0501\3\2\2\2\u0507\u0502\3\2\2\2\u0508\u00cb\3\2\2\2\u0509\u050a"+
-		"\7*\2\2\u050a\u050e\5\u00caf\2\u050b\u050c\7f\2\2\u050c\u050e\5\u00ce"+
-		"h\2\u050d\u0509\3\2\2\2\u050d\u050b\3\2\2\2\u050e\u00cd\3\2\2\2\u050f"+
-		"\u0511\7;\2\2\u0510\u0512\5\u00aeX\2\u0511\u0510\3\2\2\2\u0511\u0512\3"+
-		"\2\2\2\u0512\u0513\3\2\2\2\u0513\u0514\7<\2\2\u0514\u00cf\3\2\2\2\u0098"+
-		"\u00d1\u00d6\u00dc\u00e4\u00ed\u00f2\u00f9\u0100\u0107\u010e\u0113\u0117"+
-		"\u011b\u011f\u0124\u0128\u012c\u0136\u013e\u0145\u014c\u0150\u0153\u0156"+
-		"\u015f\u0165\u016a\u016d\u0173\u0179\u017d\u0186\u018d\u0196\u019d\u01a3"+
-		"\u01a7\u01b2\u01b6\u01be\u01c3\u01c7\u01d0\u01de\u01e3\u01ec\u01f4\u01fe"+
-		"\u0206\u020e\u0213\u021f\u0225\u022c\u0231\u0239\u023d\u023f\u024e\u0256"+
-		"\u0259\u025d\u0262\u0266\u0271\u027a\u027c\u0283\u0288\u0291\u0296\u0299"+
-		"\u029e\u02a7\u02b7\u02c1\u02c4\u02cd\u02d7\u02df\u02e2\u02e5\u02f2\u02fa"+
-		"\u02ff\u0307\u030b\u030f\u0313\u0315\u0319\u031f\u032a\u0332\u033a\u0345"+
-		"\u034e\u0365\u0368\u036b\u0373\u0377\u037f\u0385\u0390\u0399\u039e\u03a8"+
-		"\u03af\u03bc\u03c5\u03ce\u03d4\u03df\u03e4\u03f0\u03f4\u03f8\u03fc\u03fe"+
-		"\u0402\u0407\u041a\u042e\u043e\u0463\u0476\u0488\u0490\u0492\u04a8\u04aa"+
-		"\u04b3\u04b5\u04b9\u04be\u04c2\u04c6\u04ca\u04d4\u04e0\u04e7\u04ea\u04ee"+
-		"\u04fa\u04ff\u0505\u0507\u050d\u0511";
+		"`\t`\4a\ta\4b\tb\4c\tc\4d\td\4e\te\4f\tf\4g\tg\4h\th\4i\ti\4j\tj\4k\t"+
+		"k\4l\tl\4m\tm\4n\tn\3\2\5\2\u00de\n\2\3\2\7\2\u00e1\n\2\f\2\16\2\u00e4"+
+		"\13\2\3\2\7\2\u00e7\n\2\f\2\16\2\u00ea\13\2\3\2\3\2\3\3\7\3\u00ef\n\3"+
+		"\f\3\16\3\u00f2\13\3\3\3\3\3\3\3\3\3\3\4\3\4\5\4\u00fa\n\4\3\4\3\4\3\4"+
+		"\5\4\u00ff\n\4\3\4\3\4\3\5\7\5\u0104\n\5\f\5\16\5\u0107\13\5\3\5\3\5\7"+
+		"\5\u010b\n\5\f\5\16\5\u010e\13\5\3\5\3\5\7\5\u0112\n\5\f\5\16\5\u0115"+
+		"\13\5\3\5\3\5\7\5\u0119\n\5\f\5\16\5\u011c\13\5\3\5\3\5\5\5\u0120\n\5"+
+		"\3\6\3\6\5\6\u0124\n\6\3\7\3\7\5\7\u0128\n\7\3\b\3\b\5\b\u012c\n\b\3\t"+
+		"\3\t\3\t\5\t\u0131\n\t\3\t\3\t\5\t\u0135\n\t\3\t\3\t\5\t\u0139\n\t\3\t"+
+		"\3\t\3\n\3\n\3\n\3\n\7\n\u0141\n\n\f\n\16\n\u0144\13\n\3\n\3\n\3\13\3"+
+		"\13\3\13\5\13\u014b\n\13\3\f\3\f\3\f\7\f\u0150\n\f\f\f\16\f\u0153\13\f"+
+		"\3\r\3\r\3\r\3\r\5\r\u0159\n\r\3\r\3\r\5\r\u015d\n\r\3\r\5\r\u0160\n\r"+
+		"\3\r\5\r\u0163\n\r\3\r\3\r\3\16\3\16\3\16\7\16\u016a\n\16\f\16\16\16\u016d"+
+		"\13\16\3\17\7\17\u0170\n\17\f\17\16\17\u0173\13\17\3\17\3\17\5\17\u0177"+
+		"\n\17\3\17\5\17\u017a\n\17\3\20\3\20\7\20\u017e\n\20\f\20\16\20\u0181"+
+		"\13\20\3\21\3\21\3\21\5\21\u0186\n\21\3\21\3\21\5\21\u018a\n\21\3\21\3"+
+		"\21\3\22\3\22\3\22\7\22\u0191\n\22\f\22\16\22\u0194\13\22\3\23\3\23\7"+
+		"\23\u0198\n\23\f\23\16\23\u019b\13\23\3\23\3\23\3\24\3\24\7\24\u01a1\n"+
+		"\24\f\24\16\24\u01a4\13\24\3\24\3\24\3\25\3\25\5\25\u01aa\n\25\3\25\3"+
+		"\25\7\25\u01ae\n\25\f\25\16\25\u01b1\13\25\3\25\5\25\u01b4\n\25\3\26\3"+
+		"\26\3\26\3\26\3\26\3\26\3\26\3\26\3\26\5\26\u01bf\n\26\3\27\3\27\5\27"+
+		"\u01c3\n\27\3\27\3\27\3\27\3\27\7\27\u01c9\n\27\f\27\16\27\u01cc\13\27"+
+		"\3\27\3\27\5\27\u01d0\n\27\3\27\3\27\5\27\u01d4\n\27\3\30\3\30\3\30\3"+
+		"\31\3\31\3\31\3\31\5\31\u01dd\n\31\3\31\3\31\3\32\3\32\3\32\3\33\3\33"+
+		"\3\33\3\33\3\34\7\34\u01e9\n\34\f\34\16\34\u01ec\13\34\3\34\3\34\5\34"+
+		"\u01f0\n\34\3\35\3\35\3\35\3\35\3\35\3\35\3\35\5\35\u01f9\n\35\3\36\3"+
+		"\36\3\36\3\36\7\36\u01ff\n\36\f\36\16\36\u0202\13\36\3\36\3\36\3\37\3"+
+		"\37\3\37\7\37\u0209\n\37\f\37\16\37\u020c\13\37\3\37\3\37\3\37\3 \3 \5"+
+		" \u0213\n \3 \3 \3 \3 \7 \u0219\n \f \16 \u021c\13 \3 \3 \5 \u0220\n "+
+		"\3 \3 \3!\3!\3!\3\"\3\"\3\"\7\"\u022a\n\"\f\"\16\"\u022d\13\"\3#\3#\3"+
+		"#\5#\u0232\n#\3$\3$\3$\7$\u0237\n$\f$\16$\u023a\13$\3%\3%\5%\u023e\n%"+
+		"\3&\3&\3&\3&\7&\u0244\n&\f&\16&\u0247\13&\3&\5&\u024a\n&\5&\u024c\n&\3"+
+		"&\3&\3\'\3\'\3(\3(\3)\3)\3*\3*\3*\7*\u0259\n*\f*\16*\u025c\13*\3*\3*\3"+
+		"*\7*\u0261\n*\f*\16*\u0264\13*\5*\u0266\n*\3+\3+\5+\u026a\n+\3+\3+\3+"+
+		"\5+\u026f\n+\7+\u0271\n+\f+\16+\u0274\13+\3,\3,\3-\3-\3-\3-\7-\u027c\n"+
+		"-\f-\16-\u027f\13-\3-\3-\3.\3.\3.\3.\5.\u0287\n.\5.\u0289\n.\3/\3/\3/"+
+		"\7/\u028e\n/\f/\16/\u0291\13/\3\60\3\60\5\60\u0295\n\60\3\60\3\60\3\61"+
+		"\3\61\3\61\7\61\u029c\n\61\f\61\16\61\u029f\13\61\3\61\3\61\5\61\u02a3"+
+		"\n\61\3\61\5\61\u02a6\n\61\3\62\7\62\u02a9\n\62\f\62\16\62\u02ac\13\62"+
+		"\3\62\3\62\3\62\3\63\7\63\u02b2\n\63\f\63\16\63\u02b5\13\63\3\63\3\63"+
+		"\3\63\3\63\3\64\3\64\3\65\3\65\3\66\3\66\3\66\7\66\u02c2\n\66\f\66\16"+
+		"\66\u02c5\13\66\3\67\3\67\38\38\38\38\38\58\u02ce\n8\38\58\u02d1\n8\3"+
+		"9\39\3:\3:\3:\7:\u02d8\n:\f:\16:\u02db\13:\3;\3;\3;\3;\3<\3<\3<\5<\u02e4"+
+		"\n<\3=\3=\3=\3=\7=\u02ea\n=\f=\16=\u02ed\13=\5=\u02ef\n=\3=\5=\u02f2\n"+
+		"=\3=\3=\3>\3>\3>\3>\3>\3?\3?\7?\u02fd\n?\f?\16?\u0300\13?\3?\3?\3@\7@"+
+		"\u0305\n@\f@\16@\u0308\13@\3@\3@\5@\u030c\n@\3A\3A\3A\3A\3A\3A\5A\u0314"+
+		"\nA\3A\3A\5A\u0318\nA\3A\3A\5A\u031c\nA\3A\3A\5A\u0320\nA\5A\u0322\nA"+
+		"\3B\3B\5B\u0326\nB\3C\3C\3C\3C\5C\u032c\nC\3D\3D\3E\3E\3E\3F\3F\7F\u0335"+
+		"\nF\fF\16F\u0338\13F\3F\3F\3G\3G\3G\5G\u033f\nG\3H\3H\3H\3I\7I\u0345\n"+
+		"I\fI\16I\u0348\13I\3I\3I\3I\3J\3J\3J\3J\3J\5J\u0352\nJ\3J\3J\3J\3J\3J"+
+		"\3J\3J\5J\u035b\nJ\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J"+
+		"\3J\3J\6J\u0370\nJ\rJ\16J\u0371\3J\5J\u0375\nJ\3J\5J\u0378\nJ\3J\3J\3"+
+		"J\3J\7J\u037e\nJ\fJ\16J\u0381\13J\3J\5J\u0384\nJ\3J\3J\3J\3J\7J\u038a"+
+		"\nJ\fJ\16J\u038d\13J\3J\7J\u0390\nJ\fJ\16J\u0393\13J\3J\3J\3J\3J\3J\3"+
+		"J\3J\3J\5J\u039d\nJ\3J\3J\3J\3J\3J\3J\3J\5J\u03a6\nJ\3J\3J\3J\5J\u03ab"+
+		"\nJ\3J\3J\3J\3J\3J\3J\3J\3J\5J\u03b5\nJ\3K\3K\3K\7K\u03ba\nK\fK\16K\u03bd"+
+		"\13K\3K\3K\3K\3K\3K\3L\3L\3L\7L\u03c7\nL\fL\16L\u03ca\13L\3M\3M\3M\3N"+
+		"\3N\3N\5N\u03d2\nN\3N\3N\3O\3O\3O\7O\u03d9\nO\fO\16O\u03dc\13O\3P\7P\u03df"+
+		"\nP\fP\16P\u03e2\13P\3P\3P\3P\3P\3P\3Q\6Q\u03ea\nQ\rQ\16Q\u03eb\3Q\6Q"+
+		"\u03ef\nQ\rQ\16Q\u03f0\3R\3R\3R\3R\3R\3R\5R\u03f9\nR\3S\3S\5S\u03fd\n"+
+		"S\3S\3S\5S\u0401\nS\3S\3S\5S\u0405\nS\5S\u0407\nS\3T\3T\5T\u040b\nT\3"+
+		"U\7U\u040e\nU\fU\16U\u0411\13U\3U\3U\3U\3U\3U\3V\3V\3W\3W\3W\3W\3X\3X"+
+		"\3X\7X\u0421\nX\fX\16X\u0424\13X\3Y\3Y\3Z\3Z\3[\3[\3[\3[\5[\u042e\n[\3"+
+		"\\\3\\\3]\3]\3]\7]\u0435\n]\f]\16]\u0438\13]\3]\3]\3]\3]\3]\5]\u043f\n"+
+		"]\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\5^\u044e\n^\3^\7^\u0451\n^\f"+
+		"^\16^\u0454\13^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\5^\u0464\n^"+
+		"\3^\7^\u0467\n^\f^\16^\u046a\13^\3^\3^\5^\u046e\n^\3_\3_\3_\3_\3_\3_\7"+
+		"_\u0476\n_\f_\16_\u0479\13_\3_\3_\3_\3_\3_\3_\3_\7_\u0482\n_\f_\16_\u0485"+
+		"\13_\3_\3_\3_\3_\3_\7_\u048c\n_\f_\16_\u048f\13_\3_\7_\u0492\n_\f_\16"+
+		"_\u0495\13_\5_\u0497\n_\3`\3`\3`\3`\3`\3`\7`\u049f\n`\f`\16`\u04a2\13"+
+		"`\3`\3`\3`\3`\3`\3`\3`\7`\u04ab\n`\f`\16`\u04ae\13`\3`\3`\3`\3`\3`\7`"+
+		"\u04b5\n`\f`\16`\u04b8\13`\3`\7`\u04bb\n`\f`\16`\u04be\13`\5`\u04c0\n"+
+		"`\3a\3a\3a\3a\3a\3a\3a\3a\3a\3a\3a\7a\u04cd\na\fa\16a\u04d0\13a\3a\3a"+
+		"\3a\3a\3a\3a\3a\3a\3a\3a\5a\u04dc\na\3a\3a\5a\u04e0\na\3b\3b\3b\3b\3b"+
+		"\3b\3b\5b\u04e9\nb\3b\3b\3b\3b\3b\3b\3b\3b\3b\3b\6b\u04f5\nb\rb\16b\u04f6"+
+		"\3b\3b\3b\3b\3b\3b\3b\5b\u0500\nb\3c\3c\3c\3c\3c\3c\3c\5c\u0509\nc\5c"+
+		"\u050b\nc\3d\3d\5d\u050f\nd\3d\3d\3d\5d\u0514\nd\7d\u0516\nd\fd\16d\u0519"+
+		"\13d\3d\5d\u051c\nd\3e\3e\5e\u0520\ne\3e\3e\3f\3f\3f\3f\7f\u0528\nf\f"+
+		"f\16f\u052b\13f\3f\3f\3f\3f\3f\3f\3f\7f\u0534\nf\ff\16f\u0537\13f\3f\3"+
+		"f\7f\u053b\nf\ff\16f\u053e\13f\5f\u0540\nf\3g\3g\5g\u0544\ng\3h\3h\3h"+
+		"\3i\3i\3i\3i\3j\3j\3j\5j\u0550\nj\3k\3k\3k\5k\u0555\nk\3l\3l\3l\3l\5l"+
+		"\u055b\nl\5l\u055d\nl\3m\3m\3m\3m\5m\u0563\nm\3n\3n\5n\u0567\nn\3n\3n"+
+		"\3n\2o\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60\62\64\668:<"+
+		">@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084\u0086\u0088\u008a"+
+		"\u008c\u008e\u0090\u0092\u0094\u0096\u0098\u009a\u009c\u009e\u00a0\u00a2"+
+		"\u00a4\u00a6\u00a8\u00aa\u00ac\u00ae\u00b0\u00b2\u00b4\u00b6\u00b8\u00ba"+
+		"\u00bc\u00be\u00c0\u00c2\u00c4\u00c6\u00c8\u00ca\u00cc\u00ce\u00d0\u00d2"+
+		"\u00d4\u00d6\u00d8\u00da\2\r\6\2  ,,\60\60\63\63\6\2\3\3\24\24#%()\n\2"+
+		"\5\5\7\7\n\n\20\20\26\26\35\35\37\37\'\'\4\2\23\23**\3\2\65:\4\2DD[e\5"+
+		"\2KKNPWY\4\2EFLM\4\2GHQT\3\2QR\3\2GH\u05e6\2\u00dd\3\2\2\2\4\u00f0\3\2"+
+		"\2\2\6\u00f7\3\2\2\2\b\u011f\3\2\2\2\n\u0123\3\2\2\2\f\u0127\3\2\2\2\16"+
+		"\u012b\3\2\2\2\20\u012d\3\2\2\2\22\u013c\3\2\2\2\24\u0147\3\2\2\2\26\u014c"+
+		"\3\2\2\2\30\u0154\3\2\2\2\32\u0166\3\2\2\2\34\u0171\3\2\2\2\36\u017b\3"+
+		"\2\2\2 \u0182\3\2\2\2\"\u018d\3\2\2\2$\u0195\3\2\2\2&\u019e\3\2\2\2(\u01b3"+
+		"\3\2\2\2*\u01be\3\2\2\2,\u01c2\3\2\2\2.\u01d5\3\2\2\2\60\u01d8\3\2\2\2"+
+		"\62\u01e0\3\2\2\2\64\u01e3\3\2\2\2\66\u01ef\3\2\2\28\u01f8\3\2\2\2:\u01fa"+
+		"\3\2\2\2<\u0205\3\2\2\2>\u0212\3\2\2\2@\u0223\3\2\2\2B\u0226\3\2\2\2D"+
+		"\u022e\3\2\2\2F\u0233\3\2\2\2H\u023d\3\2\2\2J\u023f\3\2\2\2L\u024f\3\2"+
+		"\2\2N\u0251\3\2\2\2P\u0253\3\2\2\2R\u0265\3\2\2\2T\u0267\3\2\2\2V\u0275"+
+		"\3\2\2\2X\u0277\3\2\2\2Z\u0288\3\2\2\2\\\u028a\3\2\2\2^\u0292\3\2\2\2"+
+		"`\u02a5\3\2\2\2b\u02aa\3\2\2\2d\u02b3\3\2\2\2f\u02ba\3\2\2\2h\u02bc\3"+
+		"\2\2\2j\u02be\3\2\2\2l\u02c6\3\2\2\2n\u02c8\3\2\2\2p\u02d2\3\2\2\2r\u02d4"+
+		"\3\2\2\2t\u02dc\3\2\2\2v\u02e3\3\2\2\2x\u02e5\3\2\2\2z\u02f5\3\2\2\2|"+
+		"\u02fa\3\2\2\2~\u030b\3\2\2\2\u0080\u0321\3\2\2\2\u0082\u0325\3\2\2\2"+
+		"\u0084\u0327\3\2\2\2\u0086\u032d\3\2\2\2\u0088\u032f\3\2\2\2\u008a\u0332"+
+		"\3\2\2\2\u008c\u033e\3\2\2\2\u008e\u0340\3\2\2\2\u0090\u0346\3\2\2\2\u0092"+
+		"\u03b4\3\2\2\2\u0094\u03b6\3\2\2\2\u0096\u03c3\3\2\2\2\u0098\u03cb\3\2"+
+		"\2\2\u009a\u03ce\3\2\2\2\u009c\u03d5\3\2\2\2\u009e\u03e0\3\2\2\2\u00a0"+
+		"\u03e9\3\2\2\2\u00a2\u03f8\3\2\2\2\u00a4\u0406\3\2\2\2\u00a6\u040a\3\2"+
+		"\2\2\u00a8\u040f\3\2\2\2\u00aa\u0417\3\2\2\2\u00ac\u0419\3\2\2\2\u00ae"+
+		"\u041d\3\2\2\2\u00b0\u0425\3\2\2\2\u00b2\u0427\3\2\2\2\u00b4\u0429\3\2"+
+		"\2\2\u00b6\u042f\3\2\2\2\u00b8\u0431\3\2\2\2\u00ba\u0440\3\2\2\2\u00bc"+
+		"\u0496\3\2\2\2\u00be\u04bf\3\2\2\2\u00c0\u04df\3\2\2\2\u00c2\u04ff\3\2"+
+		"\2\2\u00c4\u050a\3\2\2\2\u00c6\u051b\3\2\2\2\u00c8\u051d\3\2\2\2\u00ca"+
+		"\u0523\3\2\2\2\u00cc\u0541\3\2\2\2\u00ce\u0545\3\2\2\2\u00d0\u0548\3\2"+
+		"\2\2\u00d2\u054f\3\2\2\2\u00d4\u0554\3\2\2\2\u00d6\u055c\3\2\2\2\u00d8"+
+		"\u0562\3\2\2\2\u00da\u0564\3\2\2\2\u00dc\u00de\5\4\3\2\u00dd\u00dc\3\2"+
+		"\2\2\u00dd\u00de\3\2\2\2\u00de\u00e2\3\2\2\2\u00df\u00e1\5\6\4\2\u00e0"+
+		"\u00df\3\2\2\2\u00e1\u00e4\3\2\2\2\u00e2\u00e0\3\2\2\2\u00e2\u00e3\3\2"+
+		"\2\2\u00e3\u00e8\3\2\2\2\u00e4\u00e2\3\2\2\2\u00e5\u00e7\5\b\5\2\u00e6"+
+		"\u00e5\3\2\2\2\u00e7\u00ea\3\2\2\2\u00e8\u00e6\3\2\2\2\u00e8\u00e9\3\2"+
+		"\2\2\u00e9\u00eb\3\2\2\2\u00ea\u00e8\3\2\2\2\u00eb\u00ec\7\2\2\3\u00ec"+
+		"\3\3\2\2\2\u00ed\u00ef\5n8\2\u00ee\u00ed\3\2\2\2\u00ef\u00f2\3\2\2\2\u00f0"+
+		"\u00ee\3\2\2\2\u00f0\u00f1\3\2\2\2\u00f1\u00f3\3\2\2\2\u00f2\u00f0\3\2"+
+		"\2\2\u00f3\u00f4\7\"\2\2\u00f4\u00f5\5j\66\2\u00f5\u00f6\7A\2\2\u00f6"+
+		"\5\3\2\2\2\u00f7\u00f9\7\33\2\2\u00f8\u00fa\7(\2\2\u00f9\u00f8\3\2\2\2"+
+		"\u00f9\u00fa\3\2\2\2\u00fa\u00fb\3\2\2\2\u00fb\u00fe\5j\66\2\u00fc\u00fd"+
+		"\7C\2\2\u00fd\u00ff\7U\2\2\u00fe\u00fc\3\2\2\2\u00fe\u00ff\3\2\2\2\u00ff"+
+		"\u0100\3\2\2\2\u0100\u0101\7A\2\2\u0101\7\3\2\2\2\u0102\u0104\5\f\7\2"+
+		"\u0103\u0102\3\2\2\2\u0104\u0107\3\2\2\2\u0105\u0103\3\2\2\2\u0105\u0106"+
+		"\3\2\2\2\u0106\u0108\3\2\2\2\u0107\u0105\3\2\2\2\u0108\u0120\5\20\t\2"+
+		"\u0109\u010b\5\f\7\2\u010a\u0109\3\2\2\2\u010b\u010e\3\2\2\2\u010c\u010a"+
+		"\3\2\2\2\u010c\u010d\3\2\2\2\u010d\u010f\3\2\2\2\u010e\u010c\3\2\2\2\u010f"+
+		"\u0120\5\30\r\2\u0110\u0112\5\f\7\2\u0111\u0110\3\2\2\2\u0112\u0115\3"+
+		"\2\2\2\u0113\u0111\3\2\2\2\u0113\u0114\3\2\2\2\u0114\u0116\3\2\2\2\u0115"+
+		"\u0113\3\2\2\2\u0116\u0120\5 \21\2\u0117\u0119\5\f\7\2\u0118\u0117\3\2"+
+		"\2\2\u0119\u011c\3\2\2\2\u011a\u0118\3\2\2\2\u011a\u011b\3\2\2\2\u011b"+
+		"\u011d\3\2\2\2\u011c\u011a\3\2\2\2\u011d\u0120\5z>\2\u011e\u0120\7A\2"+
+		"\2\u011f\u0105\3\2\2\2\u011f\u010c\3\2\2\2\u011f\u0113\3\2\2\2\u011f\u011a"+
+		"\3\2\2\2\u011f\u011e\3\2\2\2\u0120\t\3\2\2\2\u0121\u0124\5\f\7\2\u0122"+
+		"\u0124\t\2\2\2\u0123\u0121\3\2\2\2\u0123\u0122\3\2\2\2\u0124\13\3\2\2"+
+		"\2\u0125\u0128\5n8\2\u0126\u0128\t\3\2\2\u0127\u0125\3\2\2\2\u0127\u0126"+
+		"\3\2\2\2\u0128\r\3\2\2\2\u0129\u012c\7\24\2\2\u012a\u012c\5n8\2\u012b"+
+		"\u0129\3\2\2\2\u012b\u012a\3\2\2\2\u012c\17\3\2\2\2\u012d\u012e\7\13\2"+
+		"\2\u012e\u0130\7f\2\2\u012f\u0131\5\22\n\2\u0130\u012f\3\2\2\2\u0130\u0131"+
+		"\3\2\2\2\u0131\u0134\3\2\2\2\u0132\u0133\7\23\2\2\u0133\u0135\5R*\2\u0134"+
+		"\u0132\3\2\2\2\u0134\u0135\3\2\2\2\u0135\u0138\3\2\2\2\u0136\u0137\7\32"+
+		"\2\2\u0137\u0139\5\"\22\2\u0138\u0136\3\2\2\2\u0138\u0139\3\2\2\2\u0139"+
+		"\u013a\3\2\2\2\u013a\u013b\5$\23\2\u013b\21\3\2\2\2\u013c\u013d\7F\2\2"+
+		"\u013d\u0142\5\24\13\2\u013e\u013f\7B\2\2\u013f\u0141\5\24\13\2\u0140"+
+		"\u013e\3\2\2\2\u0141\u0144\3\2\2\2\u0142\u0140\3\2\2\2\u0142\u0143\3\2"+
+		"\2\2\u0143\u0145\3\2\2\2\u0144\u0142\3\2\2\2\u0145\u0146\7E\2\2\u0146"+
+		"\23\3\2\2\2\u0147\u014a\7f\2\2\u0148\u0149\7\23\2\2\u0149\u014b\5\26\f"+
+		"\2\u014a\u0148\3\2\2\2\u014a\u014b\3\2\2\2\u014b\25\3\2\2\2\u014c\u0151"+
+		"\5R*\2\u014d\u014e\7W\2\2\u014e\u0150\5R*\2\u014f\u014d\3\2\2\2\u0150"+
+		"\u0153\3\2\2\2\u0151\u014f\3\2\2\2\u0151\u0152\3\2\2\2\u0152\27\3\2\2"+
+		"\2\u0153\u0151\3\2\2\2\u0154\u0155\7\22\2\2\u0155\u0158\7f\2\2\u0156\u0157"+
+		"\7\32\2\2\u0157\u0159\5\"\22\2\u0158\u0156\3\2\2\2\u0158\u0159\3\2\2\2"+
+		"\u0159\u015a\3\2\2\2\u015a\u015c\7=\2\2\u015b\u015d\5\32\16\2\u015c\u015b"+
+		"\3\2\2\2\u015c\u015d\3\2\2\2\u015d\u015f\3\2\2\2\u015e\u0160\7B\2\2\u015f"+
+		"\u015e\3\2\2\2\u015f\u0160\3\2\2\2\u0160\u0162\3\2\2\2\u0161\u0163\5\36"+
+		"\20\2\u0162\u0161\3\2\2\2\u0162\u0163\3\2\2\2\u0163\u0164\3\2\2\2\u0164"+
+		"\u0165\7>\2\2\u0165\31\3\2\2\2\u0166\u016b\5\34\17\2\u0167\u0168\7B\2"+
+		"\2\u0168\u016a\5\34\17\2\u0169\u0167\3\2\2\2\u016a\u016d\3\2\2\2\u016b"+
+		"\u0169\3\2\2\2\u016b\u016c\3\2\2\2\u016c\33\3\2\2\2\u016d\u016b\3\2\2"+
+		"\2\u016e\u0170\5n8\2\u016f\u016e\3\2\2\2\u0170\u0173\3\2\2\2\u0171\u016f"+
+		"\3\2\2\2\u0171\u0172\3\2\2\2\u0172\u0174\3\2\2\2\u0173\u0171\3\2\2\2\u0174"+
+		"\u0176\7f\2\2\u0175\u0177\5\u00dan\2\u0176\u0175\3\2\2\2\u0176\u0177\3"+
+		"\2\2\2\u0177\u0179\3\2\2\2\u0178\u017a\5$\23\2\u0179\u0178\3\2\2\2\u0179"+
+		"\u017a\3\2\2\2\u017a\35\3\2\2\2\u017b\u017f\7A\2\2\u017c\u017e\5(\25\2"+
+		"\u017d\u017c\3\2\2\2\u017e\u0181\3\2\2\2\u017f\u017d\3\2\2\2\u017f\u0180"+
+		"\3\2\2\2\u0180\37\3\2\2\2\u0181\u017f\3\2\2\2\u0182\u0183\7\36\2\2\u0183"+
+		"\u0185\7f\2\2\u0184\u0186\5\22\n\2\u0185\u0184\3\2\2\2\u0185\u0186\3\2"+
+		"\2\2\u0186\u0189\3\2\2\2\u0187\u0188\7\23\2\2\u0188\u018a\5\"\22\2\u0189"+
+		"\u0187\3\2\2\2\u0189\u018a\3\2\2\2\u018a\u018b\3\2\2\2\u018b\u018c\5&"+
+		"\24\2\u018c!\3\2\2\2\u018d\u0192\5R*\2\u018e\u018f\7B\2\2\u018f\u0191"+
+		"\5R*\2\u0190\u018e\3\2\2\2\u0191\u0194\3\2\2\2\u0192\u0190\3\2\2\2\u0192"+
+		"\u0193\3\2\2\2\u0193#\3\2\2\2\u0194\u0192\3\2\2\2\u0195\u0199\7=\2\2\u0196"+
+		"\u0198\5(\25\2\u0197\u0196\3\2\2\2\u0198\u019b\3\2\2\2\u0199\u0197\3\2"+
+		"\2\2\u0199\u019a\3\2\2\2\u019a\u019c\3\2\2\2\u019b\u0199\3\2\2\2\u019c"+
+		"\u019d\7>\2\2\u019d%\3\2\2\2\u019e\u01a2\7=\2\2\u019f\u01a1\5\66\34\2"+
+		"\u01a0\u019f\3\2\2\2\u01a1\u01a4\3\2\2\2\u01a2\u01a0\3\2\2\2\u01a2\u01a3"+
+		"\3\2\2\2\u01a3\u01a5\3\2\2\2\u01a4\u01a2\3\2\2\2\u01a5\u01a6\7>\2\2\u01a6"+
+		"\'\3\2\2\2\u01a7\u01b4\7A\2\2\u01a8\u01aa\7(\2\2\u01a9\u01a8\3\2\2\2\u01a9"+
+		"\u01aa\3\2\2\2\u01aa\u01ab\3\2\2\2\u01ab\u01b4\5\u008aF\2\u01ac\u01ae"+
+		"\5\n\6\2\u01ad\u01ac\3\2\2\2\u01ae\u01b1\3\2\2\2\u01af\u01ad\3\2\2\2\u01af"+
+		"\u01b0\3\2\2\2\u01b0\u01b2\3\2\2\2\u01b1\u01af\3\2\2\2\u01b2\u01b4\5*"+
+		"\26\2\u01b3\u01a7\3\2\2\2\u01b3\u01a9\3\2\2\2\u01b3\u01af\3\2\2\2\u01b4"+
+		")\3\2\2\2\u01b5\u01bf\5,\27\2\u01b6\u01bf\5.\30\2\u01b7\u01bf\5\64\33"+
+		"\2\u01b8\u01bf\5\60\31\2\u01b9\u01bf\5\62\32\2\u01ba\u01bf\5 \21\2\u01bb"+
+		"\u01bf\5z>\2\u01bc\u01bf\5\20\t\2\u01bd\u01bf\5\30\r\2\u01be\u01b5\3\2"+
+		"\2\2\u01be\u01b6\3\2\2\2\u01be\u01b7\3\2\2\2\u01be\u01b8\3\2\2\2\u01be"+
+		"\u01b9\3\2\2\2\u01be\u01ba\3\2\2\2\u01be\u01bb\3\2\2\2\u01be\u01bc\3\2"+
+		"\2\2\u01be\u01bd\3\2\2\2\u01bf+\3\2\2\2\u01c0\u01c3\5R*\2\u01c1\u01c3"+
+		"\7\62\2\2\u01c2\u01c0\3\2\2\2\u01c2\u01c1\3\2\2\2\u01c3\u01c4\3\2\2\2"+
+		"\u01c4\u01c5\7f\2\2\u01c5\u01ca\5^\60\2\u01c6\u01c7\7?\2\2\u01c7\u01c9"+
+		"\7@\2\2\u01c8\u01c6\3\2\2\2\u01c9\u01cc\3\2\2\2\u01ca\u01c8\3\2\2\2\u01ca"+
+		"\u01cb\3\2\2\2\u01cb\u01cf\3\2\2\2\u01cc\u01ca\3\2\2\2\u01cd\u01ce\7/"+
+		"\2\2\u01ce\u01d0\5\\/\2\u01cf\u01cd\3\2\2\2\u01cf\u01d0\3\2\2\2\u01d0"+
+		"\u01d3\3\2\2\2\u01d1\u01d4\5f\64\2\u01d2\u01d4\7A\2\2\u01d3\u01d1\3\2"+
+		"\2\2\u01d3\u01d2\3\2\2\2\u01d4-\3\2\2\2\u01d5\u01d6\5\22\n\2\u01d6\u01d7"+
+		"\5,\27\2\u01d7/\3\2\2\2\u01d8\u01d9\7f\2\2\u01d9\u01dc\5^\60\2\u01da\u01db"+
+		"\7/\2\2\u01db\u01dd\5\\/\2\u01dc\u01da\3\2\2\2\u01dc\u01dd\3\2\2\2\u01dd"+
+		"\u01de\3\2\2\2\u01de\u01df\5h\65\2\u01df\61\3\2\2\2\u01e0\u01e1\5\22\n"+
+		"\2\u01e1\u01e2\5\60\31\2\u01e2\63\3\2\2\2\u01e3\u01e4\5R*\2\u01e4\u01e5"+
+		"\5B\"\2\u01e5\u01e6\7A\2\2\u01e6\65\3\2\2\2\u01e7\u01e9\5\n\6\2\u01e8"+
+		"\u01e7\3\2\2\2\u01e9\u01ec\3\2\2\2\u01ea\u01e8\3\2\2\2\u01ea\u01eb\3\2"+
+		"\2\2\u01eb\u01ed\3\2\2\2\u01ec\u01ea\3\2\2\2\u01ed\u01f0\58\35\2\u01ee"+
+		"\u01f0\7A\2\2\u01ef\u01ea\3\2\2\2\u01ef\u01ee\3\2\2\2\u01f0\67\3\2\2\2"+
+		"\u01f1\u01f9\5:\36\2\u01f2\u01f9\5> \2\u01f3\u01f9\5@!\2\u01f4\u01f9\5"+
+		" \21\2\u01f5\u01f9\5z>\2\u01f6\u01f9\5\20\t\2\u01f7\u01f9\5\30\r\2\u01f8"+
+		"\u01f1\3\2\2\2\u01f8\u01f2\3\2\2\2\u01f8\u01f3\3\2\2\2\u01f8\u01f4\3\2"+
+		"\2\2\u01f8\u01f5\3\2\2\2\u01f8\u01f6\3\2\2\2\u01f8\u01f7\3\2\2\2\u01f9"+
+		"9\3\2\2\2\u01fa\u01fb\5R*\2\u01fb\u0200\5<\37\2\u01fc\u01fd\7B\2\2\u01fd"+
+		"\u01ff\5<\37\2\u01fe\u01fc\3\2\2\2\u01ff\u0202\3\2\2\2\u0200\u01fe\3\2"+
+		"\2\2\u0200\u0201\3\2\2\2\u0201\u0203\3\2\2\2\u0202\u0200\3\2\2\2\u0203"+
+		"\u0204\7A\2\2\u0204;\3\2\2\2\u0205\u020a\7f\2\2\u0206\u0207\7?\2\2\u0207"+
+		"\u0209\7@\2\2\u0208\u0206\3\2\2\2\u0209\u020c\3\2\2\2\u020a\u0208\3\2"+
+		"\2\2\u020a\u020b\3\2\2\2\u020b\u020d\3\2\2\2\u020c\u020a\3\2\2\2\u020d"+
+		"\u020e\7D\2\2\u020e\u020f\5H%\2\u020f=\3\2\2\2\u0210\u0213\5R*\2\u0211"+
+		"\u0213\7\62\2\2\u0212\u0210\3\2\2\2\u0212\u0211\3\2\2\2\u0213\u0214\3"+
+		"\2\2\2\u0214\u0215\7f\2\2\u0215\u021a\5^\60\2\u0216\u0217\7?\2\2\u0217"+
+		"\u0219\7@\2\2\u0218\u0216\3\2\2\2\u0219\u021c\3\2\2\2\u021a\u0218\3\2"+
+		"\2\2\u021a\u021b\3\2\2\2\u021b\u021f\3\2\2\2\u021c\u021a\3\2\2\2\u021d"+
+		"\u021e\7/\2\2\u021e\u0220\5\\/\2\u021f\u021d\3\2\2\2\u021f\u0220\3\2\2"+
+		"\2\u0220\u0221\3\2\2\2\u0221\u0222\7A\2\2\u0222?\3\2\2\2\u0223\u0224\5"+
+		"\22\n\2\u0224\u0225\5> \2\u0225A\3\2\2\2\u0226\u022b\5D#\2\u0227\u0228"+
+		"\7B\2\2\u0228\u022a\5D#\2\u0229\u0227\3\2\2\2\u022a\u022d\3\2\2\2\u022b"+
+		"\u0229\3\2\2\2\u022b\u022c\3\2\2\2\u022cC\3\2\2\2\u022d\u022b\3\2\2\2"+
+		"\u022e\u0231\5F$\2\u022f\u0230\7D\2\2\u0230\u0232\5H%\2\u0231\u022f\3"+
+		"\2\2\2\u0231\u0232\3\2\2\2\u0232E\3\2\2\2\u0233\u0238\7f\2\2\u0234\u0235"+
+		"\7?\2\2\u0235\u0237\7@\2\2\u0236\u0234\3\2\2\2\u0237\u023a\3\2\2\2\u0238"+
+		"\u0236\3\2\2\2\u0238\u0239\3\2\2\2\u0239G\3\2\2\2\u023a\u0238\3\2\2\2"+
+		"\u023b\u023e\5J&\2\u023c\u023e\5\u00b4[\2\u023d\u023b\3\2\2\2\u023d\u023c"+
+		"\3\2\2\2\u023eI\3\2\2\2\u023f\u024b\7=\2\2\u0240\u0245\5H%\2\u0241\u0242"+
+		"\7B\2\2\u0242\u0244\5H%\2\u0243\u0241\3\2\2\2\u0244\u0247\3\2\2\2\u0245"+
+		"\u0243\3\2\2\2\u0245\u0246\3\2\2\2\u0246\u0249\3\2\2\2\u0247\u0245\3\2"+
+		"\2\2\u0248\u024a\7B\2\2\u0249\u0248\3\2\2\2\u0249\u024a\3\2\2\2\u024a"+
+		"\u024c\3\2\2\2\u024b\u0240\3\2\2\2\u024b\u024c\3\2\2\2\u024c\u024d\3\2"+
+		"\2\2\u024d\u024e\7>\2\2\u024eK\3\2\2\2\u024f\u0250\5j\66\2\u0250M\3\2"+
+		"\2\2\u0251\u0252\7f\2\2\u0252O\3\2\2\2\u0253\u0254\5j\66\2\u0254Q\3\2"+
+		"\2\2\u0255\u025a\5T+\2\u0256\u0257\7?\2\2\u0257\u0259\7@\2\2\u0258\u0256"+
+		"\3\2\2\2\u0259\u025c\3\2\2\2\u025a\u0258\3\2\2\2\u025a\u025b\3\2\2\2\u025b"+
+		"\u0266\3\2\2\2\u025c\u025a\3\2\2\2\u025d\u0262\5V,\2\u025e\u025f\7?\2"+
+		"\2\u025f\u0261\7@\2\2\u0260\u025e\3\2\2\2\u0261\u0264\3\2\2\2\u0262\u0260"+
+		"\3\2\2\2\u0262\u0263\3\2\2\2\u0263\u0266\3\2\2\2\u0264\u0262\3\2\2\2\u0265"+
+		"\u0255\3\2\2\2\u0265\u025d\3\2\2\2\u0266S\3\2\2\2\u0267\u0269\7f\2\2\u0268"+
+		"\u026a\5X-\2\u0269\u0268\3\2\2\2\u0269\u026a\3\2\2\2\u026a\u0272\3\2\2"+
+		"\2\u026b\u026c\7C\2\2\u026c\u026e\7f\2\2\u026d\u026f\5X-\2\u026e\u026d"+
+		"\3\2\2\2\u026e\u026f\3\2\2\2\u026f\u0271\3\2\2\2\u0270\u026b\3\2\2\2\u0271"+
+		"\u0274\3\2\2\2\u0272\u0270\3\2\2\2\u0272\u0273\3\2\2\2\u0273U\3\2\2\2"+
+		"\u0274\u0272\3\2\2\2\u0275\u0276\t\4\2\2\u0276W\3\2\2\2\u0277\u0278\7"+
+		"F\2\2\u0278\u027d\5Z.\2\u0279\u027a\7B\2\2\u027a\u027c\5Z.\2\u027b\u0279"+
+		"\3\2\2\2\u027c\u027f\3\2\2\2\u027d\u027b\3\2\2\2\u027d\u027e\3\2\2\2\u027e"+
+		"\u0280\3\2\2\2\u027f\u027d\3\2\2\2\u0280\u0281\7E\2\2\u0281Y\3\2\2\2\u0282"+
+		"\u0289\5R*\2\u0283\u0286\7I\2\2\u0284\u0285\t\5\2\2\u0285\u0287\5R*\2"+
+		"\u0286\u0284\3\2\2\2\u0286\u0287\3\2\2\2\u0287\u0289\3\2\2\2\u0288\u0282"+
+		"\3\2\2\2\u0288\u0283\3\2\2\2\u0289[\3\2\2\2\u028a\u028f\5j\66\2\u028b"+
+		"\u028c\7B\2\2\u028c\u028e\5j\66\2\u028d\u028b\3\2\2\2\u028e\u0291\3\2"+
+		"\2\2\u028f\u028d\3\2\2\2\u028f\u0290\3\2\2\2\u0290]\3\2\2\2\u0291\u028f"+
+		"\3\2\2\2\u0292\u0294\7;\2\2\u0293\u0295\5`\61\2\u0294\u0293\3\2\2\2\u0294"+
+		"\u0295\3\2\2\2\u0295\u0296\3\2\2\2\u0296\u0297\7<\2\2\u0297_\3\2\2\2\u0298"+
+		"\u029d\5b\62\2\u0299\u029a\7B\2\2\u029a\u029c\5b\62\2\u029b\u0299\3\2"+
+		"\2\2\u029c\u029f\3\2\2\2\u029d\u029b\3\2\2\2\u029d\u029e\3\2\2\2\u029e"+
+		"\u02a2\3\2\2\2\u029f\u029d\3\2\2\2\u02a0\u02a1\7B\2\2\u02a1\u02a3\5d\63"+
+		"\2\u02a2\u02a0\3\2\2\2\u02a2\u02a3\3\2\2\2\u02a3\u02a6\3\2\2\2\u02a4\u02a6"+
+		"\5d\63\2\u02a5\u0298\3\2\2\2\u02a5\u02a4\3\2\2\2\u02a6a\3\2\2\2\u02a7"+
+		"\u02a9\5\16\b\2\u02a8\u02a7\3\2\2\2\u02a9\u02ac\3\2\2\2\u02aa\u02a8\3"+
+		"\2\2\2\u02aa\u02ab\3\2\2\2\u02ab\u02ad\3\2\2\2\u02ac\u02aa\3\2\2\2\u02ad"+
+		"\u02ae\5R*\2\u02ae\u02af\5F$\2\u02afc\3\2\2\2\u02b0\u02b2\5\16\b\2\u02b1"+
+		"\u02b0\3\2\2\2\u02b2\u02b5\3\2\2\2\u02b3\u02b1\3\2\2\2\u02b3\u02b4\3\2"+
+		"\2\2\u02b4\u02b6\3\2\2\2\u02b5\u02b3\3\2\2\2\u02b6\u02b7\5R*\2\u02b7\u02b8"+
+		"\7h\2\2\u02b8\u02b9\5F$\2\u02b9e\3\2\2\2\u02ba\u02bb\5\u008aF\2\u02bb"+
+		"g\3\2\2\2\u02bc\u02bd\5\u008aF\2\u02bdi\3\2\2\2\u02be\u02c3\7f\2\2\u02bf"+
+		"\u02c0\7C\2\2\u02c0\u02c2\7f\2\2\u02c1\u02bf\3\2\2\2\u02c2\u02c5\3\2\2"+
+		"\2\u02c3\u02c1\3\2\2\2\u02c3\u02c4\3\2\2\2\u02c4k\3\2\2\2\u02c5\u02c3"+
+		"\3\2\2\2\u02c6\u02c7\t\6\2\2\u02c7m\3\2\2\2\u02c8\u02c9\7g\2\2\u02c9\u02d0"+
+		"\5p9\2\u02ca\u02cd\7;\2\2\u02cb\u02ce\5r:\2\u02cc\u02ce\5v<\2\u02cd\u02cb"+
+		"\3\2\2\2\u02cd\u02cc\3\2\2\2\u02cd\u02ce\3\2\2\2\u02ce\u02cf\3\2\2\2\u02cf"+
+		"\u02d1\7<\2\2\u02d0\u02ca\3\2\2\2\u02d0\u02d1\3\2\2\2\u02d1o\3\2\2\2\u02d2"+
+		"\u02d3\5j\66\2\u02d3q\3\2\2\2\u02d4\u02d9\5t;\2\u02d5\u02d6\7B\2\2\u02d6"+
+		"\u02d8\5t;\2\u02d7\u02d5\3\2\2\2\u02d8\u02db\3\2\2\2\u02d9\u02d7\3\2\2"+
+		"\2\u02d9\u02da\3\2\2\2\u02das\3\2\2\2\u02db\u02d9\3\2\2\2\u02dc\u02dd"+
+		"\7f\2\2\u02dd\u02de\7D\2\2\u02de\u02df\5v<\2\u02dfu\3\2\2\2\u02e0\u02e4"+
+		"\5\u00b8]\2\u02e1\u02e4\5n8\2\u02e2\u02e4\5x=\2\u02e3\u02e0\3\2\2\2\u02e3"+
+		"\u02e1\3\2\2\2\u02e3\u02e2\3\2\2\2\u02e4w\3\2\2\2\u02e5\u02ee\7=\2\2\u02e6"+
+		"\u02eb\5v<\2\u02e7\u02e8\7B\2\2\u02e8\u02ea\5v<\2\u02e9\u02e7\3\2\2\2"+
+		"\u02ea\u02ed\3\2\2\2\u02eb\u02e9\3\2\2\2\u02eb\u02ec\3\2\2\2\u02ec\u02ef"+
+		"\3\2\2\2\u02ed\u02eb\3\2\2\2\u02ee\u02e6\3\2\2\2\u02ee\u02ef\3\2\2\2\u02ef"+
+		"\u02f1\3\2\2\2\u02f0\u02f2\7B\2\2\u02f1\u02f0\3\2\2\2\u02f1\u02f2\3\2"+
+		"\2\2\u02f2\u02f3\3\2\2\2\u02f3\u02f4\7>\2\2\u02f4y\3\2\2\2\u02f5\u02f6"+
+		"\7g\2\2\u02f6\u02f7\7\36\2\2\u02f7\u02f8\7f\2\2\u02f8\u02f9\5|?\2\u02f9"+
+		"{\3\2\2\2\u02fa\u02fe\7=\2\2\u02fb\u02fd\5~@\2\u02fc\u02fb\3\2\2\2\u02fd"+
+		"\u0300\3\2\2\2\u02fe\u02fc\3\2\2\2\u02fe\u02ff\3\2\2\2\u02ff\u0301\3\2"+
+		"\2\2\u0300\u02fe\3\2\2\2\u0301\u0302\7>\2\2\u0302}\3\2\2\2\u0303\u0305"+
+		"\5\n\6\2\u0304\u0303\3\2\2\2\u0305\u0308\3\2\2\2\u0306\u0304\3\2\2\2\u0306"+
+		"\u0307\3\2\2\2\u0307\u0309\3\2\2\2\u0308\u0306\3\2\2\2\u0309\u030c\5\u0080"+
+		"A\2\u030a\u030c\7A\2\2\u030b\u0306\3\2\2\2\u030b\u030a\3\2\2\2\u030c\177"+
+		"\3\2\2\2\u030d\u030e\5R*\2\u030e\u030f\5\u0082B\2\u030f\u0310\7A\2\2\u0310"+
+		"\u0322\3\2\2\2\u0311\u0313\5\20\t\2\u0312\u0314\7A\2\2\u0313\u0312\3\2"+
+		"\2\2\u0313\u0314\3\2\2\2\u0314\u0322\3\2\2\2\u0315\u0317\5 \21\2\u0316"+
+		"\u0318\7A\2\2\u0317\u0316\3\2\2\2\u0317\u0318\3\2\2\2\u0318\u0322\3\2"+
+		"\2\2\u0319\u031b\5\30\r\2\u031a\u031c\7A\2\2\u031b\u031a\3\2\2\2\u031b"+
+		"\u031c\3\2\2\2\u031c\u0322\3\2\2\2\u031d\u031f\5z>\2\u031e\u0320\7A\2"+
+		"\2\u031f\u031e\3\2\2\2\u031f\u0320\3\2\2\2\u0320\u0322\3\2\2\2\u0321\u030d"+
+		"\3\2\2\2\u0321\u0311\3\2\2\2\u0321\u0315\3\2\2\2\u0321\u0319\3\2\2\2\u0321"+
+		"\u031d\3\2\2\2\u0322\u0081\3\2\2\2\u0323\u0326\5\u0084C\2\u0324\u0326"+
+		"\5\u0086D\2\u0325\u0323\3\2\2\2\u0325\u0324\3\2\2\2\u0326\u0083\3\2\2"+
+		"\2\u0327\u0328\7f\2\2\u0328\u0329\7;\2\2\u0329\u032b\7<\2\2\u032a\u032c"+
+		"\5\u0088E\2\u032b\u032a\3\2\2\2\u032b\u032c\3\2\2\2\u032c\u0085\3\2\2"+
+		"\2\u032d\u032e\5B\"\2\u032e\u0087\3\2\2\2\u032f\u0330\7\16\2\2\u0330\u0331"+
+		"\5v<\2\u0331\u0089\3\2\2\2\u0332\u0336\7=\2\2\u0333\u0335\5\u008cG\2\u0334"+
+		"\u0333\3\2\2\2\u0335\u0338\3\2\2\2\u0336\u0334\3\2\2\2\u0336\u0337\3\2"+
+		"\2\2\u0337\u0339\3\2\2\2\u0338\u0336\3\2\2\2\u0339\u033a\7>\2\2\u033a"+
+		"\u008b\3\2\2\2\u033b\u033f\5\u008eH\2\u033c\u033f\5\u0092J\2\u033d\u033f"+
+		"\5\b\5\2\u033e\u033b\3\2\2\2\u033e\u033c\3\2\2\2\u033e\u033d\3\2\2\2\u033f"+
+		"\u008d\3\2\2\2\u0340\u0341\5\u0090I\2\u0341\u0342\7A\2\2\u0342\u008f\3"+
+		"\2\2\2\u0343\u0345\5\16\b\2\u0344\u0343\3\2\2\2\u0345\u0348\3\2\2\2\u0346"+
+		"\u0344\3\2\2\2\u0346\u0347\3\2\2\2\u0347\u0349\3\2\2\2\u0348\u0346\3\2"+
+		"\2\2\u0349\u034a\5R*\2\u034a\u034b\5B\"\2\u034b\u0091\3\2\2\2\u034c\u03b5"+
+		"\5\u008aF\2\u034d\u034e\7\4\2\2\u034e\u0351\5\u00b4[\2\u034f\u0350\7J"+
+		"\2\2\u0350\u0352\5\u00b4[\2\u0351\u034f\3\2\2\2\u0351\u0352\3\2\2\2\u0352"+
+		"\u0353\3\2\2\2\u0353\u0354\7A\2\2\u0354\u03b5\3\2\2\2\u0355\u0356\7\30"+
+		"\2\2\u0356\u0357\5\u00acW\2\u0357\u035a\5\u0092J\2\u0358\u0359\7\21\2"+
+		"\2\u0359\u035b\5\u0092J\2\u035a\u0358\3\2\2\2\u035a\u035b\3\2\2\2\u035b"+
+		"\u03b5\3\2\2\2\u035c\u035d\7\27\2\2\u035d\u035e\7;\2\2\u035e\u035f\5\u00a4"+
+		"S\2\u035f\u0360\7<\2\2\u0360\u0361\5\u0092J\2\u0361\u03b5\3\2\2\2\u0362"+
+		"\u0363\7\64\2\2\u0363\u0364\5\u00acW\2\u0364\u0365\5\u0092J\2\u0365\u03b5"+
+		"\3\2\2\2\u0366\u0367\7\17\2\2\u0367\u0368\5\u0092J\2\u0368\u0369\7\64"+
+		"\2\2\u0369\u036a\5\u00acW\2\u036a\u036b\7A\2\2\u036b\u03b5\3\2\2\2\u036c"+
+		"\u036d\7\61\2\2\u036d\u0377\5\u008aF\2\u036e\u0370\5\u0094K\2\u036f\u036e"+
+		"\3\2\2\2\u0370\u0371\3\2\2\2\u0371\u036f\3\2\2\2\u0371\u0372\3\2\2\2\u0372"+
+		"\u0374\3\2\2\2\u0373\u0375\5\u0098M\2\u0374\u0373\3\2\2\2\u0374\u0375"+
+		"\3\2\2\2\u0375\u0378\3\2\2\2\u0376\u0378\5\u0098M\2\u0377\u036f\3\2\2"+
+		"\2\u0377\u0376\3\2\2\2\u0378\u03b5\3\2\2\2\u0379\u037a\7\61\2\2\u037a"+
+		"\u037b\5\u009aN\2\u037b\u037f\5\u008aF\2\u037c\u037e\5\u0094K\2\u037d"+
+		"\u037c\3\2\2\2\u037e\u0381\3\2\2\2\u037f\u037d\3\2\2\2\u037f\u0380\3\2"+
+		"\2\2\u0380\u0383\3\2\2\2\u0381\u037f\3\2\2\2\u0382\u0384\5\u0098M\2\u0383"+
+		"\u0382\3\2\2\2\u0383\u0384\3\2\2\2\u0384\u03b5\3\2\2\2\u0385\u0386\7+"+
+		"\2\2\u0386\u0387\5\u00acW\2\u0387\u038b\7=\2\2\u0388\u038a\5\u00a0Q\2"+
+		"\u0389\u0388\3\2\2\2\u038a\u038d\3\2\2\2\u038b\u0389\3\2\2\2\u038b\u038c"+
+		"\3\2\2\2\u038c\u0391\3\2\2\2\u038d\u038b\3\2\2\2\u038e\u0390\5\u00a2R"+
+		"\2\u038f\u038e\3\2\2\2\u0390\u0393\3\2\2\2\u0391\u038f\3\2\2\2\u0391\u0392"+
+		"\3\2\2\2\u0392\u0394\3\2\2\2\u0393\u0391\3\2\2\2\u0394\u0395\7>\2\2\u0395"+
+		"\u03b5\3\2\2\2\u0396\u0397\7,\2\2\u0397\u0398\5\u00acW\2\u0398\u0399\5"+
+		"\u008aF\2\u0399\u03b5\3\2\2\2\u039a\u039c\7&\2\2\u039b\u039d\5\u00b4["+
+		"\2\u039c\u039b\3\2\2\2\u039c\u039d\3\2\2\2\u039d\u039e\3\2\2\2\u039e\u03b5"+
+		"\7A\2\2\u039f\u03a0\7.\2\2\u03a0\u03a1\5\u00b4[\2\u03a1\u03a2\7A\2\2\u03a2"+
+		"\u03b5\3\2\2\2\u03a3\u03a5\7\6\2\2\u03a4\u03a6\7f\2\2\u03a5\u03a4\3\2"+
+		"\2\2\u03a5\u03a6\3\2\2\2\u03a6\u03a7\3\2\2\2\u03a7\u03b5\7A\2\2\u03a8"+
+		"\u03aa\7\r\2\2\u03a9\u03ab\7f\2\2\u03aa\u03a9\3\2\2\2\u03aa\u03ab\3\2"+
+		"\2\2\u03ab\u03ac\3\2\2\2\u03ac\u03b5\7A\2\2\u03ad\u03b5\7A\2\2\u03ae\u03af"+
+		"\5\u00b0Y\2\u03af\u03b0\7A\2\2\u03b0\u03b5\3\2\2\2\u03b1\u03b2\7f\2\2"+
+		"\u03b2\u03b3\7J\2\2\u03b3\u03b5\5\u0092J\2\u03b4\u034c\3\2\2\2\u03b4\u034d"+
+		"\3\2\2\2\u03b4\u0355\3\2\2\2\u03b4\u035c\3\2\2\2\u03b4\u0362\3\2\2\2\u03b4"+
+		"\u0366\3\2\2\2\u03b4\u036c\3\2\2\2\u03b4\u0379\3\2\2\2\u03b4\u0385\3\2"+
+		"\2\2\u03b4\u0396\3\2\2\2\u03b4\u039a\3\2\2\2\u03b4\u039f\3\2\2\2\u03b4"+
+		"\u03a3\3\2\2\2\u03b4\u03a8\3\2\2\2\u03b4\u03ad\3\2\2\2\u03b4\u03ae\3\2"+
+		"\2\2\u03b4\u03b1\3\2\2\2\u03b5\u0093\3\2\2\2\u03b6\u03b7\7\t\2\2\u03b7"+
+		"\u03bb\7;\2\2\u03b8\u03ba\5\16\b\2\u03b9\u03b8\3\2\2\2\u03ba\u03bd\3\2"+
+		"\2\2\u03bb\u03b9\3\2\2\2\u03bb\u03bc\3\2\2\2\u03bc\u03be\3\2\2\2\u03bd"+
+		"\u03bb\3\2\2\2\u03be\u03bf\5\u0096L\2\u03bf\u03c0\7f\2\2\u03c0\u03c1\7"+
+		"<\2\2\u03c1\u03c2\5\u008aF\2\u03c2\u0095\3\2\2\2\u03c3\u03c8\5j\66\2\u03c4"+
+		"\u03c5\7X\2\2\u03c5\u03c7\5j\66\2\u03c6\u03c4\3\2\2\2\u03c7\u03ca\3\2"+
+		"\2\2\u03c8\u03c6\3\2\2\2\u03c8\u03c9\3\2\2\2\u03c9\u0097\3\2\2\2\u03ca"+
+		"\u03c8\3\2\2\2\u03cb\u03cc\7\25\2\2\u03cc\u03cd\5\u008aF\2\u03cd\u0099"+
+		"\3\2\2\2\u03ce\u03cf\7;\2\2\u03cf\u03d1\5\u009cO\2\u03d0\u03d2\7A\2\2"+
+		"\u03d1\u03d0\3\2\2\2\u03d1\u03d2\3\2\2\2\u03d2\u03d3\3\2\2\2\u03d3\u03d4"+
+		"\7<\2\2\u03d4\u009b\3\2\2\2\u03d5\u03da\5\u009eP\2\u03d6\u03d7\7A\2\2"+
+		"\u03d7\u03d9\5\u009eP\2\u03d8\u03d6\3\2\2\2\u03d9\u03dc\3\2\2\2\u03da"+
+		"\u03d8\3\2\2\2\u03da\u03db\3\2\2\2\u03db\u009d\3\2\2\2\u03dc\u03da\3\2"+
+		"\2\2\u03dd\u03df\5\16\b\2\u03de\u03dd\3\2\2\2\u03df\u03e2\3\2\2\2\u03e0"+
+		"\u03de\3\2\2\2\u03e0\u03e1\3\2\2\2\u03e1\u03e3\3\2\2\2\u03e2\u03e0\3\2"+
+		"\2\2\u03e3\u03e4\5T+\2\u03e4\u03e5\5F$\2\u03e5\u03e6\7D\2\2\u03e6\u03e7"+
+		"\5\u00b4[\2\u03e7\u009f\3\2\2\2\u03e8\u03ea\5\u00a2R\2\u03e9\u03e8\3\2"+
+		"\2\2\u03ea\u03eb\3\2\2\2\u03eb\u03e9\3\2\2\2\u03eb\u03ec\3\2\2\2\u03ec"+
+		"\u03ee\3\2\2\2\u03ed\u03ef\5\u008cG\2\u03ee\u03ed\3\2\2\2\u03ef\u03f0"+
+		"\3\2\2\2\u03f0\u03ee\3\2\2\2\u03f0\u03f1\3\2\2\2\u03f1\u00a1\3\2\2\2\u03f2"+
+		"\u03f3\7\b\2\2\u03f3\u03f4\5\u00b2Z\2\u03f4\u03f5\7J\2\2\u03f5\u03f9\3"+
+		"\2\2\2\u03f6\u03f7\7\16\2\2\u03f7\u03f9\7J\2\2\u03f8\u03f2\3\2\2\2\u03f8"+
+		"\u03f6\3\2\2\2\u03f9\u00a3\3\2\2\2\u03fa\u0407\5\u00a8U\2\u03fb\u03fd"+
+		"\5\u00a6T\2\u03fc\u03fb\3\2\2\2\u03fc\u03fd\3\2\2\2\u03fd\u03fe\3\2\2"+
+		"\2\u03fe\u0400\7A\2\2\u03ff\u0401\5\u00b4[\2\u0400\u03ff\3\2\2\2\u0400"+
+		"\u0401\3\2\2\2\u0401\u0402\3\2\2\2\u0402\u0404\7A\2\2\u0403\u0405\5\u00aa"+
+		"V\2\u0404\u0403\3\2\2\2\u0404\u0405\3\2\2\2\u0405\u0407\3\2\2\2\u0406"+
+		"\u03fa\3\2\2\2\u0406\u03fc\3\2\2\2\u0407\u00a5\3\2\2\2\u0408\u040b\5\u0090"+
+		"I\2\u0409\u040b\5\u00aeX\2\u040a\u0408\3\2\2\2\u040a\u0409\3\2\2\2\u040b"+
+		"\u00a7\3\2\2\2\u040c\u040e\5\16\b\2\u040d\u040c\3\2\2\2\u040e\u0411\3"+
+		"\2\2\2\u040f\u040d\3\2\2\2\u040f\u0410\3\2\2\2\u0410\u0412\3\2\2\2\u0411"+
+		"\u040f\3\2\2\2\u0412\u0413\5R*\2\u0413\u0414\7f\2\2\u0414\u0415\7J\2\2"+
+		"\u0415\u0416\5\u00b4[\2\u0416\u00a9\3\2\2\2\u0417\u0418\5\u00aeX\2\u0418"+
+		"\u00ab\3\2\2\2\u0419\u041a\7;\2\2\u041a\u041b\5\u00b4[\2\u041b\u041c\7"+
+		"<\2\2\u041c\u00ad\3\2\2\2\u041d\u0422\5\u00b4[\2\u041e\u041f\7B\2\2\u041f"+
+		"\u0421\5\u00b4[\2\u0420\u041e\3\2\2\2\u0421\u0424\3\2\2\2\u0422\u0420"+
+		"\3\2\2\2\u0422\u0423\3\2\2\2\u0423\u00af\3\2\2\2\u0424\u0422\3\2\2\2\u0425"+
+		"\u0426\5\u00b4[\2\u0426\u00b1\3\2\2\2\u0427\u0428\5\u00b4[\2\u0428\u00b3"+
+		"\3\2\2\2\u0429\u042d\5\u00b8]\2\u042a\u042b\5\u00b6\\\2\u042b\u042c\5"+
+		"\u00b4[\2\u042c\u042e\3\2\2\2\u042d\u042a\3\2\2\2\u042d\u042e\3\2\2\2"+
+		"\u042e\u00b5\3\2\2\2\u042f\u0430\t\7\2\2\u0430\u00b7\3\2\2\2\u0431\u0436"+
+		"\5\u00ba^\2\u0432\u0433\t\b\2\2\u0433\u0435\5\u00ba^\2\u0434\u0432\3\2"+
+		"\2\2\u0435\u0438\3\2\2\2\u0436\u0434\3\2\2\2\u0436\u0437\3\2\2\2\u0437"+
+		"\u043e\3\2\2\2\u0438\u0436\3\2\2\2\u0439\u043a\7I\2\2\u043a\u043b\5\u00b4"+
+		"[\2\u043b\u043c\7J\2\2\u043c\u043d\5\u00b8]\2\u043d\u043f\3\2\2\2\u043e"+
+		"\u0439\3\2\2\2\u043e\u043f\3\2\2\2\u043f\u00b9\3\2\2\2\u0440\u0452\5\u00bc"+
+		"_\2\u0441\u044e\7U\2\2\u0442\u044e\7V\2\2\u0443\u044e\7Z\2\2\u0444\u044e"+
+		"\7S\2\2\u0445\u044e\7T\2\2\u0446\u0447\7F\2\2\u0447\u044e\7F\2\2\u0448"+
+		"\u0449\7E\2\2\u0449\u044a\7E\2\2\u044a\u044e\7E\2\2\u044b\u044c\7E\2\2"+
+		"\u044c\u044e\7E\2\2\u044d\u0441\3\2\2\2\u044d\u0442\3\2\2\2\u044d\u0443"+
+		"\3\2\2\2\u044d\u0444\3\2\2\2\u044d\u0445\3\2\2\2\u044d\u0446\3\2\2\2\u044d"+
+		"\u0448\3\2\2\2\u044d\u044b\3\2\2\2\u044e\u044f\3\2\2\2\u044f\u0451\5\u00bc"+
+		"_\2\u0450\u044d\3\2\2\2\u0451\u0454\3\2\2\2\u0452\u0450\3\2\2\2\u0452"+
+		"\u0453\3\2\2\2\u0453\u046d\3\2\2\2\u0454\u0452\3\2\2\2\u0455\u0456\t\t"+
+		"\2\2\u0456\u0468\5\u00bc_\2\u0457\u0464\7U\2\2\u0458\u0464\7V\2\2\u0459"+
+		"\u0464\7Z\2\2\u045a\u0464\7S\2\2\u045b\u0464\7T\2\2\u045c\u045d\7F\2\2"+
+		"\u045d\u0464\7F\2\2\u045e\u045f\7E\2\2\u045f\u0460\7E\2\2\u0460\u0464"+
+		"\7E\2\2\u0461\u0462\7E\2\2\u0462\u0464\7E\2\2\u0463\u0457\3\2\2\2\u0463"+
+		"\u0458\3\2\2\2\u0463\u0459\3\2\2\2\u0463\u045a\3\2\2\2\u0463\u045b\3\2"+
+		"\2\2\u0463\u045c\3\2\2\2\u0463\u045e\3\2\2\2\u0463\u0461\3\2\2\2\u0464"+
+		"\u0465\3\2\2\2\u0465\u0467\5\u00bc_\2\u0466\u0463\3\2\2\2\u0467\u046a"+
+		"\3\2\2\2\u0468\u0466\3\2\2\2\u0468\u0469\3\2\2\2\u0469\u046e\3\2\2\2\u046a"+
+		"\u0468\3\2\2\2\u046b\u046c\7\34\2\2\u046c\u046e\5R*\2\u046d\u0455\3\2"+
+		"\2\2\u046d\u046b\3\2\2\2\u046d\u046e\3\2\2\2\u046e\u00bb\3\2\2\2\u046f"+
+		"\u0470\t\n\2\2\u0470\u0497\5\u00bc_\2\u0471\u0472\7;\2\2\u0472\u0477\5"+
+		"V,\2\u0473\u0474\7?\2\2\u0474\u0476\7@\2\2\u0475\u0473\3\2\2\2\u0476\u0479"+
+		"\3\2\2\2\u0477\u0475\3\2\2\2\u0477\u0478\3\2\2\2\u0478\u047a\3\2\2\2\u0479"+
+		"\u0477\3\2\2\2\u047a\u047b\7<\2\2\u047b\u047c\5\u00bc_\2\u047c\u0497\3"+
+		"\2\2\2\u047d\u047e\7;\2\2\u047e\u0483\5T+\2\u047f\u0480\7?\2\2\u0480\u0482"+
+		"\7@\2\2\u0481\u047f\3\2\2\2\u0482\u0485\3\2\2\2\u0483\u0481\3\2\2\2\u0483"+
+		"\u0484\3\2\2\2\u0484\u0486\3\2\2\2\u0485\u0483\3\2\2\2\u0486\u0487\7<"+
+		"\2\2\u0487\u0488\5\u00be`\2\u0488\u0497\3\2\2\2\u0489\u048d\5\u00c0a\2"+
+		"\u048a\u048c\5\u00c2b\2\u048b\u048a\3\2\2\2\u048c\u048f\3\2\2\2\u048d"+
+		"\u048b\3\2\2\2\u048d\u048e\3\2\2\2\u048e\u0493\3\2\2\2\u048f\u048d\3\2"+
+		"\2\2\u0490\u0492\t\13\2\2\u0491\u0490\3\2\2\2\u0492\u0495\3\2\2\2\u0493"+
+		"\u0491\3\2\2\2\u0493\u0494\3\2\2\2\u0494\u0497\3\2\2\2\u0495\u0493\3\2"+
+		"\2\2\u0496\u046f\3\2\2\2\u0496\u0471\3\2\2\2\u0496\u047d\3\2\2\2\u0496"+
+		"\u0489\3\2\2\2\u0497\u00bd\3\2\2\2\u0498\u0499\t\f\2\2\u0499\u04c0\5\u00bc"+
+		"_\2\u049a\u049b\7;\2\2\u049b\u04a0\5V,\2\u049c\u049d\7?\2\2\u049d\u049f"+
+		"\7@\2\2\u049e\u049c\3\2\2\2\u049f\u04a2\3\2\2\2\u04a0\u049e\3\2\2\2\u04a0"+
+		"\u04a1\3\2\2\2\u04a1\u04a3\3\2\2\2\u04a2\u04a0\3\2\2\2\u04a3\u04a4\7<"+
+		"\2\2\u04a4\u04a5\5\u00bc_\2\u04a5\u04c0\3\2\2\2\u04a6\u04a7\7;\2\2\u04a7"+
+		"\u04ac\5T+\2\u04a8\u04a9\7?\2\2\u04a9\u04ab\7@\2\2\u04aa\u04a8\3\2\2\2"+
+		"\u04ab\u04ae\3\2\2\2\u04ac\u04aa\3\2\2\2\u04ac\u04ad\3\2\2\2\u04ad\u04af"+
+		"\3\2\2\2\u04ae\u04ac\3\2\2\2\u04af\u04b0\7<\2\2\u04b0\u04b1\5\u00be`\2"+
+		"\u04b1\u04c0\3\2\2\2\u04b2\u04b6\5\u00c0a\2\u04b3\u04b5\5\u00c2b\2\u04b4"+
+		"\u04b3\3\2\2\2\u04b5\u04b8\3\2\2\2\u04b6\u04b4\3\2\2\2\u04b6\u04b7\3\2"+
+		"\2\2\u04b7\u04bc\3\2\2\2\u04b8\u04b6\3\2\2\2\u04b9\u04bb\t\13\2\2\u04ba"+
+		"\u04b9\3\2\2\2\u04bb\u04be\3\2\2\2\u04bc\u04ba\3\2\2\2\u04bc\u04bd\3\2"+
+		"\2\2\u04bd\u04c0\3\2\2\2\u04be\u04bc\3\2\2\2\u04bf\u0498\3\2\2\2\u04bf"+
+		"\u049a\3\2\2\2\u04bf\u04a6\3\2\2\2\u04bf\u04b2\3\2\2\2\u04c0\u00bf\3\2"+
+		"\2\2\u04c1\u04c2\7;\2\2\u04c2\u04c3\5\u00b4[\2\u04c3\u04c4\7<\2\2\u04c4"+
+		"\u04e0\3\2\2\2\u04c5\u04e0\7-\2\2\u04c6\u04e0\7*\2\2\u04c7\u04e0\5l\67"+
+		"\2\u04c8\u04e0\7f\2\2\u04c9\u04ce\5V,\2\u04ca\u04cb\7?\2\2\u04cb\u04cd"+
+		"\7@\2\2\u04cc\u04ca\3\2\2\2\u04cd\u04d0\3\2\2\2\u04ce\u04cc\3\2\2\2\u04ce"+
+		"\u04cf\3\2\2\2\u04cf\u04d1\3\2\2\2\u04d0\u04ce\3\2\2\2\u04d1\u04d2\7C"+
+		"\2\2\u04d2\u04d3\7\13\2\2\u04d3\u04e0\3\2\2\2\u04d4\u04d5\7\62\2\2\u04d5"+
+		"\u04d6\7C\2\2\u04d6\u04e0\7\13\2\2\u04d7\u04db\5\u00d0i\2\u04d8\u04dc"+
+		"\5\u00d8m\2\u04d9\u04da\7-\2\2\u04da\u04dc\5\u00dan\2\u04db\u04d8\3\2"+
+		"\2\2\u04db\u04d9\3\2\2\2\u04dc\u04e0\3\2\2\2\u04dd\u04de\7!\2\2\u04de"+
+		"\u04e0\5\u00c4c\2\u04df\u04c1\3\2\2\2\u04df\u04c5\3\2\2\2\u04df\u04c6"+
+		"\3\2\2\2\u04df\u04c7\3\2\2\2\u04df\u04c8\3\2\2\2\u04df\u04c9\3\2\2\2\u04df"+
+		"\u04d4\3\2\2\2\u04df\u04d7\3\2\2\2\u04df\u04dd\3\2\2\2\u04e0\u00c1\3\2"+
+		"\2\2\u04e1\u04e2\7C\2\2\u04e2\u0500\7f\2\2\u04e3\u04e4\7C\2\2\u04e4\u0500"+
+		"\7-\2\2\u04e5\u04e6\7C\2\2\u04e6\u04e8\7!\2\2\u04e7\u04e9\5\u00d0i\2\u04e8"+
+		"\u04e7\3\2\2\2\u04e8\u04e9\3\2\2\2\u04e9\u04ea\3\2\2\2\u04ea\u0500\5\u00c8"+
+		"e\2\u04eb\u04ec\7C\2\2\u04ec\u04ed\7*\2\2\u04ed\u0500\5\u00d6l\2\u04ee"+
+		"\u04ef\7C\2\2\u04ef\u0500\5\u00ceh\2\u04f0\u04f1\7C\2\2\u04f1\u0500\7"+
+		"\13\2\2\u04f2\u04f3\7?\2\2\u04f3\u04f5\7@\2\2\u04f4\u04f2\3\2\2\2\u04f5"+
+		"\u04f6\3\2\2\2\u04f6\u04f4\3\2\2\2\u04f6\u04f7\3\2\2\2\u04f7\u04f8\3\2"+
+		"\2\2\u04f8\u04f9\7C\2\2\u04f9\u0500\7\13\2\2\u04fa\u04fb\7?\2\2\u04fb"+
+		"\u04fc\5\u00b4[\2\u04fc\u04fd\7@\2\2\u04fd\u0500\3\2\2\2\u04fe\u0500\5"+
+		"\u00dan\2\u04ff\u04e1\3\2\2\2\u04ff\u04e3\3\2\2\2\u04ff\u04e5\3\2\2\2"+
+		"\u04ff\u04eb\3\2\2\2\u04ff\u04ee\3\2\2\2\u04ff\u04f0\3\2\2\2\u04ff\u04f4"+
+		"\3\2\2\2\u04ff\u04fa\3\2\2\2\u04ff\u04fe\3\2\2\2\u0500\u00c3\3\2\2\2\u0501"+
+		"\u0502\5\u00d0i\2\u0502\u0503\5\u00c6d\2\u0503\u0504\5\u00ccg\2\u0504"+
+		"\u050b\3\2\2\2\u0505\u0508\5\u00c6d\2\u0506\u0509\5\u00caf\2\u0507\u0509"+
+		"\5\u00ccg\2\u0508\u0506\3\2\2\2\u0508\u0507\3\2\2\2\u0509\u050b\3\2\2"+
+		"\2\u050a\u0501\3\2\2\2\u050a\u0505\3\2\2\2\u050b\u00c5\3\2\2\2\u050c\u050e"+
+		"\7f\2\2\u050d\u050f\5\u00d2j\2\u050e\u050d\3\2\2\2\u050e\u050f\3\2\2\2"+
+		"\u050f\u0517\3\2\2\2\u0510\u0511\7C\2\2\u0511\u0513\7f\2\2\u0512\u0514"+
+		"\5\u00d2j\2\u0513\u0512\3\2\2\2\u0513\u0514\3\2\2\2\u0514\u0516\3\2\2"+
+		"\2\u0515\u0510\3\2\2\2\u0516\u0519\3\2\2\2\u0517\u0515\3\2\2\2\u0517\u0518"+
+		"\3\2\2\2\u0518\u051c\3\2\2\2\u0519\u0517\3\2\2\2\u051a\u051c\5V,\2\u051b"+
+		"\u050c\3\2\2\2\u051b\u051a\3\2\2\2\u051c\u00c7\3\2\2\2\u051d\u051f\7f"+
+		"\2\2\u051e\u0520\5\u00d4k\2\u051f\u051e\3\2\2\2\u051f\u0520\3\2\2\2\u0520"+
+		"\u0521\3\2\2\2\u0521\u0522\5\u00ccg\2\u0522\u00c9\3\2\2\2\u0523\u053f"+
+		"\7?\2\2\u0524\u0529\7@\2\2\u0525\u0526\7?\2\2\u0526\u0528\7@\2\2\u0527"+
+		"\u0525\3\2\2\2\u0528\u052b\3\2\2\2\u0529\u0527\3\2\2\2\u0529\u052a\3\2"+
+		"\2\2\u052a\u052c\3\2\2\2\u052b\u0529\3\2\2\2\u052c\u0540\5J&\2\u052d\u052e"+
+		"\5\u00b4[\2\u052e\u0535\7@\2\2\u052f\u0530\7?\2\2\u0530\u0531\5\u00b4"+
+		"[\2\u0531\u0532\7@\2\2\u0532\u0534\3\2\2\2\u0533\u052f\3\2\2\2\u0534\u0537"+
+		"\3\2\2\2\u0535\u0533\3\2\2\2\u0535\u0536\3\2\2\2\u0536\u053c\3\2\2\2\u0537"+
+		"\u0535\3\2\2\2\u0538\u0539\7?\2\2\u0539\u053b\7@\2\2\u053a\u0538\3\2\2"+
+		"\2\u053b\u053e\3\2\2\2\u053c\u053a\3\2\2\2\u053c\u053d\3\2\2\2\u053d\u0540"+
+		"\3\2\2\2\u053e\u053c\3\2\2\2\u053f\u0524\3\2\2\2\u053f\u052d\3\2\2\2\u0540"+
+		"\u00cb\3\2\2\2\u0541\u0543\5\u00dan\2\u0542\u0544\5$\23\2\u0543\u0542"+
+		"\3\2\2\2\u0543\u0544\3\2\2\2\u0544\u00cd\3\2\2\2\u0545\u0546\5\u00d0i"+
+		"\2\u0546\u0547\5\u00d8m\2\u0547\u00cf\3\2\2\2\u0548\u0549\7F\2\2\u0549"+
+		"\u054a\5\"\22\2\u054a\u054b\7E\2\2\u054b\u00d1\3\2\2\2\u054c\u054d\7F"+
+		"\2\2\u054d\u0550\7E\2\2\u054e\u0550\5X-\2\u054f\u054c\3\2\2\2\u054f\u054e"+
+		"\3\2\2\2\u0550\u00d3\3\2\2\2\u0551\u0552\7F\2\2\u0552\u0555\7E\2\2\u0553"+
+		"\u0555\5\u00d0i\2\u0554\u0551\3\2\2\2\u0554\u0553\3\2\2\2\u0555\u00d5"+
+		"\3\2\2\2\u0556\u055d\5\u00dan\2\u0557\u0558\7C\2\2\u0558\u055a\7f\2\2"+
+		"\u0559\u055b\5\u00dan\2\u055a\u0559\3\2\2\2\u055a\u055b\3\2\2\2\u055b"+
+		"\u055d\3\2\2\2\u055c\u0556\3\2\2\2\u055c\u0557\3\2\2\2\u055d\u00d7\3\2"+
+		"\2\2\u055e\u055f\7*\2\2\u055f\u0563\5\u00d6l\2\u0560\u0561\7f\2\2\u0561"+
+		"\u0563\5\u00dan\2\u0562\u055e\3\2\2\2\u0562\u0560\3\2\2\2\u0563\u00d9"+
+		"\3\2\2\2\u0564\u0566\7;\2\2\u0565\u0567\5\u00aeX\2\u0566\u0565\3\2\2\2"+
+		"\u0566\u0567\3\2\2\2\u0567\u0568\3\2\2\2\u0568\u0569\7<\2\2\u0569\u00db"+
+		"\3\2\2\2\u00a7\u00dd\u00e2\u00e8\u00f0\u00f9\u00fe\u0105\u010c\u0113\u011a"+
+		"\u011f\u0123\u0127\u012b\u0130\u0134\u0138\u0142\u014a\u0151\u0158\u015c"+
+		"\u015f\u0162\u016b\u0171\u0176\u0179\u017f\u0185\u0189\u0192\u0199\u01a2"+
+		"\u01a9\u01af\u01b3\u01be\u01c2\u01ca\u01cf\u01d3\u01dc\u01ea\u01ef\u01f8"+
+		"\u0200\u020a\u0212\u021a\u021f\u022b\u0231\u0238\u023d\u0245\u0249\u024b"+
+		"\u025a\u0262\u0265\u0269\u026e\u0272\u027d\u0286\u0288\u028f\u0294\u029d"+
+		"\u02a2\u02a5\u02aa\u02b3\u02c3\u02cd\u02d0\u02d9\u02e3\u02eb\u02ee\u02f1"+
+		"\u02fe\u0306\u030b\u0313\u0317\u031b\u031f\u0321\u0325\u032b\u0336\u033e"+
+		"\u0346\u0351\u035a\u0371\u0374\u0377\u037f\u0383\u038b\u0391\u039c\u03a5"+
+		"\u03aa\u03b4\u03bb\u03c8\u03d1\u03da\u03e0\u03eb\u03f0\u03f8\u03fc\u0400"+
+		"\u0404\u0406\u040a\u040f\u0422\u042d\u0436\u043e\u044d\u0452\u0463\u0468"+
+		"\u046d\u0477\u0483\u048d\u0493\u0496\u04a0\u04ac\u04b6\u04bc\u04bf\u04ce"+
+		"\u04db\u04df\u04e8\u04f6\u04ff\u0508\u050a\u050e\u0513\u0517\u051b\u051f"+
+		"\u0529\u0535\u053c\u053f\u0543\u054f\u0554\u055a\u055c\u0562\u0566";
 	public static final ATN _ATN =
 		ATNSimulator.deserialize(_serializedATN.toCharArray());
 	static {
@@ -12,326 +12,333 @@ import org.antlr.v4.runtime.tree.ParseTreeVisitor;
  */
 public interface JavaVisitor<T> extends ParseTreeVisitor<T> {
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#innerCreator}.
+	 * Visit a parse tree produced by {@link JavaParser#memberDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitInnerCreator(@NotNull JavaParser.InnerCreatorContext ctx);
+	T visitMemberDeclaration(@NotNull JavaParser.MemberDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#genericMethodDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#defaultValue}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitGenericMethodDeclaration(@NotNull JavaParser.GenericMethodDeclarationContext ctx);
+	T visitDefaultValue(@NotNull JavaParser.DefaultValueContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#expressionList}.
+	 * Visit a parse tree produced by {@link JavaParser#annotationTypeElementDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpressionList(@NotNull JavaParser.ExpressionListContext ctx);
+	T visitAnnotationTypeElementDeclaration(@NotNull JavaParser.AnnotationTypeElementDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#typeDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#type}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitTypeDeclaration(@NotNull JavaParser.TypeDeclarationContext ctx);
+	T visitType(@NotNull JavaParser.TypeContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#forUpdate}.
+	 * Visit a parse tree produced by {@link JavaParser#annotationTypeBody}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitForUpdate(@NotNull JavaParser.ForUpdateContext ctx);
+	T visitAnnotationTypeBody(@NotNull JavaParser.AnnotationTypeBodyContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#annotation}.
+	 * Visit a parse tree produced by {@link JavaParser#genericInterfaceMethodDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitAnnotation(@NotNull JavaParser.AnnotationContext ctx);
+	T visitGenericInterfaceMethodDeclaration(@NotNull JavaParser.GenericInterfaceMethodDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#enumConstant}.
+	 * Visit a parse tree produced by {@link JavaParser#classBodyDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitEnumConstant(@NotNull JavaParser.EnumConstantContext ctx);
+	T visitClassBodyDeclaration(@NotNull JavaParser.ClassBodyDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#importDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#block}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitImportDeclaration(@NotNull JavaParser.ImportDeclarationContext ctx);
+	T visitBlock(@NotNull JavaParser.BlockContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#annotationMethodOrConstantRest}.
+	 * Visit a parse tree produced by {@link JavaParser#unaryExpression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitAnnotationMethodOrConstantRest(@NotNull JavaParser.AnnotationMethodOrConstantRestContext ctx);
+	T visitUnaryExpression(@NotNull JavaParser.UnaryExpressionContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#enumConstantName}.
+	 * Visit a parse tree produced by {@link JavaParser#enumBodyDeclarations}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitEnumConstantName(@NotNull JavaParser.EnumConstantNameContext ctx);
+	T visitEnumBodyDeclarations(@NotNull JavaParser.EnumBodyDeclarationsContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#finallyBlock}.
+	 * Visit a parse tree produced by {@link JavaParser#forUpdate}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitFinallyBlock(@NotNull JavaParser.FinallyBlockContext ctx);
+	T visitForUpdate(@NotNull JavaParser.ForUpdateContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#variableDeclarators}.
+	 * Visit a parse tree produced by {@link JavaParser#enhancedForControl}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitVariableDeclarators(@NotNull JavaParser.VariableDeclaratorsContext ctx);
+	T visitEnhancedForControl(@NotNull JavaParser.EnhancedForControlContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#elementValuePairs}.
+	 * Visit a parse tree produced by {@link JavaParser#annotationConstantRest}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitElementValuePairs(@NotNull JavaParser.ElementValuePairsContext ctx);
+	T visitAnnotationConstantRest(@NotNull JavaParser.AnnotationConstantRestContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#interfaceMethodDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#explicitGenericInvocation}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitInterfaceMethodDeclaration(@NotNull JavaParser.InterfaceMethodDeclarationContext ctx);
+	T visitExplicitGenericInvocation(@NotNull JavaParser.ExplicitGenericInvocationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#interfaceBodyDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#nonWildcardTypeArgumentsOrDiamond}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitInterfaceBodyDeclaration(@NotNull JavaParser.InterfaceBodyDeclarationContext ctx);
+	T visitNonWildcardTypeArgumentsOrDiamond(@NotNull JavaParser.NonWildcardTypeArgumentsOrDiamondContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#enumConstants}.
+	 * Visit a parse tree produced by {@link JavaParser#expressionList}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitEnumConstants(@NotNull JavaParser.EnumConstantsContext ctx);
+	T visitExpressionList(@NotNull JavaParser.ExpressionListContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#catchClause}.
+	 * Visit a parse tree produced by {@link JavaParser#annotationTypeElementRest}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitCatchClause(@NotNull JavaParser.CatchClauseContext ctx);
+	T visitAnnotationTypeElementRest(@NotNull JavaParser.AnnotationTypeElementRestContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#constantExpression}.
+	 * Visit a parse tree produced by {@link JavaParser#classOrInterfaceType}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitConstantExpression(@NotNull JavaParser.ConstantExpressionContext ctx);
+	T visitClassOrInterfaceType(@NotNull JavaParser.ClassOrInterfaceTypeContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#enumDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#typeBound}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitEnumDeclaration(@NotNull JavaParser.EnumDeclarationContext ctx);
+	T visitTypeBound(@NotNull JavaParser.TypeBoundContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#explicitGenericInvocationSuffix}.
+	 * Visit a parse tree produced by {@link JavaParser#variableDeclaratorId}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExplicitGenericInvocationSuffix(@NotNull JavaParser.ExplicitGenericInvocationSuffixContext ctx);
+	T visitVariableDeclaratorId(@NotNull JavaParser.VariableDeclaratorIdContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#typeParameter}.
+	 * Visit a parse tree produced by {@link JavaParser#primary}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitTypeParameter(@NotNull JavaParser.TypeParameterContext ctx);
+	T visitPrimary(@NotNull JavaParser.PrimaryContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#enumBodyDeclarations}.
+	 * Visit a parse tree produced by {@link JavaParser#classCreatorRest}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitEnumBodyDeclarations(@NotNull JavaParser.EnumBodyDeclarationsContext ctx);
+	T visitClassCreatorRest(@NotNull JavaParser.ClassCreatorRestContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#typeBound}.
+	 * Visit a parse tree produced by {@link JavaParser#interfaceBodyDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitTypeBound(@NotNull JavaParser.TypeBoundContext ctx);
+	T visitInterfaceBodyDeclaration(@NotNull JavaParser.InterfaceBodyDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#statementExpression}.
+	 * Visit a parse tree produced by {@link JavaParser#typeArguments}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitStatementExpression(@NotNull JavaParser.StatementExpressionContext ctx);
+	T visitTypeArguments(@NotNull JavaParser.TypeArgumentsContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#variableInitializer}.
+	 * Visit a parse tree produced by {@link JavaParser#relationalExpression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitVariableInitializer(@NotNull JavaParser.VariableInitializerContext ctx);
+	T visitRelationalExpression(@NotNull JavaParser.RelationalExpressionContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#block}.
+	 * Visit a parse tree produced by {@link JavaParser#annotationName}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitBlock(@NotNull JavaParser.BlockContext ctx);
+	T visitAnnotationName(@NotNull JavaParser.AnnotationNameContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#genericInterfaceMethodDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#typeName}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitGenericInterfaceMethodDeclaration(@NotNull JavaParser.GenericInterfaceMethodDeclarationContext ctx);
+	T visitTypeName(@NotNull JavaParser.TypeNameContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#localVariableDeclarationStatement}.
+	 * Visit a parse tree produced by {@link JavaParser#finallyBlock}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitLocalVariableDeclarationStatement(@NotNull JavaParser.LocalVariableDeclarationStatementContext ctx);
+	T visitFinallyBlock(@NotNull JavaParser.FinallyBlockContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#superSuffix}.
+	 * Visit a parse tree produced by {@link JavaParser#typeParameters}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitSuperSuffix(@NotNull JavaParser.SuperSuffixContext ctx);
+	T visitTypeParameters(@NotNull JavaParser.TypeParametersContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#fieldDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#lastFormalParameter}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitFieldDeclaration(@NotNull JavaParser.FieldDeclarationContext ctx);
+	T visitLastFormalParameter(@NotNull JavaParser.LastFormalParameterContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#formalParameterList}.
+	 * Visit a parse tree produced by {@link JavaParser#constructorBody}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitFormalParameterList(@NotNull JavaParser.FormalParameterListContext ctx);
+	T visitConstructorBody(@NotNull JavaParser.ConstructorBodyContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#explicitGenericInvocation}.
+	 * Visit a parse tree produced by {@link JavaParser#literal}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExplicitGenericInvocation(@NotNull JavaParser.ExplicitGenericInvocationContext ctx);
+	T visitLiteral(@NotNull JavaParser.LiteralContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#parExpression}.
+	 * Visit a parse tree produced by {@link JavaParser#annotationMethodOrConstantRest}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitParExpression(@NotNull JavaParser.ParExpressionContext ctx);
+	T visitAnnotationMethodOrConstantRest(@NotNull JavaParser.AnnotationMethodOrConstantRestContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#switchLabel}.
+	 * Visit a parse tree produced by {@link JavaParser#catchClause}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitSwitchLabel(@NotNull JavaParser.SwitchLabelContext ctx);
+	T visitCatchClause(@NotNull JavaParser.CatchClauseContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#typeParameters}.
+	 * Visit a parse tree produced by {@link JavaParser#variableDeclarator}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitTypeParameters(@NotNull JavaParser.TypeParametersContext ctx);
+	T visitVariableDeclarator(@NotNull JavaParser.VariableDeclaratorContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#qualifiedName}.
+	 * Visit a parse tree produced by {@link JavaParser#typeList}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitQualifiedName(@NotNull JavaParser.QualifiedNameContext ctx);
+	T visitTypeList(@NotNull JavaParser.TypeListContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#classDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#enumConstants}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitClassDeclaration(@NotNull JavaParser.ClassDeclarationContext ctx);
+	T visitEnumConstants(@NotNull JavaParser.EnumConstantsContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#annotationConstantRest}.
+	 * Visit a parse tree produced by {@link JavaParser#classBody}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitAnnotationConstantRest(@NotNull JavaParser.AnnotationConstantRestContext ctx);
+	T visitClassBody(@NotNull JavaParser.ClassBodyContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#typeName}.
+	 * Visit a parse tree produced by {@link JavaParser#createdName}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitTypeName(@NotNull JavaParser.TypeNameContext ctx);
+	T visitCreatedName(@NotNull JavaParser.CreatedNameContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#arguments}.
+	 * Visit a parse tree produced by {@link JavaParser#enumDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitArguments(@NotNull JavaParser.ArgumentsContext ctx);
+	T visitEnumDeclaration(@NotNull JavaParser.EnumDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#constructorBody}.
+	 * Visit a parse tree produced by {@link JavaParser#formalParameter}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitConstructorBody(@NotNull JavaParser.ConstructorBodyContext ctx);
+	T visitFormalParameter(@NotNull JavaParser.FormalParameterContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#formalParameters}.
+	 * Visit a parse tree produced by {@link JavaParser#parExpression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitFormalParameters(@NotNull JavaParser.FormalParametersContext ctx);
+	T visitParExpression(@NotNull JavaParser.ParExpressionContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#typeArgument}.
+	 * Visit a parse tree produced by {@link JavaParser#annotation}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitTypeArgument(@NotNull JavaParser.TypeArgumentContext ctx);
+	T visitAnnotation(@NotNull JavaParser.AnnotationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#forInit}.
+	 * Visit a parse tree produced by {@link JavaParser#variableInitializer}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitForInit(@NotNull JavaParser.ForInitContext ctx);
+	T visitVariableInitializer(@NotNull JavaParser.VariableInitializerContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#variableDeclarator}.
+	 * Visit a parse tree produced by {@link JavaParser#elementValueArrayInitializer}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitVariableDeclarator(@NotNull JavaParser.VariableDeclaratorContext ctx);
+	T visitElementValueArrayInitializer(@NotNull JavaParser.ElementValueArrayInitializerContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#annotationTypeDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#creator}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitAnnotationTypeDeclaration(@NotNull JavaParser.AnnotationTypeDeclarationContext ctx);
+	T visitCreator(@NotNull JavaParser.CreatorContext ctx);
+
+	/**
+	 * Visit a parse tree produced by {@link JavaParser#arrayCreatorRest}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitArrayCreatorRest(@NotNull JavaParser.ArrayCreatorRestContext ctx);
 
 	/**
 	 * Visit a parse tree produced by {@link JavaParser#expression}.
@@ -341,81 +348,95 @@ public interface JavaVisitor<T> extends ParseTreeVisitor<T> {
 	T visitExpression(@NotNull JavaParser.ExpressionContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#resources}.
+	 * Visit a parse tree produced by {@link JavaParser#constantExpression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitResources(@NotNull JavaParser.ResourcesContext ctx);
+	T visitConstantExpression(@NotNull JavaParser.ConstantExpressionContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#formalParameter}.
+	 * Visit a parse tree produced by {@link JavaParser#qualifiedNameList}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitFormalParameter(@NotNull JavaParser.FormalParameterContext ctx);
+	T visitQualifiedNameList(@NotNull JavaParser.QualifiedNameListContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#type}.
+	 * Visit a parse tree produced by {@link JavaParser#constructorDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitType(@NotNull JavaParser.TypeContext ctx);
+	T visitConstructorDeclaration(@NotNull JavaParser.ConstructorDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#elementValueArrayInitializer}.
+	 * Visit a parse tree produced by {@link JavaParser#forControl}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitElementValueArrayInitializer(@NotNull JavaParser.ElementValueArrayInitializerContext ctx);
+	T visitForControl(@NotNull JavaParser.ForControlContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#annotationName}.
+	 * Visit a parse tree produced by {@link JavaParser#superSuffix}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitAnnotationName(@NotNull JavaParser.AnnotationNameContext ctx);
+	T visitSuperSuffix(@NotNull JavaParser.SuperSuffixContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#enhancedForControl}.
+	 * Visit a parse tree produced by {@link JavaParser#variableDeclarators}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitEnhancedForControl(@NotNull JavaParser.EnhancedForControlContext ctx);
+	T visitVariableDeclarators(@NotNull JavaParser.VariableDeclaratorsContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#annotationMethodRest}.
+	 * Visit a parse tree produced by {@link JavaParser#catchType}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitAnnotationMethodRest(@NotNull JavaParser.AnnotationMethodRestContext ctx);
+	T visitCatchType(@NotNull JavaParser.CatchTypeContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#primary}.
+	 * Visit a parse tree produced by {@link JavaParser#classOrInterfaceModifier}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitPrimary(@NotNull JavaParser.PrimaryContext ctx);
+	T visitClassOrInterfaceModifier(@NotNull JavaParser.ClassOrInterfaceModifierContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#classBody}.
+	 * Visit a parse tree produced by {@link JavaParser#enumConstantName}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitClassBody(@NotNull JavaParser.ClassBodyContext ctx);
+	T visitEnumConstantName(@NotNull JavaParser.EnumConstantNameContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#classOrInterfaceModifier}.
+	 * Visit a parse tree produced by {@link JavaParser#modifier}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitClassOrInterfaceModifier(@NotNull JavaParser.ClassOrInterfaceModifierContext ctx);
+	T visitModifier(@NotNull JavaParser.ModifierContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#defaultValue}.
+	 * Visit a parse tree produced by {@link JavaParser#assignmentOperator}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitDefaultValue(@NotNull JavaParser.DefaultValueContext ctx);
+	T visitAssignmentOperator(@NotNull JavaParser.AssignmentOperatorContext ctx);
+
+	/**
+	 * Visit a parse tree produced by {@link JavaParser#innerCreator}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitInnerCreator(@NotNull JavaParser.InnerCreatorContext ctx);
+
+	/**
+	 * Visit a parse tree produced by {@link JavaParser#explicitGenericInvocationSuffix}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitExplicitGenericInvocationSuffix(@NotNull JavaParser.ExplicitGenericInvocationSuffixContext ctx);
 
 	/**
 	 * Visit a parse tree produced by {@link JavaParser#variableModifier}.
@@ -424,6 +445,27 @@ public interface JavaVisitor<T> extends ParseTreeVisitor<T> {
 	 */
 	T visitVariableModifier(@NotNull JavaParser.VariableModifierContext ctx);
 
+	/**
+	 * Visit a parse tree produced by {@link JavaParser#elementValuePair}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitElementValuePair(@NotNull JavaParser.ElementValuePairContext ctx);
+
+	/**
+	 * Visit a parse tree produced by {@link JavaParser#arrayInitializer}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitArrayInitializer(@NotNull JavaParser.ArrayInitializerContext ctx);
+
+	/**
+	 * Visit a parse tree produced by {@link JavaParser#elementValue}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitElementValue(@NotNull JavaParser.ElementValueContext ctx);
+
 	/**
 	 * Visit a parse tree produced by {@link JavaParser#constDeclaration}.
 	 * @param ctx the parse tree
@@ -432,67 +474,67 @@ public interface JavaVisitor<T> extends ParseTreeVisitor<T> {
 	T visitConstDeclaration(@NotNull JavaParser.ConstDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#createdName}.
+	 * Visit a parse tree produced by {@link JavaParser#resource}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitCreatedName(@NotNull JavaParser.CreatedNameContext ctx);
+	T visitResource(@NotNull JavaParser.ResourceContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#interfaceDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#qualifiedName}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitInterfaceDeclaration(@NotNull JavaParser.InterfaceDeclarationContext ctx);
+	T visitQualifiedName(@NotNull JavaParser.QualifiedNameContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#packageDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#resourceSpecification}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitPackageDeclaration(@NotNull JavaParser.PackageDeclarationContext ctx);
+	T visitResourceSpecification(@NotNull JavaParser.ResourceSpecificationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#constantDeclarator}.
+	 * Visit a parse tree produced by {@link JavaParser#formalParameterList}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitConstantDeclarator(@NotNull JavaParser.ConstantDeclaratorContext ctx);
+	T visitFormalParameterList(@NotNull JavaParser.FormalParameterListContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#catchType}.
+	 * Visit a parse tree produced by {@link JavaParser#annotationTypeDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitCatchType(@NotNull JavaParser.CatchTypeContext ctx);
+	T visitAnnotationTypeDeclaration(@NotNull JavaParser.AnnotationTypeDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#typeArguments}.
+	 * Visit a parse tree produced by {@link JavaParser#compilationUnit}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitTypeArguments(@NotNull JavaParser.TypeArgumentsContext ctx);
+	T visitCompilationUnit(@NotNull JavaParser.CompilationUnitContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#classCreatorRest}.
+	 * Visit a parse tree produced by {@link JavaParser#annotationMethodRest}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitClassCreatorRest(@NotNull JavaParser.ClassCreatorRestContext ctx);
+	T visitAnnotationMethodRest(@NotNull JavaParser.AnnotationMethodRestContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#modifier}.
+	 * Visit a parse tree produced by {@link JavaParser#switchBlockStatementGroup}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitModifier(@NotNull JavaParser.ModifierContext ctx);
+	T visitSwitchBlockStatementGroup(@NotNull JavaParser.SwitchBlockStatementGroupContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#statement}.
+	 * Visit a parse tree produced by {@link JavaParser#typeParameter}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitStatement(@NotNull JavaParser.StatementContext ctx);
+	T visitTypeParameter(@NotNull JavaParser.TypeParameterContext ctx);
 
 	/**
 	 * Visit a parse tree produced by {@link JavaParser#interfaceBody}.
@@ -502,233 +544,233 @@ public interface JavaVisitor<T> extends ParseTreeVisitor<T> {
 	T visitInterfaceBody(@NotNull JavaParser.InterfaceBodyContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#packageOrTypeName}.
+	 * Visit a parse tree produced by {@link JavaParser#methodDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitPackageOrTypeName(@NotNull JavaParser.PackageOrTypeNameContext ctx);
+	T visitMethodDeclaration(@NotNull JavaParser.MethodDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#classBodyDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#methodBody}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitClassBodyDeclaration(@NotNull JavaParser.ClassBodyDeclarationContext ctx);
+	T visitMethodBody(@NotNull JavaParser.MethodBodyContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#lastFormalParameter}.
+	 * Visit a parse tree produced by {@link JavaParser#typeArgument}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitLastFormalParameter(@NotNull JavaParser.LastFormalParameterContext ctx);
+	T visitTypeArgument(@NotNull JavaParser.TypeArgumentContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#forControl}.
+	 * Visit a parse tree produced by {@link JavaParser#typeDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitForControl(@NotNull JavaParser.ForControlContext ctx);
+	T visitTypeDeclaration(@NotNull JavaParser.TypeDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#typeList}.
+	 * Visit a parse tree produced by {@link JavaParser#genericConstructorDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitTypeList(@NotNull JavaParser.TypeListContext ctx);
+	T visitGenericConstructorDeclaration(@NotNull JavaParser.GenericConstructorDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#localVariableDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#classDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitLocalVariableDeclaration(@NotNull JavaParser.LocalVariableDeclarationContext ctx);
+	T visitClassDeclaration(@NotNull JavaParser.ClassDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#variableDeclaratorId}.
+	 * Visit a parse tree produced by {@link JavaParser#unaryExpressionNotPlusMinus}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitVariableDeclaratorId(@NotNull JavaParser.VariableDeclaratorIdContext ctx);
+	T visitUnaryExpressionNotPlusMinus(@NotNull JavaParser.UnaryExpressionNotPlusMinusContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#compilationUnit}.
+	 * Visit a parse tree produced by {@link JavaParser#enumConstant}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitCompilationUnit(@NotNull JavaParser.CompilationUnitContext ctx);
+	T visitEnumConstant(@NotNull JavaParser.EnumConstantContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#elementValue}.
+	 * Visit a parse tree produced by {@link JavaParser#statement}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitElementValue(@NotNull JavaParser.ElementValueContext ctx);
+	T visitStatement(@NotNull JavaParser.StatementContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#classOrInterfaceType}.
+	 * Visit a parse tree produced by {@link JavaParser#selector}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitClassOrInterfaceType(@NotNull JavaParser.ClassOrInterfaceTypeContext ctx);
+	T visitSelector(@NotNull JavaParser.SelectorContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#typeArgumentsOrDiamond}.
+	 * Visit a parse tree produced by {@link JavaParser#importDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitTypeArgumentsOrDiamond(@NotNull JavaParser.TypeArgumentsOrDiamondContext ctx);
+	T visitImportDeclaration(@NotNull JavaParser.ImportDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#annotationTypeElementDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#primitiveType}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitAnnotationTypeElementDeclaration(@NotNull JavaParser.AnnotationTypeElementDeclarationContext ctx);
+	T visitPrimitiveType(@NotNull JavaParser.PrimitiveTypeContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#blockStatement}.
+	 * Visit a parse tree produced by {@link JavaParser#interfaceDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitBlockStatement(@NotNull JavaParser.BlockStatementContext ctx);
+	T visitInterfaceDeclaration(@NotNull JavaParser.InterfaceDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#annotationTypeBody}.
+	 * Visit a parse tree produced by {@link JavaParser#localVariableDeclarationStatement}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitAnnotationTypeBody(@NotNull JavaParser.AnnotationTypeBodyContext ctx);
+	T visitLocalVariableDeclarationStatement(@NotNull JavaParser.LocalVariableDeclarationStatementContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#qualifiedNameList}.
+	 * Visit a parse tree produced by {@link JavaParser#blockStatement}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitQualifiedNameList(@NotNull JavaParser.QualifiedNameListContext ctx);
+	T visitBlockStatement(@NotNull JavaParser.BlockStatementContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#creator}.
+	 * Visit a parse tree produced by {@link JavaParser#packageOrTypeName}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitCreator(@NotNull JavaParser.CreatorContext ctx);
+	T visitPackageOrTypeName(@NotNull JavaParser.PackageOrTypeNameContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#memberDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#conditionalExpression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitMemberDeclaration(@NotNull JavaParser.MemberDeclarationContext ctx);
+	T visitConditionalExpression(@NotNull JavaParser.ConditionalExpressionContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#methodDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#fieldDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitMethodDeclaration(@NotNull JavaParser.MethodDeclarationContext ctx);
+	T visitFieldDeclaration(@NotNull JavaParser.FieldDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#annotationTypeElementRest}.
+	 * Visit a parse tree produced by {@link JavaParser#constantDeclarator}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitAnnotationTypeElementRest(@NotNull JavaParser.AnnotationTypeElementRestContext ctx);
+	T visitConstantDeclarator(@NotNull JavaParser.ConstantDeclaratorContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#resourceSpecification}.
+	 * Visit a parse tree produced by {@link JavaParser#resources}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitResourceSpecification(@NotNull JavaParser.ResourceSpecificationContext ctx);
+	T visitResources(@NotNull JavaParser.ResourcesContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#constructorDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#statementExpression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitConstructorDeclaration(@NotNull JavaParser.ConstructorDeclarationContext ctx);
+	T visitStatementExpression(@NotNull JavaParser.StatementExpressionContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#resource}.
+	 * Visit a parse tree produced by {@link JavaParser#interfaceMethodDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitResource(@NotNull JavaParser.ResourceContext ctx);
+	T visitInterfaceMethodDeclaration(@NotNull JavaParser.InterfaceMethodDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#elementValuePair}.
+	 * Visit a parse tree produced by {@link JavaParser#packageDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitElementValuePair(@NotNull JavaParser.ElementValuePairContext ctx);
+	T visitPackageDeclaration(@NotNull JavaParser.PackageDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#methodBody}.
+	 * Visit a parse tree produced by {@link JavaParser#elementValuePairs}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitMethodBody(@NotNull JavaParser.MethodBodyContext ctx);
+	T visitElementValuePairs(@NotNull JavaParser.ElementValuePairsContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#arrayInitializer}.
+	 * Visit a parse tree produced by {@link JavaParser#localVariableDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitArrayInitializer(@NotNull JavaParser.ArrayInitializerContext ctx);
+	T visitLocalVariableDeclaration(@NotNull JavaParser.LocalVariableDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#nonWildcardTypeArgumentsOrDiamond}.
+	 * Visit a parse tree produced by {@link JavaParser#nonWildcardTypeArguments}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitNonWildcardTypeArgumentsOrDiamond(@NotNull JavaParser.NonWildcardTypeArgumentsOrDiamondContext ctx);
+	T visitNonWildcardTypeArguments(@NotNull JavaParser.NonWildcardTypeArgumentsContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#primitiveType}.
+	 * Visit a parse tree produced by {@link JavaParser#interfaceMemberDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitPrimitiveType(@NotNull JavaParser.PrimitiveTypeContext ctx);
+	T visitInterfaceMemberDeclaration(@NotNull JavaParser.InterfaceMemberDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#nonWildcardTypeArguments}.
+	 * Visit a parse tree produced by {@link JavaParser#switchLabel}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitNonWildcardTypeArguments(@NotNull JavaParser.NonWildcardTypeArgumentsContext ctx);
+	T visitSwitchLabel(@NotNull JavaParser.SwitchLabelContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#arrayCreatorRest}.
+	 * Visit a parse tree produced by {@link JavaParser#forInit}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitArrayCreatorRest(@NotNull JavaParser.ArrayCreatorRestContext ctx);
+	T visitForInit(@NotNull JavaParser.ForInitContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#interfaceMemberDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#formalParameters}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitInterfaceMemberDeclaration(@NotNull JavaParser.InterfaceMemberDeclarationContext ctx);
+	T visitFormalParameters(@NotNull JavaParser.FormalParametersContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#genericConstructorDeclaration}.
+	 * Visit a parse tree produced by {@link JavaParser#arguments}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitGenericConstructorDeclaration(@NotNull JavaParser.GenericConstructorDeclarationContext ctx);
+	T visitArguments(@NotNull JavaParser.ArgumentsContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#literal}.
+	 * Visit a parse tree produced by {@link JavaParser#genericMethodDeclaration}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitLiteral(@NotNull JavaParser.LiteralContext ctx);
+	T visitGenericMethodDeclaration(@NotNull JavaParser.GenericMethodDeclarationContext ctx);
 
 	/**
-	 * Visit a parse tree produced by {@link JavaParser#switchBlockStatementGroup}.
+	 * Visit a parse tree produced by {@link JavaParser#typeArgumentsOrDiamond}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitSwitchBlockStatementGroup(@NotNull JavaParser.SwitchBlockStatementGroupContext ctx);
+	T visitTypeArgumentsOrDiamond(@NotNull JavaParser.TypeArgumentsOrDiamondContext ctx);
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+/*
+ Copyright (C) 2013-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package uk.ac.open.crc.jim.parser.java17;
+
+import java.util.List;
+import org.antlr.v4.runtime.Token;
+
+/**
+ * The language level of a source file, estimated from the tokens
+ * produced by the lexer before the file is parsed.
+ * <p>
+ * The estimate is used to choose the parser tried first. Only the uses
+ * of {@code enum} and {@code assert} as identifiers, which no Java 5 or
+ * later parser accepts, and the arrow and method reference separators
+ * are looked for, so the scan is a single pass over the tokens.
+ * </p>
+ */
+public enum LanguageLevel {
+
+    /**
+     * Java 1.4 or earlier, using {@code enum} or {@code assert} as an
+     * identifier.
+     */
+    LEGACY,
+
+    /**
+     * Java 5 to Java 7.
+     */
+    JAVA_7,
+
+    /**
+     * Java 8 or later, using lambdas or method references.
+     */
+    MODERN;
+
+    /**
+     * Estimates the language level of a file from its tokens.
+     *
+     * @param tokens the tokens of a file, as produced by the
+     * {@code JavaLexer}
+     * @return the estimated language level of the file
+     */
+    public static LanguageLevel of ( List<? extends Token> tokens ) {
+        LanguageLevel level = JAVA_7;
+        for ( int index = 0; index < tokens.size(); index++ ) {
+            switch ( tokens.get( index ).getType() ) {
+                case JavaLexer.ENUM:
+                    // an enum declaration always names the enum
+                    if ( type( tokens, index + 1 ) != JavaLexer.Identifier ) {
+                        return LEGACY;
+                    }
+                    break;
+                case JavaLexer.ASSERT:
+                    if ( isAssertIdentifier( tokens, index ) ) {
+                        return LEGACY;
+                    }
+                    break;
+                case JavaLexer.SUB:
+                    if ( type( tokens, index + 1 ) == JavaLexer.GT
+                            && adjacent( tokens, index ) ) {
+                        level = MODERN;
+                    }
+                    break;
+                case JavaLexer.COLON:
+                    if ( type( tokens, index + 1 ) == JavaLexer.COLON
+                            && adjacent( tokens, index ) ) {
+                        level = MODERN;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        return level;
+    }
+
+    // An assert statement follows the end of a statement, a label or a
+    // control clause. As a name, assert follows a type or a dot, or is
+    // followed by the end of a declarator or of an expression.
+    private static boolean isAssertIdentifier ( 
+            List<? extends Token> tokens, 
+            int index ) {
+        switch ( type( tokens, index - 1 ) ) {
+            case JavaLexer.DOT:
+            case JavaLexer.Identifier:
+            case JavaLexer.RBRACK:
+            case JavaLexer.GT:
+            case JavaLexer.VOID:
+            case JavaLexer.BOOLEAN:
+            case JavaLexer.BYTE:
+            case JavaLexer.CHAR:
+            case JavaLexer.SHORT:
+            case JavaLexer.INT:
+            case JavaLexer.LONG:
+            case JavaLexer.FLOAT:
+            case JavaLexer.DOUBLE:
+                return true;
+            default:
+                break;
+        }
+
+        switch ( type( tokens, index + 1 ) ) {
+            case JavaLexer.ASSIGN:
+            case JavaLexer.SEMI:
+            case JavaLexer.COMMA:
+            case JavaLexer.RPAREN:
+            case JavaLexer.DOT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static int type ( List<? extends Token> tokens, int index ) {
+        return index >= 0 && index < tokens.size() 
+                ? tokens.get( index ).getType() 
+                : Token.INVALID_TYPE;
+    }
+
+    private static boolean adjacent ( List<? extends Token> tokens, int index ) {
+        return tokens.get( index + 1 ).getStartIndex() 
+                == tokens.get( index ).getStopIndex() + 1;
+    }
+}
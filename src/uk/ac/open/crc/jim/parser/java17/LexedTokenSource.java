@@ -0,0 +1,95 @@
+/*
+ Copyright (C) 2013-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package uk.ac.open.crc.jim.parser.java17;
+
+import java.util.List;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+
+/**
+ * Supplies tokens already produced by a lexer, so that a file lexed once
+ * can be parsed more than once. The ANTLR 4.1 runtime has no
+ * {@code ListTokenSource}.
+ * <p>
+ * The list must end with the end of file token, which is returned again
+ * for every request made after it has been reached.
+ * </p>
+ */
+public class LexedTokenSource implements TokenSource {
+
+    private final List<Token> tokens;
+
+    private int index;
+
+    private TokenFactory<?> tokenFactory;
+
+    /**
+     * Supplies the tokens in a list.
+     *
+     * @param tokens tokens ending with the end of file token
+     */
+    public LexedTokenSource ( List<Token> tokens ) {
+        this.tokens = tokens;
+        this.index = 0;
+        this.tokenFactory = CommonTokenFactory.DEFAULT;
+    }
+
+    @Override
+    public Token nextToken () {
+        Token token = this.tokens.get( this.index );
+        if ( this.index < this.tokens.size() - 1 ) {
+            this.index++;
+        }
+
+        return token;
+    }
+
+    @Override
+    public int getLine () {
+        return this.tokens.get( this.index ).getLine();
+    }
+
+    @Override
+    public int getCharPositionInLine () {
+        return this.tokens.get( this.index ).getCharPositionInLine();
+    }
+
+    @Override
+    public CharStream getInputStream () {
+        return this.tokens.get( this.index ).getInputStream();
+    }
+
+    @Override
+    public String getSourceName () {
+        CharStream input = getInputStream();
+        return input == null ? IntStream.UNKNOWN_SOURCE_NAME : input.getSourceName();
+    }
+
+    @Override
+    public void setTokenFactory ( TokenFactory<?> factory ) {
+        this.tokenFactory = factory;
+    }
+
+    @Override
+    public TokenFactory<?> getTokenFactory () {
+        return this.tokenFactory;
+    }
+}
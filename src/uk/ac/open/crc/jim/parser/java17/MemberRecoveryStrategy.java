@@ -0,0 +1,220 @@
+/*
+ Copyright (C) 2013-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+
+package uk.ac.open.crc.jim.parser.java17;
+
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.InputMismatchException;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+/**
+ * An error strategy that recovers from a syntax error by discarding the
+ * declaration containing it, so that the rest of a file that cannot be
+ * parsed can still be extracted in a single pass.
+ * <p>
+ * A syntax error is passed up from the rule in which it is found to the
+ * innermost enclosing member, type or import declaration. The tokens of
+ * that declaration are skipped, its partial parse tree is removed, and
+ * parsing resumes with the next declaration. A declaration is delimited
+ * by its tokens rather than by the parse, so an error does not spread
+ * into the declarations that follow it. An error outside any declaration
+ * cannot be recovered from, and is thrown from the parser.
+ * </p>
+ * <p>
+ * Errors are not repaired inline, by inserting or deleting tokens, as the
+ * entities extracted from a repaired declaration might not be in the
+ * file.
+ * </p>
+ */
+public class MemberRecoveryStrategy extends DefaultErrorStrategy {
+
+    // the rules from which errors are recovered
+    private static final int[] DECLARATION_RULES = {
+        JavaParser.RULE_classBodyDeclaration,
+        JavaParser.RULE_interfaceBodyDeclaration,
+        JavaParser.RULE_annotationTypeElementDeclaration,
+        JavaParser.RULE_typeDeclaration,
+        JavaParser.RULE_importDeclaration
+    };
+
+    /**
+     * Counts the declarations in a parse tree of the kinds discarded on
+     * an error, which are the declarations recovered when the tree was
+     * built with this strategy.
+     *
+     * @param parseTree a parse tree
+     * @return the number of declarations
+     */
+    public static int countDeclarations ( ParseTree parseTree ) {
+        int count = 0;
+        if ( parseTree instanceof ParserRuleContext ) {
+            int ruleIndex = ( (ParserRuleContext) parseTree ).getRuleIndex();
+            for ( int declarationRule : DECLARATION_RULES ) {
+                if ( ruleIndex == declarationRule ) {
+                    count++;
+                }
+            }
+        }
+        for ( int i = 0; i < parseTree.getChildCount(); i++ ) {
+            count += countDeclarations( parseTree.getChild( i ) );
+        }
+        return count;
+    }
+
+    private int lostRegions;
+
+    /**
+     * Creates a recovery strategy.
+     */
+    public MemberRecoveryStrategy () {
+        this.lostRegions = 0;
+    }
+
+    /**
+     * Retrieves the number of declarations discarded because they
+     * contained syntax errors.
+     *
+     * @return the number of declarations lost
+     */
+    public int getLostRegions () {
+        return this.lostRegions;
+    }
+
+    @Override
+    public void reportError ( Parser recognizer, RecognitionException e ) {
+        // reported once, where it is found
+        if ( ! ( e instanceof Unwinding ) ) {
+            super.reportError( recognizer, e );
+        }
+    }
+
+    @Override
+    public void recover ( Parser recognizer, RecognitionException e ) {
+        ParserRuleContext context = recognizer.getContext();
+        if ( ! isDeclaration( context.getRuleIndex() ) ) {
+            // thrown to the enclosing rule, which recovers in turn
+            throw new Unwinding( recognizer, context );
+        }
+
+        skipDeclaration( 
+                recognizer.getInputStream(), 
+                context.getStart().getTokenIndex(), 
+                context.getRuleIndex() == JavaParser.RULE_typeDeclaration );
+        if ( context.getParent() != null ) {
+            context.getParent().removeLastChild();
+        }
+        this.lostRegions++;
+        endErrorCondition( recognizer );
+    }
+
+    @Override
+    public Token recoverInline ( Parser recognizer ) throws RecognitionException {
+        throw new InputMismatchException( recognizer );
+    }
+
+    // errors are found by the rules rather than anticipated
+    @Override
+    public void sync ( Parser recognizer ) {
+    }
+
+    private static boolean isDeclaration ( int ruleIndex ) {
+        for ( int declarationRule : DECLARATION_RULES ) {
+            if ( ruleIndex == declarationRule ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Skips the tokens of a declaration from its first token. A
+    // declaration ends with a semicolon outside braces, or with the brace
+    // closing its body unless the brace is part of an initialiser or an
+    // annotation. The brace closing the enclosing body is left for the
+    // parser, except at the top level where it can only be a stray.
+    private static void skipDeclaration ( 
+            TokenStream tokens, 
+            int startIndex, 
+            boolean topLevel ) {
+        tokens.seek( startIndex );
+        int braceDepth = 0;
+        int parenthesisDepth = 0;
+        boolean initialiser = false;
+        while ( true ) {
+            int type = tokens.LA( 1 );
+            if ( type == Token.EOF ) {
+                return;
+            }
+            if ( braceDepth == 0 ) {
+                // a parenthesis left open by the error does not hide the
+                // end of the declaration
+                if ( type == JavaLexer.SEMI ) {
+                    tokens.consume();
+                    return;
+                }
+                if ( type == JavaLexer.RBRACE ) {
+                    if ( topLevel ) {
+                        tokens.consume();
+                    }
+                    return;
+                }
+                if ( type == JavaLexer.ASSIGN && parenthesisDepth == 0 ) {
+                    initialiser = true;
+                }
+            }
+
+            switch ( type ) {
+                case JavaLexer.LPAREN:
+                    parenthesisDepth++;
+                    break;
+                case JavaLexer.RPAREN:
+                    parenthesisDepth = Math.max( 0, parenthesisDepth - 1 );
+                    break;
+                case JavaLexer.LBRACE:
+                    braceDepth++;
+                    break;
+                case JavaLexer.RBRACE:
+                    braceDepth--;
+                    if ( braceDepth == 0 && parenthesisDepth == 0 && ! initialiser ) {
+                        tokens.consume();
+                        return;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            tokens.consume();
+        }
+    }
+
+    /**
+     * Carries a syntax error from the rule it was found in to the
+     * enclosing declaration.
+     */
+    private static class Unwinding extends RecognitionException {
+
+        private static final long serialVersionUID = 1L;
+
+        Unwinding ( Parser recognizer, ParserRuleContext context ) {
+            super( recognizer, recognizer.getInputStream(), context );
+        }
+    }
+}
@@ -0,0 +1,1053 @@
+/*
+ Copyright (C) 2013-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+
+package uk.ac.open.crc.jim.parser.java17;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+
+/**
+ * Rewrites the syntax added to Java since Java 7 into constructs the
+ * Java 7 grammar accepts, so that modern source files are parsed once
+ * rather than failing every parser in turn.
+ * <p>
+ * The tokens of the file are read from the lexer and rewritten as a
+ * whole before the first is returned:
+ * </p>
+ * <ul>
+ * <li>Lambda expressions become anonymous classes with a single method
+ * named {@link #LAMBDA}, which the visitor does not record. The visitor
+ * records the parameters of the method as local variables of the
+ * enclosing entity. Implicitly typed parameters are given the type
+ * {@link #INFERRED_TYPE}, which the visitor records as no type.</li>
+ * <li>Switch expressions are wrapped in the same way, and {@code yield}
+ * statements become {@code return} statements.</li>
+ * <li>{@code case ... ->} labels become {@code case ... :} labels.</li>
+ * <li>Method references become field accesses.</li>
+ * <li>Records become classes with a private final field for each
+ * record component. A compact constructor is given the components as
+ * parameters, which it declares implicitly.</li>
+ * <li>The bodies of default, static and private interface methods are
+ * removed, as the grammar only allows abstract interface methods.</li>
+ * <li>The binding of an {@code instanceof} pattern is declared as the
+ * parameter of a method named {@link #LAMBDA} in an anonymous class
+ * compared with the {@code instanceof} expression, so it is recorded in
+ * the same way as a lambda parameter.</li>
+ * <li>{@code sealed}, {@code non-sealed} and {@code permits} clauses and
+ * the {@code default} modifier are removed.</li>
+ * </ul>
+ * <p>
+ * Tokens created by a rewrite take their positions from a nearby token
+ * in the file and have no character offsets. Text blocks are lexical, so
+ * they are removed from the content before it is lexed by
+ * {@link #blankTextBlocks}. Files without modern syntax pass through
+ * unchanged.
+ * </p>
+ */
+public class ModernSyntaxTokenSource implements TokenSource {
+
+    /**
+     * The name given to the anonymous classes and methods that stand in
+     * for lambda and switch expressions. It is not a legal identifier
+     * name, so cannot clash with a name in the file.
+     */
+    static final String LAMBDA = "#lambda#";
+
+    /**
+     * The type given to implicitly typed lambda parameters. It is not a
+     * legal type name, so cannot clash with a type in the file.
+     */
+    static final String INFERRED_TYPE = "#inferred#";
+
+    private static final String TEXT_BLOCK_DELIMITER = "\"\"\"";
+
+    /**
+     * Replaces each text block in some Java source code with an empty
+     * string literal followed by white space, keeping the line breaks,
+     * so that the positions of the remaining tokens are unchanged.
+     *
+     * @param content Java source code
+     * @return the source code without text blocks, or {@code content}
+     * itself if it has none
+     */
+    public static String blankTextBlocks ( String content ) {
+        if ( !content.contains( TEXT_BLOCK_DELIMITER ) ) {
+            return content;
+        }
+
+        StringBuilder blanked = null;
+        int length = content.length();
+        int index = 0;
+        while ( index < length ) {
+            char character = content.charAt( index );
+            if ( content.startsWith( TEXT_BLOCK_DELIMITER, index ) ) {
+                int end = findTextBlockEnd( content, index + TEXT_BLOCK_DELIMITER.length() );
+                if ( end < 0 ) {
+                    break;
+                }
+                if ( blanked == null ) {
+                    blanked = new StringBuilder( content );
+                }
+                for ( int offset = index + 2; offset < end; offset++ ) {
+                    char blank = content.charAt( offset );
+                    if ( blank != '\n' && blank != '\r' ) {
+                        blanked.setCharAt( offset, ' ' );
+                    }
+                }
+                index = end;
+            }
+            else if ( character == '"' || character == '\'' ) {
+                index = skipQuoted( content, index + 1, character );
+            }
+            else if ( content.startsWith( "//", index ) ) {
+                int end = content.indexOf( '\n', index );
+                index = end < 0 ? length : end;
+            }
+            else if ( content.startsWith( "/*", index ) ) {
+                int end = content.indexOf( "*/", index + 2 );
+                index = end < 0 ? length : end + 2;
+            }
+            else {
+                index++;
+            }
+        }
+
+        return blanked == null ? content : blanked.toString();
+    }
+
+    // the offset after the closing delimiter, or -1 if there is none
+    private static int findTextBlockEnd ( String content, int index ) {
+        while ( index < content.length() ) {
+            if ( content.charAt( index ) == '\\' ) {
+                index += 2;
+            }
+            else if ( content.startsWith( TEXT_BLOCK_DELIMITER, index ) ) {
+                return index + TEXT_BLOCK_DELIMITER.length();
+            }
+            else {
+                index++;
+            }
+        }
+        return -1;
+    }
+
+    // the offset after the closing quote of a string or character literal
+    private static int skipQuoted ( String content, int index, char quote ) {
+        while ( index < content.length() ) {
+            char character = content.charAt( index );
+            if ( character == '\\' ) {
+                index += 2;
+            }
+            else if ( character == quote || character == '\n' ) {
+                return index + 1;
+            }
+            else {
+                index++;
+            }
+        }
+        return index;
+    }
+
+    private final TokenSource tokenSource;
+
+    // the rewritten tokens of the file, ending with EOF
+    private List<Token> tokens;
+    private int next;
+
+    private int rewrites;
+
+    /**
+     * Rewrites the tokens from a lexer.
+     *
+     * @param tokenSource a lexer for the Java grammar
+     */
+    public ModernSyntaxTokenSource ( TokenSource tokenSource ) {
+        this.tokenSource = tokenSource;
+        this.tokens = null;
+        this.next = 0;
+        this.rewrites = 0;
+    }
+
+    /**
+     * Retrieves the number of constructs rewritten, which is zero for a
+     * file that is legal Java 7.
+     *
+     * @return the number of rewrites made
+     */
+    public int getRewrites () {
+        return this.rewrites;
+    }
+
+    @Override
+    public Token nextToken () {
+        if ( this.tokens == null ) {
+            this.tokens = readTokens();
+            rewrite();
+        }
+
+        Token token = this.tokens.get( this.next );
+        if ( this.next < this.tokens.size() - 1 ) {
+            this.next++;
+        }
+        return token;
+    }
+
+    private List<Token> readTokens () {
+        List<Token> read = new ArrayList<>();
+        Token token;
+        do {
+            token = this.tokenSource.nextToken();
+            read.add( token );
+        } while ( token.getType() != Token.EOF );
+
+        return read;
+    }
+
+    private void rewrite () {
+        rewriteKeywords();
+        rewriteRecords();
+        rewriteArrows();
+        rewriteSwitchExpressions();
+        removeInterfaceMethodBodies();
+    }
+
+    // ---- single token rewrites
+
+    private void rewriteKeywords () {
+        List<Token> rewritten = new ArrayList<>( this.tokens.size() );
+        boolean typeHeader = false;
+        boolean methodReference = false;
+        int index = 0;
+        while ( index < this.tokens.size() ) {
+            Token token = this.tokens.get( index );
+            int previousType = rewritten.isEmpty() 
+                    ? Token.INVALID_TYPE 
+                    : rewritten.get( rewritten.size() - 1 ).getType();
+            int type = token.getType();
+
+            if ( methodReference ) {
+                // Type::new
+                methodReference = false;
+                if ( type == JavaLexer.NEW ) {
+                    rewritten.add( retype( token, JavaLexer.Identifier, "new" ) );
+                    index++;
+                    continue;
+                }
+            }
+
+            if ( type == JavaLexer.CLASS || type == JavaLexer.INTERFACE 
+                    || type == JavaLexer.ENUM ) {
+                typeHeader = previousType != JavaLexer.DOT;
+            }
+            else if ( type == JavaLexer.LBRACE || type == JavaLexer.SEMI ) {
+                typeHeader = false;
+            }
+
+            if ( type == JavaLexer.COLON && type( index + 1 ) == JavaLexer.COLON
+                    && adjacent( token, this.tokens.get( index + 1 ) ) ) {
+                rewritten.add( retype( token, JavaLexer.DOT, "." ) );
+                methodReference = true;
+                this.rewrites++;
+                index += 2;
+            }
+            else if ( isIdentifier( index, "non" ) && type( index + 1 ) == JavaLexer.SUB
+                    && isIdentifier( index + 2, "sealed" )
+                    && adjacent( token, this.tokens.get( index + 1 ) )
+                    && adjacent( this.tokens.get( index + 1 ), this.tokens.get( index + 2 ) ) ) {
+                this.rewrites++;
+                index += 3;
+            }
+            else if ( isIdentifier( index, "sealed" ) && previousType != JavaLexer.DOT
+                    && isDeclarationStart( type( index + 1 ) ) ) {
+                this.rewrites++;
+                index++;
+            }
+            else if ( typeHeader && isIdentifier( index, "permits" )
+                    && previousType != JavaLexer.CLASS 
+                    && previousType != JavaLexer.INTERFACE ) {
+                while ( type( index ) != JavaLexer.LBRACE && type( index ) != Token.EOF ) {
+                    index++;
+                }
+                this.rewrites++;
+            }
+            else if ( type == JavaLexer.DEFAULT 
+                    && type( index + 1 ) != JavaLexer.COLON
+                    && !isArrow( index + 1 )
+                    && previousType != JavaLexer.RPAREN
+                    && previousType != JavaLexer.RBRACK ) {
+                // a default method, not a switch label or an annotation default
+                this.rewrites++;
+                index++;
+            }
+            else if ( type == JavaLexer.INSTANCEOF ) {
+                rewritten.add( token );
+                int patternStart = index + 1;
+                int typeStart = patternStart;
+                if ( type( typeStart ) == JavaLexer.FINAL ) {
+                    typeStart++;
+                }
+                int typeEnd = skipType( typeStart );
+                rewritten.addAll( this.tokens.subList( typeStart, typeEnd ) );
+                index = typeEnd;
+                if ( typeEnd > typeStart && type( typeEnd ) == JavaLexer.Identifier ) {
+                    // the binding of a type pattern
+                    rewritten.addAll( bindingDeclaration( patternStart, typeEnd ) );
+                    this.rewrites++;
+                    index++;
+                }
+            }
+            else if ( isIdentifier( index, "yield" ) && isStatementStart( previousType )
+                    && isExpressionStart( type( index + 1 ) ) ) {
+                rewritten.add( retype( token, JavaLexer.RETURN, "return" ) );
+                this.rewrites++;
+                index++;
+            }
+            else {
+                rewritten.add( token );
+                index++;
+            }
+        }
+
+        this.tokens = rewritten;
+    }
+
+    // x instanceof T t becomes x instanceof T == new #lambda# ( ) { void
+    // #lambda# ( T t ) { } }, so that the binding declared by the pattern
+    // from start to end is recorded in the same way as a lambda parameter
+    private List<Token> bindingDeclaration ( int start, int end ) {
+        Token binding = this.tokens.get( end );
+        List<Token> declaration = new ArrayList<>();
+        declaration.add( synthetic( JavaLexer.EQUAL, "==", binding ) );
+        declaration.addAll( openLambda( binding ) );
+        declaration.add( synthetic( JavaLexer.LPAREN, "(", binding ) );
+        for ( Token token : this.tokens.subList( start, end + 1 ) ) {
+            declaration.add( copy( token ) );
+        }
+        declaration.add( synthetic( JavaLexer.RPAREN, ")", binding ) );
+        declaration.add( synthetic( JavaLexer.LBRACE, "{", binding ) );
+        declaration.add( synthetic( JavaLexer.RBRACE, "}", binding ) );
+        declaration.add( synthetic( JavaLexer.RBRACE, "}", binding ) );
+        return declaration;
+    }
+
+    // ---- records
+
+    private void rewriteRecords () {
+        for ( int index = 0; index < this.tokens.size(); index++ ) {
+            if ( isIdentifier( index, "record" ) 
+                    && type( index - 1 ) != JavaLexer.DOT
+                    && type( index + 1 ) == JavaLexer.Identifier
+                    && ( type( index + 2 ) == JavaLexer.LPAREN 
+                            || type( index + 2 ) == JavaLexer.LT ) ) {
+                rewriteRecord( index );
+            }
+        }
+    }
+
+    private void rewriteRecord ( int recordIndex ) {
+        Token name = this.tokens.get( recordIndex + 1 );
+        int componentsStart = recordIndex + 2;
+        if ( type( componentsStart ) == JavaLexer.LT ) {
+            componentsStart = matchAngleBrackets( componentsStart ) + 1;
+            if ( componentsStart == 0 || type( componentsStart ) != JavaLexer.LPAREN ) {
+                return;
+            }
+        }
+        int componentsEnd = matchForward( componentsStart );
+        if ( componentsEnd < 0 ) {
+            return;
+        }
+
+        int bodyStart = componentsEnd + 1;
+        while ( type( bodyStart ) != JavaLexer.LBRACE ) {
+            if ( type( bodyStart ) == JavaLexer.SEMI || type( bodyStart ) == Token.EOF ) {
+                return;
+            }
+            bodyStart++;
+        }
+        int bodyEnd = matchForward( bodyStart );
+        if ( bodyEnd < 0 ) {
+            return;
+        }
+
+        List<Token> components = 
+                new ArrayList<>( this.tokens.subList( componentsStart, componentsEnd + 1 ) );
+
+        // look for a compact constructor among the members
+        int compactConstructor = -1;
+        int depth = 0;
+        for ( int index = bodyStart + 1; index < bodyEnd; index++ ) {
+            int type = type( index );
+            if ( isOpening( type ) ) {
+                depth++;
+            }
+            else if ( isClosing( type ) ) {
+                depth--;
+            }
+            else if ( depth == 0 && type == JavaLexer.Identifier
+                    && type( index + 1 ) == JavaLexer.LBRACE
+                    && name.getText().equals( this.tokens.get( index ).getText() ) ) {
+                compactConstructor = index;
+            }
+        }
+
+        List<Token> rewritten = new ArrayList<>( this.tokens.size() + 8 );
+        rewritten.addAll( this.tokens.subList( 0, recordIndex ) );
+        rewritten.add( retype( this.tokens.get( recordIndex ), JavaLexer.CLASS, "class" ) );
+        // the name and any type parameters
+        rewritten.addAll( this.tokens.subList( recordIndex + 1, componentsStart ) );
+        // any implemented interfaces and the opening brace
+        rewritten.addAll( this.tokens.subList( componentsEnd + 1, bodyStart + 1 ) );
+        rewritten.addAll( componentFields( componentsStart, componentsEnd ) );
+        if ( compactConstructor >= 0 ) {
+            rewritten.addAll( this.tokens.subList( bodyStart + 1, compactConstructor + 1 ) );
+            rewritten.addAll( components );
+            rewritten.addAll( this.tokens.subList( compactConstructor + 1, this.tokens.size() ) );
+        }
+        else {
+            rewritten.addAll( this.tokens.subList( bodyStart + 1, this.tokens.size() ) );
+        }
+
+        this.tokens = rewritten;
+        this.rewrites++;
+    }
+
+    // private final T name; for each component in the parentheses from
+    // start to end, with a variable arity component declared as an array
+    private List<Token> componentFields ( int start, int end ) {
+        List<Token> fields = new ArrayList<>();
+        int componentStart = start + 1;
+        int depth = 0;
+        for ( int index = start + 1; index <= end; index++ ) {
+            int type = type( index );
+            boolean separator = index == end 
+                    || ( depth == 0 && type == JavaLexer.COMMA );
+            if ( isOpening( type ) || type == JavaLexer.LT ) {
+                depth++;
+            }
+            else if ( isClosing( type ) || type == JavaLexer.GT ) {
+                depth--;
+            }
+            if ( !separator ) {
+                continue;
+            }
+            if ( index > componentStart ) {
+                Token first = this.tokens.get( componentStart );
+                Token last = this.tokens.get( index - 1 );
+                fields.add( synthetic( JavaLexer.PRIVATE, "private", first ) );
+                fields.add( synthetic( JavaLexer.FINAL, "final", first ) );
+                for ( Token token : this.tokens.subList( componentStart, index ) ) {
+                    if ( token.getType() == JavaLexer.ELLIPSIS ) {
+                        fields.add( synthetic( JavaLexer.LBRACK, "[", token ) );
+                        fields.add( synthetic( JavaLexer.RBRACK, "]", token ) );
+                    }
+                    else {
+                        fields.add( copy( token ) );
+                    }
+                }
+                fields.add( synthetic( JavaLexer.SEMI, ";", last ) );
+            }
+            componentStart = index + 1;
+        }
+        return fields;
+    }
+
+    // ---- lambda expressions and switch labels
+
+    // right to left, so that the body of a lambda has been rewritten 
+    // before the lambda itself
+    private void rewriteArrows () {
+        for ( int index = this.tokens.size() - 2; index >= 0; index-- ) {
+            if ( !isArrow( index ) ) {
+                continue;
+            }
+            if ( isCaseArrow( index ) ) {
+                rewriteCaseArrow( index );
+            }
+            else {
+                int start = rewriteLambda( index );
+                if ( start >= 0 ) {
+                    index = start;
+                }
+            }
+        }
+    }
+
+    private boolean isCaseArrow ( int arrow ) {
+        int depth = 0;
+        for ( int index = arrow - 1; index >= 0; index-- ) {
+            int type = type( index );
+            if ( isClosing( type ) ) {
+                depth++;
+            }
+            else if ( isOpening( type ) ) {
+                if ( depth == 0 ) {
+                    return false;
+                }
+                depth--;
+            }
+            else if ( depth == 0 ) {
+                switch ( type ) {
+                    case JavaLexer.CASE:
+                    case JavaLexer.DEFAULT:
+                        return true;
+                    case JavaLexer.SEMI:
+                    case JavaLexer.COLON:
+                    case JavaLexer.ASSIGN:
+                    case JavaLexer.RETURN:
+                        return false;
+                    default:
+                        break;
+                }
+            }
+        }
+        return false;
+    }
+
+    // case A, B -> becomes case A: case B:
+    private void rewriteCaseArrow ( int arrow ) {
+        Token arrowToken = this.tokens.get( arrow );
+        this.tokens.set( arrow, retype( arrowToken, JavaLexer.COLON, ":" ) );
+        this.tokens.remove( arrow + 1 );
+
+        int depth = 0;
+        for ( int index = arrow - 1; index >= 0; index-- ) {
+            int type = type( index );
+            if ( isClosing( type ) ) {
+                depth++;
+            }
+            else if ( isOpening( type ) ) {
+                depth--;
+            }
+            else if ( depth == 0 && type == JavaLexer.CASE ) {
+                break;
+            }
+            else if ( depth == 0 && type == JavaLexer.COMMA ) {
+                Token comma = this.tokens.get( index );
+                this.tokens.set( index, retype( comma, JavaLexer.COLON, ":" ) );
+                this.tokens.add( index + 1, synthetic( JavaLexer.CASE, "case", comma ) );
+            }
+        }
+        this.rewrites++;
+    }
+
+    // returns the index of the start of the rewritten lambda, or -1 if
+    // the arrow is not recognised as part of a lambda
+    private int rewriteLambda ( int arrow ) {
+        Token anchor = this.tokens.get( arrow );
+
+        List<Token> parameters = new ArrayList<>();
+        int start;
+        int parametersEnd = arrow - 1;
+        if ( type( parametersEnd ) == JavaLexer.Identifier ) {
+            // x -> ...
+            start = parametersEnd;
+            Token parameter = this.tokens.get( parametersEnd );
+            parameters.add( synthetic( JavaLexer.LPAREN, "(", parameter ) );
+            parameters.add( synthetic( JavaLexer.Identifier, INFERRED_TYPE, parameter ) );
+            parameters.add( parameter );
+            parameters.add( synthetic( JavaLexer.RPAREN, ")", parameter ) );
+        }
+        else if ( type( parametersEnd ) == JavaLexer.RPAREN ) {
+            start = matchBackward( parametersEnd );
+            if ( start < 0 ) {
+                return -1;
+            }
+            boolean implicit = true;
+            for ( int index = start + 1; index < parametersEnd; index++ ) {
+                boolean expected = ( index - start ) % 2 == 1;
+                int type = type( index );
+                if ( expected ? type != JavaLexer.Identifier : type != JavaLexer.COMMA ) {
+                    implicit = false;
+                    break;
+                }
+            }
+            for ( int index = start; index <= parametersEnd; index++ ) {
+                Token token = this.tokens.get( index );
+                if ( implicit && token.getType() == JavaLexer.Identifier ) {
+                    parameters.add( synthetic( JavaLexer.Identifier, INFERRED_TYPE, token ) );
+                }
+                parameters.add( token );
+            }
+        }
+        else {
+            return -1;
+        }
+
+        List<Token> body = new ArrayList<>();
+        int bodyStart = arrow + 2;
+        int end;
+        if ( type( bodyStart ) == JavaLexer.LBRACE ) {
+            end = matchForward( bodyStart );
+            if ( end < 0 ) {
+                return -1;
+            }
+            body.addAll( this.tokens.subList( bodyStart, end + 1 ) );
+        }
+        else {
+            int expressionEnd = findExpressionEnd( bodyStart );
+            if ( expressionEnd == bodyStart ) {
+                return -1;
+            }
+            end = expressionEnd - 1;
+            body.add( synthetic( JavaLexer.LBRACE, "{", anchor ) );
+            body.addAll( this.tokens.subList( bodyStart, expressionEnd ) );
+            body.add( synthetic( JavaLexer.SEMI, ";", anchor ) );
+            body.add( synthetic( JavaLexer.RBRACE, "}", anchor ) );
+        }
+
+        List<Token> replacement = openLambda( anchor );
+        replacement.addAll( parameters );
+        replacement.addAll( body );
+        replacement.add( synthetic( JavaLexer.RBRACE, "}", anchor ) );
+
+        replace( start, end, replacement );
+        this.rewrites++;
+        return start;
+    }
+
+    // new #lambda# ( ) { void #lambda#
+    private List<Token> openLambda ( Token anchor ) {
+        List<Token> opening = new ArrayList<>();
+        opening.add( synthetic( JavaLexer.NEW, "new", anchor ) );
+        opening.add( synthetic( JavaLexer.Identifier, LAMBDA, anchor ) );
+        opening.add( synthetic( JavaLexer.LPAREN, "(", anchor ) );
+        opening.add( synthetic( JavaLexer.RPAREN, ")", anchor ) );
+        opening.add( synthetic( JavaLexer.LBRACE, "{", anchor ) );
+        opening.add( synthetic( JavaLexer.VOID, "void", anchor ) );
+        opening.add( synthetic( JavaLexer.Identifier, LAMBDA, anchor ) );
+        return opening;
+    }
+
+    // the index after the last token of the expression starting at start
+    private int findExpressionEnd ( int start ) {
+        int depth = 0;
+        int conditionals = 0;
+        int index = start;
+        while ( index < this.tokens.size() - 1 ) {
+            int type = type( index );
+            if ( isOpening( type ) ) {
+                depth++;
+            }
+            else if ( isClosing( type ) ) {
+                if ( depth == 0 ) {
+                    break;
+                }
+                depth--;
+            }
+            else if ( depth == 0 ) {
+                if ( type == JavaLexer.COMMA || type == JavaLexer.SEMI ) {
+                    break;
+                }
+                else if ( type == JavaLexer.QUESTION ) {
+                    conditionals++;
+                }
+                else if ( type == JavaLexer.COLON ) {
+                    if ( conditionals == 0 ) {
+                        break;
+                    }
+                    conditionals--;
+                }
+                else if ( type == JavaLexer.LT 
+                        && ( type( index - 1 ) == JavaLexer.Identifier 
+                                || type( index - 1 ) == JavaLexer.DOT ) ) {
+                    // skip type arguments, whose commas do not end the expression
+                    int close = matchAngleBrackets( index );
+                    if ( close > 0 ) {
+                        index = close;
+                    }
+                }
+            }
+            index++;
+        }
+        return index;
+    }
+
+    // ---- switch expressions
+
+    private void rewriteSwitchExpressions () {
+        for ( int index = this.tokens.size() - 2; index > 0; index-- ) {
+            if ( type( index ) != JavaLexer.SWITCH 
+                    || isStatementStart( type( index - 1 ) )
+                    || type( index - 1 ) == JavaLexer.RPAREN
+                    || type( index - 1 ) == JavaLexer.ELSE
+                    || type( index - 1 ) == JavaLexer.DO ) {
+                continue;
+            }
+            if ( type( index + 1 ) != JavaLexer.LPAREN ) {
+                continue;
+            }
+            int selectorEnd = matchForward( index + 1 );
+            if ( selectorEnd < 0 || type( selectorEnd + 1 ) != JavaLexer.LBRACE ) {
+                continue;
+            }
+            int end = matchForward( selectorEnd + 1 );
+            if ( end < 0 ) {
+                continue;
+            }
+
+            Token anchor = this.tokens.get( index );
+            List<Token> replacement = openLambda( anchor );
+            replacement.add( synthetic( JavaLexer.LPAREN, "(", anchor ) );
+            replacement.add( synthetic( JavaLexer.RPAREN, ")", anchor ) );
+            replacement.add( synthetic( JavaLexer.LBRACE, "{", anchor ) );
+            replacement.addAll( this.tokens.subList( index, end + 1 ) );
+            replacement.add( synthetic( JavaLexer.RBRACE, "}", anchor ) );
+            replacement.add( synthetic( JavaLexer.RBRACE, "}", anchor ) );
+
+            replace( index, end, replacement );
+            this.rewrites++;
+        }
+    }
+
+    // ---- interface methods with bodies
+
+    private void removeInterfaceMethodBodies () {
+        // true for each open block that is an interface body
+        List<Boolean> interfaceBodies = new ArrayList<>();
+        boolean interfacePending = false;
+        boolean typePending = false;
+        int parenthesisDepth = 0;
+        boolean initialiser = false;
+        boolean afterParameters = false;
+
+        for ( int index = 0; index < this.tokens.size(); index++ ) {
+            int type = type( index );
+            boolean inInterface = !interfaceBodies.isEmpty() 
+                    && interfaceBodies.get( interfaceBodies.size() - 1 );
+            boolean parameters = false;
+            switch ( type ) {
+                case JavaLexer.INTERFACE:
+                    interfacePending = type( index - 1 ) != JavaLexer.DOT;
+                    break;
+                case JavaLexer.CLASS:
+                case JavaLexer.ENUM:
+                    typePending = type( index - 1 ) != JavaLexer.DOT;
+                    break;
+                case JavaLexer.LPAREN:
+                    parenthesisDepth++;
+                    break;
+                case JavaLexer.RPAREN:
+                    parenthesisDepth--;
+                    parameters = parenthesisDepth == 0 && !initialiser;
+                    break;
+                case JavaLexer.ASSIGN:
+                    initialiser |= parenthesisDepth == 0;
+                    break;
+                case JavaLexer.SEMI:
+                    initialiser = false;
+                    interfacePending = false;
+                    typePending = false;
+                    break;
+                case JavaLexer.LBRACE:
+                    if ( inInterface && afterParameters 
+                            && !interfacePending && !typePending ) {
+                        int end = matchForward( index );
+                        if ( end > 0 ) {
+                            List<Token> semicolon = new ArrayList<>();
+                            semicolon.add( retype( 
+                                    this.tokens.get( index ), JavaLexer.SEMI, ";" ) );
+                            replace( index, end, semicolon );
+                            this.rewrites++;
+                            break;
+                        }
+                    }
+                    interfaceBodies.add( interfacePending );
+                    interfacePending = false;
+                    typePending = false;
+                    initialiser = false;
+                    break;
+                case JavaLexer.RBRACE:
+                    if ( !interfaceBodies.isEmpty() ) {
+                        interfaceBodies.remove( interfaceBodies.size() - 1 );
+                    }
+                    initialiser = false;
+                    break;
+                case JavaLexer.THROWS:
+                case JavaLexer.Identifier:
+                case JavaLexer.DOT:
+                case JavaLexer.COMMA:
+                case JavaLexer.LT:
+                case JavaLexer.GT:
+                    // may form a throws clause
+                    parameters = afterParameters;
+                    break;
+                default:
+                    break;
+            }
+            afterParameters = parameters;
+        }
+    }
+
+    // ---- helpers
+
+    private int type ( int index ) {
+        if ( index < 0 ) {
+            return Token.INVALID_TYPE;
+        }
+        if ( index >= this.tokens.size() ) {
+            return Token.EOF;
+        }
+        return this.tokens.get( index ).getType();
+    }
+
+    private boolean isIdentifier ( int index, String text ) {
+        return type( index ) == JavaLexer.Identifier 
+                && text.equals( this.tokens.get( index ).getText() );
+    }
+
+    // the '-' and '>' of an arrow are separate tokens
+    private boolean isArrow ( int index ) {
+        return type( index ) == JavaLexer.SUB && type( index + 1 ) == JavaLexer.GT
+                && adjacent( this.tokens.get( index ), this.tokens.get( index + 1 ) );
+    }
+
+    private static boolean adjacent ( Token first, Token second ) {
+        return first.getStopIndex() >= 0 
+                && second.getStartIndex() == first.getStopIndex() + 1;
+    }
+
+    private static boolean isOpening ( int type ) {
+        return type == JavaLexer.LPAREN || type == JavaLexer.LBRACK 
+                || type == JavaLexer.LBRACE;
+    }
+
+    private static boolean isClosing ( int type ) {
+        return type == JavaLexer.RPAREN || type == JavaLexer.RBRACK 
+                || type == JavaLexer.RBRACE;
+    }
+
+    private static boolean isStatementStart ( int previousType ) {
+        return previousType == JavaLexer.SEMI || previousType == JavaLexer.LBRACE
+                || previousType == JavaLexer.RBRACE || previousType == JavaLexer.COLON;
+    }
+
+    private static boolean isDeclarationStart ( int type ) {
+        switch ( type ) {
+            case JavaLexer.CLASS:
+            case JavaLexer.INTERFACE:
+            case JavaLexer.ABSTRACT:
+            case JavaLexer.PUBLIC:
+            case JavaLexer.PROTECTED:
+            case JavaLexer.PRIVATE:
+            case JavaLexer.STATIC:
+            case JavaLexer.FINAL:
+            case JavaLexer.STRICTFP:
+            case JavaLexer.AT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isExpressionStart ( int type ) {
+        switch ( type ) {
+            case JavaLexer.Identifier:
+            case JavaLexer.IntegerLiteral:
+            case JavaLexer.FloatingPointLiteral:
+            case JavaLexer.BooleanLiteral:
+            case JavaLexer.CharacterLiteral:
+            case JavaLexer.StringLiteral:
+            case JavaLexer.NullLiteral:
+            case JavaLexer.NEW:
+            case JavaLexer.THIS:
+            case JavaLexer.SUPER:
+            case JavaLexer.SWITCH:
+            case JavaLexer.BANG:
+            case JavaLexer.TILDE:
+            case JavaLexer.SUB:
+            case JavaLexer.ADD:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // the index after a type starting at index, or index if there is none
+    private int skipType ( int index ) {
+        int type = type( index );
+        if ( type != JavaLexer.Identifier && !isPrimitiveType( type ) ) {
+            return index;
+        }
+        index++;
+        while ( true ) {
+            if ( type( index ) == JavaLexer.LT ) {
+                int close = matchAngleBrackets( index );
+                if ( close < 0 ) {
+                    break;
+                }
+                index = close + 1;
+            }
+            else if ( type( index ) == JavaLexer.DOT 
+                    && type( index + 1 ) == JavaLexer.Identifier ) {
+                index += 2;
+            }
+            else {
+                break;
+            }
+        }
+        while ( type( index ) == JavaLexer.LBRACK && type( index + 1 ) == JavaLexer.RBRACK ) {
+            index += 2;
+        }
+        return index;
+    }
+
+    private static boolean isPrimitiveType ( int type ) {
+        switch ( type ) {
+            case JavaLexer.BOOLEAN:
+            case JavaLexer.CHAR:
+            case JavaLexer.BYTE:
+            case JavaLexer.SHORT:
+            case JavaLexer.INT:
+            case JavaLexer.LONG:
+            case JavaLexer.FLOAT:
+            case JavaLexer.DOUBLE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // the index of the '>' closing type arguments or parameters opened
+    // at index, or -1 if the tokens cannot form them
+    private int matchAngleBrackets ( int index ) {
+        int depth = 0;
+        for ( ; index < this.tokens.size(); index++ ) {
+            int type = type( index );
+            if ( type == JavaLexer.LT ) {
+                depth++;
+            }
+            else if ( type == JavaLexer.GT ) {
+                depth--;
+                if ( depth == 0 ) {
+                    return index;
+                }
+            }
+            else if ( type != JavaLexer.Identifier && type != JavaLexer.DOT
+                    && type != JavaLexer.COMMA && type != JavaLexer.QUESTION
+                    && type != JavaLexer.EXTENDS && type != JavaLexer.SUPER
+                    && type != JavaLexer.LBRACK && type != JavaLexer.RBRACK
+                    && type != JavaLexer.BITAND && type != JavaLexer.AT
+                    && !isPrimitiveType( type ) ) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private int matchForward ( int index ) {
+        int depth = 0;
+        for ( ; index < this.tokens.size(); index++ ) {
+            int type = type( index );
+            if ( isOpening( type ) ) {
+                depth++;
+            }
+            else if ( isClosing( type ) ) {
+                depth--;
+                if ( depth == 0 ) {
+                    return index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private int matchBackward ( int index ) {
+        int depth = 0;
+        for ( ; index >= 0; index-- ) {
+            int type = type( index );
+            if ( isClosing( type ) ) {
+                depth++;
+            }
+            else if ( isOpening( type ) ) {
+                depth--;
+                if ( depth == 0 ) {
+                    return index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    // replaces the tokens from start to end inclusive
+    private void replace ( int start, int end, List<Token> replacement ) {
+        List<Token> rewritten = new ArrayList<>( 
+                this.tokens.size() - ( end - start + 1 ) + replacement.size() );
+        rewritten.addAll( this.tokens.subList( 0, start ) );
+        rewritten.addAll( replacement );
+        rewritten.addAll( this.tokens.subList( end + 1, this.tokens.size() ) );
+        this.tokens = rewritten;
+    }
+
+    private static Token retype ( Token token, int type, String text ) {
+        CommonToken retyped = new CommonToken( token );
+        retyped.setType( type );
+        retyped.setText( text );
+        return retyped;
+    }
+
+    // a token may only appear once in the rewritten tokens, as the token
+    // stream numbers them
+    private static Token copy ( Token token ) {
+        return new CommonToken( token );
+    }
+
+    // a token that is not in the file, placed at the anchor
+    private static Token synthetic ( int type, String text, Token anchor ) {
+        CommonToken token = new CommonToken( type, text );
+        token.setLine( anchor.getLine() );
+        token.setCharPositionInLine( anchor.getCharPositionInLine() );
+        token.setStartIndex( -1 );
+        token.setStopIndex( -1 );
+        return token;
+    }
+
+    @Override
+    public int getLine () {
+        return this.tokenSource.getLine();
+    }
+
+    @Override
+    public int getCharPositionInLine () {
+        return this.tokenSource.getCharPositionInLine();
+    }
+
+    @Override
+    public CharStream getInputStream () {
+        return this.tokenSource.getInputStream();
+    }
+
+    @Override
+    public String getSourceName () {
+        return this.tokenSource.getSourceName();
+    }
+
+    @Override
+    public void setTokenFactory ( TokenFactory<?> factory ) {
+        this.tokenSource.setTokenFactory( factory );
+    }
+
+    @Override
+    public TokenFactory<?> getTokenFactory () {
+        return this.tokenSource.getTokenFactory();
+    }
+}
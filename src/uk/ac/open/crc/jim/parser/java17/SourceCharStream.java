@@ -0,0 +1,47 @@
+/*
+ Copyright (C) 2013-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+
+package uk.ac.open.crc.jim.parser.java17;
+
+import org.antlr.v4.runtime.ANTLRInputStream;
+
+/**
+ * The lexer input for a source file, from which the text of tokens can
+ * be copied without creating a string for each token.
+ */
+public class SourceCharStream extends ANTLRInputStream {
+
+    /**
+     * Creates the input for the content of a source file.
+     *
+     * @param content the content of a source file
+     */
+    public SourceCharStream ( String content ) {
+        super( content );
+    }
+
+    /**
+     * Appends the characters between two offsets to a builder.
+     *
+     * @param text the builder appended to
+     * @param start the offset of the first character
+     * @param stop the offset of the last character
+     */
+    void appendTo ( StringBuilder text, int start, int stop ) {
+        text.append( this.data, start, stop - start + 1 );
+    }
+}
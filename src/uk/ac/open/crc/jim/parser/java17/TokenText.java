@@ -0,0 +1,109 @@
+/*
+ Copyright (C) 2013-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+
+package uk.ac.open.crc.jim.parser.java17;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+/**
+ * Extracts the text of parse trees from their tokens.
+ * <p>
+ * {@code getText()} on a rule context builds a string for every rule
+ * and token beneath it, and concatenates them level by level. The
+ * methods here walk the tokens of a tree once and copy the text of each
+ * straight from the lexer input into a single builder, when the input is
+ * a {@link SourceCharStream} and the token came from it unchanged. The
+ * text is that given by {@code getText()}: the tokens' texts without the
+ * whitespace and comments between them.
+ * </p>
+ */
+public final class TokenText {
+
+    private TokenText () {
+    }
+
+    /**
+     * Retrieves the text of a parse tree.
+     *
+     * @param tree a parse tree
+     * @return the text of the tokens of the tree, as given by
+     * {@code getText()}
+     */
+    public static String of ( ParseTree tree ) {
+        if ( tree instanceof TerminalNode ) {
+            return tree.getText();
+        }
+
+        StringBuilder text = new StringBuilder();
+        appendTo( text, tree );
+        return text.toString();
+    }
+
+    /**
+     * Appends the text of a parse tree to a builder.
+     *
+     * @param text the builder appended to
+     * @param tree a parse tree
+     */
+    public static void appendTo ( StringBuilder text, ParseTree tree ) {
+        if ( tree instanceof TerminalNode ) {
+            appendTo( text, ( (TerminalNode) tree ).getSymbol() );
+            return;
+        }
+
+        for ( int i = 0; i < tree.getChildCount(); i++ ) {
+            appendTo( text, tree.getChild( i ) );
+        }
+    }
+
+    /**
+     * Reports whether a parse tree contains a token of a given type.
+     *
+     * @param tree a parse tree
+     * @param tokenType a token type of the {@code JavaLexer}
+     * @return {@code true} if the tree contains a token of the type
+     */
+    public static boolean contains ( ParseTree tree, int tokenType ) {
+        if ( tree instanceof TerminalNode ) {
+            return ( (TerminalNode) tree ).getSymbol().getType() == tokenType;
+        }
+
+        for ( int i = 0; i < tree.getChildCount(); i++ ) {
+            if ( contains( tree.getChild( i ), tokenType ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void appendTo ( StringBuilder text, Token token ) {
+        CharStream input = token.getInputStream();
+        if ( input instanceof SourceCharStream 
+                && token.getType() != Token.EOF
+                && CompactTokenFactory.isInputText( token ) ) {
+            ( (SourceCharStream) input ).appendTo( 
+                    text, token.getStartIndex(), token.getStopIndex() );
+        }
+        else {
+            // rewritten and synthetic tokens have their own text
+            text.append( token.getText() );
+        }
+    }
+}
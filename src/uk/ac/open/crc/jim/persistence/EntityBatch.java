@@ -0,0 +1,689 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package uk.ac.open.crc.jim.persistence;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.ac.open.crc.idtk.Modifier;
+import uk.ac.open.crc.idtk.Species;
+import uk.ac.open.crc.idtk.TypeName;
+import uk.ac.open.crc.jimdb.RawProgramEntity;
+
+/**
+ * The program entities extracted from a single source file.
+ * <p>
+ * The project, package and file are recorded once for the file. The
+ * entities are held column-wise in primitive arrays: strings are
+ * interned in a per file table and referenced by index, modifiers are
+ * held as bit masks, and containers are identified by the serial number
+ * allocated to them within the file. The UIDs and {@code RawProgramEntity}
+ * instances needed by jimdb are only created as the batch is written.
+ * </p>
+ * <p>
+ * A batch is submitted to an {@link EntityStore} as a single unit once the
+ * file has been visited, so a file that cannot be visited to the end
+ * contributes nothing.
+ * </p>
+ * <p>
+ * Writing a batch is not atomic. jimdb's {@code DatabaseWriter.store()}
+ * resolves the file and package keys and commits each entity itself, and
+ * jimdb has no means of storing several entities in one transaction. A
+ * failure part way through writing a batch leaves the entities already
+ * stored in the database, and is logged naming the file.
+ * </p>
+ */
+public class EntityBatch {
+
+    /**
+     * Container serial number used for entities declared directly within
+     * the package, i.e. top-level types.
+     */
+    public static final int PACKAGE_CONTAINER = 0;
+
+    /**
+     * Container serial number used for entities that have no recorded
+     * container.
+     */
+    public static final int NO_CONTAINER = -1;
+
+    /**
+     * Modifier mask used for entities that cannot have modifiers.
+     */
+    public static final int NO_MODIFIERS = -1;
+
+    private static final int NO_STRING = -1;
+
+    private static final int NO_LIST = -1;
+
+    private static final int IS_ARRAY = 1;
+    private static final int IS_LOOP_CONTROL_VARIABLE = 2;
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private static final int HASH_LENGTH = 40;
+
+    private static final Species[] SPECIES = Species.values();
+    private static final Modifier[] MODIFIERS = Modifier.values();
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger( EntityBatch.class );
+
+    /**
+     * Creates the bit mask used to record a modifier.
+     *
+     * @param modifier a modifier
+     * @return the bit corresponding to the modifier
+     */
+    public static int maskFor ( Modifier modifier ) {
+        return 1 << modifier.ordinal();
+    }
+
+    private final String projectName;
+    private final String projectVersion;
+    private final String fileName;
+    private String packageName;
+
+    // entities of other species are not recorded
+    private final Set<Species> selectedSpecies;
+
+    // the container of each entity not recorded, by serial number, so
+    // that its contents can refer to the nearest container recorded
+    private final HashMap<Integer, Integer> discardedContainers;
+
+    // interned strings
+    private final ArrayList<String> strings;
+    private final HashMap<String, Integer> stringIndices;
+
+    // one element per entity
+    private int count;
+    private int[] containers;
+    private int[] serials;
+    private int[] names;
+    private byte[] species;
+    private int[] types;
+    private int[] signatures;
+    private int[] modifiers;
+    private byte[] flags;
+    private int[] superClasses;
+    private int[] superTypes;
+
+    // four elements per entity: start line & column, end line & column
+    private int[] positions;
+
+    // type lists held as a length followed by string indices
+    private int[] typeLists;
+    private int typeListsLength;
+
+    /**
+     * Creates an empty batch for a file.
+     *
+     * @param projectName the name of the project being mined
+     * @param projectVersion the version of the project being mined
+     * @param fileName the name of the source file
+     */
+    public EntityBatch (
+            String projectName,
+            String projectVersion,
+            String fileName ) {
+        this( projectName, projectVersion, fileName, EnumSet.allOf( Species.class ) );
+    }
+
+    /**
+     * Creates an empty batch for a file that records only entities of
+     * the selected species. Entities of other species are discarded by
+     * {@link #add}, and an entity whose container was discarded is given
+     * the nearest container that was recorded instead.
+     *
+     * @param projectName the name of the project being mined
+     * @param projectVersion the version of the project being mined
+     * @param fileName the name of the source file
+     * @param selectedSpecies the species of the entities to record
+     */
+    public EntityBatch (
+            String projectName,
+            String projectVersion,
+            String fileName,
+            Set<Species> selectedSpecies ) {
+        this.projectName = projectName;
+        this.projectVersion = projectVersion;
+        this.fileName = fileName;
+        this.packageName = ""; // the default package
+        this.selectedSpecies = EnumSet.copyOf( selectedSpecies );
+        this.discardedContainers = new HashMap<>();
+
+        this.strings = new ArrayList<>();
+        this.stringIndices = new HashMap<>();
+
+        this.count = 0;
+        this.containers = new int[INITIAL_CAPACITY];
+        this.serials = new int[INITIAL_CAPACITY];
+        this.names = new int[INITIAL_CAPACITY];
+        this.species = new byte[INITIAL_CAPACITY];
+        this.types = new int[INITIAL_CAPACITY];
+        this.signatures = new int[INITIAL_CAPACITY];
+        this.modifiers = new int[INITIAL_CAPACITY];
+        this.flags = new byte[INITIAL_CAPACITY];
+        this.superClasses = new int[INITIAL_CAPACITY];
+        this.superTypes = new int[INITIAL_CAPACITY];
+        this.positions = new int[INITIAL_CAPACITY * 4];
+
+        this.typeLists = new int[INITIAL_CAPACITY];
+        this.typeListsLength = 0;
+    }
+
+    // shares the entities of the source batch under a new header
+    private EntityBatch (
+            EntityBatch source,
+            String projectName,
+            String projectVersion,
+            String fileName ) {
+        this.projectName = projectName;
+        this.projectVersion = projectVersion;
+        this.fileName = fileName;
+        this.packageName = source.packageName;
+        this.selectedSpecies = source.selectedSpecies;
+        this.discardedContainers = source.discardedContainers;
+
+        this.strings = source.strings;
+        this.stringIndices = source.stringIndices;
+
+        this.count = source.count;
+        this.containers = source.containers;
+        this.serials = source.serials;
+        this.names = source.names;
+        this.species = source.species;
+        this.types = source.types;
+        this.signatures = source.signatures;
+        this.modifiers = source.modifiers;
+        this.flags = source.flags;
+        this.superClasses = source.superClasses;
+        this.superTypes = source.superTypes;
+        this.positions = source.positions;
+
+        this.typeLists = source.typeLists;
+        this.typeListsLength = source.typeListsLength;
+    }
+
+    /**
+     * Creates a batch holding the same entities recorded against a
+     * different project, version or file name, e.g. for a file that is
+     * unchanged between two versions of a project. The entities are
+     * shared, not copied, so neither batch may be added to afterwards.
+     * UIDs are derived from the new header when the copy is written.
+     *
+     * @param projectName the name of the project
+     * @param projectVersion the version of the project
+     * @param fileName the name of the source file
+     * @return a batch sharing this batch's entities
+     */
+    public EntityBatch copyFor (
+            String projectName,
+            String projectVersion,
+            String fileName ) {
+        return new EntityBatch( this, projectName, projectVersion, fileName );
+    }
+
+    /**
+     * Writes the package and entities of the batch, without the project,
+     * version and file name, which are supplied when it is read back.
+     *
+     * @param out the stream to write to
+     * @throws IOException if the batch cannot be written
+     */
+    public void writeTo ( DataOutputStream out ) throws IOException {
+        out.writeUTF( this.packageName );
+        out.writeInt( this.strings.size() );
+        for ( String string : this.strings ) {
+            out.writeUTF( string );
+        }
+
+        out.writeInt( this.count );
+        for ( int i = 0; i < this.count; i++ ) {
+            out.writeInt( recordedContainer( this.containers[i] ) );
+            out.writeInt( this.serials[i] );
+            out.writeInt( this.names[i] );
+            out.writeByte( this.species[i] );
+            out.writeInt( this.types[i] );
+            out.writeInt( this.signatures[i] );
+            out.writeInt( this.modifiers[i] );
+            out.writeByte( this.flags[i] );
+            out.writeInt( this.superClasses[i] );
+            out.writeInt( this.superTypes[i] );
+        }
+        for ( int i = 0; i < this.count * 4; i++ ) {
+            out.writeInt( this.positions[i] );
+        }
+
+        out.writeInt( this.typeListsLength );
+        for ( int i = 0; i < this.typeListsLength; i++ ) {
+            out.writeInt( this.typeLists[i] );
+        }
+    }
+
+    /**
+     * Reads a batch written by {@link #writeTo(DataOutputStream)}.
+     *
+     * @param in the stream to read from
+     * @param projectName the name of the project
+     * @param projectVersion the version of the project
+     * @param fileName the name of the source file
+     * @return the batch
+     * @throws IOException if the batch cannot be read
+     */
+    public static EntityBatch readFrom (
+            DataInputStream in,
+            String projectName,
+            String projectVersion,
+            String fileName ) throws IOException {
+        EntityBatch batch = new EntityBatch( projectName, projectVersion, fileName );
+        batch.packageName = in.readUTF();
+        int stringCount = in.readInt();
+        for ( int i = 0; i < stringCount; i++ ) {
+            batch.intern( in.readUTF() );
+        }
+
+        int entityCount = in.readInt();
+        batch.ensureCapacity( entityCount );
+        for ( int i = 0; i < entityCount; i++ ) {
+            batch.containers[i] = in.readInt();
+            batch.serials[i] = in.readInt();
+            batch.names[i] = in.readInt();
+            batch.species[i] = in.readByte();
+            batch.types[i] = in.readInt();
+            batch.signatures[i] = in.readInt();
+            batch.modifiers[i] = in.readInt();
+            batch.flags[i] = in.readByte();
+            batch.superClasses[i] = in.readInt();
+            batch.superTypes[i] = in.readInt();
+        }
+        for ( int i = 0; i < entityCount * 4; i++ ) {
+            batch.positions[i] = in.readInt();
+        }
+        batch.count = entityCount;
+
+        int typeListsLength = in.readInt();
+        batch.ensureTypeListCapacity( typeListsLength );
+        for ( int i = 0; i < typeListsLength; i++ ) {
+            batch.typeLists[i] = in.readInt();
+        }
+        batch.typeListsLength = typeListsLength;
+
+        return batch;
+    }
+
+    public String getProjectName () {
+        return this.projectName;
+    }
+
+    public String getProjectVersion () {
+        return this.projectVersion;
+    }
+
+    public String getFileName () {
+        return this.fileName;
+    }
+
+    public String getPackageName () {
+        return this.packageName;
+    }
+
+    /**
+     * Records the package declared in the file.
+     *
+     * @param packageName a fully qualified package name
+     */
+    public void setPackageName ( String packageName ) {
+        this.packageName = packageName;
+    }
+
+    /**
+     * Retrieves the number of entities in the batch.
+     *
+     * @return the number of entities in the batch
+     */
+    public int size () {
+        return this.count;
+    }
+
+    /**
+     * Adds a program entity to the batch, unless it is of a species that
+     * was not selected when the batch was created.
+     *
+     * @param container the serial number of the containing entity, or one
+     * of {@link #PACKAGE_CONTAINER} and {@link #NO_CONTAINER}
+     * @param serial the serial number of this entity within the file
+     * @param identifierName the identifier name
+     * @param entitySpecies the species of the entity
+     * @param typeName the type of the entity
+     * @param isArray {@code true} if the entity is an array
+     * @param methodSignature the signature of methods and constructors,
+     * otherwise {@code null}
+     * @param modifierMask the modifiers applied to the entity as a bit
+     * mask, or {@link #NO_MODIFIERS}
+     * @param isLoopControlVariable {@code true} for loop control variables
+     * @param superClassList any super classes, or {@code null}
+     * @param superTypeList any super types, or {@code null}
+     * @param startLine the line on which the entity starts
+     * @param startColumn the column on which the entity starts
+     * @param endLine the line on which the entity ends
+     * @param endColumn the column on which the entity ends
+     */
+    public void add (
+            int container,
+            int serial,
+            String identifierName,
+            Species entitySpecies,
+            String typeName,
+            boolean isArray,
+            String methodSignature,
+            int modifierMask,
+            boolean isLoopControlVariable,
+            List<String> superClassList,
+            List<String> superTypeList,
+            int startLine,
+            int startColumn,
+            int endLine,
+            int endColumn ) {
+        if ( !this.selectedSpecies.contains( entitySpecies ) ) {
+            this.discardedContainers.put( serial, container );
+            return;
+        }
+
+        ensureCapacity( this.count + 1 );
+
+        int index = this.count;
+        this.containers[index] = container;
+        this.serials[index] = serial;
+        this.names[index] = intern( identifierName );
+        this.species[index] = (byte) entitySpecies.ordinal();
+        this.types[index] = intern( typeName );
+        this.signatures[index] = intern( methodSignature );
+        this.modifiers[index] = modifierMask;
+        this.flags[index] = (byte) ( ( isArray ? IS_ARRAY : 0 )
+                | ( isLoopControlVariable ? IS_LOOP_CONTROL_VARIABLE : 0 ) );
+        this.superClasses[index] = addTypeList( superClassList );
+        this.superTypes[index] = addTypeList( superTypeList );
+
+        int position = index * 4;
+        this.positions[position] = startLine;
+        this.positions[position + 1] = startColumn;
+        this.positions[position + 2] = endLine;
+        this.positions[position + 3] = endColumn;
+
+        this.count++;
+    }
+
+    /**
+     * Retrieves the digest at the start of the UID of every entity in
+     * the batch.
+     *
+     * @return the digest identifying the file within the project version
+     */
+    public String getFileDigest () {
+        return digest( this.projectName + " " + this.projectVersion 
+                + " " + this.packageName + " " + this.fileName );
+    }
+
+    /**
+     * Creates a {@code RawProgramEntity} for each entity in the batch and
+     * passes it to the consumer.
+     *
+     * @param consumer receives each program entity in turn
+     */
+    public void forEach ( Consumer<RawProgramEntity> consumer ) {
+        String projectString = this.projectName + " " + this.projectVersion;
+        String packageDigest = digest( projectString + " " + this.packageName );
+        String fileDigest = getFileDigest();
+
+        // type names are shared between entities with the same type
+        TypeName[] typeNames = new TypeName[this.strings.size()];
+
+        for ( int i = 0; i < this.count; i++ ) {
+            int container = recordedContainer( this.containers[i] );
+            String containerUid;
+            switch ( container ) {
+                case NO_CONTAINER:
+                    containerUid = null;
+                    break;
+                case PACKAGE_CONTAINER:
+                    containerUid = packageDigest;
+                    break;
+                default:
+                    containerUid = fileDigest + "-" + container;
+            }
+
+            int position = i * 4;
+            consumer.accept( new RawProgramEntity(
+                    this.fileName,
+                    this.packageName,
+                    containerUid,
+                    fileDigest + "-" + this.serials[i],
+                    this.strings.get( this.names[i] ),
+                    SPECIES[this.species[i]],
+                    typeNameFor( this.types[i], typeNames ),
+                    ( this.flags[i] & IS_ARRAY ) != 0,
+                    stringFor( this.signatures[i] ),
+                    modifierListFor( this.modifiers[i] ),
+                    ( this.flags[i] & IS_LOOP_CONTROL_VARIABLE ) != 0,
+                    typeListFor( this.superClasses[i], typeNames ),
+                    typeListFor( this.superTypes[i], typeNames ),
+                    this.positions[position],
+                    this.positions[position + 1],
+                    this.positions[position + 2],
+                    this.positions[position + 3] ) );
+        }
+    }
+
+    /**
+     * Describes each entity in the batch on a line of its own, giving
+     * its position, species, name and type, and the name of its container,
+     * so that the entities extracted from a file can be read and compared
+     * without a database.
+     *
+     * @return a line for each entity in the order they were added
+     */
+    public List<String> describe () {
+        HashMap<Integer, String> containerNames = new HashMap<>();
+        for ( int i = 0; i < this.count; i++ ) {
+            containerNames.put( this.serials[i], this.strings.get( this.names[i] ) );
+        }
+
+        List<String> lines = new ArrayList<>( this.count );
+        for ( int i = 0; i < this.count; i++ ) {
+            int position = i * 4;
+            StringBuilder line = new StringBuilder();
+            line.append( this.positions[position] ).append( ':' )
+                    .append( this.positions[position + 1] ).append( ' ' )
+                    .append( SPECIES[this.species[i]] ).append( ' ' )
+                    .append( this.strings.get( this.names[i] ) );
+            if ( this.types[i] != NO_STRING ) {
+                line.append( " : " ).append( this.strings.get( this.types[i] ) );
+                if ( ( this.flags[i] & IS_ARRAY ) != 0 ) {
+                    line.append( "[]" );
+                }
+            }
+            if ( this.signatures[i] != NO_STRING ) {
+                line.append( ' ' ).append( this.strings.get( this.signatures[i] ) );
+            }
+
+            int container = recordedContainer( this.containers[i] );
+            if ( container == PACKAGE_CONTAINER ) {
+                line.append( " in package " ).append( this.packageName );
+            }
+            else if ( container != NO_CONTAINER ) {
+                line.append( " in " ).append( containerNames.get( container ) );
+            }
+            lines.add( line.toString() );
+        }
+
+        return lines;
+    }
+
+    private int intern ( String string ) {
+        if ( string == null ) {
+            return NO_STRING;
+        }
+
+        Integer index = this.stringIndices.get( string );
+        if ( index == null ) {
+            index = this.strings.size();
+            this.strings.add( string );
+            this.stringIndices.put( string, index );
+        }
+
+        return index;
+    }
+
+    private String stringFor ( int index ) {
+        return index == NO_STRING ? null : this.strings.get( index );
+    }
+
+    private int addTypeList ( List<String> typeNameList ) {
+        if ( typeNameList == null ) {
+            return NO_LIST;
+        }
+
+        ensureTypeListCapacity( this.typeListsLength + typeNameList.size() + 1 );
+
+        int offset = this.typeListsLength;
+        this.typeLists[this.typeListsLength++] = typeNameList.size();
+        for ( String typeName : typeNameList ) {
+            this.typeLists[this.typeListsLength++] = intern( typeName );
+        }
+
+        return offset;
+    }
+
+    private TypeName typeNameFor ( int index, TypeName[] typeNames ) {
+        if ( index == NO_STRING ) {
+            return null;
+        }
+        if ( typeNames[index] == null ) {
+            typeNames[index] = new TypeName( this.strings.get( index ) );
+        }
+        return typeNames[index];
+    }
+
+    private ArrayList<TypeName> typeListFor ( int offset, TypeName[] typeNames ) {
+        if ( offset == NO_LIST ) {
+            return null;
+        }
+
+        int length = this.typeLists[offset];
+        ArrayList<TypeName> typeNameList = new ArrayList<>( length );
+        for ( int i = 1; i <= length; i++ ) {
+            typeNameList.add( typeNameFor( this.typeLists[offset + i], typeNames ) );
+        }
+
+        return typeNameList;
+    }
+
+    private ArrayList<Modifier> modifierListFor ( int mask ) {
+        if ( mask == NO_MODIFIERS ) {
+            return null;
+        }
+
+        ArrayList<Modifier> modifierList = new ArrayList<>();
+        for ( Modifier modifier : MODIFIERS ) {
+            if ( ( mask & maskFor( modifier ) ) != 0 ) {
+                modifierList.add( modifier );
+            }
+        }
+
+        return modifierList;
+    }
+
+    // follows the containers of discarded entities outwards
+    private int recordedContainer ( int container ) {
+        Integer outer = this.discardedContainers.get( container );
+        while ( outer != null ) {
+            container = outer;
+            outer = this.discardedContainers.get( container );
+        }
+
+        return container;
+    }
+
+    private void ensureCapacity ( int required ) {
+        if ( required <= this.containers.length ) {
+            return;
+        }
+
+        int capacity = Math.max( required, this.containers.length * 2 );
+        this.containers = Arrays.copyOf( this.containers, capacity );
+        this.serials = Arrays.copyOf( this.serials, capacity );
+        this.names = Arrays.copyOf( this.names, capacity );
+        this.species = Arrays.copyOf( this.species, capacity );
+        this.types = Arrays.copyOf( this.types, capacity );
+        this.signatures = Arrays.copyOf( this.signatures, capacity );
+        this.modifiers = Arrays.copyOf( this.modifiers, capacity );
+        this.flags = Arrays.copyOf( this.flags, capacity );
+        this.superClasses = Arrays.copyOf( this.superClasses, capacity );
+        this.superTypes = Arrays.copyOf( this.superTypes, capacity );
+        this.positions = Arrays.copyOf( this.positions, capacity * 4 );
+    }
+
+    private void ensureTypeListCapacity ( int required ) {
+        if ( required > this.typeLists.length ) {
+            this.typeLists = Arrays.copyOf(
+                    this.typeLists,
+                    Math.max( required, this.typeLists.length * 2 ) );
+        }
+    }
+
+    /**
+     * Generates a digest string in hex for the input string.
+     *
+     * @param input a string to hash.
+     * @return the hash for the string.
+     */
+    private static String digest ( String input ) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance( "SHA" );
+        }
+        catch ( NoSuchAlgorithmException e ) {
+            LOGGER.error(
+                    "Fatal: digest algorithm not found : {}",
+                    e.getMessage() );
+            throw new IllegalStateException( e );
+        }
+
+        // the platform encoding is used to match UIDs written by earlier runs
+        byte[] bytes = messageDigest.digest( input.getBytes() );
+
+        //  write the hex digits out to a String
+        StringBuilder output = new StringBuilder( HASH_LENGTH );
+        for ( byte b : bytes ) {
+            output.append( String.format( "%02x", b ) );
+        }
+
+        return output.toString();
+    }
+}
@@ -16,6 +16,7 @@
 
 package uk.ac.open.crc.jim.persistence;
 
+import java.util.Collection;
 import uk.ac.open.crc.jimdb.RawProgramEntity;
 
 /**
@@ -25,5 +26,36 @@ public interface EntityStore {
 
     public void add ( RawProgramEntity programEntity );
 
+    /**
+     * Adds the program entities found in a single file.
+     *
+     * @param batch the entities extracted from a file
+     */
+    public void add ( EntityBatch batch );
+
+    /**
+     * Runs an action once the entities already added have been stored.
+     * Stores that write synchronously run the action immediately.
+     *
+     * @param action an action to run
+     */
+    public default void afterPendingWrites ( Runnable action ) {
+        action.run();
+    }
+
+    /**
+     * Removes the entities of files stored earlier, once the entities
+     * already added have been stored, so that the files can be mined again.
+     *
+     * @param fileDigests the digests of the files, as given by
+     * {@link EntityBatch#getFileDigest()}
+     * @throws UnsupportedOperationException if the store cannot remove
+     * entities
+     */
+    public default void removeFiles ( Collection<String> fileDigests ) {
+        throw new UnsupportedOperationException( 
+                "Entities cannot be removed from this store" );
+    }
+
     public void closeDown ();
 }
@@ -16,7 +16,11 @@
 
 package uk.ac.open.crc.jim.persistence;
 
+import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -71,6 +75,11 @@ public class EntityStoreSingleton implements EntityStore {
     // queue
     private final ThreadPoolExecutor writerExecutor;
 
+    // the project and version jimdb is recording against;
+    // only used on the writer thread
+    private String currentProjectName;
+    private String currentProjectVersion;
+
     private EntityStoreSingleton () {
         this.databaseLocation = 
                 Settings.getInstance().get( "output.database.location" );
@@ -88,24 +97,69 @@ public class EntityStoreSingleton implements EntityStore {
         boolean recursiveSplits
                 = Boolean.parseBoolean( Settings.getInstance().get( "intt.recursive.split" ) );
         boolean modalExpansion
-                = Boolean.parseBoolean( Settings.getInstance().get( "intt.modal.explansion" ) );
+                = Boolean.parseBoolean( Settings.getInstance().get( "intt.modal.expansion" ) );
         if ( recursiveSplits ) {
             DatabaseManager.setInttRecursiveSplitOn();
         }
         if ( modalExpansion ) {
             DatabaseManager.setInttModalExpansionOn();
         }
-        // specific to this run
-        DatabaseManager.setProjectName( Settings.getInstance().get( "project.name" ) );
-        DatabaseManager.setProjectVersion( Settings.getInstance().get( "project.version" ) );
+        // the project and version are supplied by each batch written
         DatabaseManager.setLoggingLevel( Settings.getInstance().get( "log.level" ) );
     }
 
+    // the executor is thread safe, so submissions from the parser
+    // threads need not be serialised here; an entity added singly is
+    // recorded against the project of the last batch written
     @Override
-    public synchronized void add ( RawProgramEntity programEntity ) {
+    public void add ( RawProgramEntity programEntity ) {
         this.writerExecutor.execute( new Writer( programEntity ) );
     }
 
+    @Override
+    public void add ( EntityBatch batch ) {
+        this.writerExecutor.execute( new BatchWriter( batch ) );
+    }
+
+    // the writer works through its queue in order
+    @Override
+    public void afterPendingWrites ( Runnable action ) {
+        this.writerExecutor.execute( action );
+    }
+
+    // uses a connection of its own, but on the writer thread so that the
+    // removal is ordered with the batches written
+    @Override
+    public void removeFiles ( Collection<String> fileDigests ) {
+        Collection<String> digests = new ArrayList<>( fileDigests );
+        this.writerExecutor.execute( () -> {
+            try ( Connection connection = DriverManager.getConnection( 
+                    "jdbc:derby:" + this.databaseLocation ) ) {
+                connection.setAutoCommit( false );
+                try {
+                    int deleted = FileEntities.delete( connection, digests );
+                    connection.commit();
+                    LOGGER.info( 
+                            "Removed {} program entities of {} files", 
+                            deleted, 
+                            digests.size() );
+                }
+                catch ( SQLException e ) {
+                    connection.rollback();
+                    throw e;
+                }
+            }
+            catch ( SQLException e ) {
+                LOGGER.error(
+                        "Error removing program entities: "
+                        + "{}\nSQL state: {}\nError code: {}",
+                        e.getMessage(),
+                        e.getSQLState(),
+                        e.getErrorCode() );
+            }
+        } );
+    }
+
     @Override
     public void closeDown () {
         this.writerExecutor.shutdown();
@@ -133,6 +187,20 @@ public class EntityStoreSingleton implements EntityStore {
         }
     }
 
+    // batches may belong to different projects or versions, e.g. when
+    // several revisions are mined in one run, so jimdb is switched to
+    // the batch's project before it is written
+    private void selectProject ( EntityBatch batch ) {
+        if ( !batch.getProjectName().equals( this.currentProjectName ) ) {
+            this.currentProjectName = batch.getProjectName();
+            DatabaseManager.setProjectName( this.currentProjectName );
+        }
+        if ( !batch.getProjectVersion().equals( this.currentProjectVersion ) ) {
+            this.currentProjectVersion = batch.getProjectVersion();
+            DatabaseManager.setProjectVersion( this.currentProjectVersion );
+        }
+    }
+
     private class Writer implements Runnable {
 
         RawProgramEntity programEntity;
@@ -147,4 +215,37 @@ public class EntityStoreSingleton implements EntityStore {
             writer.store( this.programEntity );
         }
     }
+
+    // writes all the entities found in one file as a single task, but not
+    // in a single transaction: jimdb commits each entity as it is stored
+    private class BatchWriter implements Runnable {
+
+        private final EntityBatch batch;
+
+        BatchWriter ( EntityBatch batch ) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void run () {
+            selectProject( this.batch );
+            int[] stored = { 0 };
+            try {
+                this.batch.forEach( programEntity -> {
+                    DatabaseWriter writer = DatabaseWriterFactory.create();
+                    writer.store( programEntity );
+                    stored[0]++;
+                } );
+            }
+            catch ( RuntimeException e ) {
+                LOGGER.error( 
+                        "Only {} of {} entities of {} were stored: {}",
+                        stored[0],
+                        this.batch.size(),
+                        this.batch.getFileName(),
+                        e.getMessage() );
+                throw e;
+            }
+        }
+    }
 }
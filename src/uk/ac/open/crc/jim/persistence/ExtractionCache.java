@@ -0,0 +1,278 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+package uk.ac.open.crc.jim.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.ac.open.crc.jim.Version;
+
+/**
+ * A content addressed store of the entities extracted from source files,
+ * held on disk so that it can be shared by later runs.
+ * <p>
+ * Entries are keyed by a hash of the file's content and of the version of
+ * the extractor, so a file whose content has been seen before, in any
+ * project, need not be parsed again. The project, version and file name
+ * are not stored, and are supplied when an entry is retrieved. When the
+ * cache grows beyond its size limit the least recently used entries are
+ * removed.
+ * </p>
+ */
+public class ExtractionCache {
+
+    private static final Logger LOGGER = 
+            LoggerFactory.getLogger( ExtractionCache.class );
+
+    // changes to the extractor or the serialised form change 
+    // Version.EXTRACTOR, and so the key
+    private static final String EXTRACTOR_KEY = 
+            Version.PROGRAM_NAME + " " + Version.MAJOR + "." + Version.MINOR 
+            + "." + Version.PATCH_LEVEL + " extractor " + Version.EXTRACTOR;
+
+    private static final String SUFFIX = ".batch";
+
+    // eviction removes entries until the cache is this fraction of its limit
+    private static final double EVICTION_TARGET = 0.9;
+
+    /**
+     * Creates the key for the content of a source file.
+     *
+     * @param content the content of a source file
+     * @param extractionOptions a description of the options that change
+     * the entities extracted
+     * @return the cache key for the content
+     */
+    public static String keyFor ( String content, String extractionOptions ) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance( "SHA-256" );
+        }
+        catch ( NoSuchAlgorithmException e ) {
+            throw new IllegalStateException( "SHA-256 is not available", e );
+        }
+        messageDigest.update( EXTRACTOR_KEY.getBytes( StandardCharsets.UTF_8 ) );
+        messageDigest.update( (byte) 0 );
+        messageDigest.update( extractionOptions.getBytes( StandardCharsets.UTF_8 ) );
+        messageDigest.update( (byte) 0 );
+        byte[] hash = messageDigest.digest( content.getBytes( StandardCharsets.UTF_8 ) );
+
+        StringBuilder key = new StringBuilder( hash.length * 2 );
+        for ( byte b : hash ) {
+            key.append( Character.forDigit( ( b >> 4 ) & 0xf, 16 ) );
+            key.append( Character.forDigit( b & 0xf, 16 ) );
+        }
+
+        return key.toString();
+    }
+
+    private final Path directory;
+    private final long maximumBytes;
+    private final AtomicLong currentBytes;
+    private final AtomicBoolean evicting;
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    /**
+     * Opens a cache, creating its directory if necessary.
+     *
+     * @param directory the directory holding the cache
+     * @param maximumBytes the size the cache is kept within
+     * @throws IOException if the directory cannot be created or read
+     */
+    public ExtractionCache ( Path directory, long maximumBytes ) throws IOException {
+        this.directory = directory;
+        this.maximumBytes = maximumBytes;
+        this.evicting = new AtomicBoolean( false );
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+
+        Files.createDirectories( directory );
+        long size = 0;
+        for ( Path entry : listEntries() ) {
+            size += Files.size( entry );
+        }
+        this.currentBytes = new AtomicLong( size );
+        LOGGER.info( "Extraction cache {} holds {} bytes", directory, size );
+    }
+
+    /**
+     * Retrieves the entities extracted from content seen before.
+     *
+     * @param key the key for the content
+     * @param projectName the project the entities are recorded against
+     * @param projectVersion the version the entities are recorded against
+     * @param fileName the file name the entities are recorded against
+     * @return the entities, or {@code null} if the content is not cached
+     */
+    public EntityBatch get ( 
+            String key, 
+            String projectName, 
+            String projectVersion, 
+            String fileName ) {
+        Path entry = pathFor( key );
+        if ( !Files.exists( entry ) ) {
+            this.misses.increment();
+            return null;
+        }
+
+        try ( DataInputStream in = new DataInputStream( 
+                new BufferedInputStream( Files.newInputStream( entry ) ) ) ) {
+            EntityBatch batch = 
+                    EntityBatch.readFrom( in, projectName, projectVersion, fileName );
+            // the modification time orders entries for eviction
+            Files.setLastModifiedTime( entry, FileTime.fromMillis( System.currentTimeMillis() ) );
+            this.hits.increment();
+            return batch;
+        }
+        catch ( IOException e ) {
+            // most likely removed by eviction while being read
+            LOGGER.info( "Unable to read cache entry {}: {}", entry, e.getMessage() );
+            this.misses.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Stores the entities extracted from a file.
+     *
+     * @param key the key for the file's content
+     * @param batch the entities extracted from the file
+     */
+    public void put ( String key, EntityBatch batch ) {
+        Path entry = pathFor( key );
+        if ( Files.exists( entry ) ) {
+            // another thread has stored the same content
+            return;
+        }
+        Path temporary = null;
+        try {
+            Files.createDirectories( entry.getParent() );
+            temporary = Files.createTempFile( entry.getParent(), key, ".tmp" );
+            try ( DataOutputStream out = new DataOutputStream( 
+                    new BufferedOutputStream( Files.newOutputStream( temporary ) ) ) ) {
+                batch.writeTo( out );
+            }
+            long size = Files.size( temporary );
+            Files.move( temporary, entry, StandardCopyOption.REPLACE_EXISTING, 
+                    StandardCopyOption.ATOMIC_MOVE );
+            temporary = null;
+            if ( this.currentBytes.addAndGet( size ) > this.maximumBytes ) {
+                evict();
+            }
+        }
+        catch ( IOException e ) {
+            LOGGER.warn( "Unable to write cache entry {}: {}", entry, e.getMessage() );
+        }
+        finally {
+            if ( temporary != null ) {
+                try {
+                    Files.deleteIfExists( temporary );
+                }
+                catch ( IOException e ) {
+                    LOGGER.warn( "Unable to remove {}: {}", temporary, e.getMessage() );
+                }
+            }
+        }
+    }
+
+    /**
+     * Logs the hit rate of the cache.
+     */
+    public void logStatistics () {
+        long hitCount = this.hits.sum();
+        long total = hitCount + this.misses.sum();
+        LOGGER.warn(
+                "Extraction cache hits: {} of {} ({}%), {} bytes held",
+                hitCount,
+                total,
+                total == 0 ? 0 : (int) ( hitCount * 100 / total ),
+                this.currentBytes.get() );
+    }
+
+    // removes the least recently used entries; only one thread evicts
+    private void evict () {
+        if ( !this.evicting.compareAndSet( false, true ) ) {
+            return;
+        }
+        try {
+            List<Path> entries = listEntries();
+            List<FileTime> times = new ArrayList<>();
+            for ( Path entry : entries ) {
+                times.add( Files.getLastModifiedTime( entry ) );
+            }
+            List<Integer> order = new ArrayList<>();
+            for ( int i = 0; i < entries.size(); i++ ) {
+                order.add( i );
+            }
+            order.sort( Comparator.comparing( times::get ) );
+
+            long target = (long) ( this.maximumBytes * EVICTION_TARGET );
+            int removed = 0;
+            for ( int i : order ) {
+                if ( this.currentBytes.get() <= target ) {
+                    break;
+                }
+                Path entry = entries.get( i );
+                long size = Files.size( entry );
+                if ( Files.deleteIfExists( entry ) ) {
+                    this.currentBytes.addAndGet( -size );
+                    removed++;
+                }
+            }
+            LOGGER.info( "Evicted {} extraction cache entries", removed );
+        }
+        catch ( IOException e ) {
+            LOGGER.warn( "Problem evicting cache entries: {}", e.getMessage() );
+        }
+        finally {
+            this.evicting.set( false );
+        }
+    }
+
+    private List<Path> listEntries () throws IOException {
+        try ( Stream<Path> paths = Files.walk( this.directory, 2 ) ) {
+            return paths
+                    .filter( path -> path.getFileName().toString().endsWith( SUFFIX ) )
+                    .collect( Collectors.toList() );
+        }
+    }
+
+    // entries are spread across subdirectories named by their first byte
+    private Path pathFor ( String key ) {
+        return this.directory.resolve( key.substring( 0, 2 ) ).resolve( key + SUFFIX );
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+
+package uk.ac.open.crc.jim.persistence;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+
+/**
+ * Removes the program entities of whole files from a database. The
+ * entities of a file are identified by the file digest that begins each
+ * of their UIDs, and are found through an index on {@code entity_uid},
+ * which is created if the database does not have one.
+ */
+final class FileEntities {
+
+    /**
+     * The index on {@code entity_uid}, which is shared with
+     * {@link IntegerKeyMigration}.
+     */
+    static final String ENTITY_UID_INDEX = "PE_ENTITY_UID_IDX";
+
+    // Derby's SQL state for an object that already exists
+    private static final String ALREADY_EXISTS = "X0Y32";
+
+    // a file's UIDs are its digest, '-' and a serial number, so they sort
+    // between the digest followed by '-' and the digest followed by '.'
+    private static final String ENTITIES =
+            "SELECT program_entity_key FROM SVM.PROGRAM_ENTITIES "
+            + "WHERE entity_uid >= ? AND entity_uid < ?";
+
+    /**
+     * Creates the index on {@code entity_uid} used to find the entities
+     * of a file, unless it exists.
+     *
+     * @param connection a connection to the database
+     * @throws SQLException if the index cannot be created
+     */
+    static void createIndex ( Connection connection ) throws SQLException {
+        try ( Statement statement = connection.createStatement() ) {
+            statement.executeUpdate( 
+                    "CREATE INDEX SVM." + ENTITY_UID_INDEX 
+                    + " ON SVM.PROGRAM_ENTITIES (entity_uid)" );
+        }
+        catch ( SQLException e ) {
+            if ( !ALREADY_EXISTS.equals( e.getSQLState() ) ) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Deletes the program entities of files, and their modifiers and super
+     * types. The index on {@code entity_uid} is created first if need be.
+     * The caller is responsible for committing the deletions.
+     *
+     * @param connection a connection to the database
+     * @param fileDigests the digests of the files to remove
+     * @return the number of program entities removed
+     * @throws SQLException if the entities cannot be removed
+     */
+    static int delete ( Connection connection, Collection<String> fileDigests )
+            throws SQLException {
+        createIndex( connection );
+
+        int deleted = 0;
+        try ( PreparedStatement modifiers = connection.prepareStatement( 
+                    "DELETE FROM SVM.MODIFIERS_XREF "
+                    + "WHERE program_entity_key_fk IN (" + ENTITIES + ")" );
+                PreparedStatement superClasses = connection.prepareStatement( 
+                    "DELETE FROM SVM.SUPER_CLASS_XREF "
+                    + "WHERE sub_class_entity_key_fk IN (" + ENTITIES + ")" );
+                PreparedStatement superTypes = connection.prepareStatement( 
+                    "DELETE FROM SVM.SUPER_TYPE_XREF "
+                    + "WHERE sub_type_entity_key_fk IN (" + ENTITIES + ")" );
+                PreparedStatement programEntities = connection.prepareStatement( 
+                    "DELETE FROM SVM.PROGRAM_ENTITIES "
+                    + "WHERE entity_uid >= ? AND entity_uid < ?" ) ) {
+            for ( String digest : fileDigests ) {
+                String first = digest + "-";
+                String limit = digest + ".";
+                for ( PreparedStatement statement : 
+                        new PreparedStatement[] { modifiers, superClasses, superTypes } ) {
+                    statement.setString( 1, first );
+                    statement.setString( 2, limit );
+                    statement.executeUpdate();
+                }
+                programEntities.setString( 1, first );
+                programEntities.setString( 2, limit );
+                deleted += programEntities.executeUpdate();
+            }
+        }
+
+        return deleted;
+    }
+
+    private FileEntities () {
+        // not instantiable
+    }
+}
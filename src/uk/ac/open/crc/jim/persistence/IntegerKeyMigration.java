@@ -0,0 +1,284 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package uk.ac.open.crc.jim.persistence;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds integer links between program entities and their containers to a
+ * jim database.
+ * <p>
+ * The {@code PROGRAM_ENTITIES} table links entities to their containers
+ * with {@code container_uid} and {@code entity_uid}, which hold a 40 digit
+ * hex digest and a serial number. This class adds a {@code container_key}
+ * column holding the {@code program_entity_key} of the container, and a
+ * {@code file_digest} column holding the digest shared by the entities
+ * of a file, so that container hierarchies can be joined on integers.
+ * Optionally the UID columns can then be dropped.
+ * </p>
+ * <p>
+ * The migration may be repeated: only rows without a file digest are
+ * updated. Top-level types, whose container is a package, are given a
+ * file digest but no container key. It can be run on an existing
+ * database with:
+ * </p>
+ * <pre>
+ *   java -cp jim.jar uk.ac.open.crc.jim.persistence.IntegerKeyMigration
+ *        [--benchmark] [--drop-uids] database
+ * </pre>
+ */
+public class IntegerKeyMigration {
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger( IntegerKeyMigration.class );
+
+    private static final String SCHEMA = "SVM";
+    private static final String TABLE = "PROGRAM_ENTITIES";
+
+    // Derby's SQL state for an object that already exists
+    private static final String ALREADY_EXISTS = "X0Y32";
+
+    private static final int BENCHMARK_REPETITIONS = 5;
+
+    private static final String UID_JOIN =
+            "SELECT COUNT(*) FROM SVM.PROGRAM_ENTITIES c "
+            + "JOIN SVM.PROGRAM_ENTITIES p ON c.container_uid = p.entity_uid";
+
+    private static final String KEY_JOIN =
+            "SELECT COUNT(*) FROM SVM.PROGRAM_ENTITIES c "
+            + "JOIN SVM.PROGRAM_ENTITIES p ON c.container_key = p.program_entity_key";
+
+    public static void main ( String[] args ) {
+        boolean benchmark = false;
+        boolean dropUids = false;
+        String databaseLocation = null;
+
+        for ( String argument : args ) {
+            if ( "--benchmark".equals( argument ) ) {
+                benchmark = true;
+            }
+            else if ( "--drop-uids".equals( argument ) ) {
+                dropUids = true;
+            }
+            else {
+                databaseLocation = argument;
+            }
+        }
+
+        if ( databaseLocation == null ) {
+            System.out.println(
+                    "usage: IntegerKeyMigration [--benchmark] [--drop-uids] database" );
+            System.exit( 1 );
+        }
+
+        IntegerKeyMigration migration = new IntegerKeyMigration( databaseLocation );
+        try {
+            migration.migrate();
+            if ( benchmark ) {
+                migration.benchmark();
+            }
+            if ( dropUids ) {
+                migration.dropUidColumns();
+            }
+        }
+        catch ( SQLException e ) {
+            LOGGER.error(
+                    "Error migrating database: {}\nSQL state: {}\nError code: {}",
+                    e.getMessage(),
+                    e.getSQLState(),
+                    e.getErrorCode() );
+            System.exit( 2 );
+        }
+    }
+
+    private final String databaseLocation;
+
+    /**
+     * Creates a migration for a database.
+     *
+     * @param databaseLocation the path to the database
+     */
+    public IntegerKeyMigration ( String databaseLocation ) {
+        this.databaseLocation = databaseLocation;
+    }
+
+    /**
+     * Adds and populates the integer key columns.
+     *
+     * @throws SQLException if the database cannot be updated
+     */
+    public void migrate () throws SQLException {
+        try ( Connection connection = connect();
+                Statement statement = connection.createStatement() ) {
+            connection.setAutoCommit( false );
+
+            if ( !hasColumn( connection, "CONTAINER_KEY" ) ) {
+                statement.executeUpdate(
+                        "ALTER TABLE SVM.PROGRAM_ENTITIES "
+                        + "ADD COLUMN container_key INT" );
+                statement.executeUpdate(
+                        "ALTER TABLE SVM.PROGRAM_ENTITIES "
+                        + "ADD COLUMN file_digest CHAR(40)" );
+                connection.commit();
+            }
+
+            // the lookup of containers by UID needs an index to be tolerable
+            FileEntities.createIndex( connection );
+            connection.commit();
+
+            long start = System.currentTimeMillis();
+            int updated = statement.executeUpdate(
+                    "UPDATE SVM.PROGRAM_ENTITIES c "
+                    + "SET container_key = "
+                    + "(SELECT MIN(p.program_entity_key) "
+                    + "FROM SVM.PROGRAM_ENTITIES p "
+                    + "WHERE p.entity_uid = c.container_uid), "
+                    + "file_digest = SUBSTR(c.entity_uid, 1, 40) "
+                    + "WHERE c.file_digest IS NULL" );
+            connection.commit();
+            LOGGER.info(
+                    "Assigned integer container keys to {} program entities in {} ms",
+                    updated,
+                    System.currentTimeMillis() - start );
+
+            createIndex( statement, "PE_CONTAINER_KEY_IDX", "container_key" );
+            createIndex( statement, "PE_FILE_DIGEST_IDX", "file_digest" );
+            connection.commit();
+        }
+    }
+
+    /**
+     * Times a join of every program entity to its container using the UID
+     * columns and then the integer keys, and logs the results.
+     *
+     * @throws SQLException if the queries fail
+     */
+    public void benchmark () throws SQLException {
+        try ( Connection connection = connect();
+                Statement statement = connection.createStatement() ) {
+            if ( hasColumn( connection, "CONTAINER_UID" ) ) {
+                LOGGER.warn( "Container join on UIDs: {} ms",
+                        timeQuery( statement, UID_JOIN ) );
+            }
+            LOGGER.warn( "Container join on integer keys: {} ms",
+                    timeQuery( statement, KEY_JOIN ) );
+        }
+    }
+
+    /**
+     * Drops the UID columns once integer keys have been assigned.
+     * <p>
+     * jimdb writes the UID columns, so a database without them can no
+     * longer be added to by jim. The columns are dropped with
+     * {@code RESTRICT}, so that Derby does not silently drop the objects
+     * that depend on them. The view {@code SVM.VERSION_ENTITIES} is
+     * recreated without them; any other dependent object causes the drop
+     * to fail, and nothing is changed.
+     * </p>
+     *
+     * @throws SQLException if the columns cannot be dropped
+     */
+    public void dropUidColumns () throws SQLException {
+        try ( Connection connection = connect();
+                Statement statement = connection.createStatement() ) {
+            connection.setAutoCommit( false );
+            try {
+                boolean versionView = hasView( connection, VersionDeltaCompaction.VERSION_VIEW );
+                if ( versionView ) {
+                    statement.executeUpdate( 
+                            "DROP VIEW SVM." + VersionDeltaCompaction.VERSION_VIEW );
+                }
+                statement.executeUpdate( 
+                        "DROP INDEX SVM." + FileEntities.ENTITY_UID_INDEX );
+                statement.executeUpdate(
+                        "ALTER TABLE SVM.PROGRAM_ENTITIES "
+                        + "DROP COLUMN container_uid RESTRICT" );
+                statement.executeUpdate(
+                        "ALTER TABLE SVM.PROGRAM_ENTITIES "
+                        + "DROP COLUMN entity_uid RESTRICT" );
+                if ( versionView ) {
+                    VersionDeltaCompaction.createVersionView( connection );
+                }
+                connection.commit();
+            }
+            catch ( SQLException e ) {
+                connection.rollback();
+                throw e;
+            }
+            LOGGER.warn(
+                    "UID columns dropped from {}: the database can no longer "
+                    + "be added to by jim", this.databaseLocation );
+        }
+    }
+
+    private Connection connect () throws SQLException {
+        return DriverManager.getConnection( "jdbc:derby:" + this.databaseLocation );
+    }
+
+    private boolean hasColumn ( Connection connection, String column )
+            throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try ( ResultSet columns = metaData.getColumns( null, SCHEMA, TABLE, column ) ) {
+            return columns.next();
+        }
+    }
+
+    private boolean hasView ( Connection connection, String view )
+            throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try ( ResultSet views = 
+                metaData.getTables( null, SCHEMA, view, new String[] { "VIEW" } ) ) {
+            return views.next();
+        }
+    }
+
+    private void createIndex ( Statement statement, String name, String column )
+            throws SQLException {
+        try {
+            statement.executeUpdate(
+                    "CREATE INDEX SVM." + name
+                    + " ON SVM.PROGRAM_ENTITIES (" + column + ")" );
+        }
+        catch ( SQLException e ) {
+            if ( !ALREADY_EXISTS.equals( e.getSQLState() ) ) {
+                throw e;
+            }
+        }
+    }
+
+    // the best of several runs, so that the first run's cache misses
+    // do not distort the comparison
+    private long timeQuery ( Statement statement, String query )
+            throws SQLException {
+        long best = Long.MAX_VALUE;
+        for ( int i = 0; i < BENCHMARK_REPETITIONS; i++ ) {
+            long start = System.nanoTime();
+            try ( ResultSet resultSet = statement.executeQuery( query ) ) {
+                resultSet.next();
+            }
+            best = Math.min( best, System.nanoTime() - start );
+        }
+        return best / 1000000;
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+package uk.ac.open.crc.jim.persistence;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A durable record of the files whose entities have been written to the
+ * database, so that an interrupted run can be resumed.
+ * <p>
+ * Two records are appended for each file, both by the writer thread: a
+ * start record, holding the digest shared by the UIDs of the file's
+ * entities, just before the entities are written, and a completion record
+ * once they have been written. A file with a start record and no
+ * completion record was partially written when the run stopped, and its
+ * entities can be found by their UIDs and removed.
+ * </p>
+ * <p>
+ * The completion record is written once jimdb's
+ * {@code DatabaseWriter.store()} has returned for every entity of the
+ * file. jim never commits, or closes, the connection jimdb writes with,
+ * even when a run finishes normally, so entities are only kept at all
+ * because jimdb commits each entity before {@code store()} returns. The
+ * journal relies on the same behaviour: the entities of a file recorded
+ * as complete have been committed.
+ * </p>
+ */
+public class ProgressJournal implements AutoCloseable {
+
+    private static final Logger LOGGER = 
+            LoggerFactory.getLogger( ProgressJournal.class );
+
+    private static final String STARTED = "S";
+    private static final String COMPLETED = "C";
+
+    // the number of records appended between forced writes to disk
+    private static final int SYNC_INTERVAL = 100;
+
+    /**
+     * Creates the key recorded for a file.
+     *
+     * @param projectName the name of the project the file belongs to
+     * @param projectVersion the version of the project
+     * @param location the location of the file
+     * @return a key identifying the file within the run
+     */
+    public static String keyFor ( 
+            String projectName, 
+            String projectVersion, 
+            String location ) {
+        return projectName + "\t" + projectVersion + "\t" + location;
+    }
+
+    private final Path location;
+    private final Set<String> completedFiles;
+    private final Set<String> partialFileDigests;
+
+    private final FileChannel channel;
+    private final Writer writer;
+    private int unsynchronisedRecords;
+    private boolean closed;
+
+    /**
+     * Opens a journal. When resuming, the records of the earlier run are
+     * read and appended to; otherwise the journal is started afresh.
+     *
+     * @param location the path of the journal file
+     * @param resume {@code true} to resume from an existing journal
+     * @throws IOException if the journal cannot be read or opened
+     */
+    public ProgressJournal ( Path location, boolean resume ) throws IOException {
+        this.location = location;
+        this.completedFiles = new HashSet<>();
+        this.partialFileDigests = new HashSet<>();
+
+        if ( resume && Files.exists( location ) ) {
+            readRecords();
+        }
+
+        this.channel = FileChannel.open( 
+                location, 
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                resume ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING );
+        this.writer = new OutputStreamWriter( 
+                Channels.newOutputStream( this.channel ), 
+                StandardCharsets.UTF_8 );
+        this.unsynchronisedRecords = 0;
+        this.closed = false;
+    }
+
+    private void readRecords () throws IOException {
+        Map<String, String> startedFiles = new HashMap<>();
+        try ( BufferedReader reader = 
+                Files.newBufferedReader( this.location, StandardCharsets.UTF_8 ) ) {
+            String line;
+            while ( ( line = reader.readLine() ) != null ) {
+                // a record cut short by a crash is ignored
+                String[] fields = line.split( "\t", 2 );
+                if ( fields.length < 2 ) {
+                    continue;
+                }
+                if ( STARTED.equals( fields[0] ) ) {
+                    String[] digestAndKey = fields[1].split( "\t", 2 );
+                    if ( digestAndKey.length == 2 ) {
+                        startedFiles.put( digestAndKey[1], digestAndKey[0] );
+                    }
+                }
+                else if ( COMPLETED.equals( fields[0] ) ) {
+                    this.completedFiles.add( fields[1] );
+                }
+            }
+        }
+
+        startedFiles.forEach( ( key, digest ) -> {
+            if ( !this.completedFiles.contains( key ) ) {
+                this.partialFileDigests.add( digest );
+            }
+        } );
+        LOGGER.warn( 
+                "Resuming from {}: {} files complete, {} partially written", 
+                this.location, 
+                this.completedFiles.size(), 
+                this.partialFileDigests.size() );
+    }
+
+    /**
+     * Indicates whether a file was completed by an earlier run.
+     *
+     * @param key the key for the file
+     * @return {@code true} if the file's entities have been written
+     */
+    public boolean isCompleted ( String key ) {
+        return this.completedFiles.contains( key );
+    }
+
+    /**
+     * Retrieves the file digests of the files that were partially written
+     * by the earlier run.
+     *
+     * @return the digests of partially written files
+     */
+    public Set<String> getPartialFileDigests () {
+        return Collections.unmodifiableSet( this.partialFileDigests );
+    }
+
+    /**
+     * Records that the entities of a file are about to be written.
+     *
+     * @param key the key for the file
+     * @param fileDigest the digest shared by the UIDs of the file's entities
+     */
+    public synchronized void started ( String key, String fileDigest ) {
+        append( STARTED + "\t" + fileDigest + "\t" + key );
+    }
+
+    /**
+     * Records that a file is complete.
+     *
+     * @param key the key for the file
+     */
+    public synchronized void completed ( String key ) {
+        append( COMPLETED + "\t" + key );
+    }
+
+    private void append ( String record ) {
+        if ( this.closed ) {
+            return;
+        }
+        try {
+            this.writer.write( record );
+            this.writer.write( '\n' );
+            this.writer.flush();
+            if ( ++this.unsynchronisedRecords >= SYNC_INTERVAL ) {
+                this.channel.force( false );
+                this.unsynchronisedRecords = 0;
+            }
+        }
+        catch ( IOException e ) {
+            LOGGER.error( 
+                    "Unable to write to progress journal {}: {}", 
+                    this.location, 
+                    e.getMessage() );
+        }
+    }
+
+    /**
+     * Removes the entities of partially written files from a database, so
+     * that the files can be mined again.
+     *
+     * @param databaseLocation the path to the database
+     * @return the number of program entities removed
+     * @throws SQLException if the entities cannot be removed
+     */
+    public int deletePartialFiles ( String databaseLocation ) throws SQLException {
+        if ( this.partialFileDigests.isEmpty() ) {
+            return 0;
+        }
+
+        int deleted;
+        try ( Connection connection = 
+                DriverManager.getConnection( "jdbc:derby:" + databaseLocation ) ) {
+            connection.setAutoCommit( false );
+            try {
+                deleted = FileEntities.delete( connection, this.partialFileDigests );
+                connection.commit();
+            }
+            catch ( SQLException e ) {
+                connection.rollback();
+                throw e;
+            }
+        }
+
+        LOGGER.warn( 
+                "Removed {} program entities of {} partially written files", 
+                deleted, 
+                this.partialFileDigests.size() );
+        this.partialFileDigests.clear();
+        return deleted;
+    }
+
+    /**
+     * Forces the records written to disk and closes the journal.
+     */
+    @Override
+    public synchronized void close () {
+        if ( this.closed ) {
+            return;
+        }
+        this.closed = true;
+        try {
+            this.writer.flush();
+            this.channel.force( false );
+            this.writer.close();
+        }
+        catch ( IOException e ) {
+            LOGGER.error( 
+                    "Unable to close progress journal {}: {}", 
+                    this.location, 
+                    e.getMessage() );
+        }
+    }
+}
@@ -0,0 +1,742 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+
+package uk.ac.open.crc.jim.persistence;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores successive versions of a project as differences between their
+ * program entities.
+ * <p>
+ * Each version of a project is compared, file by file, with the version
+ * mined before it. An entity whose container, name, species, type,
+ * signature, flags, modifiers, super types and position are unchanged is
+ * removed from the new version, and the entity it matches is recorded as
+ * present in the new version as well. An entity that is unchanged apart
+ * from its position is removed too, and only its new position is
+ * recorded. Entities that were added or changed are kept, and entities
+ * that were removed are simply not carried forward. The database
+ * therefore grows with the entities that change, rather than with the
+ * number of versions mined.
+ * </p>
+ * <p>
+ * Files are identified by their package and file name, as the database
+ * does not record their paths. Files with the same name in the same
+ * package of a version, e.g. copies in different modules, share the
+ * digest in their entities' UIDs and cannot be told apart, so their
+ * entities are kept in full.
+ * </p>
+ * <p>
+ * {@code SVM.ENTITY_VERSIONS} records the first and last version, by
+ * {@code project_key}, in which each entity is present, and
+ * {@code SVM.ENTITY_POSITIONS} the position of a moved entity over a range
+ * of versions. The view {@code SVM.VERSION_ENTITIES} reconstructs the full
+ * set of entities of any version, at their positions in that version.
+ * Versions are compared in the order they were mined, so they should be
+ * mined oldest first. The compaction may be repeated; versions
+ * already compacted are recorded in {@code SVM.DELTA_VERSIONS}. It can be
+ * run on an existing database with:
+ * </p>
+ * <pre>
+ *   java -cp jim.jar uk.ac.open.crc.jim.persistence.VersionDeltaCompaction
+ *        [--project name] database
+ * </pre>
+ */
+public class VersionDeltaCompaction {
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger( VersionDeltaCompaction.class );
+
+    // Derby's SQL state for an object that already exists
+    private static final String ALREADY_EXISTS = "X0Y32";
+
+    // the view listing the entities present in each version; it has
+    // every column of PROGRAM_ENTITIES, so it is recreated when columns
+    // are dropped from the table
+    static final String VERSION_VIEW = "VERSION_ENTITIES";
+
+    private static final String[] POSITION_COLUMNS = {
+        "START_LINE_NUMBER", "START_COLUMN", "END_LINE_NUMBER", "END_COLUMN"
+    };
+
+    // the container of an entity that is not itself an entity
+    private static final int ROOT = -1;
+
+    private static final String ENTITY_COLUMNS =
+            "e.program_entity_key, e.entity_uid, e.container_uid, "
+            + "pk.package_name_key_fk, e.file_name_key_fk, "
+            + "e.identifier_name_key_fk, e.species_name_key_fk, "
+            + "e.type_name_key_fk, e.method_signature_key_fk, "
+            + "e.is_anonymous, e.is_array, e.is_loop_control_var, ";
+
+    // the columns from identifier_name_key_fk to the end column identify
+    // an entity, and the last four of them give its position
+    private static final int FIRST_ATTRIBUTE_COLUMN = 6;
+    private static final int FIRST_POSITION_COLUMN = 13;
+    private static final int LAST_ATTRIBUTE_COLUMN = 16;
+
+    private static final String NEW_ENTITIES =
+            "SELECT " + ENTITY_COLUMNS
+            + "e.start_line_number, e.start_column, "
+            + "e.end_line_number, e.end_column "
+            + "FROM SVM.PROGRAM_ENTITIES e "
+            + "JOIN SVM.PACKAGES pk ON e.package_key_fk = pk.package_key "
+            + "WHERE e.project_key_fk = ?";
+
+    // an entity that has moved has a position recorded for every
+    // version it is present in after the move
+    private static final String PRESENT_ENTITIES =
+            "SELECT " + ENTITY_COLUMNS
+            + "COALESCE(ps.start_line_number, e.start_line_number), "
+            + "COALESCE(ps.start_column, e.start_column), "
+            + "COALESCE(ps.end_line_number, e.end_line_number), "
+            + "COALESCE(ps.end_column, e.end_column) "
+            + "FROM SVM.PROGRAM_ENTITIES e "
+            + "JOIN SVM.PACKAGES pk ON e.package_key_fk = pk.package_key "
+            + "JOIN SVM.ENTITY_VERSIONS v "
+            + "ON v.program_entity_key_fk = e.program_entity_key "
+            + "LEFT OUTER JOIN SVM.ENTITY_POSITIONS ps "
+            + "ON ps.program_entity_key_fk = e.program_entity_key "
+            + "AND ps.last_project_key = v.last_project_key "
+            + "WHERE v.last_project_key = ?";
+
+    public static void main ( String[] args ) {
+        String projectName = null;
+        String databaseLocation = null;
+
+        for ( int i = 0; i < args.length; i++ ) {
+            if ( "--project".equals( args[i] ) && i + 1 < args.length ) {
+                projectName = args[++i];
+            }
+            else {
+                databaseLocation = args[i];
+            }
+        }
+
+        if ( databaseLocation == null ) {
+            System.out.println(
+                    "usage: VersionDeltaCompaction [--project name] database" );
+            System.exit( 1 );
+        }
+
+        VersionDeltaCompaction compaction = new VersionDeltaCompaction( databaseLocation );
+        try {
+            if ( projectName == null ) {
+                compaction.compactAll();
+            }
+            else {
+                compaction.compact( projectName );
+            }
+        }
+        catch ( SQLException e ) {
+            LOGGER.error(
+                    "Error compacting database: {}\nSQL state: {}\nError code: {}",
+                    e.getMessage(),
+                    e.getSQLState(),
+                    e.getErrorCode() );
+            System.exit( 2 );
+        }
+    }
+
+    private final String databaseLocation;
+
+    /**
+     * Creates a compaction for a database.
+     *
+     * @param databaseLocation the path to the database
+     */
+    public VersionDeltaCompaction ( String databaseLocation ) {
+        this.databaseLocation = databaseLocation;
+    }
+
+    /**
+     * Compacts the versions of every project in the database.
+     *
+     * @throws SQLException if the database cannot be updated
+     */
+    public void compactAll () throws SQLException {
+        List<String> projectNames = new ArrayList<>();
+        try ( Connection connection = connect();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(
+                        "SELECT DISTINCT project_name FROM SVM.PROJECTS" ) ) {
+            while ( resultSet.next() ) {
+                projectNames.add( resultSet.getString( 1 ) );
+            }
+        }
+
+        for ( String projectName : projectNames ) {
+            compact( projectName );
+        }
+    }
+
+    /**
+     * Compacts each version of a project not yet compacted against the
+     * version mined before it.
+     *
+     * @param projectName the name of the project
+     * @throws SQLException if the database cannot be updated
+     */
+    public void compact ( String projectName ) throws SQLException {
+        try ( Connection connection = connect() ) {
+            if ( !hasColumn( connection, "ENTITY_UID" ) ) {
+                throw new SQLException(
+                        "Program entities have no UIDs: versions cannot be compared" );
+            }
+            createTables( connection );
+
+            List<Integer> versions = new ArrayList<>();
+            try ( PreparedStatement statement = connection.prepareStatement(
+                    "SELECT project_key FROM SVM.PROJECTS "
+                    + "WHERE project_name = ? ORDER BY project_key" ) ) {
+                statement.setString( 1, projectName );
+                try ( ResultSet resultSet = statement.executeQuery() ) {
+                    while ( resultSet.next() ) {
+                        versions.add( resultSet.getInt( 1 ) );
+                    }
+                }
+            }
+
+            Set<Integer> compacted = new HashSet<>();
+            try ( Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery(
+                            "SELECT project_key_fk FROM SVM.DELTA_VERSIONS" ) ) {
+                while ( resultSet.next() ) {
+                    compacted.add( resultSet.getInt( 1 ) );
+                }
+            }
+
+            boolean containerKeys = hasColumn( connection, "CONTAINER_KEY" );
+            connection.setAutoCommit( false );
+            Integer previous = null;
+            for ( int version : versions ) {
+                if ( !compacted.contains( version ) ) {
+                    try {
+                        compactVersion( connection, previous, version, containerKeys );
+                        connection.commit();
+                    }
+                    catch ( SQLException e ) {
+                        connection.rollback();
+                        throw e;
+                    }
+                }
+                previous = version;
+            }
+        }
+    }
+
+    private void compactVersion (
+            Connection connection,
+            Integer previous,
+            int version,
+            boolean containerKeys ) throws SQLException {
+        long start = System.currentTimeMillis();
+        Map<String, List<Entity>> currentFiles = 
+                readFiles( connection, NEW_ENTITIES, version );
+        Map<String, List<Entity>> previousFiles = previous == null
+                ? new HashMap<>()
+                : readFiles( connection, PRESENT_ENTITIES, previous );
+
+        int matched = 0;
+        int moved = 0;
+        int kept = 0;
+        int ambiguous = 0;
+        try ( PreparedStatement extend = connection.prepareStatement(
+                    "UPDATE SVM.ENTITY_VERSIONS SET last_project_key = ? "
+                    + "WHERE program_entity_key_fk = ?" );
+                PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO SVM.ENTITY_VERSIONS "
+                    + "(program_entity_key_fk, first_project_key, last_project_key) "
+                    + "VALUES (?, ?, ?)" );
+                PreparedStatement move = connection.prepareStatement(
+                    "INSERT INTO SVM.ENTITY_POSITIONS "
+                    + "(program_entity_key_fk, first_project_key, last_project_key, "
+                    + "start_line_number, start_column, end_line_number, end_column) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)" );
+                PreparedStatement stay = connection.prepareStatement(
+                    "UPDATE SVM.ENTITY_POSITIONS SET last_project_key = ? "
+                    + "WHERE program_entity_key_fk = ? AND last_project_key = ?" );
+                PreparedStatement relink = connection.prepareStatement( containerKeys
+                    ? "UPDATE SVM.PROGRAM_ENTITIES SET container_uid = ?, container_key = ? "
+                        + "WHERE program_entity_key = ?"
+                    : "UPDATE SVM.PROGRAM_ENTITIES SET container_uid = ? "
+                        + "WHERE program_entity_key = ?" );
+                PreparedStatement deleteModifiers = connection.prepareStatement(
+                    "DELETE FROM SVM.MODIFIERS_XREF WHERE program_entity_key_fk = ?" );
+                PreparedStatement deleteSuperClasses = connection.prepareStatement(
+                    "DELETE FROM SVM.SUPER_CLASS_XREF WHERE sub_class_entity_key_fk = ?" );
+                PreparedStatement deleteSuperTypes = connection.prepareStatement(
+                    "DELETE FROM SVM.SUPER_TYPE_XREF WHERE sub_type_entity_key_fk = ?" );
+                PreparedStatement delete = connection.prepareStatement(
+                    "DELETE FROM SVM.PROGRAM_ENTITIES WHERE program_entity_key = ?" ) ) {
+
+            for ( Map.Entry<String, List<Entity>> file : currentFiles.entrySet() ) {
+                List<Entity> previousEntities = previousFiles.get( file.getKey() );
+                if ( previousEntities == null || !hasUniqueUids( previousEntities ) ) {
+                    previousEntities = new ArrayList<>();
+                }
+                if ( !hasUniqueUids( file.getValue() ) ) {
+                    // same-named files in one package share their UIDs
+                    previousEntities = new ArrayList<>();
+                    ambiguous += file.getValue().size();
+                }
+                FileMatcher matcher = new FileMatcher( file.getValue(), previousEntities );
+                for ( Entity entity : file.getValue() ) {
+                    matcher.match( entity, false );
+                }
+
+                for ( Entity entity : file.getValue() ) {
+                    Entity original = matcher.match( entity, true );
+                    if ( original != null ) {
+                        extend.setInt( 1, version );
+                        extend.setInt( 2, original.key );
+                        extend.addBatch();
+                        if ( Arrays.equals( original.position, entity.position ) ) {
+                            stay.setInt( 1, version );
+                            stay.setInt( 2, original.key );
+                            stay.setInt( 3, previous );
+                            stay.addBatch();
+                        }
+                        else {
+                            move.setInt( 1, original.key );
+                            move.setInt( 2, version );
+                            move.setInt( 3, version );
+                            for ( int i = 0; i < entity.position.length; i++ ) {
+                                move.setObject( 4 + i, entity.position[i] );
+                            }
+                            move.addBatch();
+                            moved++;
+                        }
+                        for ( PreparedStatement statement : new PreparedStatement[] { 
+                                deleteModifiers, deleteSuperClasses, deleteSuperTypes, delete } ) {
+                            statement.setInt( 1, entity.key );
+                            statement.addBatch();
+                        }
+                        matched++;
+                        continue;
+                    }
+
+                    insert.setInt( 1, entity.key );
+                    insert.setInt( 2, version );
+                    insert.setInt( 3, version );
+                    insert.addBatch();
+
+                    // the container may have been matched and removed
+                    Entity container = matcher.originalContainerOf( entity );
+                    if ( container != null ) {
+                        relink.setString( 1, container.uid );
+                        if ( containerKeys ) {
+                            relink.setInt( 2, container.key );
+                            relink.setInt( 3, entity.key );
+                        }
+                        else {
+                            relink.setInt( 2, entity.key );
+                        }
+                        relink.addBatch();
+                    }
+                    kept++;
+                }
+            }
+
+            insert.executeBatch();
+            extend.executeBatch();
+            stay.executeBatch();
+            move.executeBatch();
+            relink.executeBatch();
+            deleteModifiers.executeBatch();
+            deleteSuperClasses.executeBatch();
+            deleteSuperTypes.executeBatch();
+            delete.executeBatch();
+        }
+
+        try ( PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO SVM.DELTA_VERSIONS (project_key_fk) VALUES (?)" ) ) {
+            statement.setInt( 1, version );
+            statement.executeUpdate();
+        }
+
+        LOGGER.info(
+                "Version {}: {} unchanged program entities shared with version {}, "
+                + "{} of them moved, {} added or changed, in {} ms",
+                version,
+                matched,
+                previous,
+                moved,
+                kept,
+                System.currentTimeMillis() - start );
+        if ( ambiguous > 0 ) {
+            LOGGER.warn(
+                    "Version {}: {} program entities of same-named files in the same package "
+                    + "kept in full",
+                    version,
+                    ambiguous );
+        }
+    }
+
+    private static boolean hasUniqueUids ( List<Entity> entities ) {
+        Set<String> uids = new HashSet<>();
+        for ( Entity entity : entities ) {
+            if ( !uids.add( entity.uid ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // reads the entities of a version grouped by package and file name
+    private Map<String, List<Entity>> readFiles (
+            Connection connection,
+            String query,
+            int version ) throws SQLException {
+        Map<Integer, Entity> entities = new HashMap<>();
+        Map<String, List<Entity>> files = new HashMap<>();
+        try ( PreparedStatement statement = connection.prepareStatement( query ) ) {
+            statement.setInt( 1, version );
+            try ( ResultSet resultSet = statement.executeQuery() ) {
+                while ( resultSet.next() ) {
+                    StringBuilder attributes = new StringBuilder();
+                    for ( int i = FIRST_ATTRIBUTE_COLUMN; i < FIRST_POSITION_COLUMN; i++ ) {
+                        attributes.append( resultSet.getString( i ) ).append( '|' );
+                    }
+                    Object[] position = 
+                            new Object[LAST_ATTRIBUTE_COLUMN - FIRST_POSITION_COLUMN + 1];
+                    for ( int i = 0; i < position.length; i++ ) {
+                        position[i] = resultSet.getObject( FIRST_POSITION_COLUMN + i );
+                    }
+                    Entity entity = new Entity(
+                            resultSet.getInt( 1 ),
+                            resultSet.getString( 2 ),
+                            resultSet.getString( 3 ),
+                            attributes,
+                            position );
+                    entities.put( entity.key, entity );
+                    String file = resultSet.getInt( 4 ) + "/" + resultSet.getInt( 5 );
+                    files.computeIfAbsent( file, f -> new ArrayList<>() ).add( entity );
+                }
+            }
+        }
+
+        String selection = query.substring( query.indexOf( " FROM " ) );
+        readReferences( connection, entities, 'm', 
+                "SELECT x.program_entity_key_fk, x.modifier_key_fk "
+                + "FROM SVM.MODIFIERS_XREF x JOIN (SELECT e.program_entity_key" 
+                + selection + ") s ON s.program_entity_key = x.program_entity_key_fk", 
+                version );
+        readReferences( connection, entities, 'c', 
+                "SELECT x.sub_class_entity_key_fk, x.super_class_name_key_fk "
+                + "FROM SVM.SUPER_CLASS_XREF x JOIN (SELECT e.program_entity_key" 
+                + selection + ") s ON s.program_entity_key = x.sub_class_entity_key_fk", 
+                version );
+        readReferences( connection, entities, 't', 
+                "SELECT x.sub_type_entity_key_fk, x.super_type_name_key_fk "
+                + "FROM SVM.SUPER_TYPE_XREF x JOIN (SELECT e.program_entity_key" 
+                + selection + ") s ON s.program_entity_key = x.sub_type_entity_key_fk", 
+                version );
+
+        return files;
+    }
+
+    // adds modifiers or super types, in a fixed order, to the attributes
+    private void readReferences (
+            Connection connection,
+            Map<Integer, Entity> entities,
+            char tag,
+            String query,
+            int version ) throws SQLException {
+        try ( PreparedStatement statement = connection.prepareStatement(
+                query + " ORDER BY 1, 2" ) ) {
+            statement.setInt( 1, version );
+            try ( ResultSet resultSet = statement.executeQuery() ) {
+                while ( resultSet.next() ) {
+                    Entity entity = entities.get( resultSet.getInt( 1 ) );
+                    if ( entity != null ) {
+                        entity.attributes.append( tag ).append( resultSet.getInt( 2 ) );
+                    }
+                }
+            }
+        }
+    }
+
+    private void createTables ( Connection connection ) throws SQLException {
+        try ( Statement statement = connection.createStatement() ) {
+            create( statement,
+                    "CREATE TABLE SVM.ENTITY_VERSIONS ("
+                    + "program_entity_key_fk INT NOT NULL PRIMARY KEY, "
+                    + "first_project_key INT NOT NULL, "
+                    + "last_project_key INT NOT NULL)" );
+            create( statement,
+                    "CREATE INDEX SVM.EV_LAST_PROJECT_KEY_IDX "
+                    + "ON SVM.ENTITY_VERSIONS (last_project_key)" );
+            create( statement,
+                    "CREATE TABLE SVM.DELTA_VERSIONS ("
+                    + "project_key_fk INT NOT NULL PRIMARY KEY)" );
+        }
+        createVersionView( connection );
+    }
+
+    /**
+     * Creates the view of the entities present in each version, and the
+     * table of positions it draws on. A view created before the table of
+     * positions existed is replaced.
+     *
+     * @param connection a connection to the database
+     * @throws SQLException if the view cannot be created
+     */
+    static void createVersionView ( Connection connection ) throws SQLException {
+        try ( Statement statement = connection.createStatement() ) {
+            boolean positions = create( statement,
+                    "CREATE TABLE SVM.ENTITY_POSITIONS ("
+                    + "program_entity_key_fk INT NOT NULL, "
+                    + "first_project_key INT NOT NULL, "
+                    + "last_project_key INT NOT NULL, "
+                    + "start_line_number INT, "
+                    + "start_column INT, "
+                    + "end_line_number INT, "
+                    + "end_column INT, "
+                    + "PRIMARY KEY (program_entity_key_fk, first_project_key))" );
+            if ( positions && hasView( connection ) ) {
+                statement.executeUpdate( "DROP VIEW SVM." + VERSION_VIEW );
+            }
+            create( statement, versionViewDefinition( connection ) );
+        }
+    }
+
+    // lists the columns of the table, as the view must be recreated when
+    // they change, and takes the positions of moved entities from
+    // ENTITY_POSITIONS; entities of versions that have not been compacted
+    // belong to their own version alone
+    private static String versionViewDefinition ( Connection connection )
+            throws SQLException {
+        List<String> positionColumns = Arrays.asList( POSITION_COLUMNS );
+        StringBuilder columns = new StringBuilder();
+        DatabaseMetaData metaData = connection.getMetaData();
+        try ( ResultSet resultSet = 
+                metaData.getColumns( null, "SVM", "PROGRAM_ENTITIES", null ) ) {
+            while ( resultSet.next() ) {
+                String column = resultSet.getString( "COLUMN_NAME" );
+                columns.append( ", " );
+                if ( positionColumns.contains( column ) ) {
+                    columns.append( "COALESCE(ps." ).append( column )
+                            .append( ", e." ).append( column )
+                            .append( ") AS " ).append( column );
+                }
+                else {
+                    columns.append( "e." ).append( column );
+                }
+            }
+        }
+
+        return "CREATE VIEW SVM." + VERSION_VIEW + " AS "
+                + "SELECT p.project_key AS version_project_key" + columns + " "
+                + "FROM SVM.PROGRAM_ENTITIES e "
+                + "JOIN SVM.PROJECTS ep ON e.project_key_fk = ep.project_key "
+                + "LEFT OUTER JOIN SVM.ENTITY_VERSIONS v "
+                + "ON v.program_entity_key_fk = e.program_entity_key "
+                + "JOIN SVM.PROJECTS p ON p.project_name = ep.project_name "
+                + "AND p.project_key BETWEEN "
+                + "COALESCE(v.first_project_key, ep.project_key) "
+                + "AND COALESCE(v.last_project_key, ep.project_key) "
+                + "LEFT OUTER JOIN SVM.ENTITY_POSITIONS ps "
+                + "ON ps.program_entity_key_fk = e.program_entity_key "
+                + "AND p.project_key BETWEEN ps.first_project_key AND ps.last_project_key";
+    }
+
+    // returns false if the object already exists
+    private static boolean create ( Statement statement, String sql ) throws SQLException {
+        try {
+            statement.executeUpdate( sql );
+            return true;
+        }
+        catch ( SQLException e ) {
+            if ( !ALREADY_EXISTS.equals( e.getSQLState() ) ) {
+                throw e;
+            }
+            return false;
+        }
+    }
+
+    private static boolean hasView ( Connection connection ) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try ( ResultSet views = metaData.getTables( 
+                null, "SVM", VERSION_VIEW, new String[] { "VIEW" } ) ) {
+            return views.next();
+        }
+    }
+
+    private Connection connect () throws SQLException {
+        return DriverManager.getConnection( "jdbc:derby:" + this.databaseLocation );
+    }
+
+    private boolean hasColumn ( Connection connection, String column )
+            throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try ( ResultSet columns = 
+                metaData.getColumns( null, "SVM", "PROGRAM_ENTITIES", column ) ) {
+            return columns.next();
+        }
+    }
+
+    /**
+     * A program entity as read for comparison.
+     */
+    private static class Entity {
+
+        final int key;
+        final String uid;
+        final String containerUid;
+        final StringBuilder attributes;
+        final Object[] position;
+
+        Entity ( 
+                int key, 
+                String uid, 
+                String containerUid, 
+                StringBuilder attributes, 
+                Object[] position ) {
+            this.key = key;
+            this.uid = uid;
+            this.containerUid = containerUid;
+            this.attributes = attributes;
+            this.position = position;
+        }
+    }
+
+    /**
+     * Matches the entities of a file in a new version with those of the
+     * same file in the previous version. An entity can only be matched if
+     * its container has been matched, so that the containment hierarchy
+     * of the entities carried forward is unchanged. Entities in the same
+     * position are matched first, so that an entity that has not moved is
+     * not taken as a moved copy of another.
+     */
+    private static class FileMatcher {
+
+        private final Map<String, Entity> currentByUid;
+        private final Map<String, Entity> previousByUid;
+        private final Map<String, Deque<Entity>> unmatched;
+        private final Map<String, Deque<Entity>> unmatchedAnywhere;
+        private final Set<Entity> taken;
+
+        // the entity each new entity matched, or null if it matched none
+        private final Map<Entity, Entity> matches;
+
+        FileMatcher ( List<Entity> current, List<Entity> previous ) {
+            this.currentByUid = new HashMap<>();
+            for ( Entity entity : current ) {
+                this.currentByUid.put( entity.uid, entity );
+            }
+            this.previousByUid = new HashMap<>();
+            for ( Entity entity : previous ) {
+                this.previousByUid.put( entity.uid, entity );
+            }
+
+            this.unmatched = new HashMap<>();
+            this.unmatchedAnywhere = new HashMap<>();
+            for ( Entity entity : previous ) {
+                Entity container = this.previousByUid.get( entity.containerUid );
+                int containerKey = container == null ? ROOT : container.key;
+                this.unmatched.computeIfAbsent( 
+                        signature( entity, containerKey, true ), s -> new ArrayDeque<>() )
+                        .add( entity );
+                this.unmatchedAnywhere.computeIfAbsent( 
+                        signature( entity, containerKey, false ), s -> new ArrayDeque<>() )
+                        .add( entity );
+            }
+
+            this.taken = new HashSet<>();
+            this.matches = new HashMap<>();
+        }
+
+        /**
+         * Finds the entity of the previous version that an entity is
+         * unchanged from. Until moves are allowed, an entity that does not
+         * match is left to be matched again.
+         *
+         * @param entity an entity of the new version
+         * @param moves {@code true} if the entity may have moved
+         * @return the matching entity, or {@code null} if there is none
+         */
+        Entity match ( Entity entity, boolean moves ) {
+            if ( this.matches.containsKey( entity ) ) {
+                return this.matches.get( entity );
+            }
+
+            Entity original = null;
+            Entity container = this.currentByUid.get( entity.containerUid );
+            Entity originalContainer = container == null ? null : match( container, moves );
+            if ( container == null || originalContainer != null ) {
+                int containerKey = container == null ? ROOT : originalContainer.key;
+                original = take( this.unmatched, signature( entity, containerKey, true ) );
+                if ( original == null && moves ) {
+                    original = take( 
+                            this.unmatchedAnywhere, 
+                            signature( entity, containerKey, false ) );
+                }
+            }
+
+            if ( original != null || moves ) {
+                this.matches.put( entity, original );
+            }
+            return original;
+        }
+
+        /**
+         * Retrieves the entity of the previous version matching the
+         * container of an entity.
+         *
+         * @param entity an entity of the new version
+         * @return the original of the entity's container, or {@code null}
+         */
+        Entity originalContainerOf ( Entity entity ) {
+            Entity container = this.currentByUid.get( entity.containerUid );
+            return container == null ? null : match( container, true );
+        }
+
+        private Entity take ( Map<String, Deque<Entity>> index, String signature ) {
+            Deque<Entity> candidates = index.get( signature );
+            while ( candidates != null && !candidates.isEmpty() ) {
+                Entity candidate = candidates.poll();
+                if ( this.taken.add( candidate ) ) {
+                    return candidate;
+                }
+            }
+            return null;
+        }
+
+        private static String signature ( Entity entity, int containerKey, boolean position ) {
+            return containerKey + "|" + entity.attributes 
+                    + ( position ? Arrays.toString( entity.position ) : "" );
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+package uk.ac.open.crc.jim.queue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A source file held in a zip or jar archive. Entries are read through
+ * the archive's central directory, so several entries of the same
+ * archive may be read concurrently.
+ */
+class ArchiveSourceFile implements SourceFile {
+
+    private final ZipFile archive;
+    private final ZipEntry entry;
+
+    ArchiveSourceFile ( ZipFile archive, ZipEntry entry ) {
+        this.archive = archive;
+        this.entry = entry;
+    }
+
+    @Override
+    public String getName () {
+        String entryName = this.entry.getName();
+        return entryName.substring( entryName.lastIndexOf( '/' ) + 1 );
+    }
+
+    @Override
+    public String getLocation () {
+        return this.archive.getName() + "!/" + this.entry.getName();
+    }
+
+    @Override
+    public String read () throws IOException {
+        long size = this.entry.getSize();
+        ByteArrayOutputStream bytes =
+                new ByteArrayOutputStream( size > 0 ? (int) size : 8192 );
+        try ( InputStream in = this.archive.getInputStream( this.entry ) ) {
+            byte[] buffer = new byte[8192];
+            int count;
+            while ( ( count = in.read( buffer ) ) != -1 ) {
+                bytes.write( buffer, 0, count );
+            }
+        }
+
+        return new String( bytes.toByteArray() );
+    }
+}
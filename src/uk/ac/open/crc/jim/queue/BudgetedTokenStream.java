@@ -0,0 +1,76 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+
+
+package uk.ac.open.crc.jim.queue;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+
+/**
+ * A token stream that abandons the parse reading it once a deadline has
+ * passed.
+ * <p>
+ * The parser looks ahead through the token stream while predicting which
+ * alternative to take, so a parse stuck in a long LL(*) prediction is
+ * interrupted as well as a parse that is merely long. The clock is only
+ * read every few hundred lookaheads to keep the cost negligible.
+ * </p>
+ */
+class BudgetedTokenStream extends CommonTokenStream {
+
+    // lookaheads between checks of the clock
+    private static final int CHECK_INTERVAL = 256;
+
+    private final long budget;
+    private final long deadline;
+    private int lookaheads;
+
+    /**
+     * Creates a token stream with a time budget, which starts when the
+     * stream is created.
+     *
+     * @param tokenSource the source of the tokens
+     * @param budget the time allowed in milliseconds, or zero for no limit
+     */
+    BudgetedTokenStream ( TokenSource tokenSource, long budget ) {
+        super( tokenSource );
+        this.budget = budget;
+        this.deadline = System.nanoTime() + budget * 1000000;
+        this.lookaheads = 0;
+    }
+
+    @Override
+    public Token LT ( int k ) {
+        if ( ++this.lookaheads >= CHECK_INTERVAL ) {
+            this.lookaheads = 0;
+            checkBudget();
+        }
+        return super.LT( k );
+    }
+
+    private void checkBudget () {
+        // an interrupted thread is being shut down with the run
+        if ( Thread.currentThread().isInterrupted() ) {
+            throw new ParseTimeoutException( "Parse interrupted" );
+        }
+        if ( this.budget > 0 && System.nanoTime() - this.deadline > 0 ) {
+            throw new ParseTimeoutException( 
+                    "Parse exceeded " + this.budget + " ms" );
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+package uk.ac.open.crc.jim.queue;
+
+import uk.ac.open.crc.jim.persistence.EntityBatch;
+import uk.ac.open.crc.jim.persistence.EntityStore;
+import uk.ac.open.crc.jimdb.RawProgramEntity;
+
+/**
+ * Passes entities to another store, and keeps the batch extracted from
+ * a file so that it can be reused.
+ */
+class CapturingEntityStore implements EntityStore {
+
+    private final EntityStore entityStore;
+    private EntityBatch batch;
+
+    CapturingEntityStore ( EntityStore entityStore ) {
+        this.entityStore = entityStore;
+    }
+
+    /**
+     * Retrieves the batch submitted.
+     *
+     * @return the batch, or {@code null} if no batch has been submitted
+     */
+    EntityBatch getBatch () {
+        return this.batch;
+    }
+
+    @Override
+    public void add ( RawProgramEntity programEntity ) {
+        this.entityStore.add( programEntity );
+    }
+
+    @Override
+    public void add ( EntityBatch batch ) {
+        this.batch = batch;
+        this.entityStore.add( batch );
+    }
+
+    @Override
+    public void afterPendingWrites ( Runnable action ) {
+        this.entityStore.afterPendingWrites( action );
+    }
+
+    @Override
+    public void closeDown () {
+        // the underlying store is closed by its owner
+    }
+}
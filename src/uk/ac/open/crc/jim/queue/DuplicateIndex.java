@@ -0,0 +1,118 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+
+package uk.ac.open.crc.jim.queue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import uk.ac.open.crc.jim.persistence.EntityBatch;
+
+/**
+ * Records the files of a job that are being, or have been, parsed so that
+ * a file reached through more than one path, or copied within the job,
+ * is only parsed once.
+ * <p>
+ * Files are claimed first by their real path, which identifies a file
+ * reached through symbolic links, and then by a hash of their content.
+ * The first to claim a path or content supplies the batch extracted
+ * from it, which is {@code null} if the file could not be parsed.
+ * </p>
+ */
+class DuplicateIndex {
+
+    private final ConcurrentMap<Path, CompletableFuture<EntityBatch>> realPaths;
+    private final ConcurrentMap<String, CompletableFuture<EntityBatch>> contents;
+
+    private final LongAdder duplicates;
+
+    DuplicateIndex () {
+        this.realPaths = new ConcurrentHashMap<>();
+        this.contents = new ConcurrentHashMap<>();
+        this.duplicates = new LongAdder();
+    }
+
+    /**
+     * Claims a file by its real path.
+     *
+     * @param realPath the real path of a file
+     * @param batch completed with the batch extracted from the file
+     * @return the batch of the file that claimed the path first, or
+     * {@code null} if the path has been claimed by this call
+     */
+    CompletableFuture<EntityBatch> claimPath ( 
+            Path realPath, 
+            CompletableFuture<EntityBatch> batch ) {
+        return found( this.realPaths.putIfAbsent( realPath, batch ) );
+    }
+
+    /**
+     * Claims a file by its content.
+     *
+     * @param content the content of a file
+     * @param batch completed with the batch extracted from the file
+     * @return the batch of the file that claimed the content first, or
+     * {@code null} if the content has been claimed by this call
+     */
+    CompletableFuture<EntityBatch> claimContent ( 
+            String content, 
+            CompletableFuture<EntityBatch> batch ) {
+        return found( this.contents.putIfAbsent( hash( content ), batch ) );
+    }
+
+    /**
+     * Retrieves the number of files found to duplicate another.
+     *
+     * @return the number of duplicate files
+     */
+    long getDuplicateCount () {
+        return this.duplicates.sum();
+    }
+
+    /**
+     * Releases the batches held once the job's files have been parsed.
+     */
+    void clear () {
+        this.realPaths.clear();
+        this.contents.clear();
+    }
+
+    private CompletableFuture<EntityBatch> found ( 
+            CompletableFuture<EntityBatch> original ) {
+        if ( original != null ) {
+            this.duplicates.increment();
+        }
+        return original;
+    }
+
+    private static String hash ( String content ) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance( "SHA-256" );
+        }
+        catch ( NoSuchAlgorithmException e ) {
+            throw new IllegalStateException( "SHA-256 is not available", e );
+        }
+        return Base64.getEncoder().encodeToString( 
+                messageDigest.digest( content.getBytes( StandardCharsets.UTF_8 ) ) );
+    }
+}
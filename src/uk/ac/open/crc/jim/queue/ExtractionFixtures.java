@@ -0,0 +1,215 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+
+
+package uk.ac.open.crc.jim.queue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.ac.open.crc.jim.persistence.EntityBatch;
+import uk.ac.open.crc.jim.persistence.EntityStore;
+import uk.ac.open.crc.jimdb.RawProgramEntity;
+
+/**
+ * Checks the entities extracted from small source files written to
+ * exercise particular syntax against listings of the entities expected.
+ * <p>
+ * Each fixture {@code Name.java} is listed in {@code Name.entities} in the
+ * same directory, one entity per line as described by
+ * {@link EntityBatch#describe}. In {@code record} mode the listings are
+ * written from the current extraction, and should be read before they are
+ * committed. In {@code verify} mode every line that differs from a listing
+ * is reported. It can be run with:
+ * </p>
+ * <pre>
+ *   java -cp jim.jar uk.ac.open.crc.jim.queue.ExtractionFixtures
+ *        record|verify directory...
+ * </pre>
+ * <p>
+ * The fixtures in {@code fixtures/modern-syntax} cover the syntax added
+ * since Java 7 that is rewritten by {@code ModernSyntaxTokenSource}.
+ * </p>
+ */
+public class ExtractionFixtures {
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger( ExtractionFixtures.class );
+
+    private static final String LISTING_EXTENSION = ".entities";
+
+    private static final String UNPARSED = "unparsed";
+
+    public static void main ( String[] args ) {
+        if ( args.length < 2
+                || !( "record".equals( args[0] ) || "verify".equals( args[0] ) ) ) {
+            System.out.println( "usage: ExtractionFixtures record|verify directory..." );
+            System.exit( 1 );
+        }
+
+        ExtractionFixtures fixtures = new ExtractionFixtures(
+                MiningOptions.builder().analyseGenerated( true ).build() );
+        int differences = 0;
+        try {
+            for ( int i = 1; i < args.length; i++ ) {
+                if ( "record".equals( args[0] ) ) {
+                    fixtures.record( Paths.get( args[i] ) );
+                }
+                else {
+                    differences += fixtures.verify( Paths.get( args[i] ) );
+                }
+            }
+        }
+        catch ( IOException e ) {
+            LOGGER.error( "Fixture check failed: {}", e.getMessage() );
+            System.exit( 2 );
+        }
+
+        if ( differences > 0 ) {
+            System.exit( 3 );
+        }
+    }
+
+    private final MiningOptions options;
+
+    /**
+     * Creates a fixture check.
+     *
+     * @param options the options the fixtures are extracted with
+     */
+    public ExtractionFixtures ( MiningOptions options ) {
+        this.options = options;
+    }
+
+    /**
+     * Extracts each fixture in a directory and writes the listing of its
+     * entities.
+     *
+     * @param directory a directory of fixtures
+     * @throws IOException if a fixture cannot be read or a listing cannot
+     * be written
+     */
+    public void record ( Path directory ) throws IOException {
+        List<Path> fixtures = fixturesIn( directory );
+        for ( Path fixture : fixtures ) {
+            Files.write( listingFor( fixture ), extract( fixture ), StandardCharsets.UTF_8 );
+        }
+
+        LOGGER.warn( "Recorded {} fixtures in {}", fixtures.size(), directory );
+    }
+
+    /**
+     * Extracts each fixture in a directory and compares its entities with
+     * its listing.
+     *
+     * @param directory a directory of fixtures
+     * @return the number of fixtures whose entities differ from their
+     * listing
+     * @throws IOException if a fixture or a listing cannot be read
+     */
+    public int verify ( Path directory ) throws IOException {
+        List<Path> fixtures = fixturesIn( directory );
+        int differences = 0;
+        for ( Path fixture : fixtures ) {
+            Path listing = listingFor( fixture );
+            List<String> expected = Files.exists( listing )
+                    ? Files.readAllLines( listing, StandardCharsets.UTF_8 )
+                    : Collections.<String>emptyList();
+            List<String> actual = extract( fixture );
+            if ( expected.equals( actual ) ) {
+                continue;
+            }
+
+            differences++;
+            LOGGER.warn( "Entities differ: {}", fixture );
+            expected.stream()
+                    .filter( line -> !actual.contains( line ) )
+                    .forEach( line -> LOGGER.warn( "  expected: {}", line ) );
+            actual.stream()
+                    .filter( line -> !expected.contains( line ) )
+                    .forEach( line -> LOGGER.warn( "  found:    {}", line ) );
+        }
+
+        LOGGER.warn( "{} of {} fixtures in {} differ from their listings",
+                differences, fixtures.size(), directory );
+
+        return differences;
+    }
+
+    private static List<Path> fixturesIn ( Path directory ) throws IOException {
+        try ( Stream<Path> list = Files.list( directory ) ) {
+            return list
+                    .filter( file -> file.toString().endsWith( ".java" ) )
+                    .sorted()
+                    .collect( Collectors.toList() );
+        }
+    }
+
+    private static Path listingFor ( Path fixture ) {
+        String name = fixture.getFileName().toString();
+        return fixture.resolveSibling(
+                name.substring( 0, name.length() - ".java".length() ) + LISTING_EXTENSION );
+    }
+
+    private List<String> extract ( Path fixture ) {
+        BatchStore store = new BatchStore();
+        new FileReader(
+                new FileSystemSourceFile( fixture.toFile() ),
+                "fixtures",
+                "1",
+                store,
+                this.options ).run();
+
+        if ( store.batch == null ) {
+            List<String> unparsed = new ArrayList<>();
+            unparsed.add( UNPARSED );
+            return unparsed;
+        }
+        return store.batch.describe();
+    }
+
+    /**
+     * Keeps the batch extracted from a single file.
+     */
+    private static class BatchStore implements EntityStore {
+
+        private EntityBatch batch = null;
+
+        @Override
+        public void add ( RawProgramEntity programEntity ) {
+            // the parsers only submit batches
+        }
+
+        @Override
+        public void add ( EntityBatch batch ) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void closeDown () {
+            // nothing is held
+        }
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+
+
+package uk.ac.open.crc.jim.queue;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.ac.open.crc.jim.persistence.EntityBatch;
+import uk.ac.open.crc.jim.persistence.EntityStore;
+import uk.ac.open.crc.jimdb.RawProgramEntity;
+
+/**
+ * Checks that changes to the parsers, such as a retuned grammar, leave the
+ * entities extracted from a regression corpus unchanged, and compares the
+ * time taken.
+ * <p>
+ * In {@code record} mode the entities extracted from each file of the 
+ * corpus are reduced to a digest of the serialised batch, and the digests
+ * are written to a baseline file with the time taken. In {@code verify}
+ * mode the corpus is extracted again and every file whose entities differ
+ * from the baseline is reported, with the two times. Files are extracted
+ * on a single thread, as the best of several repetitions, so that the
+ * times are comparable. It can be run with:
+ * </p>
+ * <pre>
+ *   java -cp jim.jar uk.ac.open.crc.jim.queue.ExtractionRegression
+ *        record|verify [--repetitions n] baseline path...
+ * </pre>
+ */
+public class ExtractionRegression {
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger( ExtractionRegression.class );
+
+    private static final String HEADER_PREFIX = "# jim-extraction-regression ";
+    private static final String TIME_PREFIX = "# time ";
+
+    private static final int DEFAULT_REPETITIONS = 3;
+
+    public static void main ( String[] args ) {
+        int repetitions = DEFAULT_REPETITIONS;
+        List<String> arguments = new ArrayList<>();
+
+        for ( int i = 0; i < args.length; i++ ) {
+            if ( "--repetitions".equals( args[i] ) && i + 1 < args.length ) {
+                repetitions = Integer.parseInt( args[++i] );
+            }
+            else {
+                arguments.add( args[i] );
+            }
+        }
+
+        if ( arguments.size() < 3 
+                || !( "record".equals( arguments.get( 0 ) ) 
+                        || "verify".equals( arguments.get( 0 ) ) ) ) {
+            System.out.println( "usage: ExtractionRegression record|verify "
+                    + "[--repetitions n] baseline path..." );
+            System.exit( 1 );
+        }
+
+        Path baseline = Paths.get( arguments.get( 1 ) );
+        List<Path> corpus = arguments.subList( 2, arguments.size() ).stream()
+                .map( Paths::get )
+                .collect( Collectors.toList() );
+
+        ExtractionRegression regression = new ExtractionRegression( 
+                MiningOptions.builder().analyseGenerated( true ).build(), 
+                repetitions );
+        try {
+            if ( "record".equals( arguments.get( 0 ) ) ) {
+                regression.record( corpus, baseline );
+            }
+            else if ( regression.verify( corpus, baseline ) > 0 ) {
+                System.exit( 3 );
+            }
+        }
+        catch ( IOException e ) {
+            LOGGER.error( "Regression check failed: {}", e.getMessage() );
+            System.exit( 2 );
+        }
+    }
+
+    private final MiningOptions options;
+    private final int repetitions;
+
+    // the time taken by the last extraction in milliseconds
+    private long time;
+
+    /**
+     * Creates a regression check.
+     *
+     * @param options the options the corpus is extracted with
+     * @param repetitions the number of times the corpus is extracted
+     * to time it
+     */
+    public ExtractionRegression ( MiningOptions options, int repetitions ) {
+        this.options = options;
+        this.repetitions = Math.max( 1, repetitions );
+        this.time = 0;
+    }
+
+    /**
+     * Extracts the corpus and writes a digest of each file's entities to
+     * a baseline file.
+     *
+     * @param corpus the directories and files of the corpus
+     * @param baseline the file to write
+     * @throws IOException if the corpus cannot be read or the baseline
+     * cannot be written
+     */
+    public void record ( List<Path> corpus, Path baseline ) throws IOException {
+        Map<String, String> digests = extract( corpus );
+
+        try ( BufferedWriter writer = 
+                Files.newBufferedWriter( baseline, StandardCharsets.UTF_8 ) ) {
+            writer.write( HEADER_PREFIX + this.options.getExtractionKey() );
+            writer.newLine();
+            writer.write( TIME_PREFIX + this.time );
+            writer.newLine();
+            for ( Map.Entry<String, String> entry : digests.entrySet() ) {
+                writer.write( entry.getKey() );
+                writer.write( '\t' );
+                writer.write( entry.getValue() );
+                writer.newLine();
+            }
+        }
+
+        LOGGER.warn( "Recorded {} files in {} ms to {}", 
+                digests.size(), this.time, baseline );
+    }
+
+    /**
+     * Extracts the corpus and compares the entities of each file with
+     * those recorded in a baseline file.
+     *
+     * @param corpus the directories and files of the corpus
+     * @param baseline a file written by {@link #record}
+     * @return the number of files that differ from the baseline, or are
+     * missing from one side
+     * @throws IOException if the corpus or the baseline cannot be read
+     */
+    public int verify ( List<Path> corpus, Path baseline ) throws IOException {
+        Map<String, String> expected = new LinkedHashMap<>();
+        long baselineTime = -1;
+        try ( BufferedReader reader = 
+                Files.newBufferedReader( baseline, StandardCharsets.UTF_8 ) ) {
+            String header = reader.readLine();
+            if ( header == null || !header.equals( 
+                    HEADER_PREFIX + this.options.getExtractionKey() ) ) {
+                throw new IOException( 
+                        "Baseline \"" + baseline + "\" was recorded with different options" );
+            }
+            String line;
+            while ( ( line = reader.readLine() ) != null ) {
+                if ( line.startsWith( TIME_PREFIX ) ) {
+                    baselineTime = Long.parseLong( line.substring( TIME_PREFIX.length() ) );
+                    continue;
+                }
+                int tab = line.indexOf( '\t' );
+                if ( tab > 0 ) {
+                    expected.put( line.substring( 0, tab ), line.substring( tab + 1 ) );
+                }
+            }
+        }
+
+        Map<String, String> actual = extract( corpus );
+
+        int differences = 0;
+        for ( Map.Entry<String, String> entry : expected.entrySet() ) {
+            String digest = actual.get( entry.getKey() );
+            if ( digest == null ) {
+                LOGGER.warn( "Missing from corpus: {}", entry.getKey() );
+                differences++;
+            }
+            else if ( !digest.equals( entry.getValue() ) ) {
+                LOGGER.warn( "Entities differ: {}", entry.getKey() );
+                differences++;
+            }
+        }
+        for ( String file : actual.keySet() ) {
+            if ( !expected.containsKey( file ) ) {
+                LOGGER.warn( "Missing from baseline: {}", file );
+                differences++;
+            }
+        }
+
+        LOGGER.warn( "{} of {} files differ from the baseline", 
+                differences, expected.size() );
+        LOGGER.warn( "Extraction time: {} ms, baseline: {} ms", 
+                this.time, baselineTime );
+
+        return differences;
+    }
+
+    // maps the path of each file, relative to the corpus root given, to 
+    // the entity count and digest of its entities
+    private Map<String, String> extract ( List<Path> corpus ) throws IOException {
+        Map<Path, List<Path>> filesByRoot = new LinkedHashMap<>();
+        for ( Path root : corpus ) {
+            try ( Stream<Path> walk = Files.walk( root ) ) {
+                filesByRoot.put( root, walk
+                        .filter( file -> file.toString().endsWith( ".java" ) )
+                        .sorted()
+                        .collect( Collectors.toList() ) );
+            }
+        }
+
+        Map<String, String> digests = new LinkedHashMap<>();
+        long best = Long.MAX_VALUE;
+        for ( int i = 0; i < this.repetitions; i++ ) {
+            digests.clear();
+            long elapsed = 0;
+            for ( Map.Entry<Path, List<Path>> entry : filesByRoot.entrySet() ) {
+                Path root = entry.getKey();
+                for ( Path file : entry.getValue() ) {
+                    BatchStore store = new BatchStore();
+                    long start = System.nanoTime();
+                    new FileReader( 
+                            new FileSystemSourceFile( file.toFile() ),
+                            "regression",
+                            "1",
+                            store,
+                            this.options ).run();
+                    elapsed += System.nanoTime() - start;
+
+                    String name = root.equals( file ) 
+                            ? file.getFileName().toString()
+                            : root.relativize( file ).toString();
+                    digests.put( name.replace( File.separatorChar, '/' ), 
+                            describe( store.batch ) );
+                }
+            }
+            best = Math.min( best, elapsed );
+        }
+        this.time = best / 1000000;
+
+        return digests;
+    }
+
+    private static String describe ( EntityBatch batch ) throws IOException {
+        if ( batch == null ) {
+            return "unparsed";
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try ( DataOutputStream out = new DataOutputStream( bytes ) ) {
+            batch.writeTo( out );
+        }
+
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance( "SHA-256" );
+            return batch.size() + "\t" + Base64.getEncoder().encodeToString( 
+                    messageDigest.digest( bytes.toByteArray() ) );
+        }
+        catch ( NoSuchAlgorithmException e ) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException( e );
+        }
+    }
+
+    /**
+     * Keeps the batch extracted from a single file.
+     */
+    private static class BatchStore implements EntityStore {
+
+        private EntityBatch batch = null;
+
+        @Override
+        public void add ( RawProgramEntity programEntity ) {
+            // the parsers only submit batches
+        }
+
+        @Override
+        public void add ( EntityBatch batch ) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void closeDown () {
+            // nothing is held
+        }
+    }
+}
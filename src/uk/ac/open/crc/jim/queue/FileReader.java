@@ -17,14 +17,11 @@
 package uk.ac.open.crc.jim.queue;
 
 import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.DefaultErrorStrategy;
@@ -40,161 +37,411 @@ import org.slf4j.LoggerFactory;
 import uk.ac.open.crc.jim.parser.java14.ASTCompilationUnit;
 import uk.ac.open.crc.jim.parser.java14.Java14Parser;
 import uk.ac.open.crc.jim.parser.java15.Java15Parser;
+import uk.ac.open.crc.jim.parser.java17.CompactTokenFactory;
+import uk.ac.open.crc.jim.parser.java17.DeclarationTokenSource;
 import uk.ac.open.crc.jim.parser.java17.Java17VisitorImplementation;
 import uk.ac.open.crc.jim.parser.java17.JavaLexer;
 import uk.ac.open.crc.jim.parser.java17.JavaParser;
+import uk.ac.open.crc.jim.parser.java17.LanguageLevel;
+import uk.ac.open.crc.jim.parser.java17.LexedTokenSource;
+import uk.ac.open.crc.jim.parser.java17.MemberRecoveryStrategy;
+import uk.ac.open.crc.jim.parser.java17.ModernSyntaxTokenSource;
+import uk.ac.open.crc.jim.parser.java17.SourceCharStream;
+import uk.ac.open.crc.jim.persistence.EntityBatch;
+import uk.ac.open.crc.jim.persistence.EntityStore;
 import uk.ac.open.crc.jim.persistence.EntityStoreSingleton;
-import uk.ac.open.crc.jim.Settings;
+import uk.ac.open.crc.jim.persistence.ExtractionCache;
 
 /**
  * Processes source code files.
  */
 class FileReader implements Runnable {
 
-    File javaFile;
-    Settings settings;
+    SourceFile javaFile;
+    MiningOptions options;
+
+    private final String projectName;
+    private final String projectVersion;
+    private final EntityStore entityStore;
+
+    // keeps the batch extracted for the extraction cache, if there is one
+    private final ExtractionCache extractionCache;
+    private final CapturingEntityStore capture;
+
+    // set when the file uses syntax added after Java 7, which the
+    // Java 1.4 parser cannot accept either
+    private boolean modernSyntax;
+
+    // set when the Java 7 parser ran out of time
+    private boolean timedOut;
 
     private static final Logger LOGGER = 
             LoggerFactory.getLogger( FileReader.class );
 
     /**
-     * A {@code Runnable} implementation that initiates file parsing.
+     * A {@code Runnable} that records the entities found against a
+     * particular project and version, and submits them to the given store.
      *
-     * @param javaFile a {@code File} object referencing a Java file to be
+     * @param javaFile a {@code SourceFile} referencing a Java file to be
      * parsed.
-     *
+     * @param projectName the name of the project the file belongs to
+     * @param projectVersion the version of the project the file belongs to
+     * @param entityStore the store the file's entities are submitted to
+     * @param options the options controlling which files are parsed
      */
-    FileReader( File javaFile ) {
+    FileReader( 
+            SourceFile javaFile, 
+            String projectName, 
+            String projectVersion, 
+            EntityStore entityStore,
+            MiningOptions options ) {
         this.javaFile = javaFile;
-        this.settings = Settings.getInstance();
+        this.options = options;
+        this.projectName = projectName;
+        this.projectVersion = projectVersion;
+        this.extractionCache = options.getExtractionCache();
+        if ( this.extractionCache == null ) {
+            this.capture = null;
+            this.entityStore = entityStore;
+        }
+        else {
+            this.capture = new CapturingEntityStore( entityStore );
+            this.entityStore = this.capture;
+        }
+        this.modernSyntax = false;
+        this.timedOut = false;
     }
 
     @Override
     public void run() {
         if ( this.javaFile != null ) {
-            if ( ! Boolean.parseBoolean( this.settings.get( "analyse.generated" ) ) ) {
-                if ( isGenerated( this.javaFile ) ) {
+            // the file is read once and the content shared by the
+            // generated code check and the parsers
+            String content;
+            try {
+                content = this.javaFile.read();
+            }
+            catch ( IOException e ) {
+                LOGGER.error( 
+                        "File \"{}\" cannot be read.\n\"{}\"", 
+                        this.javaFile.getLocation(),
+                        e.getMessage() );
+                return;
+            }
+            
+            if ( ! this.options.isAnalyseGenerated() ) {
+                if ( isGenerated( content ) ) {
+                    return;
+                }
+            }
+
+            // identical content seen before need not be parsed
+            String cacheKey = null;
+            if ( this.extractionCache != null ) {
+                cacheKey = ExtractionCache.keyFor( 
+                        content, this.options.getExtractionKey() );
+                EntityBatch cachedBatch = this.extractionCache.get( 
+                        cacheKey,
+                        this.projectName,
+                        this.projectVersion,
+                        this.javaFile.getName() );
+                if ( cachedBatch != null ) {
+                    this.entityStore.add( cachedBatch );
                     return;
                 }
             }
 
-            LOGGER.info( "Trying Java 7 parser" );
-            boolean fileParsed = parseAsJava17( javaFile );
+            long start = System.nanoTime();
+
+            // the file is lexed once for both the pre-scan that chooses 
+            // the parser tried first and the Java 7 parser
+            String lexableContent = ModernSyntaxTokenSource.blankTextBlocks( content );
+            List<Token> tokens = lex( lexableContent );
+            boolean textBlocks = lexableContent != content;
+            LanguageLevel level = LanguageLevel.of( tokens );
+
+            boolean fileParsed;
+            ParserRouting.Outcome outcome = ParserRouting.Outcome.ROUTED;
+            if ( level == LanguageLevel.LEGACY ) {
+                // enum and assert used as identifiers fail the Java 7 
+                // parser, so the Java 1.4 parser is tried first
+                LOGGER.info( "Trying Java 4 parser" );
+                fileParsed = parseAsJava14( content );
+                if ( ! fileParsed ) {
+                    LOGGER.info( "Trying Java 7 parser" );
+                    fileParsed = parseAsJava17WithinBudget( tokens, textBlocks );
+                    outcome = ParserRouting.Outcome.FALLBACK;
+                }
+            }
+            else {
+                LOGGER.info( "Trying Java 7 parser" );
+                fileParsed = parseAsJava17WithinBudget( tokens, textBlocks );
             
-            // Java 1.5 parser is redundant
-            // as all Java 5 is legal Java 7.
-//            if ( ! fileParsed ) {
-//                LOGGER.info( "Trying Java 5 parser" );
-//                fileParsed = parseAsJava15( javaFile );
-//            }
+                // Java 1.5 parser is redundant
+                // as all Java 5 is legal Java 7.
+//                if ( ! fileParsed ) {
+//                    LOGGER.info( "Trying Java 5 parser" );
+//                    fileParsed = parseAsJava15( content );
+//                }
             
-            // - if 1.7/1.5 parser fails try Java14Parser
-            // - if both fail log the fact
+                // if 1.7/1.5 parser fails try Java14Parser, unless the
+                // file uses modern syntax or timed out with another action
+                if ( ! fileParsed && isJava14Fallback() ) {
+                    LOGGER.info( "Trying Java 4 parser" );
+                    fileParsed = parseAsJava14( content );
+                    outcome = ParserRouting.Outcome.FALLBACK;
+                }
+            }
+            
+            // if all fail log the fact
             if ( ! fileParsed ) {
-                LOGGER.info( "Trying Java 4 parser" );
-                fileParsed = parseAsJava14( javaFile );
-                if ( ! fileParsed ) {
+                outcome = ParserRouting.Outcome.FAILED;
+                if ( this.timedOut ) {
+                    LOGGER.warn( 
+                            "Unable to parse file within {} ms: \"{}\"", 
+                            this.options.getParseTimeout(),
+                            javaFile.getLocation() );
+                }
+                else if ( this.modernSyntax ) {
+                    LOGGER.warn( 
+                            "Unable to parse file using modern syntax: \"{}\"", 
+                            javaFile.getLocation() );
+                }
+                else {
                     LOGGER.warn( 
                             "Unable to parse file: \"{}\"", 
-                            javaFile.getAbsolutePath() );
+                            javaFile.getLocation() );
+                }
+                
+                // a file that timed out would take as long again
+                if ( this.options.isRecoverPartial() && ! this.timedOut ) {
+                    parseRecovering( tokens );
                 }
             }
+            this.options.getParserRouting().record( level, outcome );
+            this.options.getSlowFileReport().record( 
+                    this.javaFile.getLocation(), 
+                    content.length(), 
+                    ( System.nanoTime() - start ) / 1000000, 
+                    this.timedOut );
+            
+            // the entities of a file that timed out depend on the time 
+            // taken, so are not cached
+            if ( fileParsed && ! this.timedOut && this.capture != null 
+                    && this.capture.getBatch() != null ) {
+                this.extractionCache.put( cacheKey, this.capture.getBatch() );
+            }
         }
     }
 
+    // Parses with the Java 7 parser, and applies the timeout action if
+    // the parse takes longer than allowed. The Java 1.4 parser is left
+    // to the caller, which may already have tried it.
+    private boolean parseAsJava17WithinBudget( 
+            List<Token> tokens, 
+            boolean textBlocks ) {
+        try {
+            return parseAsJava17( tokens, textBlocks, this.options.isDeclarationsOnly() );
+        }
+        catch ( ParseTimeoutException e ) {
+            this.timedOut = true;
+            LOGGER.warn( 
+                    "{} parsing file \"{}\", timeout action: {}", 
+                    e.getMessage(),
+                    this.javaFile.getLocation(),
+                    this.options.getTimeoutAction() );
+        }
+        
+        if ( this.options.getTimeoutAction() == TimeoutAction.DECLARATIONS 
+                && ! this.options.isDeclarationsOnly() ) {
+            try {
+                return parseAsJava17( tokens, textBlocks, true );
+            }
+            catch ( ParseTimeoutException e ) {
+                return false;
+            }
+        }
+        
+        return false;
+    }
+    
+    // Extracts the declarations of a file no parser accepts that have no 
+    // syntax errors, discarding the rest, in a single LL(*) pass. The
+    // entities extracted are not cached, as they are not all there are.
+    private void parseRecovering( List<Token> lexedTokens ) {
+        ModernSyntaxTokenSource modernSyntaxSource = 
+                new ModernSyntaxTokenSource( new LexedTokenSource( lexedTokens ) );
+        CommonTokenStream tokens = new BudgetedTokenStream( 
+                this.options.isDeclarationsOnly() 
+                        ? new DeclarationTokenSource( modernSyntaxSource ) 
+                        : modernSyntaxSource,
+                this.options.getParseTimeout() );
+        
+        JavaParser javaParser = new JavaParser( tokens );
+        javaParser.removeErrorListeners();
+        MemberRecoveryStrategy recoveryStrategy = new MemberRecoveryStrategy();
+        javaParser.setErrorHandler( recoveryStrategy );
+        javaParser.getInterpreter().setPredictionMode( PredictionMode.LL );
+        
+        ParseTree parseTree;
+        try {
+            parseTree = javaParser.compilationUnit();
+        }
+        catch ( RuntimeException e ) {
+            // an error outside any declaration, or a timeout
+            LOGGER.warn( 
+                    "Unable to recover declarations from file \"{}\"\n\"{}\"", 
+                    this.javaFile.getLocation(),
+                    e.getMessage() );
+            return;
+        }
+        
+        Java17VisitorImplementation javaVisitor = new Java17VisitorImplementation( 
+                this.projectName,
+                this.projectVersion,
+                this.javaFile.getName(), 
+                this.entityStore,
+                this.options.getSpecies() );
+        javaVisitor.visit( parseTree );
+        
+        int recovered = MemberRecoveryStrategy.countDeclarations( parseTree );
+        int lost = recoveryStrategy.getLostRegions();
+        this.options.getParserRouting().recordRecovery( recovered, lost );
+        LOGGER.warn( 
+                "Partially extracted file \"{}\": {} declarations recovered, {} lost", 
+                this.javaFile.getLocation(),
+                recovered,
+                lost );
+    }
+    
+    // the Java 1.4 parser cannot parse modern syntax, and after a timeout
+    // is only tried when it is the timeout action
+    private boolean isJava14Fallback() {
+        if ( this.timedOut ) {
+            return this.options.getTimeoutAction() == TimeoutAction.JAVA14;
+        }
+        return ! this.modernSyntax;
+    }
+
     // A two stage parsing approach is implemented in this method.
     // First the SLL* approach, which is less computationally expensive, 
     // and switches to LL* if that fails. 
     // see example at https://theantlrguy.atlassian.net/wiki/pages/viewpage.action?pageId=1900591
     // There's a nested try/catch because of retrying 
-    // the parser in a different configuration
+    // the parser in a different configuration.
+    // Both stages share the parse timeout, and a ParseTimeoutException
+    // is passed on to the caller.
                 
-    private boolean parseAsJava17( File sourceFile ) {
-        ANTLRInputStream input;
-        try ( BufferedReader reader = 
-                new BufferedReader(new InputStreamReader( new FileInputStream( sourceFile ) ) ) ) {
-            input = new ANTLRInputStream( reader );
-
-            JavaLexer javaLexer = new JavaLexer( input );
-            CommonTokenStream tokens = new CommonTokenStream( javaLexer );
+    private boolean parseAsJava17( 
+            List<Token> lexedTokens, 
+            boolean textBlocks,
+            boolean declarationsOnly ) {
+        // syntax added since Java 7 is rewritten for the Java 7 grammar
+        ModernSyntaxTokenSource modernSyntaxSource = 
+                new ModernSyntaxTokenSource( new LexedTokenSource( lexedTokens ) );
+        CommonTokenStream tokens = new BudgetedTokenStream( 
+                declarationsOnly 
+                        ? new DeclarationTokenSource( modernSyntaxSource ) 
+                        : modernSyntaxSource,
+                this.options.getParseTimeout() );
 
-            JavaParser javaParser = new JavaParser( tokens );
-            javaParser.removeErrorListeners();
-            javaParser.addErrorListener( new LogListener() );
-            javaParser.setErrorHandler( new BailErrorStrategy() );
-            javaParser.getInterpreter().setPredictionMode( PredictionMode.SLL );
+        JavaParser javaParser = new JavaParser( tokens );
+        javaParser.removeErrorListeners();
+        javaParser.addErrorListener( new LogListener() );
+        javaParser.setErrorHandler( new BailErrorStrategy() );
+        javaParser.getInterpreter().setPredictionMode( PredictionMode.SLL );
 
-            ParseTree parseTree;
-            
+        ParseTree parseTree;
+        
+        try {
+            parseTree = javaParser.compilationUnit();
+        }
+        catch ( RecognitionException e ) {
+            // in here when the SLL(*) parser fails.
+            // log it
+            LOGGER.warn( 
+                    "Syntax error encountered parsing file \"{}\" "
+                            + "using SLL(*), switching to LL(*)", 
+                    this.javaFile.getLocation());
+            tokens.reset();
+            javaParser.reset();
+            javaParser.getInterpreter().setPredictionMode( PredictionMode.LL );
             try {
                 parseTree = javaParser.compilationUnit();
             }
-            catch ( RecognitionException e ) {
-                // in here when the SLL(*) parser fails.
+            catch ( RecognitionException ex ) {
                 // log it
                 LOGGER.warn( 
                         "Syntax error encountered parsing file \"{}\" "
-                                + "using SLL(*), switching to LL(*)", 
-                        sourceFile.getAbsolutePath());
-                tokens.reset();
-                javaParser.reset();
-                javaParser.getInterpreter().setPredictionMode( PredictionMode.LL );
-                try {
-                    parseTree = javaParser.compilationUnit();
-                }
-                catch ( RecognitionException ex ) {
-                    // log it
-                    LOGGER.warn( 
-                            "Syntax error encountered parsing file \"{}\" "
-                                    + "using LL(*).\n\"{}\"", 
-                            sourceFile.getAbsolutePath(), 
-                            ex.getMessage() );
-                    return false;
-                }
-                catch ( RuntimeException ex ) {
-                    // log it
-                    LOGGER.warn( 
-                            "ANTLR threw a runtime exception while parsing "
-                                    + "file \"{}\" using LL(*).\n\"{}\"",
-                            sourceFile.getAbsolutePath(),
-                            ex.getMessage() );
-                    return false;
-                }
+                                + "using LL(*).\n\"{}\"", 
+                        this.javaFile.getLocation(), 
+                        ex.getMessage() );
+                return false;
             }
-            catch ( RuntimeException e ) {
-                // this is a catch-all for ANTLR to retain control
-                // and can hand off to other parsers.
+            catch ( ParseTimeoutException ex ) {
+                throw ex;
+            }
+            catch ( RuntimeException ex ) {
                 // log it
                 LOGGER.warn( 
                         "ANTLR threw a runtime exception while parsing "
-                                + "file \"{}\" using SLL(*)\n\"{}\"",
-                        sourceFile.getAbsolutePath(),
-                        e.getMessage() );
+                                + "file \"{}\" using LL(*).\n\"{}\"",
+                        this.javaFile.getLocation(),
+                        ex.getMessage() );
                 return false;
             }
-            
-            Java17VisitorImplementation javaVisitor = new Java17VisitorImplementation( 
-                    sourceFile.getName(), 
-                    EntityStoreSingleton.getInstance() );
-            javaVisitor.visit( parseTree );
         }
-        catch( IOException ioEx ) {
-            LOGGER.error( 
-                    "File \"{}\" passed to ANTLR parser "
-                            + "either cannot be found or opened.\n\"{}\"", 
-                    sourceFile.getAbsolutePath(),
-                    ioEx.getMessage() );
-            return false; // bail on the exception
+        catch ( ParseTimeoutException e ) {
+            throw e;
+        }
+        catch ( RuntimeException e ) {
+            // this is a catch-all for ANTLR to retain control
+            // and can hand off to other parsers.
+            // log it
+            LOGGER.warn( 
+                    "ANTLR threw a runtime exception while parsing "
+                            + "file \"{}\" using SLL(*)\n\"{}\"",
+                    this.javaFile.getLocation(),
+                    e.getMessage() );
+            return false;
+        }
+        finally {
+            // the tokens are rewritten when the parser first reads them, 
+            // and text blocks are only blanked out of content having them
+            this.modernSyntax = modernSyntaxSource.getRewrites() > 0 || textBlocks;
         }
         
+        Java17VisitorImplementation javaVisitor = new Java17VisitorImplementation( 
+                this.projectName,
+                this.projectVersion,
+                this.javaFile.getName(), 
+                this.entityStore,
+                this.options.getSpecies() );
+        javaVisitor.visit( parseTree );
+        
         return true;
     }
     
+    // the tokens of the content, ending with the end of file token, 
+    // which hold little more than their offsets in the content
+    private static List<Token> lex( String content ) {
+        JavaLexer javaLexer = new JavaLexer( new SourceCharStream( content ) );
+        javaLexer.setTokenFactory( new CompactTokenFactory() );
+        List<Token> tokens = new ArrayList<>();
+        Token token;
+        do {
+            token = javaLexer.nextToken();
+            tokens.add( token );
+        } while ( token.getType() != Token.EOF );
+        
+        return tokens;
+    }
+    
     // Candidate for deletion.
     // No longer used because legal Java 1.5 is legal Java 1.7
     @Deprecated
-    private boolean parseAsJava15( File sourceFile ) {
-        Java15Parser java15Parser = new Java15Parser( sourceFile );
+    private boolean parseAsJava15( String content ) {
+        Java15Parser java15Parser = new Java15Parser( new StringReader( content ) );
         try {
             uk.ac.open.crc.jim.parser.java15.ASTCompilationUnit compilationUnit15 
                     = java15Parser.CompilationUnit();
@@ -206,7 +453,7 @@ class FileReader implements Runnable {
             // log parse failure
             StringBuilder message
                     = new StringBuilder( "ParseException encountered parsing: " );
-            message.append( sourceFile.getAbsolutePath() );
+            message.append( this.javaFile.getLocation() );
             message.append( "\n" );
             message.append( pEx.getMessage() );
             message.append( "\nMoving to next file.\n" );
@@ -219,19 +466,19 @@ class FileReader implements Runnable {
         return true;
     }
     
-    private boolean parseAsJava14( File sourceFile ) {
-        Java14Parser java14Parser = new Java14Parser( sourceFile );
+    private boolean parseAsJava14( String content ) {
+        Java14Parser java14Parser = new Java14Parser( new StringReader( content ) );
         try {
             ASTCompilationUnit compilationUnit14 = java14Parser.CompilationUnit();
             uk.ac.open.crc.jim.parser.java14.IdentifierDeclarationVisitor declarationVisitor14
-                    = new uk.ac.open.crc.jim.parser.java14.IdentifierDeclarationVisitor( this.javaFile.getName(), EntityStoreSingleton.getInstance() );
+                    = new uk.ac.open.crc.jim.parser.java14.IdentifierDeclarationVisitor( this.projectName, this.projectVersion, this.javaFile.getName(), this.entityStore, this.options.getSpecies() );
             compilationUnit14.jjtAccept( declarationVisitor14, null );
         }
         catch ( uk.ac.open.crc.jim.parser.java14.ParseException pEx ) {
             // log parse failure
             StringBuilder message
                     = new StringBuilder( "ParseException encountered parsing: " );
-            message.append( sourceFile.getAbsolutePath() );
+            message.append( this.javaFile.getLocation() );
             message.append( "\n" );
             message.append( pEx.getMessage() );
             message.append( "\nMoving to next file.\n" );
@@ -244,11 +491,10 @@ class FileReader implements Runnable {
         return true;
     }
     
-    private boolean isGenerated( File sourceFile ) {
+    private boolean isGenerated( String content ) {
         // Check whether the file is generated.
-        // Processing the file twice!!
         boolean generated = false;
-        try (BufferedReader in = new BufferedReader( new java.io.FileReader( sourceFile ) )) {
+        try (BufferedReader in = new BufferedReader( new StringReader( content ) )) {
             int lineCount = 0;
             final int linesToRead = 100; // should be in the first few lines, but be safe, just in case of licence statements.
             String line;
@@ -269,13 +515,9 @@ class FileReader implements Runnable {
                 lineCount++;
             }
         }
-        catch ( FileNotFoundException e ) {
-            LOGGER.error( "Cannot open file: {}\n{}",
-                    new Object[]{sourceFile.toString(), e.toString()} );
-        }
         catch ( IOException e ) {
-            LOGGER.error( "problem opening: {}: {}",
-                    sourceFile.toString(), e.toString() );
+            LOGGER.error( "problem reading: {}: {}",
+                    this.javaFile.getLocation(), e.toString() );
         }
 
         return generated;
@@ -318,7 +560,7 @@ class FileReader implements Runnable {
                 RecognitionException e ) {
             List<String> stack = ((Parser) recognizer).getRuleInvocationStack();
             Collections.reverse( stack );
-            LOGGER.warn( "In file: {}", javaFile);
+            LOGGER.warn( "In file: {}", javaFile.getLocation() );
             LOGGER.warn( "Rule stack: {}", stack);
             LOGGER.warn( 
                     "Line: {}\nSymbol: \"{}\"\nMessage: {}", 
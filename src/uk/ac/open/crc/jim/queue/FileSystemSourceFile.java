@@ -0,0 +1,54 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+package uk.ac.open.crc.jim.queue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A source file in the file system.
+ */
+class FileSystemSourceFile implements SourceFile {
+
+    private final File file;
+
+    FileSystemSourceFile ( File file ) {
+        this.file = file;
+    }
+
+    @Override
+    public String getName () {
+        return this.file.getName();
+    }
+
+    @Override
+    public String getLocation () {
+        return this.file.getAbsolutePath();
+    }
+
+    // the platform encoding is used, as it always has been
+    @Override
+    public String read () throws IOException {
+        return new String( Files.readAllBytes( this.file.toPath() ) );
+    }
+
+    @Override
+    public Path getRealPath () throws IOException {
+        return this.file.toPath().toRealPath();
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+package uk.ac.open.crc.jim.queue;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads trees and blobs from the object store of a local git repository
+ * using git's plumbing commands, so that revisions can be mined without
+ * being checked out.
+ * <p>
+ * Blobs are read through a single long running {@code git cat-file}
+ * process shared by the parser threads.
+ * </p>
+ */
+class GitRepository implements Closeable {
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger( GitRepository.class );
+
+    private final File directory;
+
+    private Process catFile;
+    private OutputStream catFileRequests;
+    private InputStream catFileResponses;
+
+    /**
+     * Creates a reader for a repository.
+     *
+     * @param directory the working tree or git directory of a repository
+     */
+    GitRepository ( File directory ) {
+        this.directory = directory;
+    }
+
+    File getDirectory () {
+        return this.directory;
+    }
+
+    /**
+     * Lists the files in a revision.
+     *
+     * @param revision a tag, branch or commit id
+     * @return the files in the revision's tree
+     * @throws IOException if git cannot list the revision
+     */
+    List<Entry> listFiles ( String revision ) throws IOException {
+        Process lsTree = new ProcessBuilder(
+                "git", "ls-tree", "-r", "-z", "--full-tree", revision )
+                .directory( this.directory )
+                .redirectError( ProcessBuilder.Redirect.INHERIT )
+                .start();
+
+        byte[] output = readFully( lsTree.getInputStream() );
+        try {
+            if ( lsTree.waitFor() != 0 ) {
+                throw new IOException( "git ls-tree failed for " + revision );
+            }
+        }
+        catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new IOException( "Interrupted listing " + revision );
+        }
+
+        // records are "mode type object<TAB>path" terminated by NUL
+        List<Entry> entries = new ArrayList<>();
+        for ( String record : new String( output, StandardCharsets.UTF_8 ).split( "\0" ) ) {
+            int tab = record.indexOf( '\t' );
+            if ( tab < 0 ) {
+                continue;
+            }
+            String[] fields = record.substring( 0, tab ).split( " " );
+            if ( fields.length == 3 && "blob".equals( fields[1] ) ) {
+                entries.add( new Entry( record.substring( tab + 1 ), fields[2] ) );
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Reads the content of a blob. After any failure the {@code git cat-file}
+     * process is discarded, because it may have been left part way through
+     * a response, and a new process is started for the next blob.
+     *
+     * @param objectId the id of a blob
+     * @return the content of the blob
+     * @throws IOException if the blob cannot be read
+     */
+    synchronized byte[] readBlob ( String objectId ) throws IOException {
+        if ( this.catFile == null ) {
+            this.catFile = new ProcessBuilder( "git", "cat-file", "--batch" )
+                    .directory( this.directory )
+                    .redirectError( ProcessBuilder.Redirect.INHERIT )
+                    .start();
+            this.catFileRequests = this.catFile.getOutputStream();
+            this.catFileResponses = 
+                    new BufferedInputStream( this.catFile.getInputStream() );
+        }
+
+        try {
+            return requestBlob( objectId );
+        }
+        catch ( IOException | RuntimeException e ) {
+            discardCatFile();
+            throw e;
+        }
+    }
+
+    private byte[] requestBlob ( String objectId ) throws IOException {
+        this.catFileRequests.write( 
+                ( objectId + "\n" ).getBytes( StandardCharsets.US_ASCII ) );
+        this.catFileRequests.flush();
+
+        // the response is "object type size<LF>content<LF>"
+        String header = readLine( this.catFileResponses );
+        String[] fields = header.split( " " );
+        if ( fields.length != 3 ) {
+            throw new IOException( "Unable to read object " + objectId + ": " + header );
+        }
+        int size;
+        try {
+            size = Integer.parseInt( fields[2] );
+        }
+        catch ( NumberFormatException e ) {
+            throw new IOException( "Unable to read object " + objectId + ": " + header );
+        }
+        byte[] content = new byte[size];
+        int offset = 0;
+        while ( offset < size ) {
+            int count = this.catFileResponses.read( content, offset, size - offset );
+            if ( count < 0 ) {
+                throw new IOException( "Unexpected end of object " + objectId );
+            }
+            offset += count;
+        }
+        if ( this.catFileResponses.read() != '\n' ) {
+            throw new IOException( "Unexpected end of object " + objectId );
+        }
+
+        return content;
+    }
+
+    // the process cannot be relied on to be between responses
+    private void discardCatFile () {
+        this.catFile.destroy();
+        this.catFile = null;
+        this.catFileRequests = null;
+        this.catFileResponses = null;
+    }
+
+    @Override
+    public synchronized void close () {
+        if ( this.catFile != null ) {
+            try {
+                this.catFileRequests.close();
+                this.catFile.waitFor();
+            }
+            catch ( IOException e ) {
+                LOGGER.warn( "Problem closing git cat-file: {}", e.getMessage() );
+            }
+            catch ( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+                this.catFile.destroy();
+            }
+            this.catFile = null;
+        }
+    }
+
+    private static byte[] readFully ( InputStream in ) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int count;
+        while ( ( count = in.read( buffer ) ) != -1 ) {
+            bytes.write( buffer, 0, count );
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private static String readLine ( InputStream in ) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ( ( c = in.read() ) != -1 && c != '\n' ) {
+            line.append( (char) c );
+        }
+
+        return line.toString();
+    }
+
+    /**
+     * A file in a revision's tree.
+     */
+    static class Entry {
+
+        private final String path;
+        private final String objectId;
+
+        Entry ( String path, String objectId ) {
+            this.path = path;
+            this.objectId = objectId;
+        }
+
+        String getPath () {
+            return this.path;
+        }
+
+        String getObjectId () {
+            return this.objectId;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+package uk.ac.open.crc.jim.queue;
+
+import java.io.IOException;
+
+/**
+ * A source file held as a blob in a git repository.
+ */
+class GitSourceFile implements SourceFile {
+
+    private final GitRepository repository;
+    private final String revision;
+    private final GitRepository.Entry entry;
+
+    GitSourceFile ( 
+            GitRepository repository, 
+            String revision, 
+            GitRepository.Entry entry ) {
+        this.repository = repository;
+        this.revision = revision;
+        this.entry = entry;
+    }
+
+    @Override
+    public String getName () {
+        String path = this.entry.getPath();
+        return path.substring( path.lastIndexOf( '/' ) + 1 );
+    }
+
+    @Override
+    public String getLocation () {
+        return this.repository.getDirectory().getAbsolutePath() 
+                + "@" + this.revision + ":" + this.entry.getPath();
+    }
+
+    // the platform encoding is used, as for files in the file system
+    @Override
+    public String read () throws IOException {
+        return new String( this.repository.readBlob( this.entry.getObjectId() ) );
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+package uk.ac.open.crc.jim.queue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A list of projects to be mined in a single run.
+ * <p>
+ * Each line of a manifest file gives a project name, a version and the
+ * path to the project's source, separated by white space, e.g.
+ * </p>
+ * <pre>
+ *   netbeans 6.9.1 sources/netbeans-6.9.1-src
+ * </pre>
+ * <p>
+ * Blank lines and lines starting with {@code #} are ignored. Relative
+ * paths are resolved against the directory containing the manifest.
+ * </p>
+ */
+public class Manifest {
+
+    /**
+     * Reads a manifest file.
+     *
+     * @param manifestFile the path of a manifest file
+     * @return the manifest
+     * @throws IOException if the file cannot be read or a line is malformed
+     */
+    public static Manifest read ( Path manifestFile ) throws IOException {
+        Path baseDirectory = manifestFile.toAbsolutePath().getParent();
+        List<Entry> entries = new ArrayList<>();
+
+        try ( BufferedReader reader = 
+                Files.newBufferedReader( manifestFile, StandardCharsets.UTF_8 ) ) {
+            String line;
+            int lineNumber = 0;
+            while ( ( line = reader.readLine() ) != null ) {
+                lineNumber++;
+                line = line.trim();
+                if ( line.isEmpty() || line.startsWith( "#" ) ) {
+                    continue;
+                }
+
+                // the path may contain spaces
+                String[] fields = line.split( "\\s+", 3 );
+                if ( fields.length != 3 ) {
+                    throw new IOException( 
+                            "Malformed manifest entry at line " + lineNumber 
+                                    + ": \"" + line + "\"" );
+                }
+                File source = baseDirectory.resolve( fields[2] ).toFile();
+                if ( !source.exists() ) {
+                    throw new IOException( 
+                            "Path in manifest entry at line " + lineNumber 
+                                    + " does not exist: \"" + fields[2] + "\"" );
+                }
+                entries.add( new Entry( fields[0], fields[1], source ) );
+            }
+        }
+
+        return new Manifest( entries );
+    }
+
+    private final List<Entry> entries;
+
+    private Manifest ( List<Entry> entries ) {
+        this.entries = Collections.unmodifiableList( entries );
+    }
+
+    public List<Entry> getEntries () {
+        return this.entries;
+    }
+
+    /**
+     * A project version to be mined.
+     */
+    public static class Entry {
+
+        private final String projectName;
+        private final String projectVersion;
+        private final File source;
+
+        Entry ( String projectName, String projectVersion, File source ) {
+            this.projectName = projectName;
+            this.projectVersion = projectVersion;
+            this.source = source;
+        }
+
+        public String getProjectName () {
+            return this.projectName;
+        }
+
+        public String getProjectVersion () {
+            return this.projectVersion;
+        }
+
+        public File getSource () {
+            return this.source;
+        }
+    }
+}
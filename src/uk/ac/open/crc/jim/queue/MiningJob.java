@@ -0,0 +1,238 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+package uk.ac.open.crc.jim.queue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A version of a project to be mined, and the progress made mining it.
+ * <p>
+ * A job is {@link State#RUNNING} while its files are found and parsed,
+ * {@link State#WRITING} once every file has been parsed but entities are
+ * still queued for the database, and {@link State#COMPLETE} once its
+ * entities have been written.
+ * </p>
+ */
+public class MiningJob {
+
+    /**
+     * The stages of a job.
+     */
+    public enum State {
+        QUEUED, RUNNING, WRITING, COMPLETE
+    }
+
+    private static final Logger LOGGER = 
+            LoggerFactory.getLogger( MiningJob.class );
+
+    private static final AtomicInteger NEXT_ID = new AtomicInteger( 1 );
+
+    private final int id;
+    private final String projectName;
+    private final String projectVersion;
+    private final List<File> sources;
+
+    private volatile State state;
+    private final long submittedAt;
+    private volatile long startedAt;
+    private volatile long finishedAt;
+
+    private final AtomicInteger filesQueued;
+    private final AtomicInteger filesParsed;
+    private volatile boolean queueingComplete;
+    private final AtomicBoolean parsingComplete;
+    private final CountDownLatch completion;
+
+    // archives stay open until their entries have been parsed
+    private final List<ZipFile> openArchives;
+
+    private final DuplicateIndex duplicateIndex;
+
+    /**
+     * Creates a job to mine a project version.
+     *
+     * @param projectName the name of the project
+     * @param projectVersion the version of the project
+     * @param sources the files and directories holding the project's source
+     */
+    public MiningJob ( String projectName, String projectVersion, List<File> sources ) {
+        this.id = NEXT_ID.getAndIncrement();
+        this.projectName = projectName;
+        this.projectVersion = projectVersion;
+        this.sources = Collections.unmodifiableList( new ArrayList<>( sources ) );
+
+        this.state = State.QUEUED;
+        this.submittedAt = System.currentTimeMillis();
+
+        this.filesQueued = new AtomicInteger();
+        this.filesParsed = new AtomicInteger();
+        this.queueingComplete = false;
+        this.parsingComplete = new AtomicBoolean( false );
+        this.completion = new CountDownLatch( 1 );
+
+        this.openArchives = Collections.synchronizedList( new ArrayList<>() );
+        this.duplicateIndex = new DuplicateIndex();
+    }
+
+    public int getId () {
+        return this.id;
+    }
+
+    public String getProjectName () {
+        return this.projectName;
+    }
+
+    public String getProjectVersion () {
+        return this.projectVersion;
+    }
+
+    public List<File> getSources () {
+        return this.sources;
+    }
+
+    public State getState () {
+        return this.state;
+    }
+
+    public int getFilesQueued () {
+        return this.filesQueued.get();
+    }
+
+    public int getFilesParsed () {
+        return this.filesParsed.get();
+    }
+
+    public long getSubmittedAt () {
+        return this.submittedAt;
+    }
+
+    /**
+     * Retrieves the time taken by the job so far, or in total once it is
+     * complete.
+     *
+     * @return the elapsed time in milliseconds
+     */
+    public long getElapsedTime () {
+        if ( this.startedAt == 0 ) {
+            return 0;
+        }
+        long end = this.finishedAt == 0 ? System.currentTimeMillis() : this.finishedAt;
+        return end - this.startedAt;
+    }
+
+    /**
+     * Waits until the job's entities have been written.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void awaitCompletion () throws InterruptedException {
+        this.completion.await();
+    }
+
+    DuplicateIndex getDuplicateIndex () {
+        return this.duplicateIndex;
+    }
+
+    void started () {
+        this.startedAt = System.currentTimeMillis();
+        this.state = State.RUNNING;
+    }
+
+    void fileQueued () {
+        this.filesQueued.incrementAndGet();
+    }
+
+    void archiveOpened ( ZipFile archive ) {
+        this.openArchives.add( archive );
+    }
+
+    /**
+     * Records that all the job's files have been queued.
+     *
+     * @return {@code true} if every file has also been parsed, so that
+     * parsing is now complete
+     */
+    boolean queueingFinished () {
+        this.queueingComplete = true;
+        return checkParsingComplete();
+    }
+
+    /**
+     * Records that a file has been parsed.
+     *
+     * @return {@code true} if this was the last file to be parsed
+     */
+    boolean fileParsed () {
+        this.filesParsed.incrementAndGet();
+        return checkParsingComplete();
+    }
+
+    // true exactly once, for whichever thread sees the last file finish
+    private boolean checkParsingComplete () {
+        return this.queueingComplete
+                && this.filesParsed.get() == this.filesQueued.get()
+                && this.parsingComplete.compareAndSet( false, true );
+    }
+
+    void parsed () {
+        this.state = State.WRITING;
+        synchronized ( this.openArchives ) {
+            for ( ZipFile archive : this.openArchives ) {
+                try {
+                    archive.close();
+                }
+                catch ( IOException e ) {
+                    LOGGER.warn( 
+                            "Unable to close archive \"{}\": {}", 
+                            archive.getName(), 
+                            e.getMessage() );
+                }
+            }
+            this.openArchives.clear();
+        }
+        
+        if ( this.duplicateIndex.getDuplicateCount() > 0 ) {
+            LOGGER.info( 
+                    "Job {}: {} duplicate files were not parsed again", 
+                    this.id, 
+                    this.duplicateIndex.getDuplicateCount() );
+        }
+        this.duplicateIndex.clear();
+    }
+
+    void completed () {
+        this.finishedAt = System.currentTimeMillis();
+        this.state = State.COMPLETE;
+        this.completion.countDown();
+        LOGGER.info( 
+                "Job {} ({} {}) complete: {} files in {} ms", 
+                this.id, 
+                this.projectName, 
+                this.projectVersion, 
+                this.filesParsed.get(), 
+                getElapsedTime() );
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+package uk.ac.open.crc.jim.queue;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.ac.open.crc.idtk.Species;
+import uk.ac.open.crc.jim.Settings;
+import uk.ac.open.crc.jim.persistence.ExtractionCache;
+
+/**
+ * The options controlling how source code is found and parsed. Options
+ * are immutable and are created with a {@link Builder}, or from the
+ * {@code Settings} given on the command line.
+ */
+public class MiningOptions {
+
+    private static final Logger LOGGER = 
+            LoggerFactory.getLogger( MiningOptions.class );
+
+    /**
+     * Creates a builder initialised with the default options.
+     *
+     * @return a builder
+     */
+    public static Builder builder () {
+        return new Builder();
+    }
+
+    /**
+     * Parses a comma separated list of species names, such as
+     * {@code "class,local-variable"}. Names are not case sensitive and
+     * may use either '-' or '_' to separate words.
+     *
+     * @param speciesList a list of species names
+     * @return the species named
+     * @throws IllegalArgumentException if a name is not recognised or
+     * the list is empty
+     */
+    public static Set<Species> parseSpecies ( String speciesList ) {
+        EnumSet<Species> selected = EnumSet.noneOf( Species.class );
+        for ( String name : speciesList.split( "," ) ) {
+            name = name.trim();
+            if ( name.isEmpty() ) {
+                continue;
+            }
+            try {
+                selected.add( Species.valueOf( 
+                        name.replace( '-', '_' ).toUpperCase( Locale.ROOT ) ) );
+            }
+            catch ( IllegalArgumentException e ) {
+                throw new IllegalArgumentException( 
+                        "Unrecognised species: " + name, e );
+            }
+        }
+
+        if ( selected.isEmpty() ) {
+            throw new IllegalArgumentException( "No species given" );
+        }
+
+        return selected;
+    }
+
+    /**
+     * Creates options from the values held in {@code Settings}. Irrational
+     * thread pool sizes are replaced with the defaults.
+     *
+     * @return the options set for the run
+     */
+    public static MiningOptions fromSettings () {
+        Settings settings = Settings.getInstance();
+        // recover the values set on the command line (if any)
+        int minimum = Integer.parseInt( settings.get( "threads.minimum" ) );
+        int maximum = Integer.parseInt( settings.get( "threads.maximum" ) );
+        // trap out stupid arguments
+        if ( minimum <= 0 || ( minimum > maximum ) ) {
+            minimum = Integer.parseInt( settings.get( "default.threads.minimum" ) );
+            maximum = Integer.parseInt( settings.get( "default.threads.maximum" ) );
+
+            LOGGER.info( "minimum and maximum size of threadpool set to "
+                    + "defaults because of irrational values set on command line." );
+        }
+
+        ExtractionCache extractionCache = null;
+        String cacheLocation = settings.get( "extraction.cache.location" );
+        if ( cacheLocation != null ) {
+            long megabytes = Long.parseLong( settings.get( "extraction.cache.size" ) );
+            try {
+                extractionCache = new ExtractionCache( 
+                        Paths.get( cacheLocation ), megabytes * 1024 * 1024 );
+            }
+            catch ( IOException e ) {
+                LOGGER.error( 
+                        "Unable to open extraction cache \"{}\", continuing without: {}", 
+                        cacheLocation, 
+                        e.getMessage() );
+            }
+        }
+
+        Set<Species> species = EnumSet.allOf( Species.class );
+        String speciesList = settings.get( "analyse.species" );
+        if ( speciesList != null ) {
+            species = parseSpecies( speciesList );
+        }
+
+        return builder()
+                .threads( minimum, maximum )
+                .analyseTests( Boolean.parseBoolean( settings.get( "analyse.tests" ) ) )
+                .analyseGenerated( Boolean.parseBoolean( settings.get( "analyse.generated" ) ) )
+                .declarationsOnly( 
+                        Boolean.parseBoolean( settings.get( "analyse.declarations.only" ) ) )
+                .species( species )
+                .extractionCache( extractionCache )
+                .parseTimeout( Long.parseLong( settings.get( "parse.timeout" ) ) )
+                .timeoutAction( TimeoutAction.parse( settings.get( "parse.timeout.action" ) ) )
+                .slowFiles( Integer.parseInt( settings.get( "parse.slow.files" ) ) )
+                .recoverPartial( Boolean.parseBoolean( settings.get( "parse.recover" ) ) )
+                .build();
+    }
+
+    private final int minimumThreads;
+    private final int maximumThreads;
+    private final boolean analyseTests;
+    private final boolean analyseGenerated;
+    private final boolean declarationsOnly;
+    private final Set<Species> species;
+    private final ExtractionCache extractionCache;
+    private final long parseTimeout;
+    private final TimeoutAction timeoutAction;
+    private final boolean recoverPartial;
+    private final ParserRouting parserRouting;
+    private final SlowFileReport slowFileReport;
+
+    private MiningOptions ( Builder builder ) {
+        this.minimumThreads = builder.minimumThreads;
+        this.maximumThreads = builder.maximumThreads;
+        this.analyseTests = builder.analyseTests;
+        this.analyseGenerated = builder.analyseGenerated;
+        this.declarationsOnly = builder.declarationsOnly;
+        this.species = Collections.unmodifiableSet( EnumSet.copyOf( builder.species ) );
+        this.extractionCache = builder.extractionCache;
+        this.parseTimeout = builder.parseTimeout;
+        this.timeoutAction = builder.timeoutAction;
+        this.recoverPartial = builder.recoverPartial;
+        this.parserRouting = new ParserRouting();
+        this.slowFileReport = new SlowFileReport( builder.slowFiles );
+    }
+
+    public int getMinimumThreads () {
+        return this.minimumThreads;
+    }
+
+    public int getMaximumThreads () {
+        return this.maximumThreads;
+    }
+
+    public boolean isAnalyseTests () {
+        return this.analyseTests;
+    }
+
+    public boolean isAnalyseGenerated () {
+        return this.analyseGenerated;
+    }
+
+    public boolean isDeclarationsOnly () {
+        return this.declarationsOnly;
+    }
+
+    /**
+     * Retrieves the species of the program entities to be extracted.
+     *
+     * @return an unmodifiable set of species
+     */
+    public Set<Species> getSpecies () {
+        return this.species;
+    }
+
+    /**
+     * Retrieves a description of the options that change the entities
+     * extracted from a file, so that entities extracted with different
+     * options are cached separately.
+     *
+     * @return a description of the extraction options
+     */
+    String getExtractionKey () {
+        return "declarations.only=" + this.declarationsOnly
+                + ";species=" + this.species.stream()
+                        .map( Species::name )
+                        .collect( Collectors.joining( "," ) );
+    }
+
+    /**
+     * Retrieves the cache of extracted entities shared with other runs.
+     *
+     * @return the extraction cache, or {@code null} if there is none
+     */
+    public ExtractionCache getExtractionCache () {
+        return this.extractionCache;
+    }
+
+    /**
+     * Retrieves the time allowed for the Java 7 parser to parse a file.
+     *
+     * @return the time allowed in milliseconds, or zero for no limit
+     */
+    public long getParseTimeout () {
+        return this.parseTimeout;
+    }
+
+    /**
+     * Retrieves what is done with a file whose parse times out.
+     *
+     * @return the action taken on a timeout
+     */
+    public TimeoutAction getTimeoutAction () {
+        return this.timeoutAction;
+    }
+
+    /**
+     * Reports whether the declarations without syntax errors are
+     * extracted from files no parser accepts.
+     *
+     * @return {@code true} if files are extracted partially
+     */
+    public boolean isRecoverPartial () {
+        return this.recoverPartial;
+    }
+
+    /**
+     * Retrieves the statistics of the parsers files were routed to by
+     * the runs using these options.
+     *
+     * @return the parser routing statistics
+     */
+    public ParserRouting getParserRouting () {
+        return this.parserRouting;
+    }
+
+    /**
+     * Retrieves the report of the slowest files parsed by the runs using
+     * these options.
+     *
+     * @return the slow file report
+     */
+    public SlowFileReport getSlowFileReport () {
+        return this.slowFileReport;
+    }
+
+    /**
+     * Builds {@code MiningOptions}.
+     */
+    public static class Builder {
+
+        private int minimumThreads = 10;
+        private int maximumThreads = 20;
+        private boolean analyseTests = false;
+        private boolean analyseGenerated = false;
+        private boolean declarationsOnly = false;
+        private Set<Species> species = EnumSet.allOf( Species.class );
+        private ExtractionCache extractionCache = null;
+        private long parseTimeout = 0;
+        private TimeoutAction timeoutAction = TimeoutAction.JAVA14;
+        private int slowFiles = 10;
+        private boolean recoverPartial = false;
+
+        private Builder () {
+        }
+
+        /**
+         * Sets the size of the parser thread pool.
+         *
+         * @param minimum the minimum number of threads, at least 1
+         * @param maximum the maximum number of threads, at least
+         * {@code minimum}
+         * @return this builder
+         * @throws IllegalArgumentException if the sizes are irrational
+         */
+        public Builder threads ( int minimum, int maximum ) {
+            if ( minimum <= 0 || minimum > maximum ) {
+                throw new IllegalArgumentException( 
+                        "Invalid thread pool size: " + minimum + ", " + maximum );
+            }
+            this.minimumThreads = minimum;
+            this.maximumThreads = maximum;
+            return this;
+        }
+
+        /**
+         * Includes or excludes files in test directories.
+         *
+         * @param analyseTests {@code true} to include test files
+         * @return this builder
+         */
+        public Builder analyseTests ( boolean analyseTests ) {
+            this.analyseTests = analyseTests;
+            return this;
+        }
+
+        /**
+         * Includes or excludes files containing generated code.
+         *
+         * @param analyseGenerated {@code true} to include generated files
+         * @return this builder
+         */
+        public Builder analyseGenerated ( boolean analyseGenerated ) {
+            this.analyseGenerated = analyseGenerated;
+            return this;
+        }
+
+        /**
+         * Extracts only the declarations of types, fields, methods,
+         * constructors and their parameters, without parsing the bodies
+         * of methods and constructors.
+         *
+         * @param declarationsOnly {@code true} to skip method and
+         * constructor bodies
+         * @return this builder
+         */
+        public Builder declarationsOnly ( boolean declarationsOnly ) {
+            this.declarationsOnly = declarationsOnly;
+            return this;
+        }
+
+        /**
+         * Restricts the program entities extracted to those of the given
+         * species. Parts of the parse tree that cannot declare any of the
+         * species are not visited.
+         *
+         * @param species the species to extract
+         * @return this builder
+         * @throws IllegalArgumentException if no species are given
+         */
+        public Builder species ( Set<Species> species ) {
+            if ( species.isEmpty() ) {
+                throw new IllegalArgumentException( "No species selected" );
+            }
+            this.species = EnumSet.copyOf( species );
+            return this;
+        }
+
+        /**
+         * Sets a cache of extracted entities so that files with content
+         * seen before are not parsed again.
+         *
+         * @param extractionCache an extraction cache, or {@code null}
+         * @return this builder
+         */
+        public Builder extractionCache ( ExtractionCache extractionCache ) {
+            this.extractionCache = extractionCache;
+            return this;
+        }
+
+        /**
+         * Limits the time the Java 7 parser may spend on a file, so that
+         * a pathological file cannot stall a run.
+         *
+         * @param milliseconds the time allowed, or zero for no limit
+         * @return this builder
+         * @throws IllegalArgumentException if the time is negative
+         */
+        public Builder parseTimeout ( long milliseconds ) {
+            if ( milliseconds < 0 ) {
+                throw new IllegalArgumentException( 
+                        "Invalid parse timeout: " + milliseconds );
+            }
+            this.parseTimeout = milliseconds;
+            return this;
+        }
+
+        /**
+         * Sets what is done with a file whose parse times out.
+         *
+         * @param timeoutAction the action taken on a timeout
+         * @return this builder
+         */
+        public Builder timeoutAction ( TimeoutAction timeoutAction ) {
+            this.timeoutAction = timeoutAction;
+            return this;
+        }
+
+        /**
+         * Sets the number of files listed in the slow file report.
+         *
+         * @param slowFiles the number of files listed, or zero for none
+         * @return this builder
+         * @throws IllegalArgumentException if the number is negative
+         */
+        public Builder slowFiles ( int slowFiles ) {
+            if ( slowFiles < 0 ) {
+                throw new IllegalArgumentException( 
+                        "Invalid number of slow files: " + slowFiles );
+            }
+            this.slowFiles = slowFiles;
+            return this;
+        }
+
+        /**
+         * Extracts the declarations without syntax errors from files that
+         * no parser accepts, rather than discarding the files.
+         *
+         * @param recoverPartial {@code true} to extract files partially
+         * @return this builder
+         */
+        public Builder recoverPartial ( boolean recoverPartial ) {
+            this.recoverPartial = recoverPartial;
+            return this;
+        }
+
+        public MiningOptions build () {
+            return new MiningOptions( this );
+        }
+    }
+}
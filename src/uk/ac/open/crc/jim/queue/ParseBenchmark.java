@@ -0,0 +1,698 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+
+package uk.ac.open.crc.jim.queue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.ac.open.crc.jim.parser.java17.CompactTokenFactory;
+import uk.ac.open.crc.jim.parser.java17.JavaLexer;
+import uk.ac.open.crc.jim.parser.java17.JavaParser;
+import uk.ac.open.crc.jim.parser.java17.ModernSyntaxTokenSource;
+import uk.ac.open.crc.jim.parser.java17.SourceCharStream;
+import uk.ac.open.crc.jim.parser.java17.TokenText;
+import uk.ac.open.crc.jim.persistence.EntityBatch;
+import uk.ac.open.crc.jim.persistence.EntityStore;
+import uk.ac.open.crc.jimdb.RawProgramEntity;
+
+/**
+ * Times the extraction of entities from a body of source code on a single
+ * thread, without writing to a database, to compare full extraction with
+ * declarations only extraction. Each mode is timed several times and the
+ * best time is reported, so that class loading and JIT compilation do not
+ * distort the comparison. The memory allocated by lexing each file into
+ * {@code CommonToken}s and into the compact tokens used by jim is also
+ * compared, as is the memory allocated extracting the text of the parse
+ * trees the visitor reads with {@code getText()} and with
+ * {@code TokenText}, and the memory used to hold the extracted entities
+ * in an {@code EntityBatch} and as one object per entity. It can be run
+ * with:
+ * <pre>
+ *   java -cp jim.jar uk.ac.open.crc.jim.queue.ParseBenchmark
+ *        [--repetitions n] path...
+ * </pre>
+ */
+public class ParseBenchmark {
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger( ParseBenchmark.class );
+
+    private static final int DEFAULT_REPETITIONS = 5;
+
+    public static void main ( String[] args ) {
+        int repetitions = DEFAULT_REPETITIONS;
+        List<Path> paths = new ArrayList<>();
+
+        for ( int i = 0; i < args.length; i++ ) {
+            if ( "--repetitions".equals( args[i] ) && i + 1 < args.length ) {
+                repetitions = Integer.parseInt( args[++i] );
+            }
+            else {
+                paths.add( new File( args[i] ).toPath() );
+            }
+        }
+
+        if ( paths.isEmpty() ) {
+            System.out.println( "usage: ParseBenchmark [--repetitions n] path..." );
+            System.exit( 1 );
+        }
+
+        List<File> files = new ArrayList<>();
+        for ( Path path : paths ) {
+            try ( Stream<Path> walk = Files.walk( path ) ) {
+                files.addAll( walk
+                        .filter( file -> file.toString().endsWith( ".java" ) )
+                        .filter( file -> !file.toString().endsWith( "package-info.java" ) )
+                        .map( Path::toFile )
+                        .collect( Collectors.toList() ) );
+            }
+            catch ( IOException e ) {
+                LOGGER.error( "Unable to read \"{}\": {}", path, e.getMessage() );
+                System.exit( 2 );
+            }
+        }
+
+        ParseBenchmark benchmark = new ParseBenchmark( files, repetitions );
+        // generated code is parsed too, as it is representative work
+        Result full = benchmark.time( 
+                MiningOptions.builder().analyseGenerated( true ).build() );
+        Result declarations = benchmark.time( MiningOptions.builder()
+                .analyseGenerated( true )
+                .declarationsOnly( true )
+                .build() );
+
+        LOGGER.warn( "Full extraction: {}", full );
+        LOGGER.warn( "Declarations only: {}", declarations );
+        LOGGER.warn( 
+                "Speedup: {}", 
+                String.format( "%.2f", (double) full.time / Math.max( 1, declarations.time ) ) );
+
+        TokenAllocation allocation = benchmark.measureTokenAllocation();
+        if ( allocation == null ) {
+            LOGGER.warn( "Allocation measurement is not supported by this JVM" );
+        }
+        else {
+            LOGGER.warn( "Token allocation: {}", allocation );
+            LOGGER.warn( "Text allocation: {}", benchmark.measureTextAllocation() );
+            LOGGER.warn( "Entity memory: {}", benchmark.measureEntityMemory() );
+        }
+    }
+
+    private final List<File> files;
+    private final int repetitions;
+
+    /**
+     * Creates a benchmark for a set of files.
+     *
+     * @param files the Java files to parse
+     * @param repetitions the number of times each mode is timed
+     */
+    public ParseBenchmark ( List<File> files, int repetitions ) {
+        this.files = files;
+        this.repetitions = repetitions;
+    }
+
+    /**
+     * Extracts the entities from every file with the given options,
+     * repeatedly, and reports the best time.
+     *
+     * @param options the options to extract entities with
+     * @return the best time and the entities extracted
+     */
+    public Result time ( MiningOptions options ) {
+        long best = Long.MAX_VALUE;
+        long entities = 0;
+        for ( int i = 0; i < this.repetitions; i++ ) {
+            CountingEntityStore store = new CountingEntityStore();
+            long start = System.nanoTime();
+            for ( File file : this.files ) {
+                new FileReader( 
+                        new FileSystemSourceFile( file ), 
+                        "benchmark", 
+                        "1", 
+                        store, 
+                        options ).run();
+            }
+            best = Math.min( best, System.nanoTime() - start );
+            entities = store.entities.get();
+        }
+
+        return new Result( this.files.size(), entities, best / 1000000 );
+    }
+
+    /**
+     * Lexes every file into a list of {@code CommonToken}s and into a list
+     * of compact tokens, repeatedly, and reports the least memory
+     * allocated by the thread for each.
+     *
+     * @return the memory allocated, or {@code null} if the JVM cannot
+     * measure the memory allocated by a thread
+     */
+    public TokenAllocation measureTokenAllocation () {
+        com.sun.management.ThreadMXBean allocationBean = allocationBean();
+        if ( allocationBean == null ) {
+            return null;
+        }
+
+        List<String> contents = readFiles();
+
+        long threadId = Thread.currentThread().getId();
+        long common = Long.MAX_VALUE;
+        long compact = Long.MAX_VALUE;
+        long tokens = 0;
+        for ( int i = 0; i < this.repetitions; i++ ) {
+            long start = allocationBean.getThreadAllocatedBytes( threadId );
+            tokens = 0;
+            for ( String content : contents ) {
+                tokens += lex( content, CommonTokenFactory.DEFAULT );
+            }
+            long middle = allocationBean.getThreadAllocatedBytes( threadId );
+            for ( String content : contents ) {
+                lex( content, new CompactTokenFactory() );
+            }
+            long end = allocationBean.getThreadAllocatedBytes( threadId );
+            common = Math.min( common, middle - start );
+            compact = Math.min( compact, end - middle );
+        }
+
+        return new TokenAllocation( contents.size(), tokens, common, compact );
+    }
+
+    /**
+     * Parses every file, then extracts the text of each type, name and
+     * modifier in the parse trees with {@code getText()} and with
+     * {@code TokenText}, repeatedly, and reports the least memory
+     * allocated by the thread for each. Files that cannot be parsed are
+     * left out.
+     *
+     * @return the memory allocated, or {@code null} if the JVM cannot
+     * measure the memory allocated by a thread
+     */
+    public TextAllocation measureTextAllocation () {
+        com.sun.management.ThreadMXBean allocationBean = allocationBean();
+        if ( allocationBean == null ) {
+            return null;
+        }
+
+        int parsed = 0;
+        List<ParseTree> trees = new ArrayList<>();
+        for ( String content : readFiles() ) {
+            ParseTree parseTree = parse( content );
+            if ( parseTree == null ) {
+                continue;
+            }
+            parsed++;
+            addTextTrees( parseTree, trees );
+        }
+
+        int mismatches = 0;
+        for ( ParseTree tree : trees ) {
+            if ( !tree.getText().equals( TokenText.of( tree ) ) ) {
+                mismatches++;
+            }
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long recursive = Long.MAX_VALUE;
+        long interval = Long.MAX_VALUE;
+        long length = 0;
+        for ( int i = 0; i < this.repetitions; i++ ) {
+            long start = allocationBean.getThreadAllocatedBytes( threadId );
+            for ( ParseTree tree : trees ) {
+                length += tree.getText().length();
+            }
+            long middle = allocationBean.getThreadAllocatedBytes( threadId );
+            for ( ParseTree tree : trees ) {
+                length -= TokenText.of( tree ).length();
+            }
+            long end = allocationBean.getThreadAllocatedBytes( threadId );
+            recursive = Math.min( recursive, middle - start );
+            interval = Math.min( interval, end - middle );
+        }
+        // the lengths are used, so that the extraction is not optimised away
+        mismatches += length == 0 ? 0 : 1;
+
+        return new TextAllocation( parsed, trees.size(), recursive, interval, mismatches );
+    }
+
+    /**
+     * Extracts the entities of every file, then holds them as the
+     * {@code RawProgramEntity} objects built for each entity before batches
+     * were held in primitive arrays, and as {@code EntityBatch}es read
+     * back from their serialised form. For each the least memory
+     * allocated by the thread to build them, and the heap they retain, are
+     * reported. The heap is measured after collecting garbage, and the
+     * median of the repetitions is reported. Reading a batch also allocates the strings in its table,
+     * which the visitors share with the parse tree, so the allocation
+     * given for the batches is an upper bound.
+     *
+     * @return the memory used, or {@code null} if the JVM cannot measure
+     * the memory allocated by a thread
+     */
+    public EntityMemory measureEntityMemory () {
+        com.sun.management.ThreadMXBean allocationBean = allocationBean();
+        if ( allocationBean == null ) {
+            return null;
+        }
+
+        List<EntityBatch> batches = new ArrayList<>();
+        List<byte[]> serialisedBatches = new ArrayList<>();
+        MiningOptions options = MiningOptions.builder().analyseGenerated( true ).build();
+        for ( File file : this.files ) {
+            BatchKeepingEntityStore store = new BatchKeepingEntityStore();
+            new FileReader( 
+                    new FileSystemSourceFile( file ), 
+                    "benchmark", 
+                    "1", 
+                    store, 
+                    options ).run();
+            if ( store.batch == null ) {
+                continue;
+            }
+            batches.add( store.batch );
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try ( DataOutputStream out = new DataOutputStream( bytes ) ) {
+                store.batch.writeTo( out );
+            }
+            catch ( IOException e ) {
+                throw new UncheckedIOException( e );
+            }
+            serialisedBatches.add( bytes.toByteArray() );
+        }
+
+        long entities = batches.stream().mapToLong( EntityBatch::size ).sum();
+
+        long threadId = Thread.currentThread().getId();
+        long objectBytes = Long.MAX_VALUE;
+        long batchBytes = Long.MAX_VALUE;
+        long[] objectHeap = new long[this.repetitions];
+        long[] batchHeap = new long[this.repetitions];
+        for ( int i = 0; i < this.repetitions; i++ ) {
+            long baseline = usedHeap();
+            long start = allocationBean.getThreadAllocatedBytes( threadId );
+            List<List<RawProgramEntity>> programEntities = new ArrayList<>();
+            for ( EntityBatch batch : batches ) {
+                List<RawProgramEntity> fileEntities = new ArrayList<>();
+                batch.forEach( fileEntities::add );
+                programEntities.add( fileEntities );
+            }
+            long end = allocationBean.getThreadAllocatedBytes( threadId );
+            objectBytes = Math.min( objectBytes, end - start );
+            objectHeap[i] = usedHeap() - baseline;
+            // the entities stay reachable until the heap has been measured
+            held( programEntities, batches.size() );
+            programEntities = null;
+
+            baseline = usedHeap();
+            start = allocationBean.getThreadAllocatedBytes( threadId );
+            List<EntityBatch> readBatches = new ArrayList<>();
+            for ( byte[] serialisedBatch : serialisedBatches ) {
+                try ( DataInputStream in = new DataInputStream( 
+                        new ByteArrayInputStream( serialisedBatch ) ) ) {
+                    readBatches.add( EntityBatch.readFrom( in, "benchmark", "1", "" ) );
+                }
+                catch ( IOException e ) {
+                    throw new UncheckedIOException( e );
+                }
+            }
+            end = allocationBean.getThreadAllocatedBytes( threadId );
+            batchBytes = Math.min( batchBytes, end - start );
+            batchHeap[i] = usedHeap() - baseline;
+            held( readBatches, batches.size() );
+        }
+
+        return new EntityMemory( 
+                batches.size(), 
+                entities, 
+                objectBytes, 
+                batchBytes, 
+                median( objectHeap ), 
+                median( batchHeap ) );
+    }
+
+    // the heap in use once unreachable objects have been collected
+    private static long usedHeap () {
+        for ( int i = 0; i < 3; i++ ) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long median ( long[] values ) {
+        long[] sorted = values.clone();
+        Arrays.sort( sorted );
+        return sorted[sorted.length / 2];
+    }
+
+    private static void held ( List<?> values, int expected ) {
+        if ( values.size() != expected ) {
+            throw new IllegalStateException( 
+                    "Expected " + expected + " files but found " + values.size() );
+        }
+    }
+
+    // the parse trees whose text the visitor reads
+    private static final int[] TEXT_RULES = {
+        JavaParser.RULE_type,
+        JavaParser.RULE_classOrInterfaceType,
+        JavaParser.RULE_primitiveType,
+        JavaParser.RULE_qualifiedName,
+        JavaParser.RULE_modifier,
+        JavaParser.RULE_classOrInterfaceModifier,
+        JavaParser.RULE_variableModifier
+    };
+
+    private static void addTextTrees ( ParseTree parseTree, List<ParseTree> trees ) {
+        if ( parseTree instanceof ParserRuleContext ) {
+            int ruleIndex = ( (ParserRuleContext) parseTree ).getRuleIndex();
+            for ( int textRule : TEXT_RULES ) {
+                if ( ruleIndex == textRule ) {
+                    trees.add( parseTree );
+                }
+            }
+        }
+        for ( int i = 0; i < parseTree.getChildCount(); i++ ) {
+            addTextTrees( parseTree.getChild( i ), trees );
+        }
+    }
+
+    // parses as the file reader does, or returns null
+    private static ParseTree parse ( String content ) {
+        JavaLexer javaLexer = new JavaLexer( new SourceCharStream( 
+                ModernSyntaxTokenSource.blankTextBlocks( content ) ) );
+        javaLexer.setTokenFactory( new CompactTokenFactory() );
+        JavaParser javaParser = new JavaParser( new CommonTokenStream( 
+                new ModernSyntaxTokenSource( javaLexer ) ) );
+        javaParser.removeErrorListeners();
+        javaParser.getInterpreter().setPredictionMode( PredictionMode.SLL );
+        ParseTree parseTree = javaParser.compilationUnit();
+
+        return javaParser.getNumberOfSyntaxErrors() == 0 ? parseTree : null;
+    }
+
+    private List<String> readFiles () {
+        List<String> contents = new ArrayList<>();
+        for ( File file : this.files ) {
+            try {
+                contents.add( new FileSystemSourceFile( file ).read() );
+            }
+            catch ( IOException e ) {
+                LOGGER.warn( "Unable to read \"{}\": {}", file, e.getMessage() );
+            }
+        }
+        return contents;
+    }
+
+    // the means of measuring the memory allocated by a thread, if the
+    // JVM has one
+    private static com.sun.management.ThreadMXBean allocationBean () {
+        java.lang.management.ThreadMXBean threadBean = 
+                ManagementFactory.getThreadMXBean();
+        if ( !( threadBean instanceof com.sun.management.ThreadMXBean ) ) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationBean = 
+                (com.sun.management.ThreadMXBean) threadBean;
+        if ( !allocationBean.isThreadAllocatedMemorySupported() ) {
+            return null;
+        }
+        allocationBean.setThreadAllocatedMemoryEnabled( true );
+        return allocationBean;
+    }
+
+    // lexes as the file reader does, and counts the tokens
+    private static int lex ( String content, TokenFactory<?> tokenFactory ) {
+        JavaLexer javaLexer = new JavaLexer( new SourceCharStream( content ) );
+        javaLexer.setTokenFactory( tokenFactory );
+        List<Token> tokens = new ArrayList<>();
+        Token token;
+        do {
+            token = javaLexer.nextToken();
+            tokens.add( token );
+        } while ( token.getType() != Token.EOF );
+
+        return tokens.size();
+    }
+
+    /**
+     * The memory allocated lexing files with each kind of token.
+     */
+    public static class TokenAllocation {
+
+        private final int files;
+        private final long tokens;
+        private final long common;
+        private final long compact;
+
+        TokenAllocation ( int files, long tokens, long common, long compact ) {
+            this.files = files;
+            this.tokens = tokens;
+            this.common = common;
+            this.compact = compact;
+        }
+
+        /**
+         * Retrieves the memory allocated lexing a file into
+         * {@code CommonToken}s, on average.
+         *
+         * @return the bytes allocated per file
+         */
+        public long getCommonBytesPerFile () {
+            return this.common / Math.max( 1, this.files );
+        }
+
+        /**
+         * Retrieves the memory allocated lexing a file into compact
+         * tokens, on average.
+         *
+         * @return the bytes allocated per file
+         */
+        public long getCompactBytesPerFile () {
+            return this.compact / Math.max( 1, this.files );
+        }
+
+        @Override
+        public String toString () {
+            return this.files + " files, " + this.tokens + " tokens, " 
+                    + getCommonBytesPerFile() + " bytes per file with CommonToken, " 
+                    + getCompactBytesPerFile() + " bytes per file compact (" 
+                    + ( this.common == 0 ? 0 : ( this.common - this.compact ) * 100 / this.common ) 
+                    + "% less)";
+        }
+    }
+
+    /**
+     * The memory allocated extracting the text of parse trees each way.
+     */
+    public static class TextAllocation {
+
+        private final int files;
+        private final int trees;
+        private final long recursive;
+        private final long interval;
+        private final int mismatches;
+
+        TextAllocation ( 
+                int files, 
+                int trees, 
+                long recursive, 
+                long interval, 
+                int mismatches ) {
+            this.files = files;
+            this.trees = trees;
+            this.recursive = recursive;
+            this.interval = interval;
+            this.mismatches = mismatches;
+        }
+
+        /**
+         * Retrieves the number of parse trees whose text differed between
+         * the two ways of extracting it, which should be zero.
+         *
+         * @return the number of differences
+         */
+        public int getMismatches () {
+            return this.mismatches;
+        }
+
+        @Override
+        public String toString () {
+            return this.files + " files, " + this.trees + " trees, " 
+                    + this.recursive / Math.max( 1, this.files ) 
+                    + " bytes per file with getText(), " 
+                    + this.interval / Math.max( 1, this.files ) 
+                    + " bytes per file with TokenText (" 
+                    + ( this.recursive == 0 ? 0 
+                            : ( this.recursive - this.interval ) * 100 / this.recursive ) 
+                    + "% less), " + this.mismatches + " differences";
+        }
+    }
+
+    /**
+     * The memory used to hold the extracted entities each way.
+     */
+    public static class EntityMemory {
+
+        private final int files;
+        private final long entities;
+        private final long objectBytes;
+        private final long batchBytes;
+        private final long objectHeap;
+        private final long batchHeap;
+
+        EntityMemory ( 
+                int files, 
+                long entities, 
+                long objectBytes, 
+                long batchBytes, 
+                long objectHeap, 
+                long batchHeap ) {
+            this.files = files;
+            this.entities = entities;
+            this.objectBytes = objectBytes;
+            this.batchBytes = batchBytes;
+            this.objectHeap = objectHeap;
+            this.batchHeap = batchHeap;
+        }
+
+        @Override
+        public String toString () {
+            return this.files + " files, " + this.entities + " entities, " 
+                    + perEntity( this.objectBytes ) + " bytes allocated and " 
+                    + perEntity( this.objectHeap ) + " bytes retained per entity as objects, " 
+                    + perEntity( this.batchBytes ) + " bytes allocated and " 
+                    + perEntity( this.batchHeap ) + " bytes retained per entity in batches (" 
+                    + less( this.objectBytes, this.batchBytes ) + "% and " 
+                    + less( this.objectHeap, this.batchHeap ) + "% less)";
+        }
+
+        private long perEntity ( long bytes ) {
+            return bytes / Math.max( 1, this.entities );
+        }
+
+        private static long less ( long before, long after ) {
+            return before == 0 ? 0 : ( before - after ) * 100 / before;
+        }
+    }
+
+    /**
+     * The outcome of timing one mode.
+     */
+    public static class Result {
+
+        private final int files;
+        private final long entities;
+        private final long time;
+
+        Result ( int files, long entities, long time ) {
+            this.files = files;
+            this.entities = entities;
+            this.time = time;
+        }
+
+        public int getFiles () {
+            return this.files;
+        }
+
+        public long getEntities () {
+            return this.entities;
+        }
+
+        /**
+         * Retrieves the best time taken.
+         *
+         * @return the time in milliseconds
+         */
+        public long getTime () {
+            return this.time;
+        }
+
+        @Override
+        public String toString () {
+            return this.files + " files, " + this.entities + " entities, " 
+                    + this.time + " ms";
+        }
+    }
+
+    /**
+     * Keeps the batch extracted from a file.
+     */
+    private static class BatchKeepingEntityStore implements EntityStore {
+
+        private EntityBatch batch;
+
+        @Override
+        public void add ( RawProgramEntity programEntity ) {
+            // the visitors submit batches
+        }
+
+        @Override
+        public void add ( EntityBatch batch ) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void closeDown () {
+            // nothing to release
+        }
+    }
+
+    /**
+     * Counts the entities extracted and discards them.
+     */
+    private static class CountingEntityStore implements EntityStore {
+
+        private final AtomicLong entities = new AtomicLong();
+
+        @Override
+        public void add ( RawProgramEntity programEntity ) {
+            this.entities.incrementAndGet();
+        }
+
+        @Override
+        public void add ( EntityBatch batch ) {
+            this.entities.addAndGet( batch.size() );
+        }
+
+        @Override
+        public void closeDown () {
+            // nothing is held
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+
+
+package uk.ac.open.crc.jim.queue;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.ac.open.crc.jim.parser.java17.LanguageLevel;
+
+/**
+ * Records the parser each file was routed to by the lexical pre-scan
+ * and whether the routing was right.
+ * <p>
+ * A file is routed to the Java 1.4 parser when the pre-scan finds
+ * {@code enum} or {@code assert} used as an identifier, and to the Java
+ * 7 parser otherwise. A routing is counted as correct when the first
+ * parser tried accepts the file, and as wrong when only the parser
+ * tried after it does.
+ * </p>
+ * <p>
+ * The declarations recovered from, and lost in, files that no parser
+ * accepts are also counted when partial extraction is switched on.
+ * </p>
+ */
+public class ParserRouting {
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger( ParserRouting.class );
+
+    /**
+     * The outcome of parsing a routed file.
+     */
+    enum Outcome {
+        /**
+         * Parsed by the parser the file was routed to.
+         */
+        ROUTED,
+
+        /**
+         * Parsed by the parser tried after the one routed to.
+         */
+        FALLBACK,
+
+        /**
+         * Not parsed.
+         */
+        FAILED
+    }
+
+    private final Map<LanguageLevel, LongAdder[]> counts;
+
+    private final LongAdder partialFiles;
+    private final LongAdder recoveredRegions;
+    private final LongAdder lostRegions;
+
+    ParserRouting () {
+        this.counts = new EnumMap<>( LanguageLevel.class );
+        for ( LanguageLevel level : LanguageLevel.values() ) {
+            LongAdder[] outcomes = new LongAdder[Outcome.values().length];
+            for ( int i = 0; i < outcomes.length; i++ ) {
+                outcomes[i] = new LongAdder();
+            }
+            this.counts.put( level, outcomes );
+        }
+        this.partialFiles = new LongAdder();
+        this.recoveredRegions = new LongAdder();
+        this.lostRegions = new LongAdder();
+    }
+
+    /**
+     * Records the routing of a file.
+     *
+     * @param level the language level estimated by the pre-scan
+     * @param outcome the outcome of parsing the file
+     */
+    void record ( LanguageLevel level, Outcome outcome ) {
+        this.counts.get( level )[outcome.ordinal()].increment();
+    }
+
+    /**
+     * Records the partial extraction of a file no parser accepts.
+     *
+     * @param recovered the number of declarations extracted
+     * @param lost the number of declarations discarded
+     */
+    void recordRecovery ( int recovered, int lost ) {
+        this.partialFiles.increment();
+        this.recoveredRegions.add( recovered );
+        this.lostRegions.add( lost );
+    }
+
+    /**
+     * Retrieves the number of files routed for a language level with a
+     * particular outcome.
+     *
+     * @param level a language level
+     * @param outcome an outcome
+     * @return the number of files
+     */
+    long getCount ( LanguageLevel level, Outcome outcome ) {
+        return this.counts.get( level )[outcome.ordinal()].sum();
+    }
+
+    /**
+     * Logs the number of files routed for each language level, the
+     * proportion routed correctly, and the declarations recovered from
+     * partially extracted files.
+     */
+    public void logStatistics () {
+        long total = 0;
+        long routed = 0;
+        for ( LanguageLevel level : LanguageLevel.values() ) {
+            long levelRouted = getCount( level, Outcome.ROUTED );
+            long fallback = getCount( level, Outcome.FALLBACK );
+            long failed = getCount( level, Outcome.FAILED );
+            long levelTotal = levelRouted + fallback + failed;
+            if ( levelTotal > 0 ) {
+                LOGGER.warn(
+                        "Files scanned as {}: {}, parsed as routed: {}, "
+                        + "misrouted: {}, unparsed: {}",
+                        level,
+                        levelTotal,
+                        levelRouted,
+                        fallback,
+                        failed );
+            }
+            total += levelRouted + fallback;
+            routed += levelRouted;
+        }
+        LOGGER.warn(
+                "Parser routing accuracy: {} of {} parsed files ({}%)",
+                routed,
+                total,
+                total == 0 ? 100 : (int) ( routed * 100 / total ) );
+        if ( this.partialFiles.sum() > 0 ) {
+            LOGGER.warn(
+                    "Files partially extracted: {}, declarations recovered: {}, "
+                    + "declarations lost: {}",
+                    this.partialFiles.sum(),
+                    this.recoveredRegions.sum(),
+                    this.lostRegions.sum() );
+        }
+    }
+}
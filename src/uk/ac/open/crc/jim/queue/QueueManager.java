@@ -17,13 +17,28 @@
 package uk.ac.open.crc.jim.queue;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import uk.ac.open.crc.jim.Settings;
+import uk.ac.open.crc.jim.persistence.EntityBatch;
+import uk.ac.open.crc.jim.persistence.EntityStore;
+import uk.ac.open.crc.jim.persistence.EntityStoreSingleton;
+import uk.ac.open.crc.jim.persistence.ProgressJournal;
+import uk.ac.open.crc.jimdb.RawProgramEntity;
 
 /**
  * A multi-threaded queueing system that coordinates the search for Java
@@ -33,61 +48,294 @@ public class QueueManager {
 
     private static final Logger LOGGER
             = LoggerFactory.getLogger( QueueManager.class );
-    // default values for the upper and lower population of the thread pool
-    // TODO - reconsider the order in which the following are assigned
-    // might the assignments be better off in the constructor? rather than as 
-    // static calls.
-    private final int MINIMUM_THREADS
-            = Integer.parseInt( Settings.getInstance().get( "default.threads.minimum" ) );
-    private final int MAXIMUM_THREADS
-            = Integer.parseInt( Settings.getInstance().get( "default.threads.maximum" ) );
-
     private final ThreadPoolExecutor readerExecutor;
 
+    private final MiningOptions options;
+
+    private final EntityStore entityStore;
+
     private final boolean analyseTests;
 
+    private ProgressJournal journal;
+
+    private volatile BiConsumer<String, String> writtenFileListener;
+
     /**
-     * Constructs a new QueueManager. The default behaviour is for a
-     * minimum of 10 threads and a maximum of 20.
+     * Constructs a new QueueManager configured from {@code Settings} that
+     * writes to the database. The default behaviour is for a minimum of
+     * 10 threads and a maximum of 20.
      *
      */
     public QueueManager () {
-        // recover the values set on the command line (if any)
-        int minimum
-                = Integer.parseInt( Settings.getInstance().get( "threads.minimum" ) );
-        int maximum
-                = Integer.parseInt( Settings.getInstance().get( "threads.maximum" ) );
-        // trap out stupid arguments
-        if ( minimum <= 0 || ( minimum > maximum ) ) {
-            minimum = MINIMUM_THREADS;
-            maximum = MAXIMUM_THREADS;
-
-            LOGGER.info( "minimum and maximum size of threadpool set to "
-                    + "defaults because of irrational values set on command line." );
-        }
+        this( MiningOptions.fromSettings(), EntityStoreSingleton.getInstance() );
+    }
+
+    /**
+     * Constructs a new QueueManager with its own thread pool.
+     *
+     * @param options the options controlling how files are found and parsed
+     * @param entityStore the store extracted entities are submitted to
+     */
+    public QueueManager ( MiningOptions options, EntityStore entityStore ) {
+        this.options = options;
+        this.entityStore = entityStore;
         this.readerExecutor = new ThreadPoolExecutor(
-                minimum, //min
-                maximum, //max
+                options.getMinimumThreads(), //min
+                options.getMaximumThreads(), //max
                 50000L,
                 TimeUnit.MILLISECONDS,
                 new LinkedBlockingQueue<>() );
-        this.analyseTests
-                = Boolean.parseBoolean( Settings.getInstance().get( "analyse.tests" ) );
+        this.analyseTests = options.isAnalyseTests();
     }
 
     /**
      * Initiates the process of recovering file names from the system
      * and parsing files to extract data.
      *
+     * @param projectName the name of the project
+     * @param projectVersion the version of the project
      * @param files a {@code List} of {@code File}s
      */
-    public void start ( List<File> files ) {
+    public void start ( String projectName, String projectVersion, List<File> files ) {
         // recursive descent of file system that places files
         // in concurrent queue for processing
-        files.stream().forEach( (file) -> {
-            processFileNames( file );
+        submit( new MiningJob( projectName, projectVersion, files ) );
+
+        awaitCompletion();
+    }
+
+    /**
+     * Mines each project version listed in a manifest. All the entries
+     * share the thread pool and the database connection, and files from
+     * different entries are parsed concurrently. The entities extracted
+     * are recorded against the project and version of their entry.
+     *
+     * @param manifest a manifest of the project versions to mine
+     */
+    public void startManifest ( Manifest manifest ) {
+        for ( Manifest.Entry entry : manifest.getEntries() ) {
+            LOGGER.info( 
+                    "Queueing {} {} from {}", 
+                    entry.getProjectName(), 
+                    entry.getProjectVersion(), 
+                    entry.getSource() );
+            submit( new MiningJob( 
+                    entry.getProjectName(), 
+                    entry.getProjectVersion(), 
+                    Collections.singletonList( entry.getSource() ) ) );
+        }
+
+        awaitCompletion();
+    }
+
+    /**
+     * Queues the files of a job for parsing and returns without waiting
+     * for them to be parsed. The job's state records its progress. The
+     * thread pool is not shut down, so further jobs may be submitted.
+     *
+     * @param job a mining job
+     */
+    public void submit ( MiningJob job ) {
+        job.started();
+        for ( File source : job.getSources() ) {
+            processFileNames( source, job );
+        }
+        if ( job.queueingFinished() ) {
+            jobParsed( job );
+        }
+    }
+
+    /**
+     * Sets a journal used to record the files whose entities have been
+     * written. Files the journal records as complete are not parsed again.
+     *
+     * @param journal a progress journal
+     */
+    public void setJournal ( ProgressJournal journal ) {
+        this.journal = journal;
+    }
+
+    // a file the journal records as complete is skipped before the
+    // written-file listener could learn its digest
+    boolean hasJournal () {
+        return this.journal != null;
+    }
+
+    /**
+     * Sets a listener told the location and file digest of each file whose
+     * entities are about to be written. The listener is called on the
+     * writer thread.
+     *
+     * @param listener receives the location and file digest of each file
+     */
+    void setWrittenFileListener ( BiConsumer<String, String> listener ) {
+        this.writtenFileListener = listener;
+    }
+
+    private void queue ( SourceFile sourceFile, MiningJob job ) {
+        ProgressJournal progressJournal = this.journal;
+        String journalKey = null;
+        Consumer<String> digestRecorder = null;
+        if ( progressJournal != null ) {
+            journalKey = ProgressJournal.keyFor( 
+                    job.getProjectName(), 
+                    job.getProjectVersion(), 
+                    sourceFile.getLocation() );
+            if ( progressJournal.isCompleted( journalKey ) ) {
+                return;
+            }
+            String startedKey = journalKey;
+            digestRecorder = digest -> progressJournal.started( startedKey, digest );
+        }
+        BiConsumer<String, String> listener = this.writtenFileListener;
+        if ( listener != null ) {
+            String location = sourceFile.getLocation();
+            Consumer<String> notifier = digest -> listener.accept( location, digest );
+            digestRecorder = digestRecorder == null 
+                    ? notifier 
+                    : digestRecorder.andThen( notifier );
+        }
+        EntityStore fileEntityStore = digestRecorder == null 
+                ? this.entityStore 
+                : new RecordingEntityStore( this.entityStore, digestRecorder );
+
+        DeduplicatingFileReader fileReader = new DeduplicatingFileReader( 
+                sourceFile,
+                job.getProjectName(),
+                job.getProjectVersion(),
+                fileEntityStore,
+                this.options,
+                job.getDuplicateIndex() );
+        String completedKey = journalKey;
+        job.fileQueued();
+        this.readerExecutor.execute( () -> {
+            try {
+                fileReader.run();
+                // files that yield no entities are complete too; jimdb
+                // commits as it stores, so the file's entities are
+                // committed by the time the writer reaches this point
+                if ( progressJournal != null ) {
+                    this.entityStore.afterPendingWrites( 
+                            () -> progressJournal.completed( completedKey ) );
+                }
+            }
+            finally {
+                if ( job.fileParsed() ) {
+                    jobParsed( job );
+                }
+            }
         } );
+    }
 
+    // the writer works through its queue in order, so the job is complete
+    // once the entities queued before this point have been written
+    private void jobParsed ( MiningJob job ) {
+        job.parsed();
+        this.entityStore.afterPendingWrites( job::completed );
+    }
+
+    /**
+     * Mines a list of revisions of a local git repository, reading files
+     * from the object store rather than a working tree. Each revision is
+     * recorded as a version of the project. A blob that occurs in more than
+     * one revision is parsed once, and the entities extracted from it are
+     * recorded again for each later revision that contains it.
+     *
+     * @param projectName the name of the project
+     * @param repositoryDirectory the working tree or git directory of a
+     * repository
+     * @param revisions tags, branches or commit ids, each recorded as a
+     * version
+     */
+    public void startRevisions ( 
+            String projectName, 
+            File repositoryDirectory, 
+            List<String> revisions ) {
+        EntityStore entityStore = this.entityStore;
+        // keyed by object id
+        Map<String, CompletableFuture<EntityBatch>> extracted = new HashMap<>();
+
+        try ( GitRepository repository = new GitRepository( repositoryDirectory ) ) {
+            for ( String revision : revisions ) {
+                List<GitRepository.Entry> entries;
+                try {
+                    entries = repository.listFiles( revision );
+                }
+                catch ( IOException e ) {
+                    LOGGER.warn( 
+                            "Unable to read revision \"{}\": {}", 
+                            revision, 
+                            e.getMessage() );
+                    continue;
+                }
+
+                int parsed = 0;
+                int reused = 0;
+                for ( GitRepository.Entry entry : entries ) {
+                    String path = entry.getPath();
+                    if ( !path.endsWith( ".java" )
+                            || path.endsWith( "package-info.java" )
+                            || !isIncludedEntryPath( path ) ) {
+                        continue;
+                    }
+
+                    GitSourceFile sourceFile = 
+                            new GitSourceFile( repository, revision, entry );
+                    CompletableFuture<EntityBatch> batch = 
+                            extracted.get( entry.getObjectId() );
+                    if ( batch == null ) {
+                        batch = new CompletableFuture<>();
+                        extracted.put( entry.getObjectId(), batch );
+                        this.readerExecutor.execute( new CapturingFileReader( 
+                                sourceFile, 
+                                projectName, 
+                                revision, 
+                                entityStore, 
+                                this.options, 
+                                batch ) );
+                        parsed++;
+                    }
+                    else {
+                        // a batch is only available if the blob could be parsed
+                        batch.thenAccept( extractedBatch -> {
+                            if ( extractedBatch != null ) {
+                                entityStore.add( extractedBatch.copyFor( 
+                                        projectName, revision, sourceFile.getName() ) );
+                            }
+                        } );
+                        reused++;
+                    }
+                }
+                LOGGER.info( 
+                        "Revision {}: {} files queued for parsing, {} unchanged files reused", 
+                        revision, 
+                        parsed, 
+                        reused );
+            }
+
+            awaitCompletion();
+        }
+    }
+
+    /**
+     * Abandons the files queued but not yet being parsed, and waits
+     * briefly for the files being parsed to be finished.
+     */
+    public void abort () {
+        this.readerExecutor.shutdownNow();
+        try {
+            this.readerExecutor.awaitTermination( 30, TimeUnit.SECONDS );
+        }
+        catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Shuts down the thread pool once the files queued have been parsed,
+     * and waits for it to terminate.
+     */
+    public void awaitCompletion () {
         this.readerExecutor.shutdown();
 
         // now wait for the thread pool to complete the jobs
@@ -117,8 +365,9 @@ public class QueueManager {
      *
      * @param fileObject the {@code File} to start from.
      *                   Could be a directory, could be a file.
+     * @param job the job the files belong to
      */
-    private void processFileNames ( File fileObject ) {
+    private void processFileNames ( File fileObject, MiningJob job ) {
         if ( !fileObject.isHidden() ) { // prevents us following .svn and that ilk
             if ( fileObject.isDirectory() ) {
                 File[] files = fileObject.listFiles();
@@ -133,7 +382,7 @@ public class QueueManager {
                     }
                     // add directory name filtering here
                     // recurse down directories
-                    processFileNames( file );
+                    processFileNames( file, job );
                 }
             }
             else {
@@ -141,10 +390,286 @@ public class QueueManager {
                 // well-formed Java files
                 if ( fileObject.toString().endsWith( ".java" )
                         && !fileObject.toString().endsWith( "package-info.java" ) ) {
-                    this.readerExecutor.execute( new FileReader( fileObject ) );
+                    queue( new FileSystemSourceFile( fileObject ), job );
+                }
+                else if ( isArchive( fileObject.getName() ) ) {
+                    processArchive( fileObject, job );
                 }
             }
         }
     }
 
+    private boolean isArchive ( String fileName ) {
+        String name = fileName.toLowerCase();
+        return name.endsWith( ".zip" ) || name.endsWith( ".jar" );
+    }
+
+    /**
+     * Adds the Java files held in a zip or jar archive to the queue,
+     * applying the same filters as for the file system. Entries are read
+     * straight from the archive by the parser threads.
+     *
+     * @param archiveFile a zip or jar file
+     * @param job the job the files belong to
+     */
+    private void processArchive ( File archiveFile, MiningJob job ) {
+        ZipFile archive;
+        try {
+            archive = new ZipFile( archiveFile );
+        }
+        catch ( IOException e ) {
+            LOGGER.warn( 
+                    "Unable to open archive \"{}\": {}", 
+                    archiveFile.getAbsolutePath(), 
+                    e.getMessage() );
+            return;
+        }
+        job.archiveOpened( archive );
+
+        Enumeration<? extends ZipEntry> entries = archive.entries();
+        while ( entries.hasMoreElements() ) {
+            ZipEntry entry = entries.nextElement();
+            String entryName = entry.getName();
+            if ( !entry.isDirectory()
+                    && entryName.endsWith( ".java" )
+                    && !entryName.endsWith( "package-info.java" )
+                    && isIncludedEntryPath( entryName ) ) {
+                queue( new ArchiveSourceFile( archive, entry ), job );
+            }
+        }
+    }
+
+    // applies the hidden and test directory filters to the directories
+    // in an archive entry's path
+    private boolean isIncludedEntryPath ( String entryName ) {
+        String[] pathElements = entryName.split( "/" );
+        for ( int i = 0; i < pathElements.length - 1; i++ ) {
+            String directory = pathElements[i];
+            if ( directory.startsWith( "." ) ) {
+                return false;
+            }
+            if ( !this.analyseTests
+                    && ( directory.equalsIgnoreCase( "test" )
+                    || directory.equalsIgnoreCase( "tests" ) ) ) {
+                return false;
+            }
+        }
+
+        return !pathElements[pathElements.length - 1].startsWith( "." );
+    }
+
+    /**
+     * Records the digest of a file whose entities are about to be written,
+     * e.g. in the journal. The record is made on the writer thread,
+     * immediately before the batch is written.
+     */
+    private static class RecordingEntityStore implements EntityStore {
+
+        private final EntityStore entityStore;
+        private final Consumer<String> digestRecorder;
+
+        RecordingEntityStore ( 
+                EntityStore entityStore, 
+                Consumer<String> digestRecorder ) {
+            this.entityStore = entityStore;
+            this.digestRecorder = digestRecorder;
+        }
+
+        @Override
+        public void add ( RawProgramEntity programEntity ) {
+            this.entityStore.add( programEntity );
+        }
+
+        @Override
+        public void add ( EntityBatch batch ) {
+            String fileDigest = batch.getFileDigest();
+            this.entityStore.afterPendingWrites( 
+                    () -> this.digestRecorder.accept( fileDigest ) );
+            this.entityStore.add( batch );
+        }
+
+        @Override
+        public void afterPendingWrites ( Runnable action ) {
+            this.entityStore.afterPendingWrites( action );
+        }
+
+        @Override
+        public void closeDown () {
+            // the underlying store is closed by its owner
+        }
+    }
+
+    /**
+     * Parses a file and makes the batch of entities extracted from it
+     * available for reuse. The batch is {@code null} if the file could
+     * not be parsed or was skipped.
+     */
+    private static class CapturingFileReader implements Runnable {
+
+        private final FileReader fileReader;
+        private final CapturingEntityStore capture;
+        private final CompletableFuture<EntityBatch> result;
+
+        CapturingFileReader ( 
+                SourceFile sourceFile,
+                String projectName,
+                String projectVersion,
+                EntityStore entityStore,
+                MiningOptions options,
+                CompletableFuture<EntityBatch> result ) {
+            this.capture = new CapturingEntityStore( entityStore );
+            this.fileReader = new FileReader( 
+                    sourceFile, projectName, projectVersion, this.capture, options );
+            this.result = result;
+        }
+
+        @Override
+        public void run () {
+            try {
+                this.fileReader.run();
+            }
+            finally {
+                this.result.complete( this.capture.getBatch() );
+            }
+        }
+    }
+
+    /**
+     * Parses a file unless it duplicates a file already claimed in the
+     * same job, in which case the entities extracted from the first file
+     * are recorded again against this file's name.
+     * <p>
+     * A file only waits for a batch claimed by a file that is already
+     * being parsed, so waiting cannot exhaust the thread pool.
+     * </p>
+     */
+    private static class DeduplicatingFileReader implements Runnable {
+
+        private final SourceFile sourceFile;
+        private final String projectName;
+        private final String projectVersion;
+        private final EntityStore entityStore;
+        private final MiningOptions options;
+        private final DuplicateIndex duplicateIndex;
+
+        DeduplicatingFileReader ( 
+                SourceFile sourceFile,
+                String projectName,
+                String projectVersion,
+                EntityStore entityStore,
+                MiningOptions options,
+                DuplicateIndex duplicateIndex ) {
+            this.sourceFile = sourceFile;
+            this.projectName = projectName;
+            this.projectVersion = projectVersion;
+            this.entityStore = entityStore;
+            this.options = options;
+            this.duplicateIndex = duplicateIndex;
+        }
+
+        @Override
+        public void run () {
+            CompletableFuture<EntityBatch> result = new CompletableFuture<>();
+            EntityBatch extractedBatch = null;
+            try {
+                CompletableFuture<EntityBatch> original = null;
+                Path realPath = realPath();
+                if ( realPath != null ) {
+                    original = this.duplicateIndex.claimPath( realPath, result );
+                }
+                if ( original != null ) {
+                    // passed on to any file waiting on this one
+                    extractedBatch = replicate( original );
+                    return;
+                }
+
+                String content;
+                try {
+                    content = this.sourceFile.read();
+                }
+                catch ( IOException e ) {
+                    LOGGER.error( 
+                            "File \"{}\" cannot be read.\n\"{}\"", 
+                            this.sourceFile.getLocation(),
+                            e.getMessage() );
+                    return;
+                }
+
+                original = this.duplicateIndex.claimContent( content, result );
+                if ( original != null ) {
+                    // passed on to any file waiting on this one
+                    extractedBatch = replicate( original );
+                    return;
+                }
+
+                CapturingEntityStore capture = 
+                        new CapturingEntityStore( this.entityStore );
+                new FileReader( 
+                        new ReadSourceFile( this.sourceFile, content ), 
+                        this.projectName, 
+                        this.projectVersion, 
+                        capture, 
+                        this.options ).run();
+                extractedBatch = capture.getBatch();
+            }
+            finally {
+                result.complete( extractedBatch );
+            }
+        }
+
+        private Path realPath () {
+            try {
+                return this.sourceFile.getRealPath();
+            }
+            catch ( IOException e ) {
+                // the content is still compared
+                return null;
+            }
+        }
+
+        // a batch is only available if the original could be parsed
+        private EntityBatch replicate ( CompletableFuture<EntityBatch> original ) {
+            EntityBatch batch = original.join();
+            if ( batch != null ) {
+                LOGGER.debug( 
+                        "Reusing entities for duplicate file \"{}\"", 
+                        this.sourceFile.getLocation() );
+                this.entityStore.add( batch.copyFor( 
+                        this.projectName, 
+                        this.projectVersion, 
+                        this.sourceFile.getName() ) );
+            }
+            return batch;
+        }
+    }
+
+    /**
+     * A source file whose content has already been read.
+     */
+    private static class ReadSourceFile implements SourceFile {
+
+        private final SourceFile sourceFile;
+        private final String content;
+
+        ReadSourceFile ( SourceFile sourceFile, String content ) {
+            this.sourceFile = sourceFile;
+            this.content = content;
+        }
+
+        @Override
+        public String getName () {
+            return this.sourceFile.getName();
+        }
+
+        @Override
+        public String getLocation () {
+            return this.sourceFile.getLocation();
+        }
+
+        @Override
+        public String read () {
+            return this.content;
+        }
+    }
+
 }
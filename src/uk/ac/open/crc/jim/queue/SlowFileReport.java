@@ -0,0 +1,147 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+
+
+package uk.ac.open.crc.jim.queue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the files that took longest to parse in a run, and counts the
+ * files whose parse was abandoned for exceeding the time allowed.
+ */
+public class SlowFileReport {
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger( SlowFileReport.class );
+
+    private final int capacity;
+
+    // the fastest of the slowest files is at the head
+    private final PriorityQueue<Entry> slowest;
+
+    private final LongAdder timeouts;
+
+    /**
+     * Creates a report of the slowest files.
+     *
+     * @param capacity the number of files listed
+     */
+    SlowFileReport ( int capacity ) {
+        this.capacity = capacity;
+        this.slowest = new PriorityQueue<>( 
+                Math.max( 1, capacity + 1 ), 
+                Comparator.comparingLong( Entry::getTime ) );
+        this.timeouts = new LongAdder();
+    }
+
+    /**
+     * Records the time taken to parse a file.
+     *
+     * @param location the location of the file
+     * @param length the length of the file in characters
+     * @param time the time taken in milliseconds
+     * @param timedOut {@code true} if the parse was abandoned
+     */
+    void record ( String location, int length, long time, boolean timedOut ) {
+        if ( timedOut ) {
+            this.timeouts.increment();
+        }
+        if ( this.capacity == 0 ) {
+            return;
+        }
+        synchronized ( this.slowest ) {
+            if ( this.slowest.size() < this.capacity 
+                    || time > this.slowest.peek().getTime() ) {
+                this.slowest.add( new Entry( location, length, time, timedOut ) );
+                if ( this.slowest.size() > this.capacity ) {
+                    this.slowest.poll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves the number of files whose parse was abandoned.
+     *
+     * @return the number of parses timed out
+     */
+    long getTimeoutCount () {
+        return this.timeouts.sum();
+    }
+
+    /**
+     * Logs the slowest files, slowest first, and the number of parses
+     * timed out.
+     */
+    public void logReport () {
+        List<Entry> entries;
+        synchronized ( this.slowest ) {
+            entries = new ArrayList<>( this.slowest );
+        }
+        entries.sort( Comparator.comparingLong( Entry::getTime ).reversed() );
+
+        LOGGER.warn( "Parses timed out: {}", this.timeouts.sum() );
+        for ( Entry entry : entries ) {
+            LOGGER.warn( 
+                    "Slow file: {} ms, {} characters{}: \"{}\"", 
+                    entry.getTime(), 
+                    entry.getLength(), 
+                    entry.isTimedOut() ? ", timed out" : "",
+                    entry.getLocation() );
+        }
+    }
+
+    /**
+     * A file and the time taken to parse it.
+     */
+    private static class Entry {
+
+        private final String location;
+        private final int length;
+        private final long time;
+        private final boolean timedOut;
+
+        Entry ( String location, int length, long time, boolean timedOut ) {
+            this.location = location;
+            this.length = length;
+            this.time = time;
+            this.timedOut = timedOut;
+        }
+
+        String getLocation () {
+            return this.location;
+        }
+
+        int getLength () {
+            return this.length;
+        }
+
+        long getTime () {
+            return this.time;
+        }
+
+        boolean isTimedOut () {
+            return this.timedOut;
+        }
+    }
+}
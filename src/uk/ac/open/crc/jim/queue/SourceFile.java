@@ -0,0 +1,61 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+package uk.ac.open.crc.jim.queue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * A Java source file to be parsed, wherever it is stored.
+ */
+interface SourceFile {
+
+    /**
+     * Retrieves the name of the file, without any path, which is recorded
+     * in the database.
+     *
+     * @return the name of the file
+     */
+    String getName ();
+
+    /**
+     * Retrieves a description of where the file is stored, for use in
+     * log messages.
+     *
+     * @return the location of the file
+     */
+    String getLocation ();
+
+    /**
+     * Reads the content of the file.
+     *
+     * @return the content of the file
+     * @throws IOException if the file cannot be read
+     */
+    String read () throws IOException;
+
+    /**
+     * Retrieves the real path of the file, with symbolic links resolved,
+     * if it has one.
+     *
+     * @return the real path of the file, or {@code null} if the file is
+     * not stored in the file system
+     * @throws IOException if the path cannot be resolved
+     */
+    default Path getRealPath () throws IOException {
+        return null;
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+
+package uk.ac.open.crc.jim.queue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.ac.open.crc.jim.persistence.EntityStore;
+
+/**
+ * Keeps the entities of a project version current as its source changes.
+ * <p>
+ * The source is mined once, and the directories holding it are then
+ * watched. Events are collected until none has arrived for a quiet period,
+ * so that a burst of changes, e.g. a checkout, is handled as one update.
+ * The entities of changed and removed files are then removed, and changed
+ * and added files are mined again by the same {@link QueueManager}, whose
+ * thread pool stays ready between updates.
+ * </p>
+ */
+public class SourceWatcher implements AutoCloseable {
+
+    private static final Logger LOGGER = 
+            LoggerFactory.getLogger( SourceWatcher.class );
+
+    // a burst that never goes quiet is handled after this many quiet periods
+    private static final int MAXIMUM_DELAY = 20;
+
+    private final QueueManager queueManager;
+    private final EntityStore entityStore;
+    private final String projectName;
+    private final String projectVersion;
+    private final List<File> sources;
+    private final List<Path> roots;
+    private final boolean analyseTests;
+    private final long quietPeriod;
+
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories;
+
+    // the digest of each file whose entities have been written, by location
+    private final Map<String, String> fileDigests;
+
+    /**
+     * Creates a watcher for the source of a project version.
+     *
+     * @param queueManager the queue manager used to mine the source, which
+     * must not be used for any other job and must not have a journal
+     * @param entityStore the store the queue manager writes to
+     * @param projectName the name of the project
+     * @param projectVersion the version of the project
+     * @param sources the files and directories holding the project's source
+     * @param options the options the queue manager was created with
+     * @param quietPeriod the time in milliseconds without events before
+     * changes are mined
+     * @throws IOException if the file system cannot be watched
+     * @throws IllegalArgumentException if the queue manager has a journal
+     */
+    public SourceWatcher ( 
+            QueueManager queueManager,
+            EntityStore entityStore,
+            String projectName,
+            String projectVersion,
+            List<File> sources,
+            MiningOptions options,
+            long quietPeriod ) throws IOException {
+        // the files a journal skips would never have their entities
+        // removed when they change
+        if ( queueManager.hasJournal() ) {
+            throw new IllegalArgumentException( 
+                    "A source watcher cannot use a queue manager with a journal" );
+        }
+        this.queueManager = queueManager;
+        this.entityStore = entityStore;
+        this.projectName = projectName;
+        this.projectVersion = projectVersion;
+        this.sources = new ArrayList<>( sources );
+        this.roots = new ArrayList<>();
+        for ( File source : sources ) {
+            this.roots.add( source.toPath().toAbsolutePath() );
+        }
+        this.analyseTests = options.isAnalyseTests();
+        this.quietPeriod = quietPeriod;
+
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.directories = new HashMap<>();
+        this.fileDigests = new ConcurrentHashMap<>();
+        queueManager.setWrittenFileListener( this.fileDigests::put );
+    }
+
+    /**
+     * Mines the source, then watches it and mines the changes until the
+     * watcher is closed or the thread is interrupted.
+     */
+    public void run () {
+        try {
+            // watch first so that changes made while mining are not missed
+            for ( Path root : this.roots ) {
+                register( Files.isDirectory( root ) ? root : root.getParent() );
+            }
+            mine( this.sources );
+            LOGGER.warn( "Watching {} directories for changes", this.directories.size() );
+
+            while ( true ) {
+                Set<Path> changed = new LinkedHashSet<>();
+                collect( this.watchService.take(), changed );
+                long deadline = System.currentTimeMillis() + this.quietPeriod * MAXIMUM_DELAY;
+                WatchKey key;
+                while ( System.currentTimeMillis() < deadline
+                        && ( key = this.watchService.poll( 
+                                this.quietPeriod, TimeUnit.MILLISECONDS ) ) != null ) {
+                    collect( key, changed );
+                }
+                update( changed );
+            }
+        }
+        catch ( ClosedWatchServiceException e ) {
+            LOGGER.info( "Stopped watching for changes" );
+        }
+        catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+        catch ( IOException e ) {
+            LOGGER.error( "Unable to watch for changes: {}", e.getMessage() );
+        }
+    }
+
+    /**
+     * Stops watching for changes. Changes already being mined are completed.
+     */
+    @Override
+    public void close () {
+        try {
+            this.watchService.close();
+        }
+        catch ( IOException e ) {
+            LOGGER.warn( "Problem closing watch service: {}", e.getMessage() );
+        }
+    }
+
+    private void collect ( WatchKey key, Set<Path> changed ) {
+        Path directory = this.directories.get( key );
+        for ( WatchEvent<?> event : key.pollEvents() ) {
+            if ( directory == null ) {
+                continue;
+            }
+            if ( event.kind() == StandardWatchEventKinds.OVERFLOW ) {
+                // events were lost, so the whole directory is mined again
+                LOGGER.warn( "Missed changes in {}", directory );
+                changed.add( directory );
+                continue;
+            }
+            Path path = directory.resolve( (Path) event.context() );
+            // the contents of a directory are watched separately
+            if ( event.kind() == StandardWatchEventKinds.ENTRY_MODIFY 
+                    && Files.isDirectory( path ) ) {
+                continue;
+            }
+            if ( isWithinRoots( path ) ) {
+                changed.add( path );
+            }
+        }
+        if ( !key.reset() ) {
+            this.directories.remove( key );
+        }
+    }
+
+    private void update ( Set<Path> changed ) throws IOException, InterruptedException {
+        Set<String> removed = new LinkedHashSet<>();
+        Set<File> added = new LinkedHashSet<>();
+        for ( Path path : changed ) {
+            removed.addAll( forget( path.toString() ) );
+            if ( Files.isDirectory( path ) ) {
+                if ( isIncluded( path ) ) {
+                    register( path );
+                    added.add( path.toFile() );
+                }
+            }
+            else if ( Files.isRegularFile( path ) ) {
+                added.add( path.toFile() );
+            }
+        }
+
+        // a digest is derived from the package and file name only, so the
+        // entities of a same-named file in the same package are removed
+        // too, and that file must be mined again
+        int remined = 0;
+        List<String> siblings = locationsOf( removed );
+        while ( !siblings.isEmpty() ) {
+            for ( String location : siblings ) {
+                String source = sourceOf( location );
+                removed.addAll( forget( source ) );
+                if ( Files.exists( Paths.get( source ) ) ) {
+                    added.add( new File( source ) );
+                    remined++;
+                }
+            }
+            // a re-mined archive may hold further same-named files
+            siblings = locationsOf( removed );
+        }
+
+        long start = System.currentTimeMillis();
+        if ( !removed.isEmpty() ) {
+            this.entityStore.removeFiles( new ArrayList<>( removed ) );
+        }
+        if ( !added.isEmpty() ) {
+            mine( new ArrayList<>( added ) );
+        }
+        LOGGER.warn( 
+                "Updated {} changed paths ({} files removed, {} same-named files mined again) in {} ms", 
+                changed.size(), 
+                removed.size(), 
+                remined,
+                System.currentTimeMillis() - start );
+    }
+
+    private void mine ( List<File> files ) throws InterruptedException {
+        MiningJob job = new MiningJob( this.projectName, this.projectVersion, files );
+        this.queueManager.submit( job );
+        job.awaitCompletion();
+    }
+
+    // removes the files at a location, or within it if it is a directory
+    // or an archive, returning their digests
+    private List<String> forget ( String location ) {
+        List<String> digests = new ArrayList<>();
+        Iterator<Map.Entry<String, String>> entries = 
+                this.fileDigests.entrySet().iterator();
+        while ( entries.hasNext() ) {
+            Map.Entry<String, String> entry = entries.next();
+            String fileLocation = entry.getKey();
+            if ( fileLocation.equals( location )
+                    || fileLocation.startsWith( location + File.separator )
+                    || fileLocation.startsWith( location + "!/" ) ) {
+                digests.add( entry.getValue() );
+                entries.remove();
+            }
+        }
+        return digests;
+    }
+
+    // the locations of the written files with any of the digests
+    private List<String> locationsOf ( Set<String> digests ) {
+        List<String> locations = new ArrayList<>();
+        this.fileDigests.forEach( ( location, digest ) -> {
+            if ( digests.contains( digest ) ) {
+                locations.add( location );
+            }
+        } );
+        return locations;
+    }
+
+    // the file mined to find a location: the archive for a file within one
+    private static String sourceOf ( String location ) {
+        int separator = location.indexOf( "!/" );
+        return separator < 0 ? location : location.substring( 0, separator );
+    }
+
+    // registers a directory and its subdirectories, skipping those the
+    // queue manager would not mine
+    private void register ( Path start ) throws IOException {
+        Files.walkFileTree( start, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory ( 
+                    Path directory, 
+                    BasicFileAttributes attributes ) throws IOException {
+                if ( !directory.equals( start ) && !isIncluded( directory ) ) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                WatchKey key = directory.register( 
+                        watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE,
+                        StandardWatchEventKinds.ENTRY_MODIFY );
+                directories.put( key, directory );
+                return FileVisitResult.CONTINUE;
+            }
+        } );
+    }
+
+    private boolean isIncluded ( Path directory ) {
+        File file = directory.toFile();
+        if ( file.isHidden() ) {
+            return false;
+        }
+        String name = file.getName();
+        return this.analyseTests
+                || !( name.equalsIgnoreCase( "test" ) || name.equalsIgnoreCase( "tests" ) );
+    }
+
+    private boolean isWithinRoots ( Path path ) {
+        for ( Path root : this.roots ) {
+            if ( path.startsWith( root ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
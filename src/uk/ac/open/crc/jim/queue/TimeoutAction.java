@@ -0,0 +1,62 @@
+/*
+ Copyright (C) 2010-2015 The Open University
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+*/
+
+
+package uk.ac.open.crc.jim.queue;
+
+import java.util.Locale;
+
+/**
+ * What is done with a file whose parse exceeds the time allowed.
+ */
+public enum TimeoutAction {
+
+    /**
+     * The file is parsed with the Java 1.4 parser, which has no
+     * unbounded lookahead.
+     */
+    JAVA14,
+
+    /**
+     * The file is skipped.
+     */
+    SKIP,
+
+    /**
+     * The file is parsed again without method and constructor bodies,
+     * so that its declarations are extracted.
+     */
+    DECLARATIONS;
+
+    /**
+     * Parses the name of an action, such as {@code "skip"}. Names are not
+     * case sensitive.
+     *
+     * @param name the name of an action
+     * @return the action named
+     * @throws IllegalArgumentException if the name is not recognised
+     */
+    public static TimeoutAction parse ( String name ) {
+        try {
+            return valueOf( name.trim().toUpperCase( Locale.ROOT ) );
+        }
+        catch ( IllegalArgumentException e ) {
+            throw new IllegalArgumentException( 
+                    "Unknown timeout action: \"" + name 
+                            + "\", expected java14, skip or declarations" );
+        }
+    }
+}